@@ -0,0 +1,142 @@
+package seedu.splitlah;
+
+import seedu.splitlah.command.Command;
+import seedu.splitlah.command.InvalidCommand;
+import seedu.splitlah.data.Manager;
+import seedu.splitlah.parser.Parser;
+import seedu.splitlah.ui.Message;
+import seedu.splitlah.ui.TextUI;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+
+/**
+ * Represents a runner that runs the commands in a script one line at a time without interacting with the user.
+ * No prompt is printed, the output of every command is captured instead of printed, and the changes made by
+ * the commands are persisted with a single checkpoint at the end of the script, or after every fixed number of
+ * commands, instead of once for every command.
+ *
+ * @author Warren
+ */
+public class BatchRunner {
+
+    public static final int SAVE_AT_END_ONLY = 0;
+    private static final long NANOS_PER_MILLI = 1_000_000;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final Manager manager;
+    private final int saveInterval;
+
+    /**
+     * Initializes a BatchRunner object.
+     *
+     * @param manager      A Manager object that manages the TextUI, Profile and Storage object.
+     * @param saveInterval An integer that represents the number of commands run between each save,
+     *                     or SAVE_AT_END_ONLY to save only once at the end of the script.
+     */
+    public BatchRunner(Manager manager, int saveInterval) {
+        assert saveInterval >= 0 : Message.ASSERT_BATCHRUNNER_SAVE_INTERVAL_NEGATIVE;
+        this.manager = manager;
+        this.saveInterval = saveInterval;
+    }
+
+    /**
+     * Runs every command in the script until the end of the script or an exit command is reached.
+     * Blank lines are skipped. A command fails if it cannot be parsed, or if it is meant to change the Profile object
+     * but does not, and the output of a failed command is kept in the report.
+     *
+     * @param script A BufferedReader object that reads the script one line at a time.
+     * @return A Report object that summarises the commands that were run.
+     * @throws IOException If the script cannot be read.
+     */
+    public Report run(BufferedReader script) throws IOException {
+        TextUI ui = manager.getUi();
+        ByteArrayOutputStream commandOutput = new ByteArrayOutputStream();
+        PrintStream previousOut = ui.redirectOutput(new PrintStream(commandOutput, true, StandardCharsets.UTF_8));
+        manager.setPersistenceDeferred(true);
+
+        Report report = new Report();
+        long startNanos = System.nanoTime();
+        try {
+            String line;
+            int lineNumber = 0;
+            while ((line = script.readLine()) != null) {
+                lineNumber += 1;
+                if (line.isBlank()) {
+                    continue;
+                }
+                Command command = Parser.getCommand(line);
+                if (command.isExitCommand()) {
+                    break;
+                }
+                commandOutput.reset();
+                final long changeCountBefore = manager.getChangeCount();
+                manager.setCurrentCommandInput(line);
+                command.run(manager);
+                report.commandCount += 1;
+
+                boolean isChangeMissing = command.isMutatingCommand() && manager.getChangeCount() == changeCountBefore;
+                if (command instanceof InvalidCommand || isChangeMissing) {
+                    String output = new String(commandOutput.toByteArray(), StandardCharsets.UTF_8);
+                    report.failures.add(lineNumber + ": " + output.strip().replaceAll("\\s*\\R\\s*", " "));
+                }
+                if (saveInterval != SAVE_AT_END_ONLY && report.commandCount % saveInterval == 0) {
+                    manager.flushDeferredChanges();
+                }
+            }
+        } finally {
+            manager.setPersistenceDeferred(false);
+            ui.redirectOutput(previousOut);
+        }
+        report.elapsedNanos = System.nanoTime() - startNanos;
+        Manager.getLogger().log(Level.FINEST, Message.LOGGER_BATCHRUNNER_SCRIPT_RUN + report.commandCount);
+        return report;
+    }
+
+    /**
+     * Represents a summary of the commands run from a script.
+     */
+    public static class Report {
+
+        private int commandCount = 0;
+        private long elapsedNanos = 0;
+        private final ArrayList<String> failures = new ArrayList<>();
+
+        public int getCommandCount() {
+            return commandCount;
+        }
+
+        /**
+         * Returns the failed commands, each described by its line number in the script followed by its output.
+         *
+         * @return A List object of String objects, in the order of the lines.
+         */
+        public List<String> getFailures() {
+            return failures;
+        }
+
+        /**
+         * Returns the number of commands run, the time taken and the throughput, followed by every failed command.
+         *
+         * @return A String object that represents the summary.
+         */
+        @Override
+        public String toString() {
+            double commandsPerSecond = elapsedNanos == 0 ? 0 : commandCount * NANOS_PER_SECOND / elapsedNanos;
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format(Message.MESSAGE_BATCHRUNNER_SUMMARY, commandCount,
+                    elapsedNanos / NANOS_PER_MILLI, commandsPerSecond));
+            sb.append("\n").append(Message.MESSAGE_BATCHRUNNER_FAILED_COUNT).append(failures.size());
+            for (String failure : failures) {
+                sb.append("\n").append(Message.MESSAGE_BATCHRUNNER_FAILED_LINE).append(failure);
+            }
+            return sb.toString();
+        }
+    }
+}
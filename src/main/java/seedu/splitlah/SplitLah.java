@@ -5,17 +5,58 @@ import seedu.splitlah.data.Manager;
 import seedu.splitlah.parser.Parser;
 import seedu.splitlah.ui.Message;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.logging.Level;
 
 /**
  * Entry point of the SplitLah application.
- * Initializes SplitLah and starts interacting with the user.
+ * Initializes SplitLah and starts interacting with the user, or runs the commands in a script file
+ * when started with the batch option.
  */
 public class SplitLah {
+    private static final String BATCH_OPTION = "--batch";
+    private static final String SAVE_INTERVAL_OPTION = "--save-every";
+    private static final int BATCH_ARGUMENT_COUNT = 2;
+    private static final int BATCH_WITH_SAVE_INTERVAL_ARGUMENT_COUNT = 4;
+    private static final int EXIT_STATUS_SUCCESS = 0;
+    private static final int EXIT_STATUS_FAILURE = 1;
+
     Manager manager;
 
     public static void main(String[] args) {
-        new SplitLah().run();
+        if (args.length == 0) {
+            new SplitLah().run();
+        } else {
+            runBatch(args);
+        }
+    }
+
+    /**
+     * Runs the commands in the script file specified by the program arguments, in the form of
+     * "--batch SCRIPT_FILE [--save-every COMMAND_COUNT]", then exits with a non-zero status if any command failed.
+     *
+     * @param args A String array object containing the program arguments.
+     */
+    private static void runBatch(String[] args) {
+        boolean isValid = args[0].equals(BATCH_OPTION) && (args.length == BATCH_ARGUMENT_COUNT
+                || args.length == BATCH_WITH_SAVE_INTERVAL_ARGUMENT_COUNT && args[2].equals(SAVE_INTERVAL_OPTION));
+        int saveInterval = BatchRunner.SAVE_AT_END_ONLY;
+        if (isValid && args.length == BATCH_WITH_SAVE_INTERVAL_ARGUMENT_COUNT) {
+            try {
+                saveInterval = Integer.parseInt(args[3]);
+                isValid = saveInterval > 0;
+            } catch (NumberFormatException exception) {
+                isValid = false;
+            }
+        }
+        if (!isValid) {
+            System.out.println(Message.ERROR_SPLITLAH_INVALID_PROGRAM_ARGUMENTS);
+            System.exit(EXIT_STATUS_FAILURE);
+        }
+        new SplitLah().runScript(Path.of(args[1]), saveInterval);
     }
 
     /** Sets up the required objects for application.  */
@@ -30,6 +71,31 @@ public class SplitLah {
         exitApplication();
     }
 
+    /**
+     * Runs the commands in the script file without prompting the user, prints a summary of the commands run,
+     * then exits the program.
+     *
+     * @param scriptPath   A Path object that represents the location of the script file.
+     * @param saveInterval An integer that represents the number of commands run between each save,
+     *                     or BatchRunner#SAVE_AT_END_ONLY to save only once at the end of the script.
+     */
+    private void runScript(Path scriptPath, int saveInterval) {
+        int exitStatus = EXIT_STATUS_SUCCESS;
+        try (BufferedReader script = Files.newBufferedReader(scriptPath)) {
+            BatchRunner.Report report = new BatchRunner(manager, saveInterval).run(script);
+            manager.getUi().printlnMessage(report.toString());
+            if (!report.getFailures().isEmpty()) {
+                exitStatus = EXIT_STATUS_FAILURE;
+            }
+        } catch (IOException exception) {
+            manager.getUi().printlnMessage(Message.ERROR_SPLITLAH_SCRIPT_NOT_READABLE + exception.getMessage());
+            exitStatus = EXIT_STATUS_FAILURE;
+        }
+        manager.closeStorage();
+        Manager.getLogger().log(Level.INFO, Message.LOGGER_SPLITLAH_APPLICATION_EXIT);
+        System.exit(exitStatus);
+    }
+
     /** Prints welcome message.  */
     private void showWelcomeMessage() {
         manager.getUi().printWelcome();
@@ -47,8 +113,9 @@ public class SplitLah {
         do {
             String userInput = manager.getUi().readNextLine();
             command = Parser.getCommand(userInput);
+            manager.setCurrentCommandInput(userInput);
             command.run(manager);
         } while (!command.isExitCommand());
-        manager.saveProfile();
+        manager.closeStorage();
     }
 }
@@ -2,6 +2,7 @@ package seedu.splitlah.command;
 
 import seedu.splitlah.data.Activity;
 import seedu.splitlah.data.Manager;
+import seedu.splitlah.data.Money;
 import seedu.splitlah.data.Person;
 import seedu.splitlah.data.Profile;
 import seedu.splitlah.data.Session;
@@ -11,7 +12,6 @@ import seedu.splitlah.ui.Message;
 import seedu.splitlah.ui.TextUI;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.logging.Level;
 
 /**
@@ -25,33 +25,35 @@ public class ActivityCreateCommand extends Command {
 
     private final int sessionId;
     private final String activityName;
-    private double totalCost;
+    private Money totalCost;
     private final String payer;
     private final String[] involvedList;
-    private double[] costList;
+    private Money[] costList;
     private final double gst;
     private final double serviceCharge;
+    private Person personPaid;
+    private ArrayList<Person> involvedPersons;
 
-    private static final double ZERO_COST_PAID = 0;
-    public static final double ZERO_COST_OWED = 0;
-    private static final int NO_COST = 0;
+    private static final Money ZERO_COST_PAID = Money.ZERO;
+    public static final Money ZERO_COST_OWED = Money.ZERO;
+    private static final Money NO_COST = Money.ZERO;
 
     /**
      * Initializes an ActivityCreateCommand object.
      *
      * @param sessionId     An integer that uniquely identifies a session.
      * @param activityName  A String object that represents the Activity object's name.
-     * @param totalCost     A double that represents total cost of the activity.
+     * @param totalCost     A Money object that represents total cost of the activity.
      * @param payer         A String object that represents the name of the person who paid for the activity.
      * @param involvedList  An array of String objects that represents the names of the persons
      *                      who are involved in the activity.
-     * @param costList      A double array object that represents the respective costs of
+     * @param costList      A Money array object that represents the respective costs of
      *                      each person involved in the activity.
      * @param gst           A double that represents the GST percentage to be included for the cost of the activity.
      * @param serviceCharge A double that represents the service charge to be included for the cost of the activity.
      */
-    public ActivityCreateCommand(int sessionId, String activityName, double totalCost, String payer,
-                                 String[] involvedList, double[] costList, double gst, double serviceCharge) {
+    public ActivityCreateCommand(int sessionId, String activityName, Money totalCost, String payer,
+                                 String[] involvedList, Money[] costList, double gst, double serviceCharge) {
         assert sessionId > 0 : Message.ASSERT_ACTIVITYCREATE_SESSION_ID_LESS_THAN_ONE;
         assert activityName != null : Message.ASSERT_ACTIVITYCREATE_ACTIVITY_NAME_MISSING;
         assert payer != null : Message.ASSERT_ACTIVITYCREATE_PAYER_NAME_MISSING;
@@ -131,7 +133,7 @@ public class ActivityCreateCommand extends Command {
      * Else, the total cost is distributed evenly.
      */
     private void updateCostAndCostList() {
-        boolean isZeroCost = totalCost == NO_COST;
+        boolean isZeroCost = totalCost.equals(NO_COST);
         if (isZeroCost) {
             updateCostListWithExtraCharges();
             calculateTotalCost();
@@ -148,9 +150,8 @@ public class ActivityCreateCommand extends Command {
      * Assumption: GST and service charge are non-negative values.
      */
     private void updateCostListWithExtraCharges() {
-        double extraCharges = getExtraCharges();
         for (int i = 0; i < costList.length; i++) {
-            costList[i] *= extraCharges;
+            costList[i] = addExtraCharges(costList[i]);
         }
     }
 
@@ -158,9 +159,7 @@ public class ActivityCreateCommand extends Command {
      * Updates the total cost of the activity by summing up the costs in the list of costs.
      */
     private void calculateTotalCost() {
-        for (double cost : costList) {
-            totalCost += cost;
-        }
+        totalCost = Money.sum(costList);
     }
 
     /**
@@ -169,34 +168,62 @@ public class ActivityCreateCommand extends Command {
      * Assumption: GST and service charge are non-negative values.
      */
     private void updateCostWithExtraCharges() {
-        double extraCharges = getExtraCharges();
-        totalCost *= extraCharges;
+        totalCost = addExtraCharges(totalCost);
     }
 
     /**
-     * Returns a double representing the extra charges that is to be included in costs of the activity.
+     * Returns a cost with the extra charges included. The service charge is added first and rounded to the cent,
+     * then GST is added onto the cost including the service charge and rounded to the cent, as on a receipt.
      *
-     * @return A double representing the extra charges.
+     * @param cost A Money object representing a cost without extra charges.
+     * @return A Money object representing the cost with the extra charges.
      */
-    private double getExtraCharges() {
-        double gstMultiplier = 1 + gst / 100;
-        double serviceChargeMultiplier = 1 + serviceCharge / 100;
-        return gstMultiplier * serviceChargeMultiplier;
+    private Money addExtraCharges(Money cost) {
+        return cost.addPercentage(serviceCharge).addPercentage(gst);
     }
 
     /**
-     * Returns an array of doubles of the costs that has been distributed evenly
+     * Returns an array of the costs that has been distributed evenly
      * among the persons involved in the activity.
-     * Divides the total cost by the number of people involved in the activity.
+     * Divides the total cost by the number of people involved in the activity. Any cents left over are given one
+     * each to the persons listed first, so the costs always add up to exactly the total cost.
      *
      * @param numberOfPeopleInvolved An integer representing the number of people involved in the activity.
-     * @return An array of doubles representing the costs of each person involved in the activity.
+     * @return An array of Money objects representing the costs of each person involved in the activity.
      */
-    private double[] distributeCostEvenly(int numberOfPeopleInvolved) {
-        double dividedCost = totalCost / numberOfPeopleInvolved;
-        double[] costList = new double[numberOfPeopleInvolved];
-        Arrays.fill(costList, dividedCost);
-        return costList;
+    private Money[] distributeCostEvenly(int numberOfPeopleInvolved) {
+        return totalCost.split(numberOfPeopleInvolved);
+    }
+
+    /**
+     * Computes the costs of the activity, including the extra charges, and looks up the payer and the persons
+     * involved in the session, without changing the session or any person in it.
+     * Must be called exactly once, before ActivityCreateCommand#createActivity.
+     *
+     * @param session A Session object that the activity is to be created in.
+     * @throws InvalidDataException If the payer or any of the persons involved is not a participant of the session.
+     */
+    void prepareActivity(Session session) throws InvalidDataException {
+        updateCostAndCostList();
+        assert costList != null : Message.ASSERT_ACTIVITYCREATE_COST_LIST_ARRAY_NULL;
+        assert totalCost.compareTo(NO_COST) > 0 : Message.ASSERT_ACTIVITYCREATE_TOTAL_COST_LESS_THAN_ONE;
+        personPaid = session.getPersonByName(payer);
+        involvedPersons = session.getPersonListByName(involvedList);
+    }
+
+    /**
+     * Creates the Activity object prepared by ActivityCreateCommand#prepareActivity with the specified activity
+     * unique identifier, and adds its activity costs to the payer and the persons involved.
+     * The Activity object is not added to the session.
+     *
+     * @param activityId An integer that uniquely identifies the activity.
+     * @return An Activity object representing the activity.
+     */
+    Activity createActivity(int activityId) {
+        assert personPaid != null && involvedPersons != null : "The activity must be prepared first";
+        addAllActivityCost(involvedPersons, personPaid, activityId);
+        PersonList involvedPersonList = new PersonList(involvedPersons);
+        return new Activity(activityId, activityName, totalCost, personPaid, involvedPersonList, gst, serviceCharge);
     }
 
     /**
@@ -216,21 +243,11 @@ public class ActivityCreateCommand extends Command {
             return;
         }
         try {
-            updateCostAndCostList();
-            assert costList != null : Message.ASSERT_ACTIVITYCREATE_COST_LIST_ARRAY_NULL;
-            assert totalCost > 0 : Message.ASSERT_ACTIVITYCREATE_TOTAL_COST_LESS_THAN_ONE;
-
             Profile profile = manager.getProfile();
             Session session = profile.getSession(sessionId);
-            Person personPaid = session.getPersonByName(payer);
-            ArrayList<Person> involvedArrayList = session.getPersonListByName(involvedList);
+            prepareActivity(session);
             int activityId = profile.getNewActivityId();
-
-            addAllActivityCost(involvedArrayList, personPaid, activityId);
-
-            PersonList involvedPersonList = new PersonList(involvedArrayList);
-            Activity activity = new Activity(activityId, activityName, totalCost, personPaid, involvedPersonList,
-                    gst, serviceCharge);
+            Activity activity = createActivity(activityId);
 
             session.addActivity(activity);
             manager.saveProfile();
@@ -242,4 +259,9 @@ public class ActivityCreateCommand extends Command {
                     + "\n" + e.getMessage());
         }
     }
+
+    @Override
+    public boolean isMutatingCommand() {
+        return true;
+    }
 }
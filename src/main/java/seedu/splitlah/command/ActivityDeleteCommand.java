@@ -59,4 +59,9 @@ public class ActivityDeleteCommand extends Command {
             Manager.getLogger().log(Level.FINEST, Message.LOGGER_ACTIVITYDELETE_ACTIVITY_REMOVE_FAILED + activityId);
         }
     }
+
+    @Override
+    public boolean isMutatingCommand() {
+        return true;
+    }
 }
@@ -1,13 +1,12 @@
 package seedu.splitlah.command;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Objects;
 import java.util.logging.Level;
 
 import seedu.splitlah.data.Activity;
-import seedu.splitlah.data.ActivityCost;
 import seedu.splitlah.data.Manager;
+import seedu.splitlah.data.Money;
 import seedu.splitlah.data.Person;
 import seedu.splitlah.data.PersonList;
 import seedu.splitlah.data.Session;
@@ -22,14 +21,14 @@ public class ActivityEditCommand extends Command {
 
     private static final String COMMAND_SUCCESS = "The activity was edited successfully.\n";
 
-    private static final double ZERO_COST_PAID = 0;
-    public static final double ZERO_COST_OWED = 0;
+    private static final Money ZERO_COST_PAID = Money.ZERO;
+    public static final Money ZERO_COST_OWED = Money.ZERO;
     private static final int MISSING_ACTIVITYID = -1;
     private static final int MISSING_SESSIONID = -1;
-    private static final double MISSING_TOTALCOST = -1;
+    private static final Money MISSING_TOTALCOST = null;
     private static final double MISSING_GST = -1;
     private static final double MISSING_SERVICECHARGE = -1;
-    private static final double[] MISSING_COSTLIST = null;
+    private static final Money[] MISSING_COSTLIST = null;
     private static final String MISSING_ACTIVITYNAME = null;
     private static final String MISSING_PAYER = null;
     private static final String[] MISSING_INVOLVEDLIST = null;
@@ -37,8 +36,6 @@ public class ActivityEditCommand extends Command {
     private static final int MODE_UNSET = -1;
     private static final int MODE_OVERWRITE = 0;
     private static final int MODE_PRESERVE = 1;
-    private static final double PERCENT = 0.01;
-    private static final double DEFAULT_MULTIPLIER_1 = 1;
     private static final int PARAMETER_SUPPLIED_AND_NECESSARY = 0;
     private static final int PARAMETER_UNNECESSARY = -1;
 
@@ -47,10 +44,10 @@ public class ActivityEditCommand extends Command {
     private Activity oldActivity = null;
     private Session session = null;
     private String activityName = MISSING_ACTIVITYNAME;
-    private double totalCost = MISSING_TOTALCOST;
+    private Money totalCost = MISSING_TOTALCOST;
     private String payer = MISSING_PAYER;
     private String[] involvedListStringArray = MISSING_INVOLVEDLIST;
-    private double[] costList = MISSING_COSTLIST;
+    private Money[] costList = MISSING_COSTLIST;
     private double editMode = MODE_UNSET;
     private double gst = MISSING_GST;
     private double oldGst = MISSING_GST;
@@ -71,17 +68,17 @@ public class ActivityEditCommand extends Command {
      * @param sessionId     An integer that uniquely identifies a session.
      * @param activityId    An integer that uniquely identifies a session.
      * @param activityName  A String object that represents the Activity object's name.
-     * @param totalCost     A double that represents total cost of the activity.
+     * @param totalCost     A Money object that represents total cost of the activity, or null if it is not edited.
      * @param payer         A String object that represents the name of the person who paid for the activity.
      * @param involvedList  An array of String objects that represents the names of the persons
      *                      who are involved in the activity.
-     * @param costList      A double array object that represents the respective costs of
+     * @param costList      A Money array object that represents the respective costs of
      *                      each person involved in the activity.
      * @param gst           A double that represents the GST percentage to be included for the cost of the activity.
      * @param serviceCharge A double that represents the service charge to be included for the cost of the activity.
      */
     public ActivityEditCommand(int sessionId, int activityId, String activityName, String payer, String[] involvedList,
-                               Double totalCost, double[] costList, double gst, double serviceCharge) {
+                               Money totalCost, Money[] costList, double gst, double serviceCharge) {
         assert sessionId > 0 : Message.ASSERT_ACTIVITYEDIT_SESSIONID_LESS_THAN_ONE;
         assert activityId > 0 : Message.ASSERT_ACTIVITYEDIT_ACTIVITYID_MISSING;
         this.activityId = activityId;
@@ -158,14 +155,14 @@ public class ActivityEditCommand extends Command {
      */
     private void updateCostListFromActivity() {
         int listLength = involvedListPersonArray.size();
-        costList = new double[listLength];
+        costList = new Money[listLength];
         for (int i = 0; i < listLength; ++i) {
-            double costOwedForThisActivity;
+            Money costOwedForThisActivity;
             try {
                 costOwedForThisActivity = involvedListPersonArray.get(i).getActivityCostOwed(activityId);
             } catch (InvalidDataException exception) {
                 assert exception.getMessage().equals(Message.ERROR_PERSON_NO_ACTIVITIES);
-                costOwedForThisActivity = 0;
+                costOwedForThisActivity = Money.ZERO;
             }
             costList[i] = costOwedForThisActivity;
         }
@@ -188,17 +185,16 @@ public class ActivityEditCommand extends Command {
     }
 
     private void resetTotalCostToZero() {
-        totalCost = 0;
+        totalCost = Money.ZERO;
     }
 
     /**
      * Calculates the old activity's cost list without gst and service charge.
+     * The extra charges are removed in the reverse order that they were added in, each rounded to the cent.
      */
     private void removeOldExtraChargesFromCostList() {
-        double oldGstMultiplier = DEFAULT_MULTIPLIER_1 + (oldGst * PERCENT);
-        double oldServiceChargeMultiplier = DEFAULT_MULTIPLIER_1 + (oldServiceCharge * PERCENT);
         for (int i = 0; i < costList.length; ++i) {
-            costList[i] /= (oldGstMultiplier * oldServiceChargeMultiplier);
+            costList[i] = costList[i].removePercentage(oldGst).removePercentage(oldServiceCharge);
         }
     }
 
@@ -208,9 +204,8 @@ public class ActivityEditCommand extends Command {
      * Assumption: GST and service charge are non-negative values.
      */
     private void updateCostListWithExtraCharges() {
-        double extraCharges = getExtraCharges();
         for (int i = 0; i < costList.length; i++) {
-            costList[i] *= extraCharges;
+            costList[i] = costList[i].addPercentage(serviceCharge).addPercentage(gst);
         }
     }
 
@@ -218,35 +213,20 @@ public class ActivityEditCommand extends Command {
      * Updates the total cost of the activity by summing up the costs in the list of costs.
      */
     private void calculateTotalCost() {
-        for (double cost : costList) {
-            totalCost += cost;
-        }
-    }
-
-    /**
-     * Returns a double representing the extra charges that is to be included in costs of the activity.
-     *
-     * @return A double representing the extra charges.
-     */
-    private double getExtraCharges() {
-        double gstMultiplier = DEFAULT_MULTIPLIER_1 + (gst * PERCENT);
-        double serviceChargeMultiplier = DEFAULT_MULTIPLIER_1 + (serviceCharge * PERCENT);
-        return gstMultiplier * serviceChargeMultiplier;
+        totalCost = Money.sum(costList);
     }
 
     /**
-     * Returns an array of doubles of the costs that has been distributed evenly
+     * Returns an array of the costs that has been distributed evenly
      * among the persons involved in the activity.
-     * Divides the total cost by the number of people involved in the activity.
+     * Divides the total cost by the number of people involved in the activity. Any cents left over are given one
+     * each to the persons listed first, so the costs always add up to exactly the total cost.
      *
      * @param numberOfPeopleInvolved An integer representing the number of people involved in the activity.
-     * @return An array of doubles representing the costs of each person involved in the activity.
+     * @return An array of Money objects representing the costs of each person involved in the activity.
      */
-    private double[] distributeCostEvenly(int numberOfPeopleInvolved) {
-        double dividedCost = totalCost / numberOfPeopleInvolved;
-        double[] equallyDistributedCostList = new double[numberOfPeopleInvolved];
-        Arrays.fill(equallyDistributedCostList, dividedCost);
-        return equallyDistributedCostList;
+    private Money[] distributeCostEvenly(int numberOfPeopleInvolved) {
+        return totalCost.split(numberOfPeopleInvolved);
     }
 
     /**
@@ -271,11 +251,7 @@ public class ActivityEditCommand extends Command {
      *               being edited.
      */
     private void updateAllDummyActivityIdsInPerson(Person person) {
-        for (ActivityCost activityCost : person.getActivityCostList()) {
-            if (activityCost.getActivityId() == DUMMY_ACTIVITYID) {
-                activityCost.setActivityId(activityId);
-            }
-        }
+        person.replaceActivityCostId(DUMMY_ACTIVITYID, activityId);
     }
 
     /**
@@ -501,13 +477,13 @@ public class ActivityEditCommand extends Command {
         if (!isCostListSupplied) {
             return true;
         }
-        double[] oldCostList = new double[oldActivity.getInvolvedPersonList().size()];
+        Money[] oldCostList = new Money[oldActivity.getInvolvedPersonList().size()];
         fillCostList(oldCostList, oldActivity);
         if (costList.length != oldCostList.length) {
             return false;
         }
         for (int i = 0; i < costList.length; ++i) {
-            if (costList[i] != oldCostList[i]) {
+            if (!costList[i].equals(oldCostList[i])) {
                 return false;
             }
         }
@@ -517,11 +493,11 @@ public class ActivityEditCommand extends Command {
     /**
      * Fills a cost list with the costs from an Activity object.
      *
-     * @param oldCostList A double array object representing the cost list to be filled.
+     * @param oldCostList A Money array object representing the cost list to be filled.
      * @param oldActivity An Activity object representing the activity to retrieve costs from.
      * @throws InvalidDataException If a nonexistent unique activity identifier is used when retrieving costs.
      */
-    private void fillCostList(double[] oldCostList, Activity oldActivity) throws InvalidDataException {
+    private void fillCostList(Money[] oldCostList, Activity oldActivity) throws InvalidDataException {
         ArrayList<Person> oldInvolvedPersonList = oldActivity.getInvolvedPersonList();
         for (int i = 0; i < oldInvolvedPersonList.size(); ++i) {
             oldCostList[i] = oldInvolvedPersonList.get(i).getActivityCostOwed(activityId);
@@ -597,4 +573,9 @@ public class ActivityEditCommand extends Command {
             exception.printStackTrace();
         }
     }
+
+    @Override
+    public boolean isMutatingCommand() {
+        return true;
+    }
 }
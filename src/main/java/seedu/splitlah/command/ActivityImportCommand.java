@@ -0,0 +1,192 @@
+package seedu.splitlah.command;
+
+import seedu.splitlah.data.Activity;
+import seedu.splitlah.data.Manager;
+import seedu.splitlah.data.Profile;
+import seedu.splitlah.data.Session;
+import seedu.splitlah.exceptions.InvalidDataException;
+import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.parser.ActivityCsvParser;
+import seedu.splitlah.ui.Message;
+import seedu.splitlah.ui.TextUI;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.logging.Level;
+
+/**
+ * Represents a command that creates an Activity object for every row of a CSV file and stores all of them in
+ * a Session object at once.
+ * Every row is checked before any activity is created, with the rows checked in parallel. If any row is invalid,
+ * no activity is created. Otherwise, the activities are issued a block of consecutive activity unique identifiers,
+ * added to the session in a single pass, and saved once.
+ *
+ * @author Warren
+ */
+public class ActivityImportCommand extends Command {
+
+    private static final String COMMAND_SUCCESS =
+            "%d activities were imported successfully, with activity IDs %d to %d.";
+    private static final char BYTE_ORDER_MARK = 0xFEFF;
+
+    private final int sessionId;
+    private final Path filePath;
+
+    /**
+     * Initializes an ActivityImportCommand object.
+     *
+     * @param sessionId An integer that uniquely identifies the session that the activities are imported into.
+     * @param filePath  A Path object that represents the CSV file of the activities to be imported.
+     */
+    public ActivityImportCommand(int sessionId, Path filePath) {
+        assert sessionId > 0 : Message.ASSERT_ACTIVITYIMPORT_SESSION_ID_LESS_THAN_ONE;
+        assert filePath != null : Message.ASSERT_ACTIVITYIMPORT_FILE_PATH_NULL;
+        this.sessionId = sessionId;
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns every row of the CSV file that describes an activity, read one line at a time.
+     * Blank lines and a header row in the first line are skipped.
+     *
+     * @return An ArrayList object of ImportRow objects, in the order of the rows in the file.
+     * @throws IOException If the file cannot be read.
+     */
+    private ArrayList<ImportRow> readRows() throws IOException {
+        ArrayList<ImportRow> rows = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber += 1;
+                if (lineNumber == 1 && !line.isEmpty() && line.charAt(0) == BYTE_ORDER_MARK) {
+                    line = line.substring(1);
+                }
+                boolean isHeader = lineNumber == 1 && ActivityCsvParser.isHeader(line);
+                if (!line.isBlank() && !isHeader) {
+                    rows.add(new ImportRow(lineNumber, line));
+                }
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Returns a message that lists every invalid row with its line number and the reason that it is invalid.
+     *
+     * @param rows An ArrayList object of checked ImportRow objects.
+     * @return A String object that represents the message, or
+     *         null if every row is valid.
+     */
+    private static String getInvalidRowsMessage(ArrayList<ImportRow> rows) {
+        StringBuilder sb = new StringBuilder();
+        int invalidRowCount = 0;
+        for (ImportRow row : rows) {
+            if (row.error != null) {
+                invalidRowCount += 1;
+                sb.append("\n").append(Message.MESSAGE_ACTIVITYIMPORT_LINE).append(row.lineNumber)
+                        .append(": ").append(row.error);
+            }
+        }
+        if (invalidRowCount == 0) {
+            return null;
+        }
+        return Message.ERROR_ACTIVITYIMPORT_INVALID_ROWS + invalidRowCount + sb;
+    }
+
+    /**
+     * Runs the command to create an Activity object for every row of the CSV file, and store all of them in
+     * the Session object managed by the Profile object.
+     * Every row is first parsed and checked against the participants of the session in parallel. If all rows are
+     * valid, the Activity objects are created in the order of the rows, added to the session together, and saved with
+     * a single checkpoint, as the command cannot be journalled without the file.
+     *
+     * @param manager A Manager object that manages the TextUI, Profile and Storage object.
+     */
+    @Override
+    public void run(Manager manager) {
+        TextUI ui = manager.getUi();
+        Profile profile = manager.getProfile();
+        Session session;
+        ArrayList<ImportRow> rows;
+        try {
+            session = profile.getSession(sessionId);
+            rows = readRows();
+        } catch (InvalidDataException e) {
+            ui.printlnMessage(e.getMessage());
+            Manager.getLogger().log(Level.FINEST, Message.LOGGER_ACTIVITYIMPORT_FAILED + e.getMessage());
+            return;
+        } catch (IOException e) {
+            ui.printlnMessage(Message.ERROR_ACTIVITYIMPORT_FILE_NOT_READABLE + filePath);
+            Manager.getLogger().log(Level.FINEST, Message.LOGGER_ACTIVITYIMPORT_FAILED + e.getMessage());
+            return;
+        }
+        if (rows.isEmpty()) {
+            ui.printlnMessage(Message.ERROR_ACTIVITYIMPORT_NO_ROWS);
+            return;
+        }
+
+        // Loads the participants before the rows are checked, so that they are only read in parallel.
+        session.getPersonList();
+        rows.parallelStream().forEach(row -> row.check(sessionId, session));
+        String invalidRowsMessage = getInvalidRowsMessage(rows);
+        if (invalidRowsMessage != null) {
+            ui.printlnMessage(invalidRowsMessage);
+            Manager.getLogger().log(Level.FINEST, Message.LOGGER_ACTIVITYIMPORT_FAILED + invalidRowsMessage);
+            return;
+        }
+
+        int firstActivityId = profile.getNewActivityIds(rows.size());
+        ArrayList<Activity> activities = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            activities.add(rows.get(i).command.createActivity(firstActivityId + i));
+        }
+        session.addActivities(activities);
+        manager.saveProfileWithCheckpoint();
+        int lastActivityId = firstActivityId + rows.size() - 1;
+        ui.printlnMessageWithDivider(String.format(COMMAND_SUCCESS, rows.size(), firstActivityId, lastActivityId));
+        Manager.getLogger().log(Level.FINEST, Message.LOGGER_ACTIVITYIMPORT_ACTIVITIES_ADDED + rows.size());
+    }
+
+    @Override
+    public boolean isMutatingCommand() {
+        return true;
+    }
+
+    /**
+     * Represents a row of the CSV file, and the result of checking it.
+     */
+    private static class ImportRow {
+
+        private final int lineNumber;
+        private final String line;
+        private ActivityCreateCommand command;
+        private String error;
+
+        private ImportRow(int lineNumber, String line) {
+            this.lineNumber = lineNumber;
+            this.line = line;
+        }
+
+        /**
+         * Parses the row and prepares the activity that it describes, keeping the reason if the row is invalid.
+         * Only reads the session, so that rows can be checked on several threads at once.
+         *
+         * @param sessionId An integer that uniquely identifies the session that the activity is imported into.
+         * @param session   A Session object that the activity is imported into, with its participants loaded.
+         */
+        private void check(int sessionId, Session session) {
+            try {
+                ActivityCreateCommand parsedCommand = ActivityCsvParser.parseRow(sessionId, line);
+                parsedCommand.prepareActivity(session);
+                command = parsedCommand;
+            } catch (InvalidFormatException | InvalidDataException e) {
+                error = e.getMessage();
+            }
+        }
+    }
+}
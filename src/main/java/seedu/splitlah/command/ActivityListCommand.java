@@ -34,7 +34,7 @@ public class ActivityListCommand extends Command {
     @Override
     public void run(Manager manager) {
         try {
-            Session sessionToBePrinted = manager.getProfile().getSession(sessionId);
+            Session sessionToBePrinted = manager.getProfile().getReadOnlySession(sessionId);
             manager.getUi().printlnMessage(sessionToBePrinted.getActivityListSummaryString());
             Manager.getLogger().log(Level.FINEST, Message.LOGGER_ACTIVITYLIST_ACTIVITIES_LISTED + sessionId);
         } catch (InvalidDataException e) {
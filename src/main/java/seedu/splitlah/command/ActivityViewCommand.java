@@ -48,7 +48,7 @@ public class ActivityViewCommand extends Command {
         TextUI ui = manager.getUi();
         String logMessage = SESSION_ID_HEADER + sessionId + SEPARATOR + ACTIVITY_ID_HEADER + activityId;
         try {
-            Session session = manager.getProfile().getSession(sessionId);
+            Session session = manager.getProfile().getReadOnlySession(sessionId);
             Activity activityToBePrinted = session.getActivity(activityId);
             String messageToBePrinted = SESSION_ID_HEADER + sessionId + SEPARATOR + activityToBePrinted.toString();
             ui.printlnMessage(messageToBePrinted);
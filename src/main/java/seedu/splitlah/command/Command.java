@@ -25,4 +25,15 @@ public abstract class Command {
     public boolean isExitCommand() {
         return this instanceof ExitCommand;
     }
+
+    /**
+     * Checks if the command changes the Profile object when it succeeds. Such a command saves the Profile object
+     * through the Manager object only if it succeeds.
+     *
+     * @return true if the command changes the Profile object when it succeeds,
+     *         false otherwise.
+     */
+    public boolean isMutatingCommand() {
+        return false;
+    }
 }
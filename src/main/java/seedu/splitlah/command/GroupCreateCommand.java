@@ -76,4 +76,9 @@ public class GroupCreateCommand extends Command {
         ui.printlnMessageWithDivider(SUCCESS_MESSAGE + newGroup);
         Manager.getLogger().log(Level.FINEST,Message.LOGGER_GROUPCREATE_GROUP_ADDED + newGroupId);
     }
+
+    @Override
+    public boolean isMutatingCommand() {
+        return true;
+    }
 }
@@ -46,4 +46,9 @@ public class GroupDeleteCommand extends Command {
             Manager.getLogger().log(Level.FINEST, Message.LOGGER_GROUPDELETE_GROUP_REMOVED_FAILED + groupId);
         }
     }
+
+    @Override
+    public boolean isMutatingCommand() {
+        return true;
+    }
 }
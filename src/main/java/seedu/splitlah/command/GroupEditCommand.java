@@ -103,7 +103,7 @@ public class GroupEditCommand extends Command {
         }
 
         if (editedGroupName) {
-            group.setGroupName(groupName);
+            manager.getProfile().renameGroup(group, groupName);
         }
         if (editedPersonList) {
             PersonList newPersonList = new PersonList(involvedList);
@@ -119,4 +119,9 @@ public class GroupEditCommand extends Command {
         }
         manager.saveProfile();
     }
+
+    @Override
+    public boolean isMutatingCommand() {
+        return true;
+    }
 }
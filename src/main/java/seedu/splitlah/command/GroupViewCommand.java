@@ -38,7 +38,7 @@ public class GroupViewCommand extends Command {
     public void run(Manager manager) {
         TextUI ui = manager.getUi();
         try {
-            Group group = manager.getProfile().getGroup(groupId);
+            Group group = manager.getProfile().getReadOnlyGroup(groupId);
             assert group.getGroupId() == groupId : Message.ASSERT_GROUPVIEW_INCORRECT_GROUP;
             ui.printlnMessageWithDivider(group.toString());
             Manager.getLogger().log(Level.FINEST, Message.LOGGER_GROUPVIEW_GROUP_VIEWED + groupId);
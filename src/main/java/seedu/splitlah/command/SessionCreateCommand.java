@@ -77,7 +77,7 @@ public class SessionCreateCommand extends Command {
         Group group = null;
         if (groupId != -1) {
             try {
-                group = profile.getGroup(groupId);
+                group = profile.getReadOnlyGroup(groupId);
                 personList.mergeListOfPersons(group.getPersonList());
             } catch (InvalidDataException dataException) {
                 ui.printlnMessage(dataException.getMessage());
@@ -99,4 +99,9 @@ public class SessionCreateCommand extends Command {
         ui.printlnMessageWithDivider(COMMAND_SUCCESS + "\n" + newSession);
         Manager.getLogger().log(Level.FINEST,Message.LOGGER_SESSIONCREATE_SESSION_ADDED + newSessionId);
     }
+
+    @Override
+    public boolean isMutatingCommand() {
+        return true;
+    }
 }
@@ -46,4 +46,9 @@ public class SessionDeleteCommand extends Command {
             Manager.getLogger().log(Level.FINEST, Message.LOGGER_SESSIONDELETE_SESSION_REMOVED_FAILED + sessionId);
         }
     }
+
+    @Override
+    public boolean isMutatingCommand() {
+        return true;
+    }
 }
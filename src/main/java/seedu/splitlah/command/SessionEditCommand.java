@@ -141,7 +141,7 @@ public class SessionEditCommand extends Command {
             }
         }
         if (newSessionName != null) {
-            session.setSessionName(newSessionName);
+            profile.renameSession(session, newSessionName);
         }
         if (isSessionEdited) {
             ui.printlnMessageWithDivider(COMMAND_SUCCESS + "\n" + session);
@@ -151,4 +151,9 @@ public class SessionEditCommand extends Command {
         manager.saveProfile();
         Manager.getLogger().log(Level.FINEST, Message.LOGGER_SESSIONEDIT_SESSION_EDITED);
     }
+
+    @Override
+    public boolean isMutatingCommand() {
+        return true;
+    }
 }
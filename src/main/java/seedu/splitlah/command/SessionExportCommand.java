@@ -0,0 +1,195 @@
+package seedu.splitlah.command;
+
+import seedu.splitlah.data.Activity;
+import seedu.splitlah.data.ActivityCostLedger;
+import seedu.splitlah.data.Manager;
+import seedu.splitlah.data.Person;
+import seedu.splitlah.data.Profile;
+import seedu.splitlah.data.Session;
+import seedu.splitlah.exceptions.InvalidDataException;
+import seedu.splitlah.ui.Message;
+import seedu.splitlah.ui.TextUI;
+import seedu.splitlah.util.CsvExportWriter;
+import seedu.splitlah.util.ExportWriter;
+import seedu.splitlah.util.JsonExportWriter;
+import seedu.splitlah.util.SettlementStrategy;
+import seedu.splitlah.util.Transfer;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.logging.Level;
+
+/**
+ * Represents a command that exports every session in the profile, with its activities, the cost paid and owed by
+ * every person for each activity, and the transfers that settle it, to a CSV or JSON file.
+ * The sessions are exported one at a time in the order of their unique identifiers, and every part of a session is
+ * written through a buffered writer as soon as it is read, so that the exported document is never held in memory
+ * as a whole. Sessions are retrieved through the profile, so that no more than the resident session limit stay
+ * loaded while the profile is exported.
+ * The document is written into a temporary file beside the file, which only replaces the file once every session
+ * has been exported, so that a failed export never leaves a partial document or overwrites an earlier export.
+ *
+ * @author Warren
+ */
+public class SessionExportCommand extends Command {
+
+    private static final String COMMAND_SUCCESS = "%d sessions were exported successfully to %s.";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    private final Path filePath;
+    private final String exportFormat;
+    private final SettlementStrategy settlementStrategy;
+
+    /**
+     * Initializes a SessionExportCommand object.
+     *
+     * @param filePath           A Path object that represents the file that the sessions are exported to.
+     * @param exportFormat       A String object that represents the name of the export format.
+     * @param settlementStrategy A SettlementStrategy object that chooses the transactions to be made.
+     */
+    public SessionExportCommand(Path filePath, String exportFormat, SettlementStrategy settlementStrategy) {
+        assert filePath != null : Message.ASSERT_SESSIONEXPORT_FILE_PATH_NULL;
+        this.filePath = filePath;
+        this.exportFormat = exportFormat;
+        this.settlementStrategy = settlementStrategy;
+    }
+
+    /**
+     * Returns an ExportWriter object of the export format of the command, that writes to the specified Writer object.
+     *
+     * @param writer A Writer object that the exported document is written to.
+     * @return A JsonExportWriter object if the export format is JSON, a CsvExportWriter object otherwise.
+     */
+    private ExportWriter createExportWriter(Writer writer) {
+        if (JsonExportWriter.NAME.equals(exportFormat)) {
+            return new JsonExportWriter(writer);
+        }
+        return new CsvExportWriter(writer);
+    }
+
+    /**
+     * Writes a session, its activities with the cost paid and owed by every person for each of them, and the
+     * transfers that settle the session.
+     *
+     * @param session      A Session object that represents the session to be exported.
+     * @param exportWriter An ExportWriter object that the session is written to.
+     * @throws IOException If the session cannot be written.
+     */
+    private void exportSession(Session session, ExportWriter exportWriter) throws IOException {
+        int sessionId = session.getSessionId();
+        ArrayList<Person> persons = session.getPersonArrayList();
+        exportWriter.beginSession(session);
+        for (Activity activity : session.getActivityList()) {
+            int activityId = activity.getActivityId();
+            exportWriter.beginActivity(sessionId, activity);
+            for (Person person : persons) {
+                ActivityCostLedger ledger = person.getActivityCostLedger();
+                int slot = ledger.indexOf(activityId);
+                if (slot != -1) {
+                    exportWriter.writeActivityCost(sessionId, activityId, person.getName(),
+                            ledger.getCostPaid(slot), ledger.getCostOwed(slot));
+                }
+            }
+            exportWriter.endActivity();
+        }
+        for (Transfer transfer : SessionSummaryAllCommand.settle(session.createSettlementSnapshot(),
+                settlementStrategy)) {
+            exportWriter.writeTransfer(sessionId, transfer);
+        }
+        exportWriter.endSession();
+    }
+
+    /**
+     * Writes every session in the list, retrieved through the profile, into a new document in the specified file.
+     *
+     * @param path     A Path object that represents the file that the document is written to.
+     * @param profile  A Profile object that the sessions are retrieved through.
+     * @param sessions An ArrayList object of the sessions to be exported, in the order that they are exported.
+     * @throws InvalidDataException If the participants and activities of a session cannot be loaded.
+     * @throws IOException          If the file cannot be written.
+     */
+    private void writeExport(Path path, Profile profile, ArrayList<Session> sessions)
+            throws InvalidDataException, IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            ExportWriter exportWriter = createExportWriter(writer);
+            exportWriter.beginExport();
+            for (Session listedSession : sessions) {
+                exportSession(profile.getReadOnlySession(listedSession.getSessionId()), exportWriter);
+            }
+            exportWriter.endExport();
+        }
+    }
+
+    /**
+     * Replaces the file with the complete document in the temporary file, atomically if the file system allows it.
+     *
+     * @param temporaryPath A Path object that represents the temporary file holding the complete document.
+     * @throws IOException If the file cannot be replaced.
+     */
+    private void moveExportIntoPlace(Path temporaryPath) throws IOException {
+        try {
+            Files.move(temporaryPath, filePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException exception) {
+            Files.move(temporaryPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Deletes the temporary file of an export that has failed, if it was created.
+     *
+     * @param temporaryPath A Path object that represents the temporary file.
+     */
+    private static void deleteTemporaryFile(Path temporaryPath) {
+        try {
+            Files.deleteIfExists(temporaryPath);
+        } catch (IOException exception) {
+            Manager.getLogger().log(Level.FINEST, Message.LOGGER_SESSIONEXPORT_FAILED + exception.getMessage());
+        }
+    }
+
+    /**
+     * Runs the command to export every session in the profile to the file, in the order of their unique
+     * identifiers. If a session cannot be loaded or the file cannot be written, the user is informed and the file
+     * is left as it was.
+     *
+     * @param manager A Manager object that manages the TextUI, Profile and Storage object.
+     */
+    @Override
+    public void run(Manager manager) {
+        TextUI ui = manager.getUi();
+        Profile profile = manager.getProfile();
+        ArrayList<Session> sessions = new ArrayList<>(profile.getSessionList());
+        sessions.sort(Session::compareTo);
+
+        Path temporaryPath = filePath.resolveSibling(filePath.getFileName() + TEMPORARY_FILE_SUFFIX);
+        try {
+            writeExport(temporaryPath, profile, sessions);
+            moveExportIntoPlace(temporaryPath);
+        } catch (InvalidDataException e) {
+            ui.printlnMessage(e.getMessage());
+            Manager.getLogger().log(Level.FINEST, Message.LOGGER_SESSIONEXPORT_FAILED + e.getMessage());
+            return;
+        } catch (UncheckedIOException e) {
+            ui.printlnMessage(Message.ERROR_SESSIONEXPORT_SESSION_NOT_LOADED);
+            Manager.getLogger().log(Level.FINEST, Message.LOGGER_SESSIONEXPORT_FAILED + e.getMessage());
+            return;
+        } catch (IOException e) {
+            ui.printlnMessage(Message.ERROR_SESSIONEXPORT_FILE_NOT_WRITABLE + filePath);
+            Manager.getLogger().log(Level.FINEST, Message.LOGGER_SESSIONEXPORT_FAILED + e.getMessage());
+            return;
+        } finally {
+            // Only left behind if the export has failed, as it is moved into place otherwise.
+            deleteTemporaryFile(temporaryPath);
+        }
+        ui.printlnMessageWithDivider(String.format(COMMAND_SUCCESS, sessions.size(), filePath));
+        Manager.getLogger().log(Level.FINEST, Message.LOGGER_SESSIONEXPORT_SESSIONS_EXPORTED + sessions.size());
+    }
+}
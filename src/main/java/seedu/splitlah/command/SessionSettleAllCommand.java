@@ -0,0 +1,180 @@
+package seedu.splitlah.command;
+
+import seedu.splitlah.data.Manager;
+import seedu.splitlah.data.Person;
+import seedu.splitlah.data.Profile;
+import seedu.splitlah.data.Session;
+import seedu.splitlah.exceptions.InvalidDataException;
+import seedu.splitlah.ui.Message;
+import seedu.splitlah.ui.TextUI;
+import seedu.splitlah.util.PersonCostPair;
+import seedu.splitlah.util.SettlementStrategy;
+import seedu.splitlah.util.Transfer;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.logging.Level;
+
+/**
+ * Represents a command that settles the net debts of every person across all sessions in the profile at once,
+ * or across all sessions of a specified group.
+ * Persons in different sessions are treated as the same person if their names match, ignoring case.
+ *
+ * @author Warren
+ */
+public class SessionSettleAllCommand extends Command {
+
+    public static final int NO_GROUP_ID = -1;
+
+    private final int groupId;
+    private final SettlementStrategy settlementStrategy;
+
+    // MISC CONSTANTS
+    private static final String SETTLEMENT_HEADER_ALL_SESSIONS = "Settlement (All sessions) --";
+    private static final String SETTLEMENT_HEADER_PREPEND = "Settlement (Group Id #";
+    private static final String SETTLEMENT_HEADER_POSTPEND = ") --";
+    private static final String PREPEND_SESSION_COUNT = "\nSessions settled: ";
+    private static final String PREPEND_PAYMENTS = "\nTransactions to be made:";
+    private static final String PREPEND_TRANSACTION = "\n - ";
+
+    /**
+     * Initializes a SessionSettleAllCommand object.
+     *
+     * @param groupId            An integer that uniquely identifies the group whose sessions are settled,
+     *                           or -1 if all sessions are settled.
+     * @param settlementStrategy A SettlementStrategy object that chooses the transactions to be made.
+     */
+    public SessionSettleAllCommand(int groupId, SettlementStrategy settlementStrategy) {
+        this.groupId = groupId;
+        this.settlementStrategy = settlementStrategy;
+    }
+
+    /**
+     * Checks if a session is settled by the command.
+     *
+     * @param session A Session object.
+     * @return true if the command settles all sessions or the session belongs to the group of the command,
+     *         false otherwise.
+     */
+    private boolean isSessionIncluded(Session session) {
+        if (groupId == NO_GROUP_ID) {
+            return true;
+        }
+        return session.getGroup() != null && session.getGroup().getGroupId() == groupId;
+    }
+
+    /**
+     * Returns the sessions in the profile that are settled by the command.
+     *
+     * @param profile A Profile object that stores all sessions.
+     * @return An ArrayList object of the Session objects settled by the command.
+     */
+    ArrayList<Session> getIncludedSessions(Profile profile) {
+        ArrayList<Session> includedSessions = new ArrayList<>();
+        for (Session session : profile.getSessionList()) {
+            if (isSessionIncluded(session)) {
+                includedSessions.add(session);
+            }
+        }
+        return includedSessions;
+    }
+
+    /**
+     * Groups every person with the net cost borne by them across all the sessions, in a single pass over the
+     * participants of the sessions. The cost borne by each participant is read from the running totals of their
+     * ledger, and persons who have nothing to pay or receive overall are left out.
+     *
+     * @param profile  A Profile object that stores all sessions.
+     * @param sessions An ArrayList object of the Session objects to be settled.
+     * @return An ArrayList object of PersonCostPair objects, one for each distinct name, in the order that the names
+     *         first appear.
+     * @throws InvalidDataException If a session can no longer be found in the profile, or
+     *                              if the participants of a session cannot be loaded from its save file.
+     */
+    static ArrayList<PersonCostPair> getNetPersonCostPairList(Profile profile, ArrayList<Session> sessions)
+            throws InvalidDataException {
+        LinkedHashMap<String, PersonCostPair> netCostsByName = new LinkedHashMap<>();
+        for (Session session : sessions) {
+            // Retrieved through the profile, so that at most the resident session limit of sessions stay loaded.
+            Session loadedSession = profile.getReadOnlySession(session.getSessionId());
+            for (Person person : loadedSession.getPersonArrayList()) {
+                long cost = person.getTotalCostInCents();
+                String key = person.getName().toLowerCase(Locale.ROOT);
+                PersonCostPair netCost = netCostsByName.get(key);
+                if (netCost == null) {
+                    netCostsByName.put(key, new PersonCostPair(person, cost));
+                } else {
+                    netCost.setCost(Math.addExact(netCost.getCost(), cost));
+                }
+            }
+        }
+
+        ArrayList<PersonCostPair> personCostPairList = new ArrayList<>();
+        for (PersonCostPair netCost : netCostsByName.values()) {
+            if (netCost.getCost() != 0) {
+                personCostPairList.add(netCost);
+            }
+        }
+        return personCostPairList;
+    }
+
+    /**
+     * Returns a String object that represents the transactions that settle the net debts of every person.
+     *
+     * @param sessionCount An integer that represents the number of sessions settled.
+     * @param transfers    A List object of Transfer objects that settle the net debts.
+     * @return A String object representing the settlement of all the sessions.
+     */
+    private String getSettlementString(int sessionCount, List<Transfer> transfers) {
+        StringBuilder sb = new StringBuilder();
+        if (groupId == NO_GROUP_ID) {
+            sb.append(SETTLEMENT_HEADER_ALL_SESSIONS);
+        } else {
+            sb.append(SETTLEMENT_HEADER_PREPEND).append(groupId).append(SETTLEMENT_HEADER_POSTPEND);
+        }
+        sb.append(PREPEND_SESSION_COUNT).append(sessionCount);
+        sb.append(PREPEND_PAYMENTS);
+        for (Transfer transfer : transfers) {
+            sb.append(PREPEND_TRANSACTION).append(transfer);
+        }
+        if (transfers.isEmpty()) {
+            sb.append(PREPEND_TRANSACTION).append(Message.MESSAGE_SESSIONSUMMARY_NO_PAYMENTS_REQUIRED);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Runs the command and prints the transactions that settle the net debts of every person across all sessions,
+     * or across all sessions of the specified group.
+     *
+     * @param manager A Manager object that manages the TextUI, Profile and Storage object.
+     */
+    @Override
+    public void run(Manager manager) {
+        Profile profile = manager.getProfile();
+        TextUI ui = manager.getUi();
+        ArrayList<PersonCostPair> personCostPairList;
+        ArrayList<Session> sessions;
+        try {
+            if (groupId != NO_GROUP_ID) {
+                profile.getReadOnlyGroup(groupId);
+            }
+            sessions = getIncludedSessions(profile);
+            if (sessions.isEmpty()) {
+                ui.printlnMessage(Message.ERROR_SESSIONSETTLEALL_NO_SESSIONS);
+                return;
+            }
+            personCostPairList = getNetPersonCostPairList(profile, sessions);
+        } catch (InvalidDataException exception) {
+            ui.printlnMessage(exception.getMessage());
+            Manager.getLogger().log(Level.FINEST, Message.LOGGER_SESSIONSETTLEALL_GROUP_ID_NOT_FOUND + groupId);
+            return;
+        }
+
+        List<Transfer> transfers = settlementStrategy.settle(personCostPairList);
+        ui.printlnMessageWithDivider(getSettlementString(sessions.size(), transfers));
+        Manager.getLogger().log(Level.FINEST, Message.LOGGER_SESSIONSETTLEALL_SETTLEMENT_PRINTED + sessions.size());
+    }
+}
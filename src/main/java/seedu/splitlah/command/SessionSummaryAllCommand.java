@@ -0,0 +1,185 @@
+package seedu.splitlah.command;
+
+import seedu.splitlah.data.Manager;
+import seedu.splitlah.data.Person;
+import seedu.splitlah.data.Profile;
+import seedu.splitlah.data.Session;
+import seedu.splitlah.data.SessionSettlementSnapshot;
+import seedu.splitlah.exceptions.InvalidDataException;
+import seedu.splitlah.ui.Message;
+import seedu.splitlah.ui.TextUI;
+import seedu.splitlah.util.PersonCostPair;
+import seedu.splitlah.util.SettlementStrategy;
+import seedu.splitlah.util.Transfer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.logging.Level;
+
+/**
+ * Represents a command that produces the summary of expenditure of every session in the profile.
+ * The participants of every session are first copied into immutable snapshots on the calling thread, after which
+ * the settlements are computed in parallel on a ForkJoinPool object, and the summaries are listed in the order of the
+ * sessions' unique identifiers.
+ *
+ * @author Warren
+ */
+public class SessionSummaryAllCommand extends Command {
+
+    private final SettlementStrategy settlementStrategy;
+
+    // MISC CONSTANTS
+    private static final int SESSIONS_PER_TASK = 4;
+    private static final String SUMMARY_SEPARATOR = "\n\n";
+
+    /**
+     * Initializes a SessionSummaryAllCommand object.
+     *
+     * @param settlementStrategy A SettlementStrategy object that chooses the transactions to be made.
+     */
+    public SessionSummaryAllCommand(SettlementStrategy settlementStrategy) {
+        this.settlementStrategy = settlementStrategy;
+    }
+
+    /**
+     * Represents a task that produces the summaries of a range of sessions from their snapshots, splitting the range
+     * into smaller tasks until each task has at most a few sessions left.
+     * Each task only writes the summaries in its own range.
+     */
+    private static class SummaryTask extends RecursiveAction {
+
+        private static final long serialVersionUID = -652839543460579127L;
+
+        private final SessionSettlementSnapshot[] snapshots;
+        private final String[] summaries;
+        private final SettlementStrategy settlementStrategy;
+        private final int start;
+        private final int end;
+
+        SummaryTask(SessionSettlementSnapshot[] snapshots, String[] summaries, SettlementStrategy settlementStrategy,
+                int start, int end) {
+            this.snapshots = snapshots;
+            this.summaries = summaries;
+            this.settlementStrategy = settlementStrategy;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= SESSIONS_PER_TASK) {
+                for (int i = start; i < end; i++) {
+                    if (summaries[i] == null) {
+                        summaries[i] = summarize(snapshots[i], settlementStrategy);
+                    }
+                }
+                return;
+            }
+            int middle = (start + end) >>> 1;
+            invokeAll(new SummaryTask(snapshots, summaries, settlementStrategy, start, middle),
+                    new SummaryTask(snapshots, summaries, settlementStrategy, middle, end));
+        }
+    }
+
+    /**
+     * Returns the transfers that settle a session, computed from its snapshot. New Person objects are created from
+     * the names in the snapshot, so that no Person object of the session is read outside of the calling thread.
+     *
+     * @param snapshot           A SessionSettlementSnapshot object of the session.
+     * @param settlementStrategy A SettlementStrategy object that chooses the transactions to be made.
+     * @return A List object of Transfer objects that settle all debts of the session.
+     */
+    static List<Transfer> settle(SessionSettlementSnapshot snapshot, SettlementStrategy settlementStrategy) {
+        ArrayList<PersonCostPair> personCostPairList = new ArrayList<>();
+        for (int i = 0; i < snapshot.getPersonCount(); i++) {
+            long cost = snapshot.getCost(i);
+            if (cost != 0) {
+                Person person = Person.createPersonFromString(snapshot.getPersonName(i));
+                personCostPairList.add(new PersonCostPair(person, cost));
+            }
+        }
+        return settlementStrategy.settle(personCostPairList);
+    }
+
+    /**
+     * Returns the summary of a session produced from its snapshot.
+     *
+     * @param snapshot           A SessionSettlementSnapshot object of the session.
+     * @param settlementStrategy A SettlementStrategy object that chooses the transactions to be made.
+     * @return A String object representing the summary of all transactions to be made for the session.
+     */
+    static String summarize(SessionSettlementSnapshot snapshot, SettlementStrategy settlementStrategy) {
+        return SessionSummaryCommand.formatSummary(snapshot.getSessionId(), snapshot.getSessionName(),
+                snapshot.getDateCreated(), settle(snapshot, settlementStrategy));
+    }
+
+    /**
+     * Produces the summaries of the sessions from their snapshots in parallel, filling in every summary that is
+     * not already provided.
+     *
+     * @param snapshots          An array of SessionSettlementSnapshot objects, with a null element for every
+     *                           summary that is already provided.
+     * @param summaries          An array of the summaries of the sessions, in the same order as the snapshots,
+     *                           with a null element for every summary to be produced.
+     * @param settlementStrategy A SettlementStrategy object that chooses the transactions to be made.
+     * @param pool               A ForkJoinPool object that the summaries are produced on.
+     */
+    static void summarizeAll(SessionSettlementSnapshot[] snapshots, String[] summaries,
+            SettlementStrategy settlementStrategy, ForkJoinPool pool) {
+        assert snapshots.length == summaries.length;
+        pool.invoke(new SummaryTask(snapshots, summaries, settlementStrategy, 0, snapshots.length));
+    }
+
+    /**
+     * Runs the command and prints the summary of every session in the order of their unique identifiers.
+     * Summaries cached in sessions that have not been changed are reused, and every summary produced is cached in
+     * its session. A session whose participants and activities cannot be loaded is reported in place of its summary,
+     * without stopping the summaries of the other sessions.
+     *
+     * @param manager A Manager object that manages the TextUI, Profile and Storage object.
+     */
+    @Override
+    public void run(Manager manager) {
+        Profile profile = manager.getProfile();
+        TextUI ui = manager.getUi();
+        ArrayList<Session> sessions = new ArrayList<>(profile.getSessionList());
+        if (sessions.isEmpty()) {
+            ui.printlnMessage(Message.ERROR_PROFILE_SESSION_LIST_EMPTY);
+            return;
+        }
+        sessions.sort(Session::compareTo);
+
+        String strategyName = settlementStrategy.getName();
+        SessionSettlementSnapshot[] snapshots = new SessionSettlementSnapshot[sessions.size()];
+        Session[] snapshotSessions = new Session[sessions.size()];
+        String[] summaries = new String[sessions.size()];
+        for (int i = 0; i < sessions.size(); i++) {
+            Session session = sessions.get(i);
+            summaries[i] = session.getCachedSettlementSummary(strategyName);
+            if (summaries[i] != null) {
+                continue;
+            }
+            try {
+                // Retrieved through the profile, so that no more than the resident session limit stay loaded.
+                snapshotSessions[i] = profile.getReadOnlySession(session.getSessionId());
+                snapshots[i] = snapshotSessions[i].createSettlementSnapshot();
+            } catch (InvalidDataException exception) {
+                // A session whose save file cannot be read is reported in place of its summary.
+                summaries[i] = exception.getMessage();
+            }
+        }
+
+        summarizeAll(snapshots, summaries, settlementStrategy, ForkJoinPool.commonPool());
+        for (int i = 0; i < sessions.size(); i++) {
+            if (snapshots[i] != null) {
+                // Cached in the session that the snapshot was taken from, which may be a different Session object.
+                assert snapshotSessions[i].getModificationCount() == snapshots[i].getModificationCount();
+                snapshotSessions[i].cacheSettlementSummary(strategyName, summaries[i]);
+            }
+        }
+        ui.printlnMessageWithDivider(String.join(SUMMARY_SEPARATOR, summaries));
+        Manager.getLogger().log(Level.FINEST, Message.LOGGER_SESSIONSUMMARYALL_SUMMARIES_PRINTED + sessions.size());
+    }
+}
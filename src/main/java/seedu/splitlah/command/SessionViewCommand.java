@@ -39,7 +39,7 @@ public class SessionViewCommand extends Command {
         TextUI ui = manager.getUi();
         Session session;
         try {
-            session = profile.getSession(sessionId);
+            session = profile.getReadOnlySession(sessionId);
             ui.printlnMessageWithDivider(session.toString());
             Manager.getLogger().log(Level.FINEST, Message.LOGGER_SESSIONVIEW_SESSION_VIEWED + sessionId);
         } catch (InvalidDataException e) {
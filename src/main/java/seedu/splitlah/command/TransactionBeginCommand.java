@@ -0,0 +1,43 @@
+package seedu.splitlah.command;
+
+import seedu.splitlah.data.Manager;
+import seedu.splitlah.exceptions.InvalidDataException;
+import seedu.splitlah.ui.Message;
+import seedu.splitlah.ui.TextUI;
+
+import java.util.logging.Level;
+
+/**
+ * Represents a command which begins a transaction, so that the commands that follow change a copy-on-write view
+ * of the Profile object until the transaction is committed or rolled back.
+ *
+ * @author Warren
+ */
+public class TransactionBeginCommand extends Command {
+
+    private static final String COMMAND_SUCCESS =
+            "The transaction has begun. Changes will only be saved when the transaction is committed.";
+
+    /**
+     * Runs the command to begin a transaction.
+     *
+     * @param manager A Manager object that manages the TextUI, Profile and Storage object.
+     */
+    @Override
+    public void run(Manager manager) {
+        TextUI ui = manager.getUi();
+        try {
+            manager.beginTransaction();
+            ui.printlnMessageWithDivider(COMMAND_SUCCESS);
+            Manager.getLogger().log(Level.FINEST, Message.LOGGER_TRANSACTION_BEGUN);
+        } catch (InvalidDataException e) {
+            ui.printlnMessage(e.getMessage());
+            Manager.getLogger().log(Level.FINEST, Message.LOGGER_TRANSACTION_FAILED);
+        }
+    }
+
+    @Override
+    public boolean isMutatingCommand() {
+        return true;
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.splitlah.command;
+
+import seedu.splitlah.data.Manager;
+import seedu.splitlah.exceptions.InvalidDataException;
+import seedu.splitlah.ui.Message;
+import seedu.splitlah.ui.TextUI;
+
+import java.util.logging.Level;
+
+/**
+ * Represents a command which commits the open transaction, keeping every change made inside it and saving
+ * all of them at once.
+ *
+ * @author Warren
+ */
+public class TransactionCommitCommand extends Command {
+
+    private static final String COMMAND_SUCCESS = "The transaction was committed successfully.";
+
+    /**
+     * Runs the command to commit the open transaction.
+     *
+     * @param manager A Manager object that manages the TextUI, Profile and Storage object.
+     */
+    @Override
+    public void run(Manager manager) {
+        TextUI ui = manager.getUi();
+        try {
+            manager.commitTransaction();
+            ui.printlnMessageWithDivider(COMMAND_SUCCESS);
+            Manager.getLogger().log(Level.FINEST, Message.LOGGER_TRANSACTION_COMMITTED);
+        } catch (InvalidDataException e) {
+            ui.printlnMessage(e.getMessage());
+            Manager.getLogger().log(Level.FINEST, Message.LOGGER_TRANSACTION_FAILED);
+        }
+    }
+
+    @Override
+    public boolean isMutatingCommand() {
+        return true;
+    }
+}
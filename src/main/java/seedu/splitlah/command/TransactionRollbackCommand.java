@@ -0,0 +1,41 @@
+package seedu.splitlah.command;
+
+import seedu.splitlah.data.Manager;
+import seedu.splitlah.exceptions.InvalidDataException;
+import seedu.splitlah.ui.Message;
+import seedu.splitlah.ui.TextUI;
+
+import java.util.logging.Level;
+
+/**
+ * Represents a command which rolls back the open transaction, discarding every change made inside it.
+ *
+ * @author Warren
+ */
+public class TransactionRollbackCommand extends Command {
+
+    private static final String COMMAND_SUCCESS = "The transaction was rolled back successfully.";
+
+    /**
+     * Runs the command to roll back the open transaction.
+     *
+     * @param manager A Manager object that manages the TextUI, Profile and Storage object.
+     */
+    @Override
+    public void run(Manager manager) {
+        TextUI ui = manager.getUi();
+        try {
+            manager.rollbackTransaction();
+            ui.printlnMessageWithDivider(COMMAND_SUCCESS);
+            Manager.getLogger().log(Level.FINEST, Message.LOGGER_TRANSACTION_ROLLED_BACK);
+        } catch (InvalidDataException e) {
+            ui.printlnMessage(e.getMessage());
+            Manager.getLogger().log(Level.FINEST, Message.LOGGER_TRANSACTION_FAILED);
+        }
+    }
+
+    @Override
+    public boolean isMutatingCommand() {
+        return true;
+    }
+}
@@ -14,9 +14,11 @@ import java.util.ArrayList;
  */
 public class Activity implements Serializable, Comparable<Activity> {
 
+    private static final long serialVersionUID = 4488373444477179333L;
+
     private int activityId;
     private String activityName;
-    private double totalCost;
+    private Money totalCost;
     private Person personPaid;
     private PersonList involvedPersonList;
     private double gst;
@@ -30,7 +32,7 @@ public class Activity implements Serializable, Comparable<Activity> {
      *
      * @param activityId         An integer that uniquely identifies an activity.
      * @param activityName       A String object that represents the activity's name.
-     * @param totalCost          A double that represents the total cost spent in the activity.
+     * @param totalCost          A Money object that represents the total cost spent in the activity.
      * @param personPaid         A Person object representing the person who paid for the activity.
      * @param involvedPersonList An ArrayList object containing Person objects
      *                           each representing a person involved in the activity.
@@ -39,7 +41,7 @@ public class Activity implements Serializable, Comparable<Activity> {
      * @param sc                 A double that represents the service charge to be included for the cost of the
      *                           activity.
      */
-    public Activity(int activityId, String activityName, double totalCost, Person personPaid,
+    public Activity(int activityId, String activityName, Money totalCost, Person personPaid,
                     PersonList involvedPersonList, double gst, double sc) {
         this.activityId = activityId;
         this.activityName = activityName;
@@ -64,7 +66,7 @@ public class Activity implements Serializable, Comparable<Activity> {
         return activityName;
     }
 
-    public double getTotalCost() {
+    public Money getTotalCost() {
         return totalCost;
     }
 
@@ -103,8 +105,8 @@ public class Activity implements Serializable, Comparable<Activity> {
             String index = Integer.toString(i);
             Person person = involvedPersonList.getPerson(i - ZERO_INDEXING_OFFSET);
             String personName = person.getName();
-            Double cost = person.getActivityCostOwed(activityId);
-            String costOwed = "$" + String.format("%.2f", cost);
+            Money cost = person.getActivityCostOwed(activityId);
+            String costOwed = "$" + cost;
             summaryTable.addRow(index, personName, costOwed);
         }
         return summaryTable.toString();
@@ -142,7 +144,7 @@ public class Activity implements Serializable, Comparable<Activity> {
                     + "Payer:                    " + personPaid.getName() + '\n'
                     + "GST:                      " + String.format("%.2f", gst) + "%\n"
                     + "Service Charge(SC):       " + String.format("%.2f", serviceCharge) + "%\n"
-                    + "Cost(GST & SC inclusive): $" + String.format("%.2f", totalCost) + '\n'
+                    + "Cost(GST & SC inclusive): $" + totalCost + '\n'
                     + "Involved: \n"
                     + getInvolvedListString();
         } catch (InvalidDataException e) {
@@ -12,19 +12,21 @@ import java.util.logging.Level;
  */
 public class ActivityCost implements Serializable {
 
+    private static final long serialVersionUID = -1239499703340762406L;
+
     private int activityId;
-    private double costPaid;
-    private double costOwed;
+    private Money costPaid;
+    private Money costOwed;
 
     /**
      * Initializes an ActivityCost object.
      * Assumption: Every field is non-negative.
      *
      * @param activityId An integer that uniquely identifies an activity.
-     * @param costPaid   A double that represents the cost paid by a Person object.
-     * @param costOwed   A double that represents the cost owed by a Person object.
+     * @param costPaid   A Money object that represents the cost paid by a Person object.
+     * @param costOwed   A Money object that represents the cost owed by a Person object.
      */
-    public ActivityCost(int activityId, double costPaid, double costOwed) {
+    public ActivityCost(int activityId, Money costPaid, Money costOwed) {
         Manager.getLogger().log(Level.FINEST, Message.LOGGER_ACTIVITYCOST_CONSTRUCT_WITH_ALL_PARAMS);
         this.activityId = activityId;
         this.costPaid = costPaid;
@@ -35,11 +37,11 @@ public class ActivityCost implements Serializable {
         return activityId;
     }
 
-    public double getCostPaid() {
+    public Money getCostPaid() {
         return costPaid;
     }
 
-    public double getCostOwed() {
+    public Money getCostOwed() {
         return costOwed;
     }
 
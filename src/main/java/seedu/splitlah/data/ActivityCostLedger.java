@@ -0,0 +1,368 @@
+package seedu.splitlah.data;
+
+import seedu.splitlah.ui.Message;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Represents the costs borne by a person for each activity that the person is part of, kept as parallel primitive
+ * arrays of activity unique identifiers, costs paid and costs owed in cents instead of a list of ActivityCost objects.
+ * An open-addressing hash table from activity unique identifier to entry slot allows entries to be looked up and
+ * removed in constant time. A removed entry is replaced by the last entry, so entries are not kept in the order
+ * that they were added in.
+ * The totals of the costs paid and owed are kept as running totals that are updated as entries are added and
+ * removed, so that the balance of a person is read in constant time. When the consistency check is enabled, every
+ * read of a running total also recomputes it from the entries and fails if the two differ.
+ *
+ * @author Warren
+ * @see ActivityCost
+ */
+public class ActivityCostLedger implements Serializable {
+
+    private static final long serialVersionUID = -5981174718471205016L;
+    private static final int INITIAL_CAPACITY = 4;
+    private static final int EMPTY_SLOT = 0;
+    private static final int HASH_MULTIPLIER = 0x9E3779B9;
+    private static final int[] NO_ACTIVITY_IDS = new int[0];
+    private static final long[] NO_COSTS = new long[0];
+    private static final String CONSISTENCY_CHECK_PROPERTY = "splitlah.ledger.consistencyCheck";
+
+    private static volatile boolean isConsistencyCheckEnabled = Boolean.getBoolean(CONSISTENCY_CHECK_PROPERTY);
+
+    private int size;
+    private int[] activityIds;
+    private long[] costsPaid;
+    private long[] costsOwed;
+    private long totalCostPaid;
+    private long totalCostOwed;
+
+    /**
+     * Maps the hash of an activity unique identifier to one more than the slot of its entry, with 0 marking
+     * an empty bucket. Its length is always a power of two that is at least twice the number of entries.
+     */
+    private transient int[] slotTable;
+
+    /**
+     * Initializes an empty ActivityCostLedger object. No array is allocated until the first entry is added.
+     */
+    public ActivityCostLedger() {
+        this.size = 0;
+        this.activityIds = NO_ACTIVITY_IDS;
+        this.costsPaid = NO_COSTS;
+        this.costsOwed = NO_COSTS;
+        this.totalCostPaid = 0;
+        this.totalCostOwed = 0;
+        this.slotTable = null;
+    }
+
+    /**
+     * Enables or disables the consistency check of the running totals of every ledger.
+     * The check is enabled at start-up if the system property splitlah.ledger.consistencyCheck is set to true.
+     *
+     * @param isEnabled A boolean that represents whether running totals are verified on every read.
+     */
+    public static void setConsistencyCheckEnabled(boolean isEnabled) {
+        isConsistencyCheckEnabled = isEnabled;
+    }
+
+    public static boolean isConsistencyCheckEnabled() {
+        return isConsistencyCheckEnabled;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the activity unique identifier of the entry at the specified slot.
+     *
+     * @param slot An integer from 0 to one less than the number of entries.
+     * @return An integer that uniquely identifies an activity.
+     */
+    public int getActivityId(int slot) {
+        assert slot >= 0 && slot < size : "Slot out of bounds";
+        return activityIds[slot];
+    }
+
+    /**
+     * Returns the cost paid in the entry at the specified slot.
+     *
+     * @param slot An integer from 0 to one less than the number of entries.
+     * @return A long that represents the cost paid by the person for the activity, in cents.
+     */
+    public long getCostPaid(int slot) {
+        assert slot >= 0 && slot < size : "Slot out of bounds";
+        return costsPaid[slot];
+    }
+
+    /**
+     * Returns the cost owed in the entry at the specified slot.
+     *
+     * @param slot An integer from 0 to one less than the number of entries.
+     * @return A long that represents the cost owed by the person for the activity, in cents.
+     */
+    public long getCostOwed(int slot) {
+        assert slot >= 0 && slot < size : "Slot out of bounds";
+        return costsOwed[slot];
+    }
+
+    /**
+     * Returns the slot of the entry of the specified activity.
+     *
+     * @param activityId An integer that uniquely identifies an activity.
+     * @return An integer that represents the slot of the entry if it exists,
+     *         -1 otherwise.
+     */
+    public int indexOf(int activityId) {
+        if (size == 0) {
+            return -1;
+        }
+        int mask = slotTable.length - 1;
+        for (int bucket = getBucket(activityId, mask); slotTable[bucket] != EMPTY_SLOT; bucket = (bucket + 1) & mask) {
+            int slot = slotTable[bucket] - 1;
+            if (activityIds[slot] == activityId) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Adds the costs borne for an activity into the ledger. If the ledger already has an entry for the activity,
+     * the costs are added onto that entry instead.
+     *
+     * @param activityId An integer that uniquely identifies an activity.
+     * @param costPaid   A long that represents the cost paid by the person for the activity, in cents.
+     * @param costOwed   A long that represents the cost owed by the person for the activity, in cents.
+     */
+    public void add(int activityId, long costPaid, long costOwed) {
+        totalCostPaid += costPaid;
+        totalCostOwed += costOwed;
+        int existingSlot = indexOf(activityId);
+        if (existingSlot >= 0) {
+            costsPaid[existingSlot] += costPaid;
+            costsOwed[existingSlot] += costOwed;
+            return;
+        }
+        ensureCapacity(size + 1);
+        activityIds[size] = activityId;
+        costsPaid[size] = costPaid;
+        costsOwed[size] = costOwed;
+        insertIntoTable(activityId, size);
+        size++;
+    }
+
+    /**
+     * Removes the entry of the specified activity from the ledger, moving the last entry into its slot.
+     *
+     * @param activityId An integer that uniquely identifies an activity.
+     * @return true if an entry was removed,
+     *         false if the ledger has no entry for the activity.
+     */
+    public boolean remove(int activityId) {
+        int slot = indexOf(activityId);
+        if (slot < 0) {
+            return false;
+        }
+        removeFromTable(activityId);
+        totalCostPaid -= costsPaid[slot];
+        totalCostOwed -= costsOwed[slot];
+        int lastSlot = size - 1;
+        if (slot != lastSlot) {
+            int movedActivityId = activityIds[lastSlot];
+            activityIds[slot] = movedActivityId;
+            costsPaid[slot] = costsPaid[lastSlot];
+            costsOwed[slot] = costsOwed[lastSlot];
+            slotTable[findBucket(movedActivityId)] = slot + 1;
+        }
+        size--;
+        return true;
+    }
+
+    /**
+     * Moves the entry of an activity to another activity unique identifier, keeping its costs.
+     * If the ledger already has an entry for the new identifier, the costs are added onto that entry instead.
+     *
+     * @param oldActivityId An integer that uniquely identifies the activity of the entry to be moved.
+     * @param newActivityId An integer that uniquely identifies the activity that the entry is moved to.
+     * @return true if an entry was moved,
+     *         false if the ledger has no entry for the old identifier.
+     */
+    public boolean replaceActivityId(int oldActivityId, int newActivityId) {
+        int slot = indexOf(oldActivityId);
+        if (slot < 0) {
+            return false;
+        }
+        if (oldActivityId == newActivityId) {
+            return true;
+        }
+        long costPaid = costsPaid[slot];
+        long costOwed = costsOwed[slot];
+        remove(oldActivityId);
+        add(newActivityId, costPaid, costOwed);
+        return true;
+    }
+
+    /**
+     * Returns the running total of the costs paid in every entry of the ledger.
+     *
+     * @return A long that represents the total cost paid by the person, in cents.
+     * @throws IllegalStateException If the consistency check is enabled and the running total is wrong.
+     */
+    public long getTotalCostPaid() {
+        if (isConsistencyCheckEnabled) {
+            checkConsistency();
+        }
+        return totalCostPaid;
+    }
+
+    /**
+     * Returns the running total of the costs owed in every entry of the ledger.
+     *
+     * @return A long that represents the total cost owed by the person, in cents.
+     * @throws IllegalStateException If the consistency check is enabled and the running total is wrong.
+     */
+    public long getTotalCostOwed() {
+        if (isConsistencyCheckEnabled) {
+            checkConsistency();
+        }
+        return totalCostOwed;
+    }
+
+    /**
+     * Recomputes the totals of the costs paid and owed from the entries of the ledger, and checks that the running
+     * totals match them.
+     *
+     * @throws IllegalStateException If either running total does not match its recomputed total.
+     */
+    public void checkConsistency() {
+        long recomputedTotalCostPaid = sumCosts(costsPaid);
+        long recomputedTotalCostOwed = sumCosts(costsOwed);
+        if (recomputedTotalCostPaid != totalCostPaid || recomputedTotalCostOwed != totalCostOwed) {
+            throw new IllegalStateException(Message.ERROR_ACTIVITYCOSTLEDGER_RUNNING_TOTAL_INCONSISTENT
+                    + totalCostPaid + "/" + totalCostOwed + " != " + recomputedTotalCostPaid + "/"
+                    + recomputedTotalCostOwed);
+        }
+    }
+
+    private long sumCosts(long[] costs) {
+        long totalCost = 0;
+        for (int slot = 0; slot < size; slot++) {
+            totalCost += costs[slot];
+        }
+        return totalCost;
+    }
+
+    /**
+     * Returns the bucket that the hash of the activity unique identifier starts probing from.
+     *
+     * @param activityId An integer that uniquely identifies an activity.
+     * @param mask       An integer that is one less than the length of the table.
+     * @return An integer that represents a bucket in the table.
+     */
+    private static int getBucket(int activityId, int mask) {
+        int hash = activityId * HASH_MULTIPLIER;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    /**
+     * Returns the bucket holding the slot of the specified activity, which must be in the ledger.
+     *
+     * @param activityId An integer that uniquely identifies an activity in the ledger.
+     * @return An integer that represents a bucket in the table.
+     */
+    private int findBucket(int activityId) {
+        int mask = slotTable.length - 1;
+        int bucket = getBucket(activityId, mask);
+        while (activityIds[slotTable[bucket] - 1] != activityId) {
+            bucket = (bucket + 1) & mask;
+        }
+        return bucket;
+    }
+
+    private void insertIntoTable(int activityId, int slot) {
+        int mask = slotTable.length - 1;
+        int bucket = getBucket(activityId, mask);
+        while (slotTable[bucket] != EMPTY_SLOT) {
+            bucket = (bucket + 1) & mask;
+        }
+        slotTable[bucket] = slot + 1;
+    }
+
+    /**
+     * Empties the bucket of the specified activity, then shifts back the entries probed past it so that every
+     * remaining entry can still be reached from its starting bucket without tombstones.
+     *
+     * @param activityId An integer that uniquely identifies an activity in the ledger.
+     */
+    private void removeFromTable(int activityId) {
+        int mask = slotTable.length - 1;
+        int emptiedBucket = findBucket(activityId);
+        int bucket = emptiedBucket;
+        while (true) {
+            bucket = (bucket + 1) & mask;
+            if (slotTable[bucket] == EMPTY_SLOT) {
+                break;
+            }
+            int startBucket = getBucket(activityIds[slotTable[bucket] - 1], mask);
+            boolean isReachable = ((bucket - startBucket) & mask) < ((bucket - emptiedBucket) & mask);
+            if (!isReachable) {
+                slotTable[emptiedBucket] = slotTable[bucket];
+                emptiedBucket = bucket;
+            }
+        }
+        slotTable[emptiedBucket] = EMPTY_SLOT;
+    }
+
+    /**
+     * Grows the arrays and the table if they cannot hold the specified number of entries.
+     *
+     * @param capacity An integer that represents the number of entries to be held.
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity > activityIds.length) {
+            int newLength = Math.max(INITIAL_CAPACITY, activityIds.length * 2);
+            activityIds = Arrays.copyOf(activityIds, newLength);
+            costsPaid = Arrays.copyOf(costsPaid, newLength);
+            costsOwed = Arrays.copyOf(costsOwed, newLength);
+        }
+        if (slotTable == null || capacity * 2 > slotTable.length) {
+            rebuildTable(Math.max(capacity, activityIds.length));
+        }
+    }
+
+    /**
+     * Replaces the table with one large enough for the specified number of entries, and inserts every entry into it.
+     *
+     * @param capacity An integer that represents the number of entries to be held.
+     */
+    private void rebuildTable(int capacity) {
+        int tableLength = Integer.highestOneBit(Math.max(INITIAL_CAPACITY, capacity) * 2 - 1) << 1;
+        slotTable = new int[tableLength];
+        for (int slot = 0; slot < size; slot++) {
+            insertIntoTable(activityIds[slot], slot);
+        }
+    }
+
+    /**
+     * Restores the fields of the ledger from the stream, then rebuilds the table as it is not serialized and
+     * recomputes the running totals from the entries.
+     *
+     * @param in An ObjectInputStream object to read the ledger from.
+     * @throws IOException            If an I/O error occurs while reading.
+     * @throws ClassNotFoundException If the class of a serialized object cannot be found.
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        rebuildTable(activityIds.length);
+        totalCostPaid = sumCosts(costsPaid);
+        totalCostOwed = sumCosts(costsOwed);
+    }
+}
@@ -13,6 +13,8 @@ import java.util.ArrayList;
  */
 public class Group implements Serializable {
 
+    private static final long serialVersionUID = 6896133244308701184L;
+
     private PersonList personList;
     private String groupName;
     private final int groupId;
@@ -1,10 +1,22 @@
 package seedu.splitlah.data;
 
+import seedu.splitlah.command.Command;
+import seedu.splitlah.exceptions.InvalidDataException;
+import seedu.splitlah.parser.Parser;
+import seedu.splitlah.parser.ParserUtils;
+import seedu.splitlah.storage.PersistenceExecutor;
+import seedu.splitlah.storage.PersistenceMetrics;
 import seedu.splitlah.storage.Storage;
+import seedu.splitlah.storage.StorageConfiguration;
 import seedu.splitlah.ui.Message;
 import seedu.splitlah.ui.TextUI;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -16,7 +28,15 @@ public class Manager {
     private final TextUI ui;
     private Profile profile;
     private Storage storage;
+    private PersistenceExecutor persistenceExecutor;
+    private Thread shutdownHook;
     private boolean isUsingStorage = false;
+    private String currentCommandInput;
+    private boolean isPersistenceDeferred = false;
+    private boolean hasDeferredChanges = false;
+    private long changeCount = 0;
+    private Profile committedProfile;
+    private boolean hasTransactionChanges = false;
 
     private static final String LOGGER_FILE_NAME = "SplitLah";
     public static Logger logger = Logger.getLogger(LOGGER_FILE_NAME);
@@ -30,6 +50,17 @@ public class Manager {
         profile = new Profile();
     }
 
+    /**
+     * Initializes a Manager object that replays journalled commands on the specified Profile object.
+     * Output of the replayed commands is discarded and nothing is persisted.
+     *
+     * @param profile A Profile object that the journalled commands are replayed on.
+     */
+    private Manager(Profile profile) {
+        ui = new TextUI(new ByteArrayInputStream(new byte[0]), new PrintStream(new ByteArrayOutputStream()));
+        this.profile = profile;
+    }
+
     /**
      * Initializes a SessionDeleteCommand object with Storage enabled.
      *
@@ -39,16 +70,31 @@ public class Manager {
         ui = new TextUI();
         this.isUsingStorage = isUsingStorage;
         if (isUsingStorage) {
-            initializeStorage();
+            initializeStorage(StorageConfiguration.getDefault());
         }
     }
 
+    /**
+     * Initializes a Manager object with Storage enabled, keeping its save files where the configuration specifies.
+     * Manager objects with different data directories or profile names do not share any file, so several of them
+     * can be used in the same JVM.
+     *
+     * @param configuration A StorageConfiguration object that represents where and how the save files are kept.
+     */
+    public Manager(StorageConfiguration configuration) {
+        ui = new TextUI();
+        this.isUsingStorage = true;
+        initializeStorage(configuration);
+    }
+
     /**
      * Initializes the Storage object to be managed by Manager object.
      * Checks if save file can be found or created before retrieving data from the save file.
+     *
+     * @param configuration A StorageConfiguration object that represents where and how the save files are kept.
      */
-    private void initializeStorage() {
-        storage = new Storage();
+    private void initializeStorage(StorageConfiguration configuration) {
+        storage = new Storage(configuration);
         boolean isDirectoryCreated = storage.hasDataDirectory();
         boolean isFileCreated = storage.hasDataFile();
         if (!isDirectoryCreated || !isFileCreated) {
@@ -57,37 +103,325 @@ public class Manager {
             isUsingStorage = false;
         } else {
             loadFileSave();
+            startPersistenceExecutor();
         }
     }
 
     /**
-     * Loads the data from the save file into the Profile object.
+     * Starts the background thread that persists changes to the Profile object, and registers a shutdown hook
+     * so that pending changes are flushed even if the JVM is terminated without the exit command.
+     */
+    private void startPersistenceExecutor() {
+        persistenceExecutor = new PersistenceExecutor(storage, PersistenceExecutor.DEFAULT_MAX_STALENESS_MILLIS);
+        shutdownHook = new Thread(persistenceExecutor::close);
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    /**
+     * Deregisters the shutdown hook of the persistence thread once it has been closed, so that neither the hook nor
+     * the Storage object it refers to is kept until the JVM exits.
+     * The hook cannot be deregistered while the JVM is already shutting down, in which case it is left to run.
+     */
+    private void removeShutdownHook() {
+        if (shutdownHook == null) {
+            return;
+        }
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException exception) {
+            // The JVM is shutting down, and the hook only closes the persistence thread again.
+        }
+        shutdownHook = null;
+    }
+
+    /**
+     * Loads the data from the save file into the Profile object, then replays the commands
+     * that were journalled after the save file was last written. Every session whose save file is missing is
+     * reported, while the other sessions are still loaded.
      */
     private void loadFileSave() {
         try {
             profile = storage.loadStorage();
-            return;
+            for (int sessionId : storage.getMissingShardSessionIds()) {
+                ui.printlnMessage(Message.ERROR_STORAGE_SHARD_MISSING + sessionId);
+            }
+        } catch (StreamCorruptedException corruptedException) {
+            logger.log(Level.FINEST, Message.LOGGER_STORAGE_FILE_CORRUPTED);
+            keepCorruptedSaveFile(Message.ERROR_STORAGE_FILE_CORRUPTED);
+            profile = new Profile();
         } catch (IOException ioException) {
             logger.log(Level.FINEST, Message.LOGGER_STORAGE_FILE_ERROR);
-            ui.printlnMessage(Message.ERROR_STORAGE_FILE_NOT_FOUND);
+            if (storage.hasSaveData()) {
+                keepCorruptedSaveFile(Message.ERROR_STORAGE_FILE_NOT_READ);
+            } else {
+                ui.printlnMessage(Message.ERROR_STORAGE_FILE_NOT_FOUND);
+            }
+            profile = new Profile();
         } catch (ClassNotFoundException classNotFoundException) {
             logger.log(Level.FINEST,Message.LOGGER_STORAGE_CLASS_NOT_FOUND);
             ui.printlnMessage(Message.ERROR_STORAGE_CLASS_EXCEPTION_ISSUE);
+            keepCorruptedSaveFile(Message.ERROR_STORAGE_FILE_NOT_READ);
+            profile = new Profile();
         }
-        profile = new Profile();
+        replayJournal();
+    }
+
+    /**
+     * Keeps a copy of the save file that failed verification or could not be decoded, and informs the user where
+     * the copy can be found, so that the save file is not lost when the next snapshot is saved over it.
+     *
+     * @param message A String object that represents the message printed before the path of the copy.
+     */
+    private void keepCorruptedSaveFile(String message) {
+        try {
+            String copyPath = storage.keepCorruptedSaveFile();
+            ui.printlnMessage(message + copyPath);
+        } catch (IOException ioException) {
+            ui.printlnMessage(Message.ERROR_STORAGE_FILE_NOT_FOUND);
+        }
+    }
+
+    /**
+     * Replays the journalled commands on the Profile object in the order that they were originally run.
+     */
+    private void replayJournal() {
+        ArrayList<String> journalledCommands;
+        try {
+            journalledCommands = storage.loadJournal();
+        } catch (IOException ioException) {
+            logger.log(Level.FINEST, Message.LOGGER_STORAGE_JOURNAL_ERROR);
+            ui.printlnMessage(Message.ERROR_STORAGE_JOURNAL_NOT_LOADED);
+            return;
+        }
+
+        Manager replayManager = new Manager(profile);
+        for (String commandInput : journalledCommands) {
+            Command command = Parser.getCommand(commandInput);
+            command.run(replayManager);
+        }
+        logger.log(Level.FINEST, Message.LOGGER_STORAGE_JOURNAL_REPLAYED + journalledCommands.size());
     }
 
     /**
-     * Saves the Profile object into the storage file.
+     * Sets the command input from the user that is currently being run, so that it can be journalled
+     * if it mutates the Profile object.
+     *
+     * @param commandInput A String object representing the input entered by the user of SplitLah.
+     */
+    public void setCurrentCommandInput(String commandInput) {
+        currentCommandInput = commandInput;
+    }
+
+    /**
+     * Saves the change made by the command currently being run.
+     * The command is handed to the persistence thread to be appended to the journal, and the Profile object is
+     * only written into the storage file when a checkpoint is due, when the command that is being run is unknown,
+     * or when a previous write in the background has failed.
+     * Changes made inside a transaction are not persisted until the transaction is committed.
      */
     public void saveProfile() {
-        if (isUsingStorage) {
-            try {
-                storage.saveProfileToFile(profile);
-            } catch (IOException exception) {
-                ui.printlnMessage(Message.ERROR_STORAGE_DATA_NOT_SAVED);
-            }
+        changeCount += 1;
+        if (isInTransaction()) {
+            currentCommandInput = null;
+            hasTransactionChanges = true;
+            return;
+        }
+        if (!isUsingStorage) {
+            return;
+        }
+        if (isPersistenceDeferred) {
+            currentCommandInput = null;
+            hasDeferredChanges = true;
+            return;
+        }
+        boolean hasPreviousWriteFailed = reportPersistenceFailure();
+        if (currentCommandInput == null || hasPreviousWriteFailed) {
+            checkpointProfile();
+            return;
+        }
+        persistenceExecutor.submitRecord(ParserUtils.getInputWithAbsoluteDate(currentCommandInput));
+        currentCommandInput = null;
+        if (persistenceExecutor.isCheckpointDue()) {
+            checkpointProfile();
+        }
+    }
+
+    /**
+     * Saves the change made by the command currently being run with a checkpoint of the Profile object instead of
+     * journalling the command. Used by commands that read input other than the command itself, such as a file,
+     * as such commands cannot be run again from the journal with the same result.
+     */
+    public void saveProfileWithCheckpoint() {
+        currentCommandInput = null;
+        saveProfile();
+    }
+
+    /**
+     * Sets whether changes saved by commands are persisted as they are made, or deferred until
+     * Manager#flushDeferredChanges is called. Deferring persistence lets a long run of commands be saved with
+     * a single checkpoint instead of one journal record each. Pending changes are flushed when persistence stops
+     * being deferred.
+     *
+     * @param isPersistenceDeferred A boolean that represents whether persistence is to be deferred.
+     */
+    public void setPersistenceDeferred(boolean isPersistenceDeferred) {
+        if (!isPersistenceDeferred) {
+            flushDeferredChanges();
+        }
+        this.isPersistenceDeferred = isPersistenceDeferred;
+    }
+
+    /**
+     * Writes a checkpoint of the Profile object if any change has been saved while persistence was deferred.
+     */
+    public void flushDeferredChanges() {
+        if (hasDeferredChanges) {
+            checkpointProfile();
+        }
+    }
+
+    /**
+     * Returns the number of changes that commands have saved through this Manager object. A command that fails
+     * leaves the count unchanged, so comparing the count before and after a command shows whether it made a change.
+     *
+     * @return A long that represents the number of changes saved.
+     */
+    public long getChangeCount() {
+        return changeCount;
+    }
+
+    /**
+     * Checks if a transaction has been begun and is neither committed nor rolled back yet.
+     *
+     * @return true if a transaction is open,
+     *         false otherwise.
+     */
+    public boolean isInTransaction() {
+        return committedProfile != null;
+    }
+
+    /**
+     * Begins a transaction. Until the transaction is committed or rolled back, commands change a copy-on-write
+     * view of the Profile object instead of the Profile object itself, and none of their changes are persisted.
+     *
+     * @throws InvalidDataException If a transaction is already open.
+     */
+    public void beginTransaction() throws InvalidDataException {
+        if (isInTransaction()) {
+            throw new InvalidDataException(Message.ERROR_MANAGER_TRANSACTION_ALREADY_OPEN);
+        }
+        committedProfile = profile;
+        profile = profile.createCopyOnWriteView();
+        hasTransactionChanges = false;
+        changeCount += 1;
+    }
+
+    /**
+     * Commits the open transaction, keeping every change made inside it, and persists all of the changes with
+     * a single checkpoint of the Profile object. While persistence is deferred, the checkpoint is left to the next
+     * flush of the deferred changes instead.
+     *
+     * @throws InvalidDataException If no transaction is open.
+     */
+    public void commitTransaction() throws InvalidDataException {
+        if (!isInTransaction()) {
+            throw new InvalidDataException(Message.ERROR_MANAGER_TRANSACTION_NOT_OPEN);
+        }
+        committedProfile = null;
+        profile.detachCopyOnWriteView();
+        changeCount += 1;
+        if (!hasTransactionChanges || !isUsingStorage) {
+            return;
+        }
+        hasTransactionChanges = false;
+        if (isPersistenceDeferred) {
+            hasDeferredChanges = true;
+        } else {
+            checkpointProfile();
+        }
+    }
+
+    /**
+     * Rolls back the open transaction, discarding every change made inside it.
+     *
+     * @throws InvalidDataException If no transaction is open.
+     */
+    public void rollbackTransaction() throws InvalidDataException {
+        if (!isInTransaction()) {
+            throw new InvalidDataException(Message.ERROR_MANAGER_TRANSACTION_NOT_OPEN);
+        }
+        profile = committedProfile;
+        committedProfile = null;
+        hasTransactionChanges = false;
+        changeCount += 1;
+    }
+
+    /**
+     * Captures the current state of the Profile object and hands it to the persistence thread to be written
+     * into the storage file, folding the journal into it. Inside a transaction, the state from before the
+     * transaction was begun is captured.
+     */
+    public void checkpointProfile() {
+        if (!isUsingStorage) {
+            return;
+        }
+        currentCommandInput = null;
+        hasDeferredChanges = false;
+        Profile profileToSave = isInTransaction() ? committedProfile : profile;
+        try {
+            persistenceExecutor.submitSnapshot(storage.encodeProfile(profileToSave));
+        } catch (IOException exception) {
+            ui.printlnMessage(Message.ERROR_STORAGE_DATA_NOT_SAVED);
+        }
+    }
+
+    /**
+     * Writes a final checkpoint of the Profile object, then waits for all pending writes to reach the storage file
+     * before stopping the persistence thread. Called when the user exits SplitLah.
+     * A transaction that is still open is rolled back, and the user is informed.
+     */
+    public void closeStorage() {
+        if (isInTransaction()) {
+            profile = committedProfile;
+            committedProfile = null;
+            ui.printlnMessage(Message.ERROR_MANAGER_TRANSACTION_ROLLED_BACK_ON_EXIT);
+        }
+        if (!isUsingStorage) {
+            return;
+        }
+        checkpointProfile();
+        persistenceExecutor.close();
+        removeShutdownHook();
+        reportPersistenceFailure();
+    }
+
+    /**
+     * Informs the user if a write made by the persistence thread has failed since the last check.
+     *
+     * @return true if a write has failed,
+     *         false otherwise.
+     */
+    private boolean reportPersistenceFailure() {
+        IOException failure = persistenceExecutor.takeFailure();
+        if (failure == null) {
+            return false;
+        }
+        logger.log(Level.FINEST, Message.LOGGER_STORAGE_BACKGROUND_WRITE_FAILED + failure.getMessage());
+        ui.printlnMessage(Message.ERROR_STORAGE_DATA_NOT_SAVED);
+        return true;
+    }
+
+    /**
+     * Returns how far the data in the storage file lags behind the Profile object.
+     *
+     * @return A PersistenceMetrics object, or
+     *         null if the Manager object is not using the Storage object.
+     */
+    public PersistenceMetrics getPersistenceMetrics() {
+        if (!isUsingStorage) {
+            return null;
         }
+        return persistenceExecutor.getMetrics();
     }
 
     public TextUI getUi() {
@@ -0,0 +1,213 @@
+package seedu.splitlah.data;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * Represents an exact amount of money, held as a whole number of cents.
+ * All arithmetic on Money objects is integer arithmetic, so sums and differences of amounts never drift, and
+ * amounts are only ever rounded at well-defined points: when a percentage surcharge is applied, and when an amount
+ * is split into parts that cannot all be equal.
+ *
+ * @author Warren
+ */
+public final class Money implements Serializable, Comparable<Money> {
+
+    private static final long serialVersionUID = 622236313467735500L;
+    public static final Money ZERO = new Money(0);
+    public static final int CENTS_PER_DOLLAR = 100;
+    private static final int DECIMAL_PLACES = 2;
+    private static final long BASIS_POINTS_PER_WHOLE = 10000;
+
+    private final long cents;
+
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    /**
+     * Returns a Money object that represents the specified number of cents.
+     *
+     * @param cents A long that represents an amount in cents.
+     * @return A Money object.
+     */
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    /**
+     * Returns a Money object that represents the amount in a String object, such as "10", "10.7" or "10.70".
+     *
+     * @param amount A String object that represents an amount in dollars with at most two decimal places.
+     * @return A Money object.
+     * @throws NumberFormatException If the String object is not a number, has more than two decimal places,
+     *                               or is too large to be represented in cents.
+     */
+    public static Money parse(String amount) throws NumberFormatException {
+        try {
+            return ofCents(new BigDecimal(amount).movePointRight(DECIMAL_PLACES).longValueExact());
+        } catch (ArithmeticException exception) {
+            throw new NumberFormatException(amount);
+        }
+    }
+
+    /**
+     * Returns the Money object closest to an amount in dollars that was held as a double, such as an amount read
+     * from a save file written before amounts were held in cents.
+     *
+     * @param amount A double that represents an amount in dollars.
+     * @return A Money object rounded to the nearest cent.
+     */
+    public static Money fromDouble(double amount) {
+        return ofCents(Math.round(amount * CENTS_PER_DOLLAR));
+    }
+
+    public long getCents() {
+        return cents;
+    }
+
+    /**
+     * Returns the amount in dollars as a double. Every amount below 2^53 cents is converted back to the same Money
+     * object by Money#fromDouble.
+     *
+     * @return A double that represents the amount in dollars.
+     */
+    public double toDouble() {
+        return (double) cents / CENTS_PER_DOLLAR;
+    }
+
+    public Money plus(Money money) {
+        return ofCents(Math.addExact(cents, money.cents));
+    }
+
+    public Money minus(Money money) {
+        return ofCents(Math.subtractExact(cents, money.cents));
+    }
+
+    public boolean isZero() {
+        return cents == 0;
+    }
+
+    /**
+     * Returns the amount with a percentage surcharge, such as GST or a service charge, added onto it.
+     * The surcharge is rounded to the nearest cent, with half a cent rounded away from zero.
+     *
+     * @param percentage A double that represents a non-negative percentage with at most two decimal places.
+     * @return A Money object that represents the amount including the surcharge.
+     */
+    public Money addPercentage(double percentage) {
+        assert percentage >= 0 : "The percentage must not be negative";
+        long basisPoints = Math.round(percentage * CENTS_PER_DOLLAR);
+        long scaledCents = Math.multiplyExact(cents, BASIS_POINTS_PER_WHOLE + basisPoints);
+        return ofCents(divideRoundingHalfUp(scaledCents, BASIS_POINTS_PER_WHOLE));
+    }
+
+    /**
+     * Returns the amount before a percentage surcharge was added onto it, rounded to the nearest cent.
+     * This reverses Money#addPercentage up to the rounding of the surcharge.
+     *
+     * @param percentage A double that represents a non-negative percentage with at most two decimal places.
+     * @return A Money object that represents the amount excluding the surcharge.
+     */
+    public Money removePercentage(double percentage) {
+        assert percentage >= 0 : "The percentage must not be negative";
+        long basisPoints = Math.round(percentage * CENTS_PER_DOLLAR);
+        long scaledCents = Math.multiplyExact(cents, BASIS_POINTS_PER_WHOLE);
+        return ofCents(divideRoundingHalfUp(scaledCents, BASIS_POINTS_PER_WHOLE + basisPoints));
+    }
+
+    /**
+     * Splits the amount into the specified number of parts that add up to exactly the amount.
+     * Every part is the amount divided by the number of parts, rounded down to the cent, and the cents left over are
+     * given one each to the first parts, so the same amount is always split in the same way.
+     *
+     * @param parts A positive integer that represents the number of parts.
+     * @return An array of Money objects that represents the parts, in the order that the left over cents are given.
+     */
+    public Money[] split(int parts) {
+        assert parts > 0 : "The number of parts must be positive";
+        long share = Math.floorDiv(cents, parts);
+        long remainder = Math.floorMod(cents, parts);
+        Money[] shares = new Money[parts];
+        for (int i = 0; i < parts; i++) {
+            shares[i] = ofCents(i < remainder ? share + 1 : share);
+        }
+        return shares;
+    }
+
+    /**
+     * Returns the sum of the Money objects in the array.
+     *
+     * @param amounts An array of Money objects.
+     * @return A Money object that represents the sum.
+     */
+    public static Money sum(Money[] amounts) {
+        long totalCents = 0;
+        for (Money amount : amounts) {
+            totalCents = Math.addExact(totalCents, amount.cents);
+        }
+        return ofCents(totalCents);
+    }
+
+    private static long divideRoundingHalfUp(long dividend, long divisor) {
+        assert divisor > 0;
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (Math.abs(remainder) * 2 >= divisor) {
+            quotient += Long.signum(dividend);
+        }
+        return quotient;
+    }
+
+    @Override
+    public int compareTo(Money money) {
+        return Long.compare(cents, money.cents);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof Money)) {
+            return false;
+        }
+        return cents == ((Money) object).cents;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
+    }
+
+    /**
+     * Returns the amount in dollars with exactly two decimal places, such as "10.70" or "-0.05".
+     *
+     * @return A String object that represents the amount.
+     */
+    @Override
+    public String toString() {
+        return formatCents(cents);
+    }
+
+    /**
+     * Returns an amount in cents formatted in dollars with exactly two decimal places, without constructing
+     * a Money object.
+     *
+     * @param cents A long that represents an amount in cents.
+     * @return A String object that represents the amount.
+     */
+    public static String formatCents(long cents) {
+        StringBuilder sb = new StringBuilder();
+        if (cents < 0) {
+            sb.append('-');
+        }
+        long absoluteCents = Math.abs(cents);
+        long fraction = absoluteCents % CENTS_PER_DOLLAR;
+        sb.append(absoluteCents / CENTS_PER_DOLLAR).append('.');
+        if (fraction < 10) {
+            sb.append('0');
+        }
+        return sb.append(fraction).toString();
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.splitlah.data;
 
+import seedu.splitlah.util.InputScanner;
+
 import java.io.Serializable;
 
 /**
@@ -10,6 +12,8 @@ import java.io.Serializable;
  */
 public class Name implements Serializable {
 
+    private static final long serialVersionUID = -196675503719391367L;
+
     private final String name;
 
     public Name(String name) {
@@ -21,6 +25,6 @@ public class Name implements Serializable {
     }
 
     public static boolean validateName(String name) {
-        return name.strip().matches("[a-zA-Z]+");
+        return InputScanner.isAlphabetic(name);
     }
 }
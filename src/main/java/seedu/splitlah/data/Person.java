@@ -12,9 +12,11 @@ import java.util.ArrayList;
  * @author Saurav
  */
 public class Person implements Serializable {
+
+    private static final long serialVersionUID = 3374049290122455102L;
     
     private Name name;
-    private ArrayList<ActivityCost> activityCostList;
+    private ActivityCostLedger activityCostLedger;
 
     /**
      * Initializes a Person object.
@@ -22,7 +24,7 @@ public class Person implements Serializable {
      * @param name A String object representing the name of the Person object to be created.
      */
     private Person(String name) {
-        this.activityCostList = new ArrayList<>();
+        this.activityCostLedger = new ActivityCostLedger();
         this.name = new Name(name);
     }
 
@@ -52,23 +54,40 @@ public class Person implements Serializable {
 
     /**
      * Returns a list of ActivityCost objects representing the activity costs that person participated in.
+     * The list is a copy built from the ledger of the person, so changes to it do not affect the person.
      *
      * @return An ArrayList object that represents the ActivityCost objects that the person participated in.
      */
     public ArrayList<ActivityCost> getActivityCostList() {
+        ArrayList<ActivityCost> activityCostList = new ArrayList<>(activityCostLedger.size());
+        for (int slot = 0; slot < activityCostLedger.size(); slot++) {
+            activityCostList.add(new ActivityCost(activityCostLedger.getActivityId(slot),
+                    Money.ofCents(activityCostLedger.getCostPaid(slot)),
+                    Money.ofCents(activityCostLedger.getCostOwed(slot))));
+        }
         return activityCostList;
     }
 
+    /**
+     * Returns the ledger of the activity costs that the person participated in, which is read without
+     * constructing an ActivityCost object for each entry.
+     * The ledger must only be changed through the methods of the Person object.
+     *
+     * @return An ActivityCostLedger object that represents the activity costs of the person.
+     */
+    public ActivityCostLedger getActivityCostLedger() {
+        return activityCostLedger;
+    }
+
     /**
      * Constructs an ActivityCost object and adds it to the list of ActivityCost objects.
      *
      * @param activityId An integer that uniquely identifies an activity.
-     * @param costPaid   A double that represents the cost paid by a Person.
-     * @param costOwed   A double that represents the cost owed by a Person.
+     * @param costPaid   A Money object that represents the cost paid by a Person.
+     * @param costOwed   A Money object that represents the cost owed by a Person.
      */
-    public void addActivityCost(int activityId, double costPaid, double costOwed) {
-        ActivityCost activityCost = new ActivityCost(activityId, costPaid, costOwed);
-        activityCostList.add(activityCost);
+    public void addActivityCost(int activityId, Money costPaid, Money costOwed) {
+        activityCostLedger.add(activityId, costPaid.getCents(), costOwed.getCents());
     }
 
     /**
@@ -78,49 +97,62 @@ public class Person implements Serializable {
      * @throws InvalidDataException If the activityId is not found.
      */
     public void removeActivityCost(int activityId) throws InvalidDataException {
-        if (activityCostList.isEmpty()) {
+        if (activityCostLedger.isEmpty()) {
             throw new InvalidDataException(Message.ERROR_PERSON_NO_ACTIVITIES);
         }
-        boolean removed =
-                activityCostList.removeIf(activityCost -> activityCost.getActivityId() == activityId);
+        boolean removed = activityCostLedger.remove(activityId);
         if (!removed) {
             throw new InvalidDataException(Message.ERROR_PERSON_ACTIVITY_NOT_FOUND + activityId);
         }
     }
 
+    /**
+     * Moves the ActivityCost object of an activity over to another activityId, keeping its costs.
+     *
+     * @param oldActivityId An integer that represents the activityId of the ActivityCost to be moved.
+     * @param newActivityId An integer that represents the activityId that the ActivityCost is moved to.
+     */
+    public void replaceActivityCostId(int oldActivityId, int newActivityId) {
+        activityCostLedger.replaceActivityId(oldActivityId, newActivityId);
+    }
+
     /**
      * Calculates the amount of money other Persons owe to this Person.
      * In other words, how much money this Person must receive in order to break even.
+     * The sums are kept as running totals by the ledger of this Person, so they are not recomputed on every call.
      *
-     * @return A double that represents the sum of all costPaid - sum of all costOwed
+     * @return A Money object that represents the sum of all costPaid - sum of all costOwed
      *         in the list of ActivityCosts for this Person.
      */
-    public double getTotalCost() {
-        double totalCostPaid = 0;
-        double totalCostOwed = 0;
-        for (ActivityCost i : activityCostList) {
-            totalCostPaid += i.getCostPaid();
-            totalCostOwed += i.getCostOwed();
-        }
-        return totalCostPaid - totalCostOwed;
+    public Money getTotalCost() {
+        return Money.ofCents(getTotalCostInCents());
+    }
+
+    /**
+     * Calculates the amount of money other Persons owe to this Person in cents, without constructing
+     * a Money object, for settling balances with integer arithmetic.
+     *
+     * @return A long that represents the sum of all costPaid - sum of all costOwed in cents.
+     */
+    public long getTotalCostInCents() {
+        return activityCostLedger.getTotalCostPaid() - activityCostLedger.getTotalCostOwed();
     }
 
     /**
      * Returns the cost owed by this Person object for an Activity.
      *
      * @param activityId An integer that uniquely identifies an activity.
-     * @return A double that represents the cost owed by the Person for this Activity.
+     * @return A Money object that represents the cost owed by the Person for this Activity.
      * @throws InvalidDataException If this Person is not participating in any Activities.
      *                              If the activityId is not found.
      */
-    public double getActivityCostOwed(int activityId) throws InvalidDataException {
-        if (activityCostList.isEmpty()) {
+    public Money getActivityCostOwed(int activityId) throws InvalidDataException {
+        if (activityCostLedger.isEmpty()) {
             throw new InvalidDataException(Message.ERROR_PERSON_NO_ACTIVITIES);
         }
-        for (ActivityCost activityCost : activityCostList) {
-            if (activityCost.getActivityId() == activityId) {
-                return activityCost.getCostOwed();
-            }
+        int slot = activityCostLedger.indexOf(activityId);
+        if (slot >= 0) {
+            return Money.ofCents(activityCostLedger.getCostOwed(slot));
         }
         throw new InvalidDataException(Message.ERROR_PERSON_ACTIVITY_NOT_FOUND + activityId);
     }
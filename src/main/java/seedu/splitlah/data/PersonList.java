@@ -14,6 +14,8 @@ import java.util.Set;
  */
 public class PersonList implements Serializable {
 
+    private static final long serialVersionUID = -1680452840471671331L;
+
     private ArrayList<Person> personList;
 
     /**
@@ -98,12 +100,14 @@ public class PersonList implements Serializable {
 
     /**
      * Merges an ArrayList object of Person objects with existing ArrayList object of Person objects.
+     * Each Person object is merged as a new Person object with the same name, so that the costs incurred
+     * in a session are not shared with the group or with other sessions of the same group.
      *
      * @param groupPersonList An ArrayList object of Person objects.
      */
     public void mergeListOfPersons(ArrayList<Person> groupPersonList) {
         for (Person person : groupPersonList) {
-            addPerson(person);
+            addPerson(Person.createPersonFromString(person.getName()));
         }
     }
 
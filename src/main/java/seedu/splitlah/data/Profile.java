@@ -5,27 +5,56 @@ import seedu.splitlah.parser.ParserUtils;
 import seedu.splitlah.ui.Message;
 import seedu.splitlah.ui.TableFormatter;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
 
 /**
  * Represents a profile that manages a list of sessions and keeps track of unique session and activity
  * identifiers for the SplitLah application.
+ * Alongside the ordered lists of sessions and groups, the profile keeps them indexed by their unique identifiers and
+ * by their case-folded names, so that every lookup takes constant time regardless of how many sessions are stored.
+ * A profile can also be a copy-on-write view of another profile, which shares the sessions and groups of that
+ * profile and only copies a session or group the first time it is retrieved, so that changes made through the view
+ * never reach the profile it was created from.
  * 
  * @author Roy
  */
 public class Profile implements Serializable {
 
+    // The serialVersionUID of each data class is the one computed for it when SplitLah was first released.
+    private static final long serialVersionUID = 7298416960366647224L;
+
     private ArrayList<Session> sessionList;
     private ArrayList<Group> groupList;
     private int sessionIdTracker;
     private int activityIdTracker;
     private int groupIdTracker;
+    private transient HashMap<Integer, Session> sessionsById;
+    private transient HashMap<String, Integer> sessionNameCounts;
+    private transient HashMap<Integer, Group> groupsById;
+    private transient HashMap<String, Integer> groupNameCounts;
+    private transient LinkedHashMap<Integer, Session> residentSessions;
+    private transient int residentSessionLimit;
+    private transient HashSet<Integer> sharedSessionIds;
+    private transient HashSet<Integer> sharedGroupIds;
 
     private static final String SESSION_LIST_HEADER = "List of Sessions";
     private static final String[] SESSION_LIST_COLS = {"#","Name", "Date","# of Participants","# of Activities"};
     private static final String GROUP_LIST_HEADER = "List of Groups";
     private static final String[] GROUP_LIST_COLS = { "#", "Name", "Number of persons" };
+    public static final int DEFAULT_RESIDENT_SESSION_LIMIT = 32;
+    private static final float RESIDENT_SESSIONS_LOAD_FACTOR = 0.75f;
 
     /**
      * Initializes a Profile object.
@@ -36,6 +65,144 @@ public class Profile implements Serializable {
         this.sessionIdTracker = 1;
         this.activityIdTracker = 1;
         this.groupIdTracker = 1;
+        this.residentSessionLimit = DEFAULT_RESIDENT_SESSION_LIMIT;
+        rebuildIndexes();
+    }
+
+    /**
+     * Initializes a Profile object with the specified unique identifier trackers.
+     * Used when a Profile object is restored from a save file.
+     *
+     * @param sessionIdTracker  An integer that represents the next session unique identifier to be issued.
+     * @param activityIdTracker An integer that represents the next activity unique identifier to be issued.
+     * @param groupIdTracker    An integer that represents the next group unique identifier to be issued.
+     */
+    public Profile(int sessionIdTracker, int activityIdTracker, int groupIdTracker) {
+        this.sessionList = new ArrayList<>();
+        this.groupList = new ArrayList<>();
+        this.sessionIdTracker = sessionIdTracker;
+        this.activityIdTracker = activityIdTracker;
+        this.groupIdTracker = groupIdTracker;
+        this.residentSessionLimit = DEFAULT_RESIDENT_SESSION_LIMIT;
+        rebuildIndexes();
+    }
+
+    /**
+     * Initializes a Profile object that is a copy-on-write view of the specified Profile object.
+     * Only the lists and indexes of sessions and groups are copied; the Session and Group objects themselves
+     * stay shared until they are first retrieved through the view.
+     *
+     * @param base A Profile object that the view is created from.
+     */
+    private Profile(Profile base) {
+        this.sessionList = new ArrayList<>(base.sessionList);
+        this.groupList = new ArrayList<>(base.groupList);
+        this.sessionIdTracker = base.sessionIdTracker;
+        this.activityIdTracker = base.activityIdTracker;
+        this.groupIdTracker = base.groupIdTracker;
+        this.residentSessionLimit = base.residentSessionLimit;
+        this.sessionsById = new HashMap<>(base.sessionsById);
+        this.sessionNameCounts = new HashMap<>(base.sessionNameCounts);
+        this.groupsById = new HashMap<>(base.groupsById);
+        this.groupNameCounts = new HashMap<>(base.groupNameCounts);
+        this.sharedSessionIds = new HashSet<>(base.sessionsById.keySet());
+        this.sharedGroupIds = new HashSet<>(base.groupsById.keySet());
+    }
+
+    /**
+     * Returns a copy-on-write view of this profile. Sessions, groups and unique identifiers can be added, changed
+     * and removed through the view exactly as through this profile, without changing this profile in any way.
+     * Creating the view takes time proportional to the number of sessions and groups, not to their contents.
+     *
+     * @return A Profile object that is a copy-on-write view of this profile.
+     */
+    public Profile createCopyOnWriteView() {
+        return new Profile(this);
+    }
+
+    /**
+     * Stops the profile from being a copy-on-write view, once the profile it was created from is no longer used.
+     * Sessions and groups that are still shared are from then on retrieved without being copied.
+     */
+    public void detachCopyOnWriteView() {
+        sharedSessionIds = null;
+        sharedGroupIds = null;
+    }
+
+    /**
+     * Restores a Profile object written with Java serialization, then rebuilds the indexes of its sessions
+     * and groups, which are not serialized.
+     *
+     * @param in An ObjectInputStream object that the Profile object is read from.
+     * @throws IOException            If an I/O error occurs while reading.
+     * @throws ClassNotFoundException If Class of a serialized object cannot be found.
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        residentSessionLimit = DEFAULT_RESIDENT_SESSION_LIMIT;
+        rebuildIndexes();
+    }
+
+    /**
+     * Rebuilds the indexes of sessions and groups from the lists of sessions and groups.
+     */
+    private void rebuildIndexes() {
+        sessionsById = new HashMap<>();
+        sessionNameCounts = new HashMap<>();
+        for (Session session : sessionList) {
+            sessionsById.put(session.getSessionId(), session);
+            addNameCount(sessionNameCounts, session.getSessionName());
+        }
+        groupsById = new HashMap<>();
+        groupNameCounts = new HashMap<>();
+        for (Group group : groupList) {
+            groupsById.put(group.getGroupId(), group);
+            addNameCount(groupNameCounts, group.getGroupName());
+        }
+    }
+
+    /**
+     * Returns the case-folded form of a name, under which names that are equal ignoring case are indexed together.
+     *
+     * @param name A String object that represents the name of a session or group.
+     * @return A String object that represents the case-folded name.
+     */
+    private static String foldCase(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Records one more session or group with the specified name in a name index.
+     *
+     * @param nameCounts A HashMap object of the number of sessions or groups with each case-folded name.
+     * @param name       A String object that represents the name to be recorded.
+     */
+    private static void addNameCount(HashMap<String, Integer> nameCounts, String name) {
+        nameCounts.merge(foldCase(name), 1, Integer::sum);
+    }
+
+    /**
+     * Records one fewer session or group with the specified name in a name index.
+     *
+     * @param nameCounts A HashMap object of the number of sessions or groups with each case-folded name.
+     * @param name       A String object that represents the name to be removed.
+     */
+    private static void removeNameCount(HashMap<String, Integer> nameCounts, String name) {
+        nameCounts.computeIfPresent(foldCase(name), (foldedName, count) -> count == 1 ? null : count - 1);
+    }
+
+    /**
+     * Sets the maximum number of sessions loaded from the save file that are kept in memory.
+     * Sessions that have been changed since they were loaded are always kept in memory and do not count
+     * towards the limit.
+     *
+     * @param residentSessionLimit A positive integer that represents the maximum number of unchanged sessions
+     *                             that are kept in memory.
+     */
+    public void setResidentSessionLimit(int residentSessionLimit) {
+        assert residentSessionLimit > 0;
+        this.residentSessionLimit = residentSessionLimit;
+        releaseLeastRecentlyUsedSessions();
     }
 
     /**
@@ -46,15 +213,7 @@ public class Profile implements Serializable {
      *         false otherwise.
      */
     public boolean hasSessionName(String sessionName) {
-        if (sessionList.isEmpty()) {
-            return false;
-        }
-        for (Session session : sessionList) {
-            if (session.getSessionName().equalsIgnoreCase(sessionName)) {
-                return true;
-            }
-        }
-        return false;
+        return sessionNameCounts.containsKey(foldCase(sessionName));
     }
 
     /**
@@ -65,35 +224,183 @@ public class Profile implements Serializable {
      *         false otherwise.
      */
     public boolean hasSessionId(int sessionId) {
-        if (sessionList.isEmpty()) {
-            return false;
-        }
-        for (Session session : sessionList) {
-            if (session.getSessionId() == sessionId) {
-                return true;
-            }
-        }
-        return false;
+        return sessionsById.containsKey(sessionId);
     }
 
     /**
      * Returns the Session object via the session unique identifier specified by the user.
+     * In a copy-on-write view, a session still shared with the profile the view was created from is copied first.
+     *
+     * @param sessionId An integer that uniquely identifies a Session object.
+     * @return A Session object with the matching session unique identifier.
+     * @throws InvalidDataException If there are no sessions stored,
+     *                              if the session unique identifier specified was not found, or
+     *                              if the participants and activities of the session cannot be loaded.
+     */
+    public Session getSession(int sessionId) throws InvalidDataException {
+        Session session = findSession(sessionId);
+        loadSessionContents(session);
+        session = getWritableSession(session);
+        markSessionUsed(session);
+        return session;
+    }
+
+    /**
+     * Returns the Session object via the session unique identifier specified by the user, to be read but not changed.
+     * In a copy-on-write view, a session still shared with the profile the view was created from is returned without
+     * being copied, unless the group it refers to has since been changed or removed in the view.
+     *
+     * @param sessionId An integer that uniquely identifies a Session object.
+     * @return A Session object with the matching session unique identifier, which must not be changed.
+     * @throws InvalidDataException If there are no sessions stored,
+     *                              if the session unique identifier specified was not found, or
+     *                              if the participants and activities of the session cannot be loaded.
+     */
+    public Session getReadOnlySession(int sessionId) throws InvalidDataException {
+        Session session = findSession(sessionId);
+        loadSessionContents(session);
+        Group group = session.getGroup();
+        if (group != null && groupsById.get(group.getGroupId()) != group) {
+            session = getWritableSession(session);
+        }
+        markSessionUsed(session);
+        return session;
+    }
+
+    /**
+     * Returns the Session object with the specified session unique identifier, whether or not it is shared
+     * with the profile that this profile is a copy-on-write view of.
      *
      * @param sessionId An integer that uniquely identifies a Session object.
      * @return A Session object with the matching session unique identifier.
      * @throws InvalidDataException If there are no sessions stored or
      *                              if the session unique identifier specified was not found.
      */
-    public Session getSession(int sessionId) throws InvalidDataException {
+    private Session findSession(int sessionId) throws InvalidDataException {
         if (sessionList.isEmpty()) {
             throw new InvalidDataException(Message.ERROR_PROFILE_SESSION_LIST_EMPTY);
         }
-        for (Session session : sessionList) {
-            if (session.getSessionId() == sessionId) {
-                return session;
+        Session session = sessionsById.get(sessionId);
+        if (session == null) {
+            throw new InvalidDataException(Message.ERROR_PROFILE_SESSION_NOT_IN_LIST);
+        }
+        return session;
+    }
+
+    /**
+     * Loads the participants and activities of a session from the save files if they are not in memory.
+     * The session is left unloaded if they cannot be loaded, so that loading them is attempted again the next time
+     * that the session is retrieved.
+     *
+     * @param session A Session object in the profile.
+     * @throws InvalidDataException If the save file holding the participants and activities is missing or
+     *                              fails verification.
+     */
+    private static void loadSessionContents(Session session) throws InvalidDataException {
+        try {
+            session.getPersonList();
+        } catch (UncheckedIOException loadException) {
+            throw new InvalidDataException(Message.ERROR_PROFILE_SESSION_NOT_LOADED + session.getSessionId());
+        }
+    }
+
+    /**
+     * Returns a Session object in the profile that can be changed without changing any other profile.
+     * If the session is shared with the profile that this profile is a copy-on-write view of, it is replaced in
+     * this profile by a copy, which refers to the Group object of this profile with the same identifier and is saved
+     * like the session it was copied from.
+     * The session stays shared if its participants and activities cannot be loaded to be copied.
+     *
+     * @param session A Session object in the profile.
+     * @return The same Session object if it is not shared, or
+     *         the copy of the Session object that replaced it otherwise.
+     * @throws InvalidDataException If the session is shared and its participants and activities cannot be loaded.
+     */
+    private Session getWritableSession(Session session) throws InvalidDataException {
+        if (sharedSessionIds == null || !sharedSessionIds.contains(session.getSessionId())) {
+            return session;
+        }
+        // Loads the participants and activities, which are not serialized while they are left in a save file.
+        loadSessionContents(session);
+        Session sessionCopy = copyOf(session);
+        sharedSessionIds.remove(session.getSessionId());
+        Group group = session.getGroup();
+        sessionCopy.setGroup(group == null ? null : groupsById.get(group.getGroupId()));
+        sessionCopy.copySaveStateFrom(session);
+        sessionList.set(sessionList.indexOf(session), sessionCopy);
+        sessionsById.put(sessionCopy.getSessionId(), sessionCopy);
+        return sessionCopy;
+    }
+
+    /**
+     * Returns a deep copy of a Session or Group object, made by writing it with Java serialization and reading
+     * it back.
+     *
+     * @param object A Serializable object to be copied.
+     * @param <T>    The type of the object.
+     * @return A copy of the object that shares no mutable state with it.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends Serializable> T copyOf(T object) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(buffer)) {
+            out.writeObject(object);
+        } catch (IOException ioException) {
+            throw new UncheckedIOException(ioException);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(buffer.toByteArray()))) {
+            return (T) in.readObject();
+        } catch (IOException ioException) {
+            throw new UncheckedIOException(ioException);
+        } catch (ClassNotFoundException classNotFoundException) {
+            throw new AssertionError(classNotFoundException);
+        }
+    }
+
+    /**
+     * Records the Session object as the most recently used session, loading its participants and activities
+     * if they are not in memory, then releases the least recently used unchanged sessions that exceed
+     * the resident session limit.
+     *
+     * @param session A Session object that is about to be used.
+     */
+    private void markSessionUsed(Session session) {
+        if (session.getContentSource() == null) {
+            return;
+        }
+        if (residentSessions == null) {
+            residentSessions = new LinkedHashMap<>(residentSessionLimit, RESIDENT_SESSIONS_LOAD_FACTOR, true);
+        }
+        session.getPersonList();
+        residentSessions.put(session.getSessionId(), session);
+        releaseLeastRecentlyUsedSessions();
+    }
+
+    /**
+     * Releases the participants and activities of the least recently used sessions until no more than
+     * the resident session limit of unchanged sessions remain in memory.
+     */
+    private void releaseLeastRecentlyUsedSessions() {
+        if (residentSessions == null) {
+            return;
+        }
+        Iterator<Session> leastRecentlyUsedFirst = residentSessions.values().iterator();
+        int releasableCount = 0;
+        for (Session session : residentSessions.values()) {
+            if (!session.isModified() && session.isContentLoaded()) {
+                releasableCount += 1;
+            }
+        }
+        while (releasableCount > residentSessionLimit && leastRecentlyUsedFirst.hasNext()) {
+            Session session = leastRecentlyUsedFirst.next();
+            if (session.isModified()) {
+                continue;
+            }
+            leastRecentlyUsedFirst.remove();
+            if (session.unloadContents()) {
+                releasableCount -= 1;
             }
         }
-        throw new InvalidDataException(Message.ERROR_PROFILE_SESSION_NOT_IN_LIST);
     }
 
     /**
@@ -102,7 +409,10 @@ public class Profile implements Serializable {
      * @param session A Session object that is to be added.
      */
     public void addSession(Session session) {
+        assert !sessionsById.containsKey(session.getSessionId()) : "Session unique identifiers must be unique";
         sessionList.add(session);
+        sessionsById.put(session.getSessionId(), session);
+        addNameCount(sessionNameCounts, session.getSessionName());
     }
 
     /**
@@ -111,8 +421,29 @@ public class Profile implements Serializable {
      * @param sessionId An integer that uniquely identifies a Session object to be removed.
      */
     public void removeSession(int sessionId) throws InvalidDataException {
-        Session sessionToBeRemoved = getSession(sessionId);
+        Session sessionToBeRemoved = findSession(sessionId);
         sessionList.remove(sessionToBeRemoved);
+        sessionsById.remove(sessionId);
+        if (sharedSessionIds != null) {
+            sharedSessionIds.remove(sessionId);
+        }
+        removeNameCount(sessionNameCounts, sessionToBeRemoved.getSessionName());
+        if (residentSessions != null) {
+            residentSessions.remove(sessionId);
+        }
+    }
+
+    /**
+     * Renames a Session object in the profile, keeping the index of session names up to date.
+     *
+     * @param session     A Session object in the profile to be renamed.
+     * @param sessionName A String object that represents the new name of the session.
+     */
+    public void renameSession(Session session, String sessionName) {
+        assert sessionsById.get(session.getSessionId()) == session : "The session must be in the profile";
+        removeNameCount(sessionNameCounts, session.getSessionName());
+        session.setSessionName(sessionName);
+        addNameCount(sessionNameCounts, sessionName);
     }
 
     public ArrayList<Session> getSessionList() {
@@ -141,8 +472,8 @@ public class Profile implements Serializable {
             String id = Integer.toString(session.getSessionId());
             String name = session.getSessionName();
             String date = session.getDateCreated().format(ParserUtils.DATE_FORMAT);
-            String numParticipants = Integer.toString(session.getPersonArrayList().size());
-            String numActivities = Integer.toString(session.getActivityList().size());
+            String numParticipants = Integer.toString(session.getPersonCount());
+            String numActivities = Integer.toString(session.getActivityCount());
             summaryTable.addRow(id, name, date, numParticipants, numActivities);
         }
         return summaryTable.toString();
@@ -156,15 +487,7 @@ public class Profile implements Serializable {
      *         false otherwise.
      */
     public boolean hasGroupName(String groupName) {
-        if (groupList.isEmpty()) {
-            return false;
-        }
-        for (Group group : groupList) {
-            if (group.getGroupName().equalsIgnoreCase(groupName)) {
-                return true;
-            }
-        }
-        return false;
+        return groupNameCounts.containsKey(foldCase(groupName));
     }
 
     /**
@@ -175,35 +498,105 @@ public class Profile implements Serializable {
      *         false otherwise.
      */
     public boolean hasGroupId(int groupId) {
-        if (groupList.isEmpty()) {
-            return false;
-        }
-        for (Group group : groupList) {
-            if (group.getGroupId() == groupId) {
-                return true;
-            }
-        }
-        return false;
+        return groupsById.containsKey(groupId);
+    }
+
+    /**
+     * Returns the Group object via the group unique identifier specified by the user, to be changed.
+     * In a copy-on-write view, a group still shared with the profile the view was created from is copied first,
+     * together with every session that refers to it. Groups that are only read are retrieved with
+     * getReadOnlyGroup instead.
+     *
+     * @param groupId An integer that uniquely identifies a Group object.
+     * @return A Group object with the matching group unique identifier.
+     * @throws InvalidDataException If there are no groups stored,
+     *                              if the group unique identifier specified was not found, or
+     *                              if the participants and activities of a session of the group cannot be loaded.
+     */
+    public Group getGroup(int groupId) throws InvalidDataException {
+        return getWritableGroup(findGroup(groupId));
     }
 
     /**
-     * Returns the Group object via the group unique identifier specified by the user.
+     * Returns the Group object via the group unique identifier specified by the user, to be read but not changed.
+     * In a copy-on-write view, a group still shared with the profile the view was created from is returned without
+     * being copied, and none of its sessions are copied.
+     *
+     * @param groupId An integer that uniquely identifies a Group object.
+     * @return A Group object with the matching group unique identifier, which must not be changed.
+     * @throws InvalidDataException If there are no groups stored or
+     *                              if the group unique identifier specified was not found.
+     */
+    public Group getReadOnlyGroup(int groupId) throws InvalidDataException {
+        return findGroup(groupId);
+    }
+
+    /**
+     * Returns the Group object with the specified group unique identifier, whether or not it is shared
+     * with the profile that this profile is a copy-on-write view of.
      *
      * @param groupId An integer that uniquely identifies a Group object.
      * @return A Group object with the matching group unique identifier.
      * @throws InvalidDataException If there are no groups stored or
      *                              if the group unique identifier specified was not found.
      */
-    public Group getGroup(int groupId) throws InvalidDataException {
+    private Group findGroup(int groupId) throws InvalidDataException {
         if (groupList.isEmpty()) {
             throw new InvalidDataException(Message.ERROR_PROFILE_GROUP_LIST_EMPTY);
         }
-        for (Group group : groupList) {
-            if (group.getGroupId() == groupId) {
-                return group;
+        Group group = groupsById.get(groupId);
+        if (group == null) {
+            throw new InvalidDataException(Message.ERROR_PROFILE_GROUP_NOT_IN_LIST);
+        }
+        return group;
+    }
+
+    /**
+     * Returns a Group object in the profile that can be changed without changing any other profile.
+     * If the group is shared with the profile that this profile is a copy-on-write view of, it is replaced in
+     * this profile by a copy, and every session of the group is made to refer to the copy instead,
+     * so that a change to the group is seen by its sessions in this profile only.
+     * The sessions of the group are all loaded before anything is copied, so that the group stays shared if any
+     * of them cannot be loaded.
+     *
+     * @param group A Group object in the profile.
+     * @return The same Group object if it is not shared, or
+     *         the copy of the Group object that replaced it otherwise.
+     * @throws InvalidDataException If the participants and activities of a session of the group cannot be loaded.
+     */
+    private Group getWritableGroup(Group group) throws InvalidDataException {
+        if (sharedGroupIds == null || !sharedGroupIds.contains(group.getGroupId())) {
+            return group;
+        }
+        final ArrayList<Session> groupSessions = getSessionsOfGroup(group.getGroupId());
+        Group groupCopy = copyOf(group);
+        sharedGroupIds.remove(group.getGroupId());
+        groupList.set(groupList.indexOf(group), groupCopy);
+        groupsById.put(groupCopy.getGroupId(), groupCopy);
+        for (Session session : groupSessions) {
+            getWritableSession(session).setGroup(groupCopy);
+        }
+        return groupCopy;
+    }
+
+    /**
+     * Returns the sessions that refer to the group with the specified group unique identifier, after loading
+     * the participants and activities of each of them.
+     *
+     * @param groupId An integer that uniquely identifies a Group object.
+     * @return An ArrayList object of the Session objects that refer to the group.
+     * @throws InvalidDataException If the participants and activities of a session of the group cannot be loaded.
+     */
+    private ArrayList<Session> getSessionsOfGroup(int groupId) throws InvalidDataException {
+        ArrayList<Session> groupSessions = new ArrayList<>();
+        for (Session session : sessionList) {
+            Group group = session.getGroup();
+            if (group != null && group.getGroupId() == groupId) {
+                loadSessionContents(session);
+                groupSessions.add(session);
             }
         }
-        throw new InvalidDataException(Message.ERROR_PROFILE_GROUP_NOT_IN_LIST);
+        return groupSessions;
     }
 
     /**
@@ -212,25 +605,47 @@ public class Profile implements Serializable {
      * @param group A Group object that is to be added.
      */
     public void addGroup(Group group) {
+        assert !groupsById.containsKey(group.getGroupId()) : "Group unique identifiers must be unique";
         groupList.add(group);
+        groupsById.put(group.getGroupId(), group);
+        addNameCount(groupNameCounts, group.getGroupName());
     }
 
     /**
      * Removes a Group object with the specified group unique identifier from the list of groups.
      * At the same time, loops through existing sessions to update their group attribute to null
      * if the group attribute is the group to be removed.
+     * The group is not removed if the participants and activities of any of its sessions cannot be loaded.
      *
      * @param groupId An integer that uniquely identifies a Group object to be removed.
+     * @throws InvalidDataException If there are no groups stored,
+     *                              if the group unique identifier specified was not found, or
+     *                              if the participants and activities of a session of the group cannot be loaded.
      */
     public void removeGroup(int groupId) throws InvalidDataException {
-        Group groupToBeRemoved = getGroup(groupId);
-        for (Session session : sessionList) {
-            Group groupToCheck = session.getGroup();
-            if (groupToCheck != null && groupToCheck.getGroupId() == groupId) {
-                session.setGroup(null);
-            }
+        Group groupToBeRemoved = findGroup(groupId);
+        for (Session session : getSessionsOfGroup(groupId)) {
+            getWritableSession(session).setGroup(null);
         }
         groupList.remove(groupToBeRemoved);
+        groupsById.remove(groupId);
+        if (sharedGroupIds != null) {
+            sharedGroupIds.remove(groupId);
+        }
+        removeNameCount(groupNameCounts, groupToBeRemoved.getGroupName());
+    }
+
+    /**
+     * Renames a Group object in the profile, keeping the index of group names up to date.
+     *
+     * @param group     A Group object in the profile to be renamed.
+     * @param groupName A String object that represents the new name of the group.
+     */
+    public void renameGroup(Group group, String groupName) {
+        assert groupsById.get(group.getGroupId()) == group : "The group must be in the profile";
+        removeNameCount(groupNameCounts, group.getGroupName());
+        group.setGroupName(groupName);
+        addNameCount(groupNameCounts, groupName);
     }
 
     public ArrayList<Group> getGroupList() {
@@ -289,6 +704,21 @@ public class Profile implements Serializable {
         return newActivityId;
     }
 
+    /**
+     * Returns the first of a block of consecutive new activity unique identifiers for Activity objects to be created
+     * together, so that the identifiers can be issued with a single call.
+     * Assumption: Function is called when the Activity objects are being created without errors.
+     *
+     * @param count A positive integer that represents the number of activity unique identifiers in the block.
+     * @return An integer that represents the first new activity unique identifier in the block.
+     */
+    public int getNewActivityIds(int count) {
+        assert count > 0;
+        int firstNewActivityId = activityIdTracker;
+        activityIdTracker += count;
+        return firstNewActivityId;
+    }
+
     public int getActivityIdTracker() {
         return activityIdTracker;
     }
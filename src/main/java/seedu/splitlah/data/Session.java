@@ -8,26 +8,46 @@ import seedu.splitlah.ui.TableFormatter;
 import java.io.Serializable;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
 import java.util.logging.Level;
 
 /**
  * Represents a group outing session which contains a list of activities and is participated by a group of participants.
+ * Activities are kept in a map sorted by their unique identifiers, so that an activity can be added, found or removed
+ * without scanning or sorting the other activities, and the activities are always listed in the order of
+ * their unique identifiers.
  *
  * @author Warren
  */
 public class Session implements Serializable, Comparable<Session> {
 
+    private static final long serialVersionUID = -5814387291229479L;
+
     private String sessionName;
     private int sessionId;
     private LocalDate dateCreated;
-    private ArrayList<Activity> activityList;
+    private TreeMap<Integer, Activity> activities;
     private PersonList personList;
     private Group group;
+    private transient SessionLoader contentSource;
+    private transient boolean isModified;
+    private transient int unloadedPersonCount;
+    private transient int unloadedActivityCount;
+    private transient int modificationCount;
+    private transient String cachedActivityListSummary;
+    private transient int cachedActivityListSummaryVersion;
+    private transient String cachedPersonListSummary;
+    private transient int cachedPersonListSummaryVersion;
+    private transient String cachedSettlementSummary;
+    private transient String cachedSettlementSummaryKey;
+    private transient int cachedSettlementSummaryVersion;
 
     // CONSTANTS
     private static final String[] ACTIVITY_LIST_COLS = { "#", "Activities", "Cost", "Payer" };
     private static final String PERSON_LIST_HEADER = "Participants:";
-    private static final String COST_FORMATTING = "%.2f";
     private static final String COST_PREPEND = "$";
     private static final int ZERO_INDEXING_OFFSET = 1;
 
@@ -49,8 +69,33 @@ public class Session implements Serializable, Comparable<Session> {
         this.sessionId = sessionId;
         this.dateCreated = dateCreated;
         this.personList = personList;
-        this.activityList = new ArrayList<>();
+        this.activities = new TreeMap<>();
+        this.group = group;
+    }
+
+    /**
+     * Initializes a Session object whose participants and activities are left in a save file,
+     * to be loaded from the specified source when they are first needed.
+     *
+     * @param sessionName   A String object that represents the name of the session.
+     * @param sessionId     An integer that uniquely identifies a session.
+     * @param dateCreated   A LocalDate object storing the date that the session occurs on.
+     * @param group         A Group object representing a group of persons participating in the session.
+     * @param contentSource A SessionLoader object that the participants and activities are loaded from.
+     * @param personCount   An integer that represents the number of participants of the session.
+     * @param activityCount An integer that represents the number of activities in the session.
+     */
+    public Session(String sessionName, int sessionId, LocalDate dateCreated, Group group,
+                   SessionLoader contentSource, int personCount, int activityCount) {
+        assert contentSource != null;
+        assert personCount != 0 : Message.ASSERT_SESSION_PERSON_LIST_EMPTY;
+        this.sessionName = sessionName;
+        this.sessionId = sessionId;
+        this.dateCreated = dateCreated;
         this.group = group;
+        this.contentSource = contentSource;
+        this.unloadedPersonCount = personCount;
+        this.unloadedActivityCount = activityCount;
     }
     
     public String getSessionName() {
@@ -65,15 +110,22 @@ public class Session implements Serializable, Comparable<Session> {
         return dateCreated;
     }
 
-    public ArrayList<Activity> getActivityList() {
-        return activityList;
+    /**
+     * Returns the activities in the session, in the order of their unique identifiers.
+     *
+     * @return An unmodifiable Collection object of the Activity objects in the session.
+     */
+    public Collection<Activity> getActivityList() {
+        loadContents();
+        return Collections.unmodifiableCollection(activities.values());
     }
 
     public ArrayList<Person> getPersonArrayList() {
-        return personList.getPersonList();
+        return getPersonList().getPersonList();
     }
 
     public PersonList getPersonList() {
+        loadContents();
         return personList;
     }
 
@@ -83,14 +135,203 @@ public class Session implements Serializable, Comparable<Session> {
 
     public void setGroup(Group group) {
         this.group = group;
+        markModified();
     }
 
     public void setDateCreated(LocalDate dateCreated) {
         this.dateCreated = dateCreated;
+        markModified();
     }
 
     public void setSessionName(String sessionName) {
         this.sessionName = sessionName;
+        markModified();
+    }
+
+    /**
+     * Returns the number of participants of the session without loading the participants.
+     *
+     * @return An integer that represents the number of participants of the session.
+     */
+    public int getPersonCount() {
+        if (!isContentLoaded()) {
+            return unloadedPersonCount;
+        }
+        return personList.getSize();
+    }
+
+    /**
+     * Returns the number of activities in the session without loading the activities.
+     *
+     * @return An integer that represents the number of activities in the session.
+     */
+    public int getActivityCount() {
+        if (!isContentLoaded()) {
+            return unloadedActivityCount;
+        }
+        return activities.size();
+    }
+
+    /**
+     * Checks if the participants and activities of the session are in memory.
+     *
+     * @return true if the participants and activities have been loaded,
+     *         false if they are left in the save file until they are needed.
+     */
+    public boolean isContentLoaded() {
+        return personList != null;
+    }
+
+    /**
+     * Checks if the session has been changed since it was loaded from its content source.
+     * A Session object that was not loaded from a save file is always treated as changed.
+     *
+     * @return true if the session has to be written to the save file again,
+     *         false if its content source still holds the same participants and activities.
+     */
+    public boolean isModified() {
+        return contentSource == null || isModified;
+    }
+
+    /**
+     * Returns the number of times the session has been changed since the Session object was created or loaded.
+     * Strings rendered from the session are cached against this count, and are rendered again once it changes.
+     *
+     * @return An integer that represents the modification count of the session.
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Marks the session as changed, so that it is written to the save file again and any strings rendered from it
+     * are rendered again.
+     */
+    private void markModified() {
+        isModified = true;
+        modificationCount += 1;
+    }
+
+    /**
+     * Returns the settlement summary of the session cached with the specified key, if the session has not been
+     * changed since the summary was cached.
+     *
+     * @param key A String object that identifies how the summary was produced, such as a settlement strategy.
+     * @return A String object that represents the cached summary, or null if there is no up-to-date summary cached
+     *         with the key.
+     */
+    public String getCachedSettlementSummary(String key) {
+        boolean isCacheValid = cachedSettlementSummary != null
+                && cachedSettlementSummaryVersion == modificationCount
+                && cachedSettlementSummaryKey.equals(key);
+        return isCacheValid ? cachedSettlementSummary : null;
+    }
+
+    /**
+     * Caches the settlement summary of the session in its current state with the specified key.
+     *
+     * @param key     A String object that identifies how the summary was produced, such as a settlement strategy.
+     * @param summary A String object that represents the summary.
+     */
+    public void cacheSettlementSummary(String key, String summary) {
+        cachedSettlementSummary = summary;
+        cachedSettlementSummaryKey = key;
+        cachedSettlementSummaryVersion = modificationCount;
+    }
+
+    /**
+     * Returns an immutable copy of the total cost borne by each participant of the session, loading the
+     * participants if they are not in memory. The copy is safe to read from other threads.
+     *
+     * @return A SessionSettlementSnapshot object of the session in its current state.
+     */
+    public SessionSettlementSnapshot createSettlementSnapshot() {
+        ArrayList<Person> persons = getPersonArrayList();
+        String[] personNames = new String[persons.size()];
+        long[] costs = new long[persons.size()];
+        for (int i = 0; i < persons.size(); i++) {
+            personNames[i] = persons.get(i).getName();
+            costs[i] = persons.get(i).getTotalCostInCents();
+        }
+        return new SessionSettlementSnapshot(sessionId, sessionName, dateCreated, modificationCount, personNames,
+                costs);
+    }
+
+    public SessionLoader getContentSource() {
+        return contentSource;
+    }
+
+    /**
+     * Replaces the content source of the session with one that holds its current participants and activities,
+     * once they have been encoded to be saved. The session is no longer treated as changed afterwards.
+     *
+     * @param contentSource A SessionLoader object that holds the current participants and activities.
+     */
+    public void markSaved(SessionLoader contentSource) {
+        assert contentSource != null;
+        this.contentSource = contentSource;
+        isModified = false;
+    }
+
+    /**
+     * Carries over the content source of the session that this Session object was copied from, and whether it has
+     * been changed since it was loaded, as neither is serialized with the copy. The copy is then written into a shard
+     * with the next revision once it is changed, instead of replacing the shard that the original is loaded from.
+     *
+     * @param session A Session object that this Session object is a copy of.
+     */
+    void copySaveStateFrom(Session session) {
+        contentSource = session.contentSource;
+        isModified = session.isModified;
+    }
+
+    /**
+     * Restores the participants and activities of the session. Only called by the SessionLoader object
+     * that the Session object was initialized with.
+     *
+     * @param personList   A PersonList object representing participants of the session.
+     * @param activityList An ArrayList object of Activity objects in the session, sorted by their identifiers.
+     */
+    public void restoreContents(PersonList personList, ArrayList<Activity> activityList) {
+        assert personList != null : Message.ASSERT_SESSION_PERSON_LIST_EMPTY;
+        assert activityList != null;
+        this.personList = personList;
+        this.activities = new TreeMap<>();
+        for (Activity activity : activityList) {
+            activities.put(activity.getActivityId(), activity);
+        }
+    }
+
+    /**
+     * Releases the participants and activities of the session from memory, to be loaded again from
+     * its content source when they are next needed.
+     * The session is only released if it has not been changed since it was loaded.
+     *
+     * @return true if the participants and activities were released,
+     *         false if the session has been changed or was not loaded from a save file.
+     */
+    public boolean unloadContents() {
+        if (isModified() || !isContentLoaded()) {
+            return false;
+        }
+        unloadedPersonCount = personList.getSize();
+        unloadedActivityCount = activities.size();
+        personList = null;
+        activities = null;
+        cachedActivityListSummary = null;
+        cachedPersonListSummary = null;
+        cachedSettlementSummary = null;
+        return true;
+    }
+
+    /**
+     * Loads the participants and activities of the session from its content source if they are not in memory.
+     */
+    private void loadContents() {
+        if (!isContentLoaded()) {
+            contentSource.loadContents(this);
+        }
+        assert isContentLoaded() : Message.ASSERT_SESSION_PERSON_LIST_EMPTY;
     }
 
     /**
@@ -101,16 +342,8 @@ public class Session implements Serializable, Comparable<Session> {
      *         false otherwise.
      */
     public boolean hasActivity(int activityId) {
-        if (activityList.isEmpty()) {
-            return false;
-        }
-        
-        for (Activity activity : activityList) {
-            if (activity.getActivityId() == activityId) {
-                return true;
-            }
-        }
-        return false;
+        loadContents();
+        return activities.containsKey(activityId);
     }
 
     /**
@@ -122,16 +355,15 @@ public class Session implements Serializable, Comparable<Session> {
      *                              if activityList does not contain an Activity object with the specified activityId
      */
     public Activity getActivity(int activityId) throws InvalidDataException {
-        if (activityList.isEmpty()) {
+        loadContents();
+        if (activities.isEmpty()) {
             throw new InvalidDataException(Message.ERROR_SESSION_EMPTY_ACTIVITY_LIST);
         }
-
-        for (Activity activity : activityList) {
-            if (activity.getActivityId() == activityId) {
-                return activity;
-            }
+        Activity activity = activities.get(activityId);
+        if (activity == null) {
+            throw new InvalidDataException(Message.ERROR_SESSION_ACTIVITY_ID_NOT_IN_LIST);
         }
-        throw new InvalidDataException(Message.ERROR_SESSION_ACTIVITY_ID_NOT_IN_LIST);
+        return activity;
     }
 
     /**
@@ -170,30 +402,40 @@ public class Session implements Serializable, Comparable<Session> {
      */
     public void removeActivity(int activityId) throws InvalidDataException {
         Manager.getLogger().log(Level.FINEST, Message.LOGGER_SESSION_ACTIVITY_REMOVAL + activityId);
-        if (activityList.isEmpty()) {
-            throw new InvalidDataException(Message.ERROR_SESSION_EMPTY_ACTIVITY_LIST);
-        }
-
-        Activity deleteTarget = null;
-        for (Activity activity : activityList) {
-            if (activity.getActivityId() == activityId) {
-                deleteTarget = activity;
-                break;
-            }
-        }
-
-        if (deleteTarget == null) {
-            throw new InvalidDataException(Message.ERROR_SESSION_ACTIVITY_ID_NOT_IN_LIST);
-        }
-
+        Activity deleteTarget = getActivity(activityId);
         removeActivityCosts(deleteTarget);
-        activityList.remove(deleteTarget);
+        activities.remove(activityId);
+        markModified();
     }
 
+    /**
+     * Adds an Activity object to the session, in the position given by its unique identifier.
+     *
+     * @param activity An Activity object to be added, with a unique identifier not used by any other activity.
+     */
     public void addActivity(Activity activity) {
         assert activity != null : Message.ASSERT_SESSION_ACTIVITY_NULL;
-        activityList.add(activity);
-        activityList.sort(Activity::compareTo);
+        loadContents();
+        Activity replacedActivity = activities.put(activity.getActivityId(), activity);
+        assert replacedActivity == null : "Activity unique identifiers must be unique";
+        markModified();
+    }
+
+    /**
+     * Adds several Activity objects to the session in a single pass, each in the position given by its
+     * unique identifier.
+     *
+     * @param activityList A List object of Activity objects to be added, with unique identifiers not used by any
+     *                     other activity.
+     */
+    public void addActivities(List<Activity> activityList) {
+        assert activityList != null : Message.ASSERT_SESSION_ACTIVITY_NULL;
+        loadContents();
+        for (Activity activity : activityList) {
+            Activity replacedActivity = activities.put(activity.getActivityId(), activity);
+            assert replacedActivity == null : "Activity unique identifiers must be unique";
+        }
+        markModified();
     }
 
     /**
@@ -205,7 +447,7 @@ public class Session implements Serializable, Comparable<Session> {
      */
     public Person getPersonByName(String name) throws InvalidDataException {
         assert name != null : Message.ASSERT_SESSION_NAME_NULL;
-        for (Person person : personList.getPersonList()) {
+        for (Person person : getPersonArrayList()) {
             if (person.getName().equalsIgnoreCase(name)) {
                 return person;
             }
@@ -231,27 +473,43 @@ public class Session implements Serializable, Comparable<Session> {
     }
 
     public void addPerson(Person person) {
-        personList.addPerson(person);
+        getPersonList().addPerson(person);
+        markModified();
     }
 
     /**
-     * Returns a String object containing a summary of the state of the member attribute activityList.
+     * Returns a String object containing a summary of the state of the member attribute getActivityList().
+     * The summary is cached until the session is next changed.
      *
      * @return A String object containing a summary of all Activity objects in activityList or
      *         a message stating that the activityList is empty if there are no Activity objects within.
      */
     public String getActivityListSummaryString() {
-        if (activityList.isEmpty()) {
+        if (cachedActivityListSummary == null || cachedActivityListSummaryVersion != modificationCount) {
+            cachedActivityListSummary = renderActivityListSummaryString();
+            cachedActivityListSummaryVersion = modificationCount;
+        }
+        return cachedActivityListSummary;
+    }
+
+    /**
+     * Renders a summary of the activities of the session as a table.
+     *
+     * @return A String object containing a summary of all Activity objects in activityList or
+     *         a message stating that the activityList is empty if there are no Activity objects within.
+     */
+    private String renderActivityListSummaryString() {
+        if (getActivityList().isEmpty()) {
             return Message.ERROR_SESSION_EMPTY_ACTIVITY_LIST;
         }
 
         TableFormatter summaryTable = new TableFormatter(
                 ACTIVITY_LIST_COLS[0], ACTIVITY_LIST_COLS[1], ACTIVITY_LIST_COLS[2], ACTIVITY_LIST_COLS[3]
         );
-        for (Activity activity : activityList) {
+        for (Activity activity : getActivityList()) {
             String id = Integer.toString(activity.getActivityId());
             String name = activity.getActivityName();
-            String cost = COST_PREPEND + String.format(COST_FORMATTING, activity.getTotalCost());
+            String cost = COST_PREPEND + activity.getTotalCost();
             String payer = activity.getPersonPaid().getName();
             summaryTable.addRow(id, name, cost, payer);
         }
@@ -260,11 +518,26 @@ public class Session implements Serializable, Comparable<Session> {
 
     /**
      * Returns a String object containing a summary of the state of the member attribute personList.
+     * The summary is cached until the session is next changed.
      *
      * @return A String object containing a summary of all Person objects in personList or
      *         a message stating that the personList is empty if there are no Person objects within.
      */
     private String getPersonListSummaryString() {
+        if (cachedPersonListSummary == null || cachedPersonListSummaryVersion != modificationCount) {
+            cachedPersonListSummary = renderPersonListSummaryString();
+            cachedPersonListSummaryVersion = modificationCount;
+        }
+        return cachedPersonListSummary;
+    }
+
+    /**
+     * Renders a numbered list of the participants of the session.
+     *
+     * @return A String object containing a summary of all Person objects in personList.
+     */
+    private String renderPersonListSummaryString() {
+        PersonList personList = getPersonList();
         assert personList != null : Message.ASSERT_SESSION_PERSON_LIST_EMPTY;
         assert personList.getSize() != 0 : Message.ASSERT_SESSION_PERSON_LIST_EMPTY;
 
@@ -308,6 +581,8 @@ public class Session implements Serializable, Comparable<Session> {
     
     /**
      * Returns a String object describing the state of the Session object.
+     * The lists of participants and activities are cached until the session is next changed, while the name of
+     * the group is read every time, as a group can be renamed without changing the session.
      *
      * @return A String object containing a description of the Session object and its member attributes.
      */
@@ -0,0 +1,18 @@
+package seedu.splitlah.data;
+
+/**
+ * Represents a source that the participants and activities of a Session object can be loaded from on demand,
+ * such as the segment of a save file that the Session object was decoded from.
+ *
+ * @author Warren
+ */
+public interface SessionLoader {
+
+    /**
+     * Loads the participants and activities of the specified Session object and restores them into it.
+     *
+     * @param session A Session object whose participants and activities have not been loaded.
+     * @see Session#restoreContents(PersonList, java.util.ArrayList)
+     */
+    public void loadContents(Session session);
+}
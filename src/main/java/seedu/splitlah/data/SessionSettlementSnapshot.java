@@ -0,0 +1,77 @@
+package seedu.splitlah.data;
+
+import java.time.LocalDate;
+
+/**
+ * Represents an immutable copy of what each participant of a session has to pay or receive, taken at one point in
+ * time. A SessionSettlementSnapshot object can be read from any thread while the Session object it was taken from
+ * continues to be changed.
+ *
+ * @author Warren
+ */
+public final class SessionSettlementSnapshot {
+
+    private final int sessionId;
+    private final String sessionName;
+    private final LocalDate dateCreated;
+    private final int modificationCount;
+    private final String[] personNames;
+    private final long[] costs;
+
+    /**
+     * Initializes a SessionSettlementSnapshot object. The arrays are owned by the snapshot and must not be changed
+     * afterwards.
+     *
+     * @param sessionId         An integer that uniquely identifies the session.
+     * @param sessionName       A String object that represents the name of the session.
+     * @param dateCreated       A LocalDate object storing the date that the session occurs on.
+     * @param modificationCount An integer that represents the modification count of the session when the snapshot
+     *                          was taken.
+     * @param personNames       An array of the names of the participants.
+     * @param costs             An array of the total costs in cents borne by the participants, in the same order.
+     */
+    SessionSettlementSnapshot(int sessionId, String sessionName, LocalDate dateCreated, int modificationCount,
+            String[] personNames, long[] costs) {
+        assert personNames.length == costs.length;
+        this.sessionId = sessionId;
+        this.sessionName = sessionName;
+        this.dateCreated = dateCreated;
+        this.modificationCount = modificationCount;
+        this.personNames = personNames;
+        this.costs = costs;
+    }
+
+    public int getSessionId() {
+        return sessionId;
+    }
+
+    public String getSessionName() {
+        return sessionName;
+    }
+
+    public LocalDate getDateCreated() {
+        return dateCreated;
+    }
+
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    public int getPersonCount() {
+        return personNames.length;
+    }
+
+    public String getPersonName(int index) {
+        return personNames[index];
+    }
+
+    /**
+     * Returns the total cost borne by a participant when the snapshot was taken.
+     *
+     * @param index An integer that represents the position of the participant in the session.
+     * @return A long that represents the cost in cents, negative if the participant has to pay.
+     */
+    public long getCost(int index) {
+        return costs[index];
+    }
+}
@@ -0,0 +1,137 @@
+package seedu.splitlah.parser;
+
+import seedu.splitlah.command.ActivityCreateCommand;
+import seedu.splitlah.data.Money;
+import seedu.splitlah.data.PersonList;
+import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.ui.Message;
+import seedu.splitlah.util.CsvFormat;
+
+import java.util.ArrayList;
+
+/**
+ * A utility class that parses a row of a CSV file of activities into an ActivityCreateCommand object, with the same
+ * checks as an activity created with the activity /create command.
+ * Each row has the columns name, payer, involved and cost, optionally followed by gst and sc. The involved column
+ * holds the names of the persons involved separated by whitespaces, and the cost column holds either a total cost
+ * to be split evenly, or a list of costs separated by whitespaces, one for each person involved.
+ * Every method only reads its arguments, so rows can be parsed on several threads at once.
+ *
+ * @author Warren
+ */
+public final class ActivityCsvParser {
+
+    public static final String HEADER = "name,payer,involved,cost,gst,sc";
+
+    private static final String[] COLUMN_NAMES = HEADER.split(String.valueOf(CsvFormat.SEPARATOR));
+    private static final int NAME_COLUMN = 0;
+    private static final int PAYER_COLUMN = 1;
+    private static final int INVOLVED_COLUMN = 2;
+    private static final int COST_COLUMN = 3;
+    private static final int GST_COLUMN = 4;
+    private static final int SERVICE_CHARGE_COLUMN = 5;
+    private static final int MINIMUM_COLUMN_COUNT = 4;
+
+    private ActivityCsvParser() {
+    }
+
+    /**
+     * Checks if a row is the header row, naming the columns in order, ignoring case and whitespaces.
+     *
+     * @param row A String object that represents a single row of the CSV file.
+     * @return true if the row is the header row,
+     *         false otherwise.
+     */
+    public static boolean isHeader(String row) {
+        return row.replaceAll(ParserUtils.REGEX_WHITESPACES_DELIMITER, "").equalsIgnoreCase(HEADER);
+    }
+
+    /**
+     * Returns an ActivityCreateCommand object that creates the activity described by a row of the CSV file.
+     *
+     * @param sessionId An integer that uniquely identifies the session that the activity is to be created in.
+     * @param row       A String object that represents a single row of the CSV file.
+     * @return An ActivityCreateCommand object that creates the activity described by the row.
+     * @throws InvalidFormatException If the row does not have between 4 and 6 columns,
+     *                                if any column contains characters that are not printable ASCII characters,
+     *                                if any column contains a forward slash character, which would be read as
+     *                                a delimiter in a command,
+     *                                if the name, payer, involved or cost column is empty,
+     *                                if the payer column contains more than a single name,
+     *                                if the involved column contains duplicate names,
+     *                                if the cost column cannot be parsed as a cost or a list of costs,
+     *                                if the number of costs does not match the number of persons involved, or
+     *                                if the gst or sc column cannot be parsed as a percentage in [0, 100].
+     */
+    public static ActivityCreateCommand parseRow(int sessionId, String row) throws InvalidFormatException {
+        ArrayList<String> fields = CsvFormat.splitRow(row);
+        if (fields.size() < MINIMUM_COLUMN_COUNT || fields.size() > COLUMN_NAMES.length) {
+            throw new InvalidFormatException(Message.ERROR_ACTIVITYCSV_WRONG_COLUMN_COUNT + HEADER);
+        }
+        for (String field : fields) {
+            String errorMessage = ParserUtils.checkIfArgumentIsValid(field);
+            if (!errorMessage.isEmpty()) {
+                throw new InvalidFormatException(errorMessage);
+            }
+        }
+
+        final String activityName = getRequiredField(fields, NAME_COLUMN);
+        String payer = getRequiredField(fields, PAYER_COLUMN);
+        if (payer.split(ParserUtils.REGEX_WHITESPACES_DELIMITER).length != 1) {
+            throw new InvalidFormatException(Message.ERROR_PARSER_MORE_THAN_ONE_PAYER);
+        }
+        String involved = getRequiredField(fields, INVOLVED_COLUMN);
+        String[] involvedList = involved.split(ParserUtils.REGEX_WHITESPACES_DELIMITER);
+        if (PersonList.hasNameDuplicates(involvedList)) {
+            throw new InvalidFormatException(Message.ERROR_PERSONLIST_DUPLICATE_NAME_IN_ACTIVITY);
+        }
+
+        String cost = getRequiredField(fields, COST_COLUMN);
+        Money totalCost = Money.ZERO;
+        Money[] costList = null;
+        boolean isTotalCost = cost.split(ParserUtils.REGEX_WHITESPACES_DELIMITER).length == 1;
+        if (isTotalCost) {
+            totalCost = ParserUtils.parseCostFromString(cost, ParserUtils.TOTAL_COST_DELIMITER);
+        } else {
+            costList = ParserUtils.parseCostListFromString(cost);
+            if (costList.length != involvedList.length) {
+                throw new InvalidFormatException(Message.ERROR_ACTIVITYCREATE_INVOLVED_AND_COST_DIFFERENT_LENGTH);
+            }
+        }
+
+        String gst = getOptionalField(fields, GST_COLUMN);
+        String serviceCharge = getOptionalField(fields, SERVICE_CHARGE_COLUMN);
+        double gstPercentage = gst.isEmpty() ? 0 : ParserUtils.parseGstFromString(gst);
+        double serviceChargePercentage = serviceCharge.isEmpty() ? 0
+                : ParserUtils.parseServiceChargeFromString(serviceCharge);
+        return new ActivityCreateCommand(sessionId, activityName, totalCost, payer, involvedList, costList,
+                gstPercentage, serviceChargePercentage);
+    }
+
+    /**
+     * Returns the contents of a column that must not be empty, with surrounding whitespaces removed.
+     *
+     * @param fields An ArrayList object of String objects, one for each field in the row.
+     * @param column An integer that represents the index of the column.
+     * @return A String object that represents the contents of the column.
+     * @throws InvalidFormatException If the column is empty.
+     */
+    private static String getRequiredField(ArrayList<String> fields, int column) throws InvalidFormatException {
+        String field = fields.get(column).trim();
+        if (field.isEmpty()) {
+            throw new InvalidFormatException(Message.ERROR_ACTIVITYCSV_EMPTY_COLUMN + COLUMN_NAMES[column]);
+        }
+        return field;
+    }
+
+    /**
+     * Returns the contents of a column that may be empty or left out, with surrounding whitespaces removed.
+     *
+     * @param fields An ArrayList object of String objects, one for each field in the row.
+     * @param column An integer that represents the index of the column.
+     * @return A String object that represents the contents of the column, which is empty if the column is left out.
+     */
+    private static String getOptionalField(ArrayList<String> fields, int column) {
+        return column < fields.size() ? fields.get(column).trim() : "";
+    }
+}
@@ -0,0 +1,137 @@
+package seedu.splitlah.parser;
+
+import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.ui.Message;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Represents the arguments portion of a command input, scanned once into a table that maps each delimiter to
+ * the argument that follows it.
+ * Delimiters are matched ignoring case. A delimiter is a token that starts with a forward slash character ('/'),
+ * and its argument is the text up to the next delimiter, with surrounding whitespaces removed.
+ * Every other token that contains a forward slash character is also recorded, so that it can be rejected as
+ * an invalid delimiter.
+ * The table is built once by Parser for each command input, and passed to the command parser of the command.
+ *
+ * @author Warren
+ */
+public final class ArgumentTable {
+
+    private static final char DELIMITER_CHARACTER = '/';
+    private static final int NO_DELIMITER = -1;
+
+    private final String commandArgs;
+    private final HashMap<String, String> argumentsByDelimiter;
+    private final ArrayList<String> delimiterTokens;
+    private final HashSet<String> distinctDelimiterTokens;
+    private final boolean hasDuplicateDelimiters;
+
+    /**
+     * Initializes an ArgumentTable object by scanning the arguments portion of a command input once.
+     *
+     * @param commandArgs A String object containing the arguments portion of the entire command input from the user.
+     */
+    public ArgumentTable(String commandArgs) {
+        assert commandArgs != null : Message.ASSERT_PARSER_COMMAND_ARGUMENTS_NULL;
+
+        this.commandArgs = commandArgs;
+        this.argumentsByDelimiter = new HashMap<>();
+        this.delimiterTokens = new ArrayList<>();
+        this.distinctDelimiterTokens = new HashSet<>();
+
+        boolean isDuplicateFound = false;
+        String currentDelimiter = null;
+        int argumentStart = NO_DELIMITER;
+        int length = commandArgs.length();
+        int index = 0;
+        while (index < length) {
+            while (index < length && Character.isWhitespace(commandArgs.charAt(index))) {
+                index += 1;
+            }
+            if (index == length) {
+                break;
+            }
+            int tokenStart = index;
+            boolean hasDelimiterCharacter = false;
+            while (index < length && !Character.isWhitespace(commandArgs.charAt(index))) {
+                hasDelimiterCharacter |= commandArgs.charAt(index) == DELIMITER_CHARACTER;
+                index += 1;
+            }
+            if (!hasDelimiterCharacter) {
+                continue;
+            }
+
+            String token = commandArgs.substring(tokenStart, index).toLowerCase(Locale.ROOT);
+            if (!distinctDelimiterTokens.add(token)) {
+                isDuplicateFound = true;
+            }
+            delimiterTokens.add(token);
+            if (commandArgs.charAt(tokenStart) != DELIMITER_CHARACTER) {
+                continue;
+            }
+            if (currentDelimiter != null) {
+                String argument = commandArgs.substring(argumentStart, tokenStart).trim();
+                argumentsByDelimiter.putIfAbsent(currentDelimiter, argument);
+            }
+            currentDelimiter = token;
+            argumentStart = index;
+        }
+        if (currentDelimiter != null) {
+            argumentsByDelimiter.putIfAbsent(currentDelimiter, commandArgs.substring(argumentStart).trim());
+        }
+        this.hasDuplicateDelimiters = isDuplicateFound;
+    }
+
+    String getCommandArgs() {
+        return commandArgs;
+    }
+
+    /**
+     * Checks if the arguments contain the specified delimiter, ignoring case.
+     *
+     * @param delimiter A String object that represents a demarcation of a specific argument in the command.
+     * @return true if the delimiter is found, false otherwise.
+     */
+    boolean hasDelimiter(String delimiter) {
+        return argumentsByDelimiter.containsKey(delimiter);
+    }
+
+    /**
+     * Returns the argument that follows the first occurrence of the specified delimiter.
+     *
+     * @param delimiter A String object that represents a demarcation of a specific argument in the command.
+     * @return A String object that represents the argument demarcated by the delimiter.
+     * @throws InvalidFormatException If the delimiter is not found in the arguments, or
+     *                                if the delimiter is found but no argument follows it.
+     */
+    String getArgument(String delimiter) throws InvalidFormatException {
+        String argument = argumentsByDelimiter.get(delimiter);
+        if (argument == null) {
+            throw new InvalidFormatException(ParserErrors.getMissingDelimiterErrorMessage(delimiter));
+        }
+        if (argument.isEmpty()) {
+            throw new InvalidFormatException(ParserErrors.getMissingArgumentErrorMessage(delimiter));
+        }
+        return argument;
+    }
+
+    /**
+     * Returns every token in the arguments that contains a forward slash character, in lower case and in the order
+     * they appear.
+     *
+     * @return An unmodifiable List object of the tokens.
+     */
+    List<String> getDelimiterTokens() {
+        return Collections.unmodifiableList(delimiterTokens);
+    }
+
+    boolean hasDuplicateDelimiters() {
+        return hasDuplicateDelimiters;
+    }
+}
@@ -0,0 +1,149 @@
+package seedu.splitlah.parser;
+
+import seedu.splitlah.parser.commandparser.ActivityCreateCommandParser;
+import seedu.splitlah.parser.commandparser.ActivityDeleteCommandParser;
+import seedu.splitlah.parser.commandparser.ActivityEditCommandParser;
+import seedu.splitlah.parser.commandparser.ActivityImportCommandParser;
+import seedu.splitlah.parser.commandparser.ActivityListCommandParser;
+import seedu.splitlah.parser.commandparser.ActivityViewCommandParser;
+import seedu.splitlah.parser.commandparser.CommandParser;
+import seedu.splitlah.parser.commandparser.ExitCommandParser;
+import seedu.splitlah.parser.commandparser.GroupCreateCommandParser;
+import seedu.splitlah.parser.commandparser.GroupDeleteCommandParser;
+import seedu.splitlah.parser.commandparser.GroupEditCommandParser;
+import seedu.splitlah.parser.commandparser.GroupListCommandParser;
+import seedu.splitlah.parser.commandparser.GroupViewCommandParser;
+import seedu.splitlah.parser.commandparser.HelpCommandParser;
+import seedu.splitlah.parser.commandparser.SessionCreateCommandParser;
+import seedu.splitlah.parser.commandparser.SessionDeleteCommandParser;
+import seedu.splitlah.parser.commandparser.SessionEditCommandParser;
+import seedu.splitlah.parser.commandparser.SessionExportCommandParser;
+import seedu.splitlah.parser.commandparser.SessionListCommandParser;
+import seedu.splitlah.parser.commandparser.SessionSettleAllCommandParser;
+import seedu.splitlah.parser.commandparser.SessionSummaryAllCommandParser;
+import seedu.splitlah.parser.commandparser.SessionSummaryCommandParser;
+import seedu.splitlah.parser.commandparser.SessionViewCommandParser;
+import seedu.splitlah.parser.commandparser.TransactionBeginCommandParser;
+import seedu.splitlah.parser.commandparser.TransactionCommitCommandParser;
+import seedu.splitlah.parser.commandparser.TransactionRollbackCommandParser;
+
+import java.util.HashMap;
+import java.util.Locale;
+
+/**
+ * Represents the table of every command type available in SplitLah, mapping the command type to the CommandParser
+ * object that parses its arguments and to the delimiters that the command accepts.
+ * Every CommandParser object in the table is stateless, so a single object is shared by every input of its command
+ * type. A new command is made available by registering it in this class only.
+ *
+ * @author Warren
+ */
+final class CommandRegistry {
+
+    // Commands that take no arguments accept no delimiters.
+    private static final String[] NO_DELIMITERS = {};
+
+    private static final HashMap<String, Entry> ENTRIES = new HashMap<>();
+
+    static {
+        register(SessionCreateCommandParser.COMMAND_TEXT, new SessionCreateCommandParser(),
+                SessionCreateCommandParser.COMMAND_DELIMITERS);
+        register(SessionDeleteCommandParser.COMMAND_TEXT, new SessionDeleteCommandParser(),
+                SessionDeleteCommandParser.COMMAND_DELIMITERS);
+        register(SessionEditCommandParser.COMMAND_TEXT, new SessionEditCommandParser(),
+                SessionEditCommandParser.COMMAND_DELIMITERS);
+        register(SessionSummaryCommandParser.COMMAND_TEXT, new SessionSummaryCommandParser(),
+                SessionSummaryCommandParser.COMMAND_DELIMITERS);
+        register(SessionSummaryAllCommandParser.COMMAND_TEXT, new SessionSummaryAllCommandParser(),
+                SessionSummaryAllCommandParser.COMMAND_DELIMITERS);
+        register(SessionSettleAllCommandParser.COMMAND_TEXT, new SessionSettleAllCommandParser(),
+                SessionSettleAllCommandParser.COMMAND_DELIMITERS);
+        register(SessionExportCommandParser.COMMAND_TEXT, new SessionExportCommandParser(),
+                SessionExportCommandParser.COMMAND_DELIMITERS);
+        register(SessionListCommandParser.COMMAND_TEXT, new SessionListCommandParser(), NO_DELIMITERS);
+        register(SessionViewCommandParser.COMMAND_TEXT, new SessionViewCommandParser(),
+                SessionViewCommandParser.COMMAND_DELIMITERS);
+        register(ActivityCreateCommandParser.COMMAND_TEXT, new ActivityCreateCommandParser(),
+                ActivityCreateCommandParser.COMMAND_DELIMITERS);
+        register(ActivityDeleteCommandParser.COMMAND_TEXT, new ActivityDeleteCommandParser(),
+                ActivityDeleteCommandParser.COMMAND_DELIMITERS);
+        register(ActivityEditCommandParser.COMMAND_TEXT, new ActivityEditCommandParser(),
+                ActivityEditCommandParser.COMMAND_DELIMITERS);
+        register(ActivityListCommandParser.COMMAND_TEXT, new ActivityListCommandParser(),
+                ActivityListCommandParser.COMMAND_DELIMITERS);
+        register(ActivityViewCommandParser.COMMAND_TEXT, new ActivityViewCommandParser(),
+                ActivityViewCommandParser.COMMAND_DELIMITERS);
+        register(ActivityImportCommandParser.COMMAND_TEXT, new ActivityImportCommandParser(),
+                ActivityImportCommandParser.COMMAND_DELIMITERS);
+        register(GroupCreateCommandParser.COMMAND_TEXT, new GroupCreateCommandParser(),
+                GroupCreateCommandParser.COMMAND_DELIMITERS);
+        register(GroupDeleteCommandParser.COMMAND_TEXT, new GroupDeleteCommandParser(),
+                GroupDeleteCommandParser.COMMAND_DELIMITERS);
+        register(GroupEditCommandParser.COMMAND_TEXT, new GroupEditCommandParser(),
+                GroupEditCommandParser.COMMAND_DELIMITERS);
+        register(GroupListCommandParser.COMMAND_TEXT, new GroupListCommandParser(), NO_DELIMITERS);
+        register(GroupViewCommandParser.COMMAND_TEXT, new GroupViewCommandParser(),
+                GroupViewCommandParser.COMMAND_DELIMITERS);
+        register(TransactionBeginCommandParser.COMMAND_TEXT, new TransactionBeginCommandParser(), NO_DELIMITERS);
+        register(TransactionCommitCommandParser.COMMAND_TEXT, new TransactionCommitCommandParser(), NO_DELIMITERS);
+        register(TransactionRollbackCommandParser.COMMAND_TEXT, new TransactionRollbackCommandParser(),
+                NO_DELIMITERS);
+        register(HelpCommandParser.COMMAND_TEXT, new HelpCommandParser(), NO_DELIMITERS);
+        register(ExitCommandParser.COMMAND_TEXT, new ExitCommandParser(), NO_DELIMITERS);
+    }
+
+    private CommandRegistry() {
+    }
+
+    /**
+     * Adds a command type to the table.
+     *
+     * @param commandText A String object representing the command type in lower case, e.g. "session /create".
+     * @param parser      A stateless CommandParser object that parses the arguments of the command type.
+     * @param delimiters  A String array object containing every delimiter accepted by the command type.
+     */
+    private static void register(String commandText, CommandParser<?> parser, String[] delimiters) {
+        assert commandText.equals(commandText.toLowerCase(Locale.ROOT));
+        Entry previousEntry = ENTRIES.put(commandText, new Entry(parser, delimiters));
+        assert previousEntry == null : "Every command type must only be registered once";
+    }
+
+    /**
+     * Returns the CommandParser object that parses the arguments of the specified command type.
+     *
+     * @param commandType A String object representing the command type of the command input from the user.
+     * @return A CommandParser object if the command type is available in SplitLah, ignoring case,
+     *         null otherwise.
+     */
+    static CommandParser<?> getParser(String commandType) {
+        Entry entry = ENTRIES.get(commandType.toLowerCase(Locale.ROOT));
+        return entry == null ? null : entry.parser;
+    }
+
+    /**
+     * Returns the delimiters accepted by the specified command type.
+     *
+     * @param commandType A String object representing the command type of the command input from the user.
+     * @return A String array object containing every delimiter accepted by the command type if it is available
+     *         in SplitLah, ignoring case,
+     *         null otherwise.
+     */
+    static String[] getDelimiters(String commandType) {
+        Entry entry = ENTRIES.get(commandType.toLowerCase(Locale.ROOT));
+        return entry == null ? null : entry.delimiters;
+    }
+
+    /**
+     * Represents a command type in the table.
+     */
+    private static final class Entry {
+
+        private final CommandParser<?> parser;
+        private final String[] delimiters;
+
+        private Entry(CommandParser<?> parser, String[] delimiters) {
+            this.parser = parser;
+            this.delimiters = delimiters;
+        }
+    }
+}
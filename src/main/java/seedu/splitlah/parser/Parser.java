@@ -4,24 +4,7 @@ import seedu.splitlah.command.Command;
 import seedu.splitlah.command.InvalidCommand;
 import seedu.splitlah.data.Manager;
 import seedu.splitlah.exceptions.InvalidFormatException;
-import seedu.splitlah.parser.commandparser.ActivityCreateCommandParser;
-import seedu.splitlah.parser.commandparser.ActivityDeleteCommandParser;
-import seedu.splitlah.parser.commandparser.ActivityEditCommandParser;
-import seedu.splitlah.parser.commandparser.ActivityViewCommandParser;
-import seedu.splitlah.parser.commandparser.ActivityListCommandParser;
-import seedu.splitlah.parser.commandparser.ExitCommandParser;
-import seedu.splitlah.parser.commandparser.GroupEditCommandParser;
-import seedu.splitlah.parser.commandparser.GroupListCommandParser;
-import seedu.splitlah.parser.commandparser.GroupCreateCommandParser;
-import seedu.splitlah.parser.commandparser.GroupDeleteCommandParser;
-import seedu.splitlah.parser.commandparser.GroupViewCommandParser;
-import seedu.splitlah.parser.commandparser.HelpCommandParser;
-import seedu.splitlah.parser.commandparser.SessionCreateCommandParser;
-import seedu.splitlah.parser.commandparser.SessionDeleteCommandParser;
-import seedu.splitlah.parser.commandparser.SessionEditCommandParser;
-import seedu.splitlah.parser.commandparser.SessionListCommandParser;
-import seedu.splitlah.parser.commandparser.SessionSummaryCommandParser;
-import seedu.splitlah.parser.commandparser.SessionViewCommandParser;
+import seedu.splitlah.parser.commandparser.CommandParser;
 import seedu.splitlah.ui.Message;
 
 import java.util.logging.Level;
@@ -33,9 +16,6 @@ import java.util.logging.Level;
  */
 public class Parser {
 
-    private static final int COMMAND_WITH_ARGS_TOKEN_COUNT = 3;
-    private static final int DELIMITERED_COMMAND_MIN_TOKEN_COUNT = 2;
-
     /**
      * Returns a String object containing the arguments portion of the entire command input from the user.<br>
      * E.g. Returns "/n Lunch /d 11-03-2022 /pl Warren Ivan Roy" where
@@ -46,12 +26,7 @@ public class Parser {
      *         an empty String object otherwise.
      */
     public static String getRemainingArgument(String commandString) {
-        String[] commandTokens =
-                commandString.trim().split(ParserUtils.REGEX_WHITESPACES_DELIMITER, COMMAND_WITH_ARGS_TOKEN_COUNT);
-        if (commandTokens.length < COMMAND_WITH_ARGS_TOKEN_COUNT) {
-            return "";
-        }
-        return commandTokens[2];
+        return new CommandInput(commandString).remainingArgs;
     }
 
     /**
@@ -64,15 +39,7 @@ public class Parser {
      *         null otherwise.
      */
     public static String getCommandType(String commandString) {
-        String[] commandTokens =
-                commandString.trim().split(ParserUtils.REGEX_WHITESPACES_DELIMITER, COMMAND_WITH_ARGS_TOKEN_COUNT);
-
-        if (commandTokens.length < DELIMITERED_COMMAND_MIN_TOKEN_COUNT) {
-            return commandTokens[0];
-        } else if (!commandTokens[1].startsWith(ParserUtils.DELIMITER_INDICATOR)) {
-            return null;
-        }
-        return commandTokens[0] + " " + commandTokens[1];
+        return new CommandInput(commandString).commandType;
     }
 
     /**
@@ -83,8 +50,9 @@ public class Parser {
      *         an InvalidCommand object that prints an error message otherwise.
      */
     public static Command getCommand(String input) {
-        String commandType = getCommandType(input);
-        String remainingArgs = getRemainingArgument(input);
+        CommandInput commandInput = new CommandInput(input);
+        String commandType = commandInput.commandType;
+        String remainingArgs = commandInput.remainingArgs;
 
         if (commandType == null) {
             return new InvalidCommand(Message.ERROR_PARSER_INVALID_COMMAND);
@@ -93,54 +61,78 @@ public class Parser {
         Manager.getLogger().log(Level.FINEST, Message.LOGGER_PARSER_COMMAND_TYPE + commandType);
         Manager.getLogger().log(Level.FINEST, Message.LOGGER_PARSER_REMAINING_ARGS + remainingArgs);
 
-        String errorMessage = ParserUtils.checkIfCommandIsValid(commandType, remainingArgs);
+        // Scanned once, and shared by every check and by the command parser.
+        ArgumentTable arguments = new ArgumentTable(remainingArgs);
+        String errorMessage = ParserUtils.checkIfCommandIsValid(commandType, arguments);
         if (!errorMessage.isEmpty()) {
             return new InvalidCommand(errorMessage);
         }
 
+        CommandParser<?> commandParser = CommandRegistry.getParser(commandType);
+        if (commandParser == null) {
+            return new InvalidCommand(Message.ERROR_PARSER_INVALID_COMMAND);
+        }
         try {
-            switch (commandType.toLowerCase()) {
-            case SessionCreateCommandParser.COMMAND_TEXT:
-                return new SessionCreateCommandParser().getCommand(remainingArgs);
-            case SessionDeleteCommandParser.COMMAND_TEXT:
-                return new SessionDeleteCommandParser().getCommand(remainingArgs);
-            case SessionEditCommandParser.COMMAND_TEXT:
-                return new SessionEditCommandParser().getCommand(remainingArgs);
-            case SessionSummaryCommandParser.COMMAND_TEXT:
-                return new SessionSummaryCommandParser().getCommand(remainingArgs);
-            case SessionListCommandParser.COMMAND_TEXT:
-                return new SessionListCommandParser().getCommand(remainingArgs);
-            case SessionViewCommandParser.COMMAND_TEXT:
-                return new SessionViewCommandParser().getCommand(remainingArgs);
-            case ActivityCreateCommandParser.COMMAND_TEXT:
-                return new ActivityCreateCommandParser().getCommand(remainingArgs);
-            case ActivityDeleteCommandParser.COMMAND_TEXT:
-                return new ActivityDeleteCommandParser().getCommand(remainingArgs);
-            case ActivityListCommandParser.COMMAND_TEXT:
-                return new ActivityListCommandParser().getCommand(remainingArgs);
-            case ActivityViewCommandParser.COMMAND_TEXT:
-                return new ActivityViewCommandParser().getCommand(remainingArgs);
-            case ActivityEditCommandParser.COMMAND_TEXT:
-                return new ActivityEditCommandParser().getCommand(remainingArgs);
-            case GroupCreateCommandParser.COMMAND_TEXT:
-                return new GroupCreateCommandParser().getCommand(remainingArgs);
-            case GroupDeleteCommandParser.COMMAND_TEXT:
-                return new GroupDeleteCommandParser().getCommand(remainingArgs);
-            case GroupListCommandParser.COMMAND_TEXT:
-                return new GroupListCommandParser().getCommand(remainingArgs);
-            case GroupEditCommandParser.COMMAND_TEXT:
-                return new GroupEditCommandParser().getCommand(remainingArgs);
-            case GroupViewCommandParser.COMMAND_TEXT:
-                return new GroupViewCommandParser().getCommand(remainingArgs);
-            case HelpCommandParser.COMMAND_TEXT:
-                return new HelpCommandParser().getCommand(remainingArgs);
-            case ExitCommandParser.COMMAND_TEXT:
-                return new ExitCommandParser().getCommand(remainingArgs);
-            default:
-                return new InvalidCommand(Message.ERROR_PARSER_INVALID_COMMAND);
-            }
+            return commandParser.getCommand(arguments);
         } catch (InvalidFormatException exception) {
             return new InvalidCommand(exception.getMessage());
         }
     }
+
+    /**
+     * Represents the command type and the arguments portions of a command input from the user, split apart in
+     * a single scan of the input.
+     */
+    private static final class CommandInput {
+
+        private final String commandType;
+        private final String remainingArgs;
+
+        /**
+         * Initializes a CommandInput object by scanning the command input once. The command type is made up of
+         * the first two words of the input, where the second word starts with a forward slash character ('/'),
+         * or the only word of the input, and the arguments are the rest of the input.
+         *
+         * @param commandString A String object that contains the entire command input provided by the user.
+         */
+        private CommandInput(String commandString) {
+            int index = skipWhitespaces(commandString, 0);
+            final int firstWordStart = index;
+            index = skipWord(commandString, index);
+            final int firstWordEnd = index;
+            index = skipWhitespaces(commandString, index);
+            final int secondWordStart = index;
+            index = skipWord(commandString, index);
+            final int secondWordEnd = index;
+            index = skipWhitespaces(commandString, index);
+
+            int argumentsEnd = commandString.length();
+            while (argumentsEnd > index && Character.isWhitespace(commandString.charAt(argumentsEnd - 1))) {
+                argumentsEnd -= 1;
+            }
+            String firstWord = commandString.substring(firstWordStart, firstWordEnd);
+            if (secondWordStart == secondWordEnd) {
+                commandType = firstWord;
+            } else if (!commandString.startsWith(ParserUtils.DELIMITER_INDICATOR, secondWordStart)) {
+                commandType = null;
+            } else {
+                commandType = firstWord + " " + commandString.substring(secondWordStart, secondWordEnd);
+            }
+            remainingArgs = commandString.substring(index, argumentsEnd);
+        }
+
+        private static int skipWhitespaces(String commandString, int index) {
+            while (index < commandString.length() && Character.isWhitespace(commandString.charAt(index))) {
+                index += 1;
+            }
+            return index;
+        }
+
+        private static int skipWord(String commandString, int index) {
+            while (index < commandString.length() && !Character.isWhitespace(commandString.charAt(index))) {
+                index += 1;
+            }
+            return index;
+        }
+    }
 }
@@ -81,4 +81,24 @@ public class ParserErrors {
     public static String getInvalidServiceChargeErrorMessage() {
         return Message.ERROR_PARSER_INVALID_SERVICE_CHARGE + ParserUtils.SERVICE_CHARGE_DELIMITER;
     }
+
+    /**
+     * Returns an error message when the parser is not able to parse an input
+     * as the name of a settlement strategy.
+     *
+     * @return A String object representing an error message for an invalid settlement strategy input.
+     */
+    public static String getInvalidSettlementStrategyErrorMessage() {
+        return Message.ERROR_PARSER_INVALID_SETTLEMENT_STRATEGY + ParserUtils.SETTLEMENT_STRATEGY_DELIMITER;
+    }
+
+    /**
+     * Returns an error message when the parser is not able to parse an input
+     * as the name of an export format.
+     *
+     * @return A String object representing an error message for an invalid export format input.
+     */
+    public static String getInvalidExportFormatErrorMessage() {
+        return Message.ERROR_PARSER_INVALID_EXPORT_FORMAT + ParserUtils.EXPORT_FORMAT_DELIMITER;
+    }
 }
@@ -1,31 +1,24 @@
 package seedu.splitlah.parser;
 
+import seedu.splitlah.data.Money;
 import seedu.splitlah.exceptions.InvalidFormatException;
-import seedu.splitlah.parser.commandparser.ActivityCreateCommandParser;
-import seedu.splitlah.parser.commandparser.ActivityDeleteCommandParser;
-import seedu.splitlah.parser.commandparser.ActivityEditCommandParser;
-import seedu.splitlah.parser.commandparser.ActivityViewCommandParser;
-import seedu.splitlah.parser.commandparser.ActivityListCommandParser;
-import seedu.splitlah.parser.commandparser.ExitCommandParser;
-import seedu.splitlah.parser.commandparser.GroupEditCommandParser;
-import seedu.splitlah.parser.commandparser.GroupListCommandParser;
-import seedu.splitlah.parser.commandparser.GroupViewCommandParser;
-import seedu.splitlah.parser.commandparser.GroupCreateCommandParser;
-import seedu.splitlah.parser.commandparser.GroupDeleteCommandParser;
-import seedu.splitlah.parser.commandparser.HelpCommandParser;
-import seedu.splitlah.parser.commandparser.SessionCreateCommandParser;
-import seedu.splitlah.parser.commandparser.SessionDeleteCommandParser;
-import seedu.splitlah.parser.commandparser.SessionEditCommandParser;
-import seedu.splitlah.parser.commandparser.SessionListCommandParser;
-import seedu.splitlah.parser.commandparser.SessionSummaryCommandParser;
-import seedu.splitlah.parser.commandparser.SessionViewCommandParser;
 import seedu.splitlah.ui.Message;
-
+import seedu.splitlah.util.CsvExportWriter;
+import seedu.splitlah.util.GreedySettlementStrategy;
+import seedu.splitlah.util.InputScanner;
+import seedu.splitlah.util.JsonExportWriter;
+import seedu.splitlah.util.MatchingSettlementStrategy;
+import seedu.splitlah.util.SettlementStrategy;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * A utility class that provides supporting parsing methods to the main Parser class.
@@ -47,53 +40,39 @@ public class ParserUtils {
     public static final String COST_LIST_DELIMITER = "/cl";
     public static final String GST_DELIMITER = "/gst";
     public static final String SERVICE_CHARGE_DELIMITER = "/sc";
+    public static final String SETTLEMENT_STRATEGY_DELIMITER = "/st";
+    public static final String FILE_DELIMITER = "/f";
+    public static final String EXPORT_FORMAT_DELIMITER = "/fmt";
 
     // MISC CONSTANTS
     private static final String LOCALDATE_TODAY_INDICATOR = "today";
     static final String DELIMITER_INDICATOR = "/";
     static final double MINIMUM_SURCHARGE_PERCENT = 0;
     static final double MAXIMUM_SURCHARGE_PERCENT = 100;
-    private static final String NEXT_DELIMITER_INDICATOR = " /";
-    private static final int ZERO_INDEXING_OFFSET = 1;
     private static final int PERCENTAGE_ALLOWED_INTEGER_PLACES = 3;
-    private static final int TWO_DECIMAL_PLACES = 2;
+    private static final int COST_ALLOWED_INTEGER_PLACES = 12;
     static final String REGEX_WHITESPACES_DELIMITER = "\\s+";
-    private static final String REGEX_NUMERIC_VALUE = "[0-9.-]+";
     private static final String REGEX_PRINTABLE_ASCII_ONLY = "\\A[ -~]*\\z";
     static final int INVALID_INDEX_INDICATOR = -1;
     public static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+    private static final Pattern RELATIVE_DATE_ARGUMENT =
+            Pattern.compile("(?i)(" + DATE_DELIMITER + "\\s+)" + LOCALDATE_TODAY_INDICATOR + "(?=\\s|$)");
 
     // SUPPORTING METHODS
     /**
      * Returns a String object that represents an argument in the command that follows a specified delimiter.
      * 
-     * @param commandArgs A String object containing the arguments portion of the entire command input from the user. 
-     * @param delimiter   A String object that represents a demarcation of a specific argument in the command.
+     * @param arguments An ArgumentTable object of the arguments portion of the entire command input from the user.
+     * @param delimiter A String object that represents a demarcation of a specific argument in the command.
      * @return A String object that represents an argument demarcated by the specified delimiter in the command.
      * @throws InvalidFormatException If the specified delimiter is not found in the arguments of the command, or
      *                                if a specified delimiter is found but no argument follows the delimiter.
      */
-    static String getArgumentFromDelimiter(String commandArgs, String delimiter) throws InvalidFormatException {
-        assert commandArgs != null : Message.ASSERT_PARSER_COMMAND_ARGUMENTS_NULL;
+    static String getArgumentFromDelimiter(ArgumentTable arguments, String delimiter) throws InvalidFormatException {
+        assert arguments != null : Message.ASSERT_PARSER_COMMAND_ARGUMENTS_NULL;
         assert delimiter != null : Message.ASSERT_PARSER_DELIMITER_NULL;
         
-        int delimiterIndex = commandArgs.toLowerCase().indexOf(delimiter);
-        if (delimiterIndex == INVALID_INDEX_INDICATOR) {
-            throw new InvalidFormatException(ParserErrors.getMissingDelimiterErrorMessage(delimiter));
-        }
-        int argumentIndex = delimiterIndex + delimiter.length();
-        int endingIndex = commandArgs.indexOf(NEXT_DELIMITER_INDICATOR, argumentIndex);
-        String output;
-        if (endingIndex == INVALID_INDEX_INDICATOR) {
-            output = commandArgs.substring(argumentIndex).trim();
-        } else {
-            output = commandArgs.substring(argumentIndex, endingIndex).trim();
-        }
-
-        if (output.isEmpty()) {
-            throw new InvalidFormatException(ParserErrors.getMissingArgumentErrorMessage(delimiter));
-        }
-        return output;
+        return arguments.getArgument(delimiter.toLowerCase(Locale.ROOT));
     }
 
     /**
@@ -137,97 +116,13 @@ public class ParserUtils {
         return idVal;
     }
 
-    /**
-     * Extracts a real number from an input string.
-     * 
-     * @param input A String object that represents a numeric value.
-     * @return A double represented by the input String object.
-     * @throws NumberFormatException If the provided input String object contains characters that are either
-     *                               non-numeric, not a decimal point or not a negative sign, or
-     *                               if the provided input String object cannot be parsed as a double.
-     */
-    private static double parseDoubleFromString(String input) throws NumberFormatException {
-        assert input != null : Message.ASSERT_PARSER_TOKEN_INPUT_NULL;
-        
-        if (!input.matches(REGEX_NUMERIC_VALUE)) {
-            throw new NumberFormatException();
-        }
-        return Double.parseDouble(input);
-    }
-
-    /**
-     * Checks if the given String object representing a real number has at most two decimal places.
-     * 
-     * @param input A String object representing a real number.
-     * @return true if the String object can be parsed as a double and 
-     *         represents a real number has at most two decimal places,
-     *         false otherwise.
-     */
-    private static boolean hasAtMostTwoDecimalPlaces(String input) {
-        assert input != null : Message.ASSERT_PARSER_TOKEN_INPUT_NULL;
-        
-        try {
-            double value = parseDoubleFromString(input);
-        } catch (NumberFormatException exception) {
-            return false;
-        }
-        
-        int indexOfDecimal = input.indexOf('.');
-        if (indexOfDecimal == INVALID_INDEX_INDICATOR) {
-            return true;
-        }
-        int decimalPlaces = input.length() - indexOfDecimal - ZERO_INDEXING_OFFSET;
-        return decimalPlaces <= TWO_DECIMAL_PLACES;
-    }
-
-    /**
-     * Checks if the given String object representing a real number has less than
-     * a specified number of digits before decimal point.
-     *
-     * @param input  A String object representing a real number.
-     * @param places An integer representing the maximum number of digits that the input value
-     *               should have before the decimal point.
-     * @return true if the String object can be parsed as a double and
-     *         represents a real number that has at most the specified number of digits before decimal point,
-     *         false otherwise.
-     */
-    private static boolean hasAtMostGivenIntegerPlaces(String input, int places) {
-        assert input != null : Message.ASSERT_PARSER_TOKEN_INPUT_NULL;
-        assert places >= 0 : Message.ASSERT_PARSER_PLACES_NEGATIVE;
-        
-        try {
-            double value = parseDoubleFromString(input);
-        } catch (NumberFormatException exception) {
-            return false;
-        }
-
-        int numberChars = input.length();
-        int indexOfDecimal = input.indexOf('.');
-        if (indexOfDecimal == INVALID_INDEX_INDICATOR) {
-            return numberChars <= places;
-        }
-        return indexOfDecimal <= places;
-    }
-
-    /**
-     * Checks if the given String object representing a monetary value has at most twelve digits before decimal point.
-     *
-     * @param input A String object representing a monetary value.
-     * @return true if the String object can be parsed as a double and
-     *         represents a monetary value that has at most twelve digits before decimal point,
-     *         false otherwise.
-     */
-    private static boolean hasAtMostTwelveIntegerPlaces(String input) {
-        return hasAtMostGivenIntegerPlaces(input, 12);
-    }
-
     /**
      * Extracts a cost value from an input string.
      *
      * @param input     A String object that contains numeric characters or a single decimal point character,
      *                  representing a cost value.
      * @param delimiter A String object that represents a demarcation of a specific argument in the command.
-     * @return A double representing a cost value.
+     * @return A Money object representing a cost value.
      * @throws InvalidFormatException If the provided input String object contains characters other than numeric
      *                                characters or a single decimal point character,
      *                                and cannot be parsed as a double,
@@ -235,27 +130,41 @@ public class ParserUtils {
      *                                if the parsed double has more than 2 decimal points, or
      *                                if the parsed double has more than 12 digits before the decimal point.
      */
-    static double parseCostFromString(String input, String delimiter) throws InvalidFormatException {
+    static Money parseCostFromString(String input, String delimiter) throws InvalidFormatException {
         assert input != null : Message.ASSERT_PARSER_TOKEN_INPUT_NULL;
         assert delimiter != null : Message.ASSERT_PARSER_DELIMITER_NULL;
-        
-        double cost;
-        try {
-            cost = parseDoubleFromString(input);
-        } catch (NumberFormatException exception) {
+
+        return parseCostFromString(input, 0, input.length(), delimiter);
+    }
+
+    /**
+     * Extracts a cost value from a range of characters in an input string, without creating a String object
+     * for the range.
+     *
+     * @param input     A String object that contains the characters representing a cost value.
+     * @param start     An integer that represents the index of the first character of the cost value.
+     * @param end       An integer that represents the index after the last character of the cost value.
+     * @param delimiter A String object that represents a demarcation of a specific argument in the command.
+     * @return A Money object representing a cost value.
+     * @throws InvalidFormatException If the range cannot be parsed as a cost value, as described in
+     *                                ParserUtils#parseCostFromString(String, String).
+     */
+    private static Money parseCostFromString(String input, int start, int end, String delimiter)
+            throws InvalidFormatException {
+        long cents = InputScanner.scanHundredths(input, start, end, COST_ALLOWED_INTEGER_PLACES, false);
+        if (cents == InputScanner.NOT_A_NUMBER) {
             throw new InvalidFormatException(ParserErrors.getNonMonetaryErrorMessage(delimiter));
         }
-        
-        if (cost <= 0) {
+        if (cents == InputScanner.NEGATIVE || cents == InputScanner.ZERO) {
             throw new InvalidFormatException(Message.ERROR_PARSER_COST_NOT_POSITIVE);
         }
-        if (!hasAtMostTwoDecimalPlaces(input)) {
+        if (cents == InputScanner.MORE_THAN_TWO_DECIMAL_PLACES) {
             throw new InvalidFormatException(Message.ERROR_PARSER_COST_NOT_TWO_DP);
         }
-        if (!hasAtMostTwelveIntegerPlaces(input)) {
+        if (cents == InputScanner.TOO_MANY_INTEGER_PLACES) {
             throw new InvalidFormatException(Message.ERROR_PARSER_COST_MORE_THAN_TWELVE_DIGITS_BEFORE_DP);
         }
-        return cost;
+        return Money.ofCents(cents);
     }
 
     /**
@@ -276,40 +185,37 @@ public class ParserUtils {
         assert input != null : Message.ASSERT_PARSER_TOKEN_INPUT_NULL;
         assert delimiter != null : Message.ASSERT_PARSER_DELIMITER_NULL;
 
-        double percentage;
-        try {
-            percentage = parseDoubleFromString(input);
-        } catch (NumberFormatException exception) {
+        long hundredths =
+                InputScanner.scanHundredths(input, 0, input.length(), PERCENTAGE_ALLOWED_INTEGER_PLACES, true);
+        if (hundredths == InputScanner.NOT_A_NUMBER) {
             throw new InvalidFormatException(ParserErrors.getNonPercentageErrorMessage(delimiter));
         }
-
-        if (percentage < 0) {
+        if (hundredths == InputScanner.NEGATIVE) {
             throw new InvalidFormatException(Message.ERROR_PARSER_PERCENTAGE_NEGATIVE);
         }
-        if (!hasAtMostTwoDecimalPlaces(input)) {
+        if (hundredths == InputScanner.MORE_THAN_TWO_DECIMAL_PLACES) {
             throw new InvalidFormatException(Message.ERROR_PARSER_PERCENTAGE_NOT_TWO_DP);
         }
-        if (!hasAtMostGivenIntegerPlaces(input, PERCENTAGE_ALLOWED_INTEGER_PLACES)) {
+        if (hundredths == InputScanner.TOO_MANY_INTEGER_PLACES) {
             throw new InvalidFormatException(Message.ERROR_PARSER_PERCENTAGE_MORE_THAN_THREE_DIGITS_BEFORE_DP);
         }
-        return percentage;
+        return InputScanner.hundredthsToDouble(hundredths);
     }
 
     /**
-     * Checks the provided String object which represents the command arguments for the existence of a specified
-     * delimiter.
+     * Checks the provided ArgumentTable object which represents the command arguments for the existence of
+     * a specified delimiter.
      * 
-     * @param commandArgs A String object containing the arguments portion of the entire command input from the user.
-     * @param delimiter   A String object that represents a demarcation of a specific argument in the command.
-     * @return true if the String object representing the command arguments contains the specified delimiter,
+     * @param arguments An ArgumentTable object of the arguments portion of the entire command input from the user.
+     * @param delimiter A String object that represents a demarcation of a specific argument in the command.
+     * @return true if the ArgumentTable object representing the command arguments contains the specified delimiter,
      *         false otherwise.
      */
-    static boolean hasDelimiter(String commandArgs, String delimiter) {
-        assert commandArgs != null : Message.ASSERT_PARSER_COMMAND_ARGUMENTS_NULL;
+    static boolean hasDelimiter(ArgumentTable arguments, String delimiter) {
+        assert arguments != null : Message.ASSERT_PARSER_COMMAND_ARGUMENTS_NULL;
         assert delimiter != null : Message.ASSERT_PARSER_DELIMITER_NULL;
         
-        int delimiterIndex = commandArgs.indexOf(delimiter);
-        return delimiterIndex != INVALID_INDEX_INDICATOR;
+        return arguments.hasDelimiter(delimiter.toLowerCase(Locale.ROOT));
     }
 
     /**
@@ -324,7 +230,7 @@ public class ParserUtils {
     private static boolean isValidDelimiter(String token) {
         assert token != null : Message.ASSERT_PARSER_TOKEN_INPUT_NULL;
         
-        switch (token.toLowerCase()) {
+        switch (token.toLowerCase(Locale.ROOT)) {
         case NAME_DELIMITER:
             // Fallthrough
         case PERSON_LIST_DELIMITER:
@@ -348,6 +254,12 @@ public class ParserUtils {
         case GST_DELIMITER:
             // Fallthrough
         case SERVICE_CHARGE_DELIMITER:
+            // Fallthrough
+        case SETTLEMENT_STRATEGY_DELIMITER:
+            // Fallthrough
+        case FILE_DELIMITER:
+            // Fallthrough
+        case EXPORT_FORMAT_DELIMITER:
             return true;
         default:
             return false;
@@ -355,20 +267,19 @@ public class ParserUtils {
     }
 
     /**
-     * Checks whether the provided String object which represents the command arguments contains any invalid
+     * Checks whether the provided ArgumentTable object which represents the command arguments contains any invalid
      * delimiters.
      * 
-     * @param commandArgs A String object containing the arguments portion of the entire command input from the user.
+     * @param arguments An ArgumentTable object of the arguments portion of the entire command input from the user.
      * @return true if there are tokens in the command arguments that contains a forward slash character ('/') but is
      *         not a valid delimiter used in any commands in SplitLah,
      *         false otherwise.
      */
-    private static boolean containsInvalidDelimiters(String commandArgs) {
-        assert commandArgs != null : Message.ASSERT_PARSER_TOKEN_INPUT_NULL;
+    private static boolean containsInvalidDelimiters(ArgumentTable arguments) {
+        assert arguments != null : Message.ASSERT_PARSER_TOKEN_INPUT_NULL;
         
-        String[] argumentTokens = commandArgs.split(REGEX_WHITESPACES_DELIMITER);
-        for (String token : argumentTokens) {
-            if (token.contains(DELIMITER_INDICATOR) && !isValidDelimiter(token)) {
+        for (String token : arguments.getDelimiterTokens()) {
+            if (!isValidDelimiter(token)) {
                 return true;
             }
         }
@@ -376,25 +287,18 @@ public class ParserUtils {
     }
 
     /**
-     * Checks whether the provided String object which represents the command arguments contains any duplicate
-     * delimiters.
+     * Checks whether the provided ArgumentTable object which represents the command arguments contains any
+     * duplicate delimiters.
      * 
-     * @param commandArgs A String object containing the arguments portion of the entire command input from the user.
+     * @param arguments An ArgumentTable object of the arguments portion of the entire command input from the user.
      * @return true if there are tokens in the command arguments containing a forward slash character ('/') that
      *         appears twice or more times in the arguments,
      *         false otherwise.
      */
-    private static boolean containsDuplicateDelimiters(String commandArgs) {
-        assert commandArgs != null : Message.ASSERT_PARSER_COMMAND_ARGUMENTS_NULL;
+    private static boolean containsDuplicateDelimiters(ArgumentTable arguments) {
+        assert arguments != null : Message.ASSERT_PARSER_COMMAND_ARGUMENTS_NULL;
 
-        Set<String> delimiterSet = new HashSet<>();
-        String[] argumentTokens = commandArgs.split(REGEX_WHITESPACES_DELIMITER);
-        for (String token : argumentTokens) {
-            if (token.contains(DELIMITER_INDICATOR) && !delimiterSet.add(token)) {
-                return true;
-            }
-        }
-        return false;
+        return arguments.hasDuplicateDelimiters();
     }
 
     /**
@@ -418,69 +322,25 @@ public class ParserUtils {
     }
 
     /**
-     * Checks whether any delimiter inside the provided String object which represents the command arguments does not
-     * belong to the command type specified by the String object which represents the command type.
+     * Checks whether any delimiter inside the provided ArgumentTable object which represents the command arguments
+     * does not belong to the command type specified by the String object which represents the command type.
      * 
-     * @param commandType   A String object representing the command type of the command input from the user.
-     * @param remainingArgs A String object containing the arguments portion of the entire command input from the user.
-     * @return true if any delimiter inside remainingArgs do not belong to command type as represented by commandType,
+     * @param commandType A String object representing the command type of the command input from the user.
+     * @param arguments   An ArgumentTable object of the arguments portion of the entire command input from the user.
+     * @return true if any delimiter inside the arguments do not belong to command type as represented by commandType,
      *         false otherwise.
      */
-    private static boolean containsDelimitersNotFromCommand(String commandType, String remainingArgs) {
+    private static boolean containsDelimitersNotFromCommand(String commandType, ArgumentTable arguments) {
         assert commandType != null : Message.ASSERT_PARSER_COMMAND_TYPE_NULL;
-        assert remainingArgs != null : Message.ASSERT_PARSER_COMMAND_ARGUMENTS_NULL;
+        assert arguments != null : Message.ASSERT_PARSER_COMMAND_ARGUMENTS_NULL;
         
-        String[] delimiterList;
-        switch (commandType.toLowerCase()) {
-        case ActivityCreateCommandParser.COMMAND_TEXT:
-            delimiterList = ActivityCreateCommandParser.COMMAND_DELIMITERS;
-            break;
-        case ActivityDeleteCommandParser.COMMAND_TEXT:
-            delimiterList = ActivityDeleteCommandParser.COMMAND_DELIMITERS;
-            break;
-        case ActivityEditCommandParser.COMMAND_TEXT:
-            delimiterList = ActivityEditCommandParser.COMMAND_DELIMITERS;
-            break;
-        case ActivityListCommandParser.COMMAND_TEXT:
-            delimiterList = ActivityListCommandParser.COMMAND_DELIMITERS;
-            break;
-        case ActivityViewCommandParser.COMMAND_TEXT:
-            delimiterList = ActivityViewCommandParser.COMMAND_DELIMITERS;
-            break;
-        case SessionCreateCommandParser.COMMAND_TEXT:
-            delimiterList = SessionCreateCommandParser.COMMAND_DELIMITERS;
-            break;
-        case SessionDeleteCommandParser.COMMAND_TEXT:
-            delimiterList = SessionDeleteCommandParser.COMMAND_DELIMITERS;
-            break;
-        case SessionEditCommandParser.COMMAND_TEXT:
-            delimiterList = SessionEditCommandParser.COMMAND_DELIMITERS;
-            break;
-        case SessionViewCommandParser.COMMAND_TEXT:
-            delimiterList = SessionViewCommandParser.COMMAND_DELIMITERS;
-            break;
-        case SessionSummaryCommandParser.COMMAND_TEXT:
-            delimiterList = SessionSummaryCommandParser.COMMAND_DELIMITERS;
-            break;
-        case GroupCreateCommandParser.COMMAND_TEXT:
-            delimiterList = GroupCreateCommandParser.COMMAND_DELIMITERS;
-            break;
-        case GroupDeleteCommandParser.COMMAND_TEXT:
-            delimiterList = GroupDeleteCommandParser.COMMAND_DELIMITERS;
-            break;
-        case GroupEditCommandParser.COMMAND_TEXT:
-            delimiterList = GroupEditCommandParser.COMMAND_DELIMITERS;
-            break;
-        case GroupViewCommandParser.COMMAND_TEXT:
-            delimiterList = GroupViewCommandParser.COMMAND_DELIMITERS;
-            break;
-        default:
-            return !remainingArgs.isEmpty();
+        String[] delimiterList = CommandRegistry.getDelimiters(commandType);
+        if (delimiterList == null) {
+            return !arguments.getCommandArgs().isEmpty();
         }
 
-        String[] argumentTokens = remainingArgs.split(REGEX_WHITESPACES_DELIMITER);
-        for (String token : argumentTokens) {
-            if (token.contains(DELIMITER_INDICATOR) && !hasStringInStringArray(token.toLowerCase(), delimiterList)) {
+        for (String token : arguments.getDelimiterTokens()) {
+            if (!hasStringInStringArray(token, delimiterList)) {
                 return true;
             }
         }
@@ -498,70 +358,31 @@ public class ParserUtils {
     private static boolean isValidCommandType(String commandType) {
         assert commandType != null : Message.ASSERT_PARSER_COMMAND_TYPE_NULL;
         
-        switch (commandType.toLowerCase()) {
-        case SessionCreateCommandParser.COMMAND_TEXT:
-            // Fallthrough
-        case SessionDeleteCommandParser.COMMAND_TEXT:
-            // Fallthrough
-        case SessionEditCommandParser.COMMAND_TEXT:
-            // Fallthrough
-        case SessionSummaryCommandParser.COMMAND_TEXT:
-            // Fallthrough
-        case SessionListCommandParser.COMMAND_TEXT:
-            // Fallthrough
-        case SessionViewCommandParser.COMMAND_TEXT:
-            // Fallthrough
-        case ActivityCreateCommandParser.COMMAND_TEXT:
-            // Fallthrough
-        case ActivityDeleteCommandParser.COMMAND_TEXT:
-            // Fallthrough
-        case ActivityEditCommandParser.COMMAND_TEXT:
-            // Fallthrough
-        case ActivityListCommandParser.COMMAND_TEXT:
-            // Fallthrough
-        case ActivityViewCommandParser.COMMAND_TEXT:
-            // Fallthrough
-        case GroupCreateCommandParser.COMMAND_TEXT:
-            // Fallthrough
-        case GroupDeleteCommandParser.COMMAND_TEXT:
-            // Fallthrough
-        case GroupEditCommandParser.COMMAND_TEXT:
-            // Fallthrough
-        case GroupListCommandParser.COMMAND_TEXT:
-            // Fallthrough
-        case GroupViewCommandParser.COMMAND_TEXT:
-            // Fallthrough
-        case HelpCommandParser.COMMAND_TEXT:
-            // Fallthrough
-        case ExitCommandParser.COMMAND_TEXT:
-            // Fallthrough
-            return true;
-        default:
-            return false;
-        }
+        return CommandRegistry.getParser(commandType) != null;
     }
 
     /**
      * Returns a String object that represents a corresponding error message for the first error check to be failed,
      * when checking for validity of arguments for a specified command.
      * 
-     * @param commandType   A String object representing the command type of the command input from the user.
-     * @param remainingArgs A String object containing the arguments portion of the entire command input from the user.
+     * @param commandType A String object representing the command type of the command input from the user.
+     * @param arguments   An ArgumentTable object of the arguments portion of the entire command input from the user.
      * @return A String object with the first error check to be failed, if any, or
-     *         an empty String object if remainingArgs is empty or if none of the error checks fail.
+     *         an empty String object if the arguments are empty or if none of the error checks fail.
      */
-    static String checkIfArgumentsValidForCommand(String commandType, String remainingArgs) {
+    static String checkIfArgumentsValidForCommand(String commandType, ArgumentTable arguments) {
         assert commandType != null : Message.ASSERT_PARSER_COMMAND_TYPE_NULL;
-        assert remainingArgs != null : Message.ASSERT_PARSER_COMMAND_ARGUMENTS_NULL;
+        assert arguments != null : Message.ASSERT_PARSER_COMMAND_ARGUMENTS_NULL;
         
+        String remainingArgs = arguments.getCommandArgs();
         if (remainingArgs.isEmpty()) {
             return "";
         } else if (!remainingArgs.startsWith(DELIMITER_INDICATOR)) {
             return Message.ERROR_PARSER_ADDITIONAL_INVALID_TOKEN;
-        } else if (containsInvalidDelimiters(remainingArgs)
-                || containsDelimitersNotFromCommand(commandType, remainingArgs)) {
+        } else if (containsInvalidDelimiters(arguments)
+                || containsDelimitersNotFromCommand(commandType, arguments)) {
             return Message.ERROR_PARSER_INVALID_DELIMITERS;
-        } else if (containsDuplicateDelimiters(remainingArgs)) {
+        } else if (containsDuplicateDelimiters(arguments)) {
             return Message.ERROR_PARSER_DUPLICATE_DELIMITERS;
         } else {
             return "";
@@ -572,14 +393,14 @@ public class ParserUtils {
      * Returns a String object that represents a corresponding error message for the first error check to be failed,
      * when checking for validity of the command type followed by the validity of the command arguments.
      * 
-     * @param commandType   A String object representing the command type of the command input from the user.
-     * @param remainingArgs A String object containing the arguments portion of the entire command input from the user.
+     * @param commandType A String object representing the command type of the command input from the user.
+     * @param arguments   An ArgumentTable object of the arguments portion of the entire command input from the user.
      * @return A String object with the first error check to be failed, if any, or
-     *         an empty String object if remainingArgs is empty or if none of the error checks fail.
+     *         an empty String object if the arguments are empty or if none of the error checks fail.
      */
-    public static String checkIfCommandIsValid(String commandType, String remainingArgs) {
+    public static String checkIfCommandIsValid(String commandType, ArgumentTable arguments) {
         assert commandType != null : Message.ASSERT_PARSER_COMMAND_TYPE_NULL;
-        assert remainingArgs != null : Message.ASSERT_PARSER_COMMAND_ARGUMENTS_NULL;
+        assert arguments != null : Message.ASSERT_PARSER_COMMAND_ARGUMENTS_NULL;
 
         if (commandType.isEmpty()) {
             return Message.ERROR_PARSER_EMPTY_COMMAND;
@@ -589,65 +410,107 @@ public class ParserUtils {
             return Message.ERROR_PARSER_INVALID_COMMAND;
         }
         
+        String remainingArgs = arguments.getCommandArgs();
         if (!commandType.matches(REGEX_PRINTABLE_ASCII_ONLY) || !remainingArgs.matches(REGEX_PRINTABLE_ASCII_ONLY)) {
             return Message.ERROR_PARSER_NON_ASCII_ARGUMENT;
         }
         
-        return checkIfArgumentsValidForCommand(commandType, remainingArgs);
+        return checkIfArgumentsValidForCommand(commandType, arguments);
+    }
+
+    /**
+     * Returns a String object that represents a corresponding error message if an argument read from somewhere
+     * other than a command input could not have been entered as part of one, as it contains characters that are not
+     * printable ASCII characters, or a token with a forward slash character ('/') that would be read as a delimiter.
+     *
+     * @param argument A String object that represents a single argument, such as a field of a CSV file.
+     * @return A String object with the first error check to be failed, if any, or
+     *         an empty String object if none of the error checks fail.
+     */
+    static String checkIfArgumentIsValid(String argument) {
+        assert argument != null : Message.ASSERT_PARSER_COMMAND_ARGUMENTS_NULL;
+
+        if (!argument.matches(REGEX_PRINTABLE_ASCII_ONLY)) {
+            return Message.ERROR_PARSER_NON_ASCII_ARGUMENT;
+        } else if (argument.contains(DELIMITER_INDICATOR)) {
+            return Message.ERROR_PARSER_INVALID_DELIMITERS;
+        } else {
+            return "";
+        }
+    }
+
+    /**
+     * Returns the command input from the user with any relative date argument replaced by the date it refers to,
+     * so that the command produces the same result when it is run again on a later date.<br>
+     * E.g. Returns "session /create /n Lunch /d 11-03-2022 /pl Warren Ivan Roy" where
+     *      commandInput = "session /create /n Lunch /d today /pl Warren Ivan Roy" on 11 March 2022
+     *
+     * @param commandInput A String object that contains the entire command input provided by the user.
+     * @return A String object containing the command input with an absolute date argument.
+     */
+    public static String getInputWithAbsoluteDate(String commandInput) {
+        assert commandInput != null : Message.ASSERT_PARSER_COMMAND_ARGUMENTS_NULL;
+
+        Matcher matcher = RELATIVE_DATE_ARGUMENT.matcher(commandInput);
+        if (!matcher.find()) {
+            return commandInput;
+        }
+        String today = LocalDate.now().format(DATE_FORMAT);
+        return matcher.replaceAll("$1" + today);
     }
 
     // MAIN PUBLIC PARSING METHODS
     /**
      * Extracts a name from a user input.
      *
-     * @param commandArgs A String object containing the arguments portion of the entire command input from the user.
+     * @param arguments An ArgumentTable object of the arguments portion of the entire command input from the user.
      * @return A String object that represents a name.
      * @throws InvalidFormatException If the Name delimiter is not found in the command arguments, or
      *                                if no arguments representing a name were provided after the Name delimiter.
      */
-    public static String parseName(String commandArgs) throws InvalidFormatException {
-        return getArgumentFromDelimiter(commandArgs, NAME_DELIMITER);
+    public static String parseName(ArgumentTable arguments) throws InvalidFormatException {
+        return getArgumentFromDelimiter(arguments, NAME_DELIMITER);
     }
 
     /**
      * Extracts a list of names of participants in a session or a group from a user input.
      *
-     * @param commandArgs A String object containing the arguments portion of the entire command input from the user.
+     * @param arguments An ArgumentTable object of the arguments portion of the entire command input from the user.
      * @return A String array object that represents a list of names.
      * @throws InvalidFormatException If the Person list delimiter is not found in the command arguments, or
      *                                if no arguments representing a list of names were provided after the
      *                                Person list delimiter.
      */
-    public static String[] parsePersonList(String commandArgs) throws InvalidFormatException {
-        String argument = getArgumentFromDelimiter(commandArgs, PERSON_LIST_DELIMITER);
+    public static String[] parsePersonList(ArgumentTable arguments) throws InvalidFormatException {
+        String argument = getArgumentFromDelimiter(arguments, PERSON_LIST_DELIMITER);
         return argument.split(REGEX_WHITESPACES_DELIMITER);
     }
 
     /**
      * Extracts a list of names of involved persons in an activity from a user input.
      *
-     * @param commandArgs A String object containing the arguments portion of the entire command input from the user.
+     * @param arguments An ArgumentTable object of the arguments portion of the entire command input from the user.
      * @return A String array object that represents a list of names of involved persons.
      * @throws InvalidFormatException If the Involved delimiter is not found in the command arguments, or
      *                                if no arguments representing a list of names were provided after the
      *                                Involved delimiter.
      */
-    public static String[] parseInvolved(String commandArgs) throws InvalidFormatException {
-        String argument = getArgumentFromDelimiter(commandArgs, INVOLVED_DELIMITER);
+    public static String[] parseInvolved(ArgumentTable arguments) throws InvalidFormatException {
+        String argument = getArgumentFromDelimiter(arguments, INVOLVED_DELIMITER);
         return argument.split(REGEX_WHITESPACES_DELIMITER);
     }
 
     /**
      * Extracts a name of a payer from a user input.
      *
-     * @param commandArgs A String object containing the arguments portion of the entire command input from the user.
+     * @param arguments An ArgumentTable object of the arguments portion of the entire command input from the user.
      * @return A String object that represents a name of a payer.
      * @throws InvalidFormatException If the Payer delimiter is not found in the command arguments,
      *                                if no arguments representing a name were provided after the Payer delimiter, or
      *                                if the argument contains more than a single name.
      */
-    public static String parsePayer(String commandArgs) throws InvalidFormatException {
-        String payer = getArgumentFromDelimiter(commandArgs, PAYER_DELIMITER);
+    public static String parsePayer(ArgumentTable arguments) throws InvalidFormatException {
+        String payer = getArgumentFromDelimiter(arguments, PAYER_DELIMITER);
         if (payer.indexOf(' ') != INVALID_INDEX_INDICATOR) {
             throw new InvalidFormatException(Message.ERROR_PARSER_MORE_THAN_ONE_PAYER);
         }
@@ -657,7 +520,7 @@ public class ParserUtils {
     /**
      * Extracts a session unique identifier from a user input.
      *
-     * @param commandArgs A String object containing the arguments portion of the entire command input from the user.
+     * @param arguments An ArgumentTable object of the arguments portion of the entire command input from the user.
      * @return An integer that represents a session unique identifier.
      * @throws InvalidFormatException If the Session ID delimiter is not found in the command arguments,
      *                                if no arguments representing a session unique identifier were provided after the
@@ -665,15 +528,15 @@ public class ParserUtils {
      *                                if the parsed argument cannot be parsed as an integer, or
      *                                if the integer parsed from the argument is not a positive integer.
      */
-    public static int parseSessionId(String commandArgs) throws InvalidFormatException {
-        String argument = getArgumentFromDelimiter(commandArgs, SESSION_ID_DELIMITER);
+    public static int parseSessionId(ArgumentTable arguments) throws InvalidFormatException {
+        String argument = getArgumentFromDelimiter(arguments, SESSION_ID_DELIMITER);
         return parseIdFromString(argument, SESSION_ID_DELIMITER);
     }
 
     /**
      * Extracts an activity unique identifier from a user input.
      *
-     * @param commandArgs A String object containing the arguments portion of the entire command input from the user.
+     * @param arguments An ArgumentTable object of the arguments portion of the entire command input from the user.
      * @return An integer that represents an activity unique identifier.
      * @throws InvalidFormatException If the Activity ID delimiter is not found in the command arguments,
      *                                if no arguments representing an activity unique identifier were provided after
@@ -681,15 +544,15 @@ public class ParserUtils {
      *                                if the parsed argument cannot be parsed as an integer, or
      *                                if the integer parsed from the argument is not a positive integer.
      */
-    public static int parseActivityId(String commandArgs) throws InvalidFormatException {
-        String argument = getArgumentFromDelimiter(commandArgs, ACTIVITY_ID_DELIMITER);
+    public static int parseActivityId(ArgumentTable arguments) throws InvalidFormatException {
+        String argument = getArgumentFromDelimiter(arguments, ACTIVITY_ID_DELIMITER);
         return parseIdFromString(argument, ACTIVITY_ID_DELIMITER);
     }
 
     /**
      * Extracts a group unique identifier from a user input.
      *
-     * @param commandArgs A String object containing the arguments portion of the entire command input from the user.
+     * @param arguments An ArgumentTable object of the arguments portion of the entire command input from the user.
      * @return An integer that represents a group unique identifier.
      * @throws InvalidFormatException If the Group ID delimiter is not found in the command arguments,
      *                                if no arguments representing a group unique identifier were provided after
@@ -697,15 +560,15 @@ public class ParserUtils {
      *                                if the parsed argument cannot be parsed as an integer, or
      *                                if the integer parsed from the argument is not a positive integer.
      */
-    public static int parseGroupId(String commandArgs) throws InvalidFormatException {
-        String argument = getArgumentFromDelimiter(commandArgs, GROUP_ID_DELIMITER);
+    public static int parseGroupId(ArgumentTable arguments) throws InvalidFormatException {
+        String argument = getArgumentFromDelimiter(arguments, GROUP_ID_DELIMITER);
         return parseIdFromString(argument, GROUP_ID_DELIMITER);
     }
 
     /**
      * Extracts a date from a user input.
      *
-     * @param commandArgs A String object containing the arguments portion of the entire command input from the user.
+     * @param arguments An ArgumentTable object of the arguments portion of the entire command input from the user.
      * @return A LocalDate object that represents a date specified by the argument in the format of 'DD-MM-YYYY' or
      *         the current date if the argument following the Date delimiter indicates "today".
      * @throws InvalidFormatException If the Date delimiter is not found in the command arguments,
@@ -714,12 +577,12 @@ public class ParserUtils {
      *                                if the argument provided does not indicate "today" nor follow the date format of
      *                                'DD-MM-YYYY'.
      */
-    public static LocalDate parseLocalDate(String commandArgs) throws InvalidFormatException {
-        if (!hasDelimiter(commandArgs, DATE_DELIMITER)) {
+    public static LocalDate parseLocalDate(ArgumentTable arguments) throws InvalidFormatException {
+        if (!hasDelimiter(arguments, DATE_DELIMITER)) {
             throw new InvalidFormatException(ParserErrors.getMissingDelimiterErrorMessage(DATE_DELIMITER));
         }
 
-        String argument = getArgumentFromDelimiter(commandArgs, DATE_DELIMITER);
+        String argument = getArgumentFromDelimiter(arguments, DATE_DELIMITER);
         if (argument.equalsIgnoreCase(LOCALDATE_TODAY_INDICATOR)) {
             return LocalDate.now();
         }
@@ -734,8 +597,8 @@ public class ParserUtils {
     /**
      * Extracts a total cost of an activity from a user input.
      *
-     * @param commandArgs A String object containing the arguments portion of the entire command input from the user.
-     * @return A double that represents a single total cost.
+     * @param arguments An ArgumentTable object of the arguments portion of the entire command input from the user.
+     * @return A Money object that represents a single total cost.
      * @throws InvalidFormatException If the Total cost delimiter is not found in the command arguments,
      *                                if no arguments representing a total cost were provided after the
      *                                Total cost delimiter,
@@ -744,16 +607,16 @@ public class ParserUtils {
      *                                if the parsed cost value has more than 2 decimal points, or
      *                                if the parsed cost value has more than 12 digits before the decimal point.
      */
-    public static double parseTotalCost(String commandArgs) throws InvalidFormatException {
-        String argument = getArgumentFromDelimiter(commandArgs, TOTAL_COST_DELIMITER);
+    public static Money parseTotalCost(ArgumentTable arguments) throws InvalidFormatException {
+        String argument = getArgumentFromDelimiter(arguments, TOTAL_COST_DELIMITER);
         return parseCostFromString(argument, TOTAL_COST_DELIMITER);
     }
 
     /**
      * Extracts a list of costs for an activity from a user input.
      *
-     * @param commandArgs A String object containing the arguments portion of the entire command input from the user.
-     * @return A double array object that represents a list of cost values.
+     * @param arguments An ArgumentTable object of the arguments portion of the entire command input from the user.
+     * @return A Money array object that represents a list of cost values.
      * @throws InvalidFormatException If the Cost list delimiter is not found in the command arguments,
      *                                if no arguments representing a list of cost values were provided after the
      *                                Cost list delimiter,
@@ -762,20 +625,42 @@ public class ParserUtils {
      *                                if any parsed cost value has more than 2 decimal points, or
      *                                if any parsed cost value has more than 12 digits before the decimal point.
      */
-    public static double[] parseCostList(String commandArgs) throws InvalidFormatException {
-        String argument = getArgumentFromDelimiter(commandArgs, COST_LIST_DELIMITER);
-        String[] costStrings = argument.split(REGEX_WHITESPACES_DELIMITER);
-        double[] costs = new double[costStrings.length];
-        for (int i = 0; i < costStrings.length; i++) {
-            costs[i] = parseCostFromString(costStrings[i], COST_LIST_DELIMITER);
+    public static Money[] parseCostList(ArgumentTable arguments) throws InvalidFormatException {
+        String argument = getArgumentFromDelimiter(arguments, COST_LIST_DELIMITER);
+        return parseCostListFromString(argument);
+    }
+
+    /**
+     * Extracts a list of costs from an input string of cost values separated by whitespaces.
+     *
+     * @param argument A String object that contains cost values separated by whitespaces.
+     * @return A Money array object that represents a list of cost values.
+     * @throws InvalidFormatException If any token in the argument cannot be parsed as a cost value, as described in
+     *                                ParserUtils#parseCostFromString(String, String).
+     */
+    static Money[] parseCostListFromString(String argument) throws InvalidFormatException {
+        assert argument != null : Message.ASSERT_PARSER_TOKEN_INPUT_NULL;
+
+        ArrayList<Money> costs = new ArrayList<>();
+        int length = argument.length();
+        int index = 0;
+        while (index < length) {
+            int start = index;
+            while (index < length && !Character.isWhitespace(argument.charAt(index))) {
+                index += 1;
+            }
+            costs.add(parseCostFromString(argument, start, index, COST_LIST_DELIMITER));
+            while (index < length && Character.isWhitespace(argument.charAt(index))) {
+                index += 1;
+            }
         }
-        return costs;
+        return costs.toArray(new Money[0]);
     }
 
     /**
      * Extracts a GST percentage from a user input.
      *
-     * @param commandArgs A String object containing the arguments portion of the entire command input from the user.
+     * @param arguments An ArgumentTable object of the arguments portion of the entire command input from the user.
      * @return A double that represents a GST charge in percentage.
      * @throws InvalidFormatException If no arguments representing a GST charge were provided after the
      *                                GST delimiter,
@@ -784,12 +669,26 @@ public class ParserUtils {
      *                                if the parsed percentage has more than 3 digits before the decimal point, or
      *                                if the parsed percentage is not in [0, 100].
      */
-    public static double parseGst(String commandArgs) throws InvalidFormatException {
-        if (!hasDelimiter(commandArgs, GST_DELIMITER)) {
+    public static double parseGst(ArgumentTable arguments) throws InvalidFormatException {
+        if (!hasDelimiter(arguments, GST_DELIMITER)) {
             return 0;
         }
 
-        String argument = getArgumentFromDelimiter(commandArgs, GST_DELIMITER);
+        String argument = getArgumentFromDelimiter(arguments, GST_DELIMITER);
+        return parseGstFromString(argument);
+    }
+
+    /**
+     * Extracts a GST percentage from an input string.
+     *
+     * @param argument A String object that represents a GST charge in percentage.
+     * @return A double that represents a GST charge in percentage.
+     * @throws InvalidFormatException If the argument cannot be parsed as a double,
+     *                                if the parsed percentage has more than 2 decimal points,
+     *                                if the parsed percentage has more than 3 digits before the decimal point, or
+     *                                if the parsed percentage is not in [0, 100].
+     */
+    static double parseGstFromString(String argument) throws InvalidFormatException {
         double gst = parsePercentageFromString(argument, GST_DELIMITER);
         assert gst >= 0 : Message.ASSERT_PARSER_PERCENTAGE_NEGATIVE;
         if (gst > MAXIMUM_SURCHARGE_PERCENT) {
@@ -802,7 +701,7 @@ public class ParserUtils {
      * Extracts a GST percentage from a user input. This method can differentiate between no GST being provided
      * and a value of 0 GST being explicitly provided.
      *
-     * @param commandArgs A String object containing the arguments portion of the entire command input from the user.
+     * @param arguments An ArgumentTable object of the arguments portion of the entire command input from the user.
      * @return A double that represents a GST charge in percentage if the GST delimiter is found,
      *         a double value of -1 otherwise.
      * @throws InvalidFormatException If no arguments representing a GST charge were provided after the
@@ -812,12 +711,12 @@ public class ParserUtils {
      *                                if the parsed percentage has more than 3 digits before the decimal point, or
      *                                if the parsed percentage is not in [0, 100].
      */
-    public static double parseGstIncludingZero(String commandArgs) throws InvalidFormatException {
-        if (!ParserUtils.hasDelimiter(commandArgs, ParserUtils.GST_DELIMITER)) {
+    public static double parseGstIncludingZero(ArgumentTable arguments) throws InvalidFormatException {
+        if (!ParserUtils.hasDelimiter(arguments, ParserUtils.GST_DELIMITER)) {
             return -1;
         }
 
-        String argument = ParserUtils.getArgumentFromDelimiter(commandArgs, ParserUtils.GST_DELIMITER);
+        String argument = ParserUtils.getArgumentFromDelimiter(arguments, ParserUtils.GST_DELIMITER);
         double gst = ParserUtils.parsePercentageFromString(argument, ParserUtils.GST_DELIMITER);
         assert gst >= 0 : Message.ASSERT_PARSER_PERCENTAGE_NEGATIVE;
         if (gst > MAXIMUM_SURCHARGE_PERCENT) {
@@ -829,7 +728,7 @@ public class ParserUtils {
     /**
      * Extracts a service charge percentage from a user input.
      *
-     * @param commandArgs A String object containing the arguments portion of the entire command input from the user.
+     * @param arguments An ArgumentTable object of the arguments portion of the entire command input from the user.
      * @return A double that represents a service charge in percentage.
      * @throws InvalidFormatException If no arguments representing a service charge were provided after the
      *                                Service charge delimiter,
@@ -838,12 +737,26 @@ public class ParserUtils {
      *                                if the parsed percentage has more than 3 digits before the decimal point, or
      *                                if the parsed percentage is not in [0, 100].
      */
-    public static double parseServiceCharge(String commandArgs) throws InvalidFormatException {
-        if (!hasDelimiter(commandArgs, SERVICE_CHARGE_DELIMITER)) {
+    public static double parseServiceCharge(ArgumentTable arguments) throws InvalidFormatException {
+        if (!hasDelimiter(arguments, SERVICE_CHARGE_DELIMITER)) {
             return 0;
         }
 
-        String argument = getArgumentFromDelimiter(commandArgs, SERVICE_CHARGE_DELIMITER);
+        String argument = getArgumentFromDelimiter(arguments, SERVICE_CHARGE_DELIMITER);
+        return parseServiceChargeFromString(argument);
+    }
+
+    /**
+     * Extracts a service charge percentage from an input string.
+     *
+     * @param argument A String object that represents a service charge in percentage.
+     * @return A double that represents a service charge in percentage.
+     * @throws InvalidFormatException If the argument cannot be parsed as a double,
+     *                                if the parsed percentage has more than 2 decimal points,
+     *                                if the parsed percentage has more than 3 digits before the decimal point, or
+     *                                if the parsed percentage is not in [0, 100].
+     */
+    static double parseServiceChargeFromString(String argument) throws InvalidFormatException {
         double serviceCharge = parsePercentageFromString(argument, SERVICE_CHARGE_DELIMITER);
         assert serviceCharge >= 0 : Message.ASSERT_PARSER_PERCENTAGE_NEGATIVE;
         if (serviceCharge > MAXIMUM_SURCHARGE_PERCENT) {
@@ -856,7 +769,7 @@ public class ParserUtils {
      * Extracts a service charge percentage from a user input. This method can differentiate between no service charge
      * being provided and a value of 0 GST being explicitly provided.
      *
-     * @param commandArgs A String object containing the arguments portion of the entire command input from the user.
+     * @param arguments An ArgumentTable object of the arguments portion of the entire command input from the user.
      * @return A double that represents a service charge in percentage if the service charge delimiter is found,
      *         a double value of -1 otherwise.
      * @throws InvalidFormatException If no arguments representing a service charge were provided after the
@@ -866,12 +779,12 @@ public class ParserUtils {
      *                                if the parsed percentage has more than 3 digits before the decimal point, or
      *                                if the parsed percentage is not in [0, 100].
      */
-    public static double parseServiceChargeIncludingZero(String commandArgs) throws InvalidFormatException {
-        if (!ParserUtils.hasDelimiter(commandArgs, ParserUtils.SERVICE_CHARGE_DELIMITER)) {
+    public static double parseServiceChargeIncludingZero(ArgumentTable arguments) throws InvalidFormatException {
+        if (!ParserUtils.hasDelimiter(arguments, ParserUtils.SERVICE_CHARGE_DELIMITER)) {
             return -1;
         }
 
-        String argument = ParserUtils.getArgumentFromDelimiter(commandArgs, ParserUtils.SERVICE_CHARGE_DELIMITER);
+        String argument = ParserUtils.getArgumentFromDelimiter(arguments, ParserUtils.SERVICE_CHARGE_DELIMITER);
         double serviceCharge = ParserUtils.parsePercentageFromString(argument, ParserUtils.SERVICE_CHARGE_DELIMITER);
         assert serviceCharge >= 0 : Message.ASSERT_PARSER_PERCENTAGE_NEGATIVE;
         if (serviceCharge > MAXIMUM_SURCHARGE_PERCENT) {
@@ -879,4 +792,76 @@ public class ParserUtils {
         }
         return serviceCharge;
     }
+
+    /**
+     * Extracts a settlement strategy from a user input.
+     *
+     * @param arguments An ArgumentTable object of the arguments portion of the entire command input from the user.
+     * @return A SettlementStrategy object named by the argument following the Settlement strategy delimiter if the
+     *         delimiter is found, a GreedySettlementStrategy object otherwise.
+     * @throws InvalidFormatException If no arguments representing a settlement strategy were provided after the
+     *                                Settlement strategy delimiter, or
+     *                                if the argument does not name any settlement strategy.
+     */
+    public static SettlementStrategy parseSettlementStrategy(ArgumentTable arguments) throws InvalidFormatException {
+        if (!hasDelimiter(arguments, SETTLEMENT_STRATEGY_DELIMITER)) {
+            return new GreedySettlementStrategy();
+        }
+
+        String argument = getArgumentFromDelimiter(arguments, SETTLEMENT_STRATEGY_DELIMITER);
+        switch (argument.toLowerCase(Locale.ROOT)) {
+        case GreedySettlementStrategy.NAME:
+            return new GreedySettlementStrategy();
+        case MatchingSettlementStrategy.NAME:
+            return new MatchingSettlementStrategy();
+        default:
+            throw new InvalidFormatException(ParserErrors.getInvalidSettlementStrategyErrorMessage());
+        }
+    }
+
+    /**
+     * Extracts the name of an export format from a user input.
+     *
+     * @param arguments An ArgumentTable object of the arguments portion of the entire command input from the user.
+     * @return A String object that represents the name of the export format following the Export format delimiter
+     *         in lower case if the delimiter is found, the name of the CSV export format otherwise.
+     * @throws InvalidFormatException If no arguments representing an export format were provided after the
+     *                                Export format delimiter, or
+     *                                if the argument does not name any export format.
+     */
+    public static String parseExportFormat(ArgumentTable arguments) throws InvalidFormatException {
+        if (!hasDelimiter(arguments, EXPORT_FORMAT_DELIMITER)) {
+            return CsvExportWriter.NAME;
+        }
+
+        String argument = getArgumentFromDelimiter(arguments, EXPORT_FORMAT_DELIMITER).toLowerCase(Locale.ROOT);
+        switch (argument) {
+        case CsvExportWriter.NAME:
+            // Fallthrough
+        case JsonExportWriter.NAME:
+            return argument;
+        default:
+            throw new InvalidFormatException(ParserErrors.getInvalidExportFormatErrorMessage());
+        }
+    }
+
+    /**
+     * Extracts the path of a file from a user input.
+     *
+     * @param arguments An ArgumentTable object of the arguments portion of the entire command input from the user.
+     * @return A Path object that represents the path of a file, relative to the directory SplitLah is run from
+     *         unless it is an absolute path.
+     * @throws InvalidFormatException If the File delimiter is not found in the command arguments,
+     *                                if no arguments representing a file path were provided after the
+     *                                File delimiter, or
+     *                                if the argument is not a valid file path.
+     */
+    public static Path parseFilePath(ArgumentTable arguments) throws InvalidFormatException {
+        String argument = getArgumentFromDelimiter(arguments, FILE_DELIMITER);
+        try {
+            return Path.of(argument);
+        } catch (InvalidPathException exception) {
+            throw new InvalidFormatException(Message.ERROR_PARSER_INVALID_FILE_PATH + argument);
+        }
+    }
 }
@@ -1,7 +1,9 @@
 package seedu.splitlah.parser.commandparser;
 
 import seedu.splitlah.command.ActivityCreateCommand;
+import seedu.splitlah.data.Money;
 import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.parser.ArgumentTable;
 import seedu.splitlah.parser.ParserUtils;
 import seedu.splitlah.ui.Message;
 
@@ -35,53 +37,56 @@ public class ActivityCreateCommandParser implements CommandParser<ActivityCreate
         ParserUtils.SERVICE_CHARGE_DELIMITER
     };
 
-    private String[] involvedList;
-    private double totalCost = 0;
-    private double[] costList = null;
-
     /**
      * Returns a ActivityCreateCommand object after parsing the input arguments from the user.
      *
-     * @param commandArgs A String object representing arguments provided by the user.
+     * @param arguments An ArgumentTable object representing arguments provided by the user.
      * @return An ActivityCreateCommand object if all necessary parameters required are found in the input arguments.
      * @throws InvalidFormatException If at least one of the necessary parameters cannot be found
      *                                in the input arguments.
      */
     @Override
-    public ActivityCreateCommand getCommand(String commandArgs) throws InvalidFormatException {
+    public ActivityCreateCommand getCommand(ArgumentTable arguments) throws InvalidFormatException {
         int sessionId;
         String activityName;
         String payer;
+        String[] involvedList;
         double gst;
         double serviceCharge;
 
         try {
-            sessionId = ParserUtils.parseSessionId(commandArgs);
-            activityName = ParserUtils.parseName(commandArgs);
-            payer = ParserUtils.parsePayer(commandArgs);
-            involvedList = ParserUtils.parseInvolved(commandArgs);
+            sessionId = ParserUtils.parseSessionId(arguments);
+            activityName = ParserUtils.parseName(arguments);
+            payer = ParserUtils.parsePayer(arguments);
+            involvedList = ParserUtils.parseInvolved(arguments);
         } catch (InvalidFormatException e) {
             String invalidMessage = e.getMessage() + "\n" + COMMAND_FORMAT + COMMAND_FORMAT_FIRST + "\n\t"
                     + COMMAND_FORMAT_SECOND;
             throw new InvalidFormatException(invalidMessage);
         }
 
-        boolean hasCost = hasCost(commandArgs);
-        boolean hasCostList = hasCostList(commandArgs);
-        boolean hasDifferentLength = false;
+        Money totalCost = parseTotalCostIfSupplied(arguments);
+        Money[] costList = parseCostListIfSupplied(arguments);
+        boolean hasCost = totalCost != null;
+        boolean hasCostList = costList != null;
         checkIfMissingBothCostAndCostList(hasCost, hasCostList);
         checkIfHasBothCostAndCostList(hasCost, hasCostList);
-        checkIfHasDifferentLength(hasCost, hasDifferentLength);
+        if (hasCostList) {
+            checkIfHasDifferentLength(involvedList, costList);
+        }
 
         try {
-            gst = ParserUtils.parseGst(commandArgs);
-            serviceCharge = ParserUtils.parseServiceCharge(commandArgs);
+            gst = ParserUtils.parseGst(arguments);
+            serviceCharge = ParserUtils.parseServiceCharge(arguments);
         } catch (InvalidFormatException e) {
             String invalidMessage = e.getMessage() + "\n" + COMMAND_FORMAT + COMMAND_FORMAT_FIRST
                     + "\n\t" + COMMAND_FORMAT_SECOND;
             throw new InvalidFormatException(invalidMessage);
         }
       
+        if (!hasCost) {
+            totalCost = Money.ZERO;
+        }
         return new ActivityCreateCommand(sessionId, activityName, totalCost, payer, involvedList, costList, gst,
                 serviceCharge);
     }
@@ -89,14 +94,13 @@ public class ActivityCreateCommandParser implements CommandParser<ActivityCreate
     /**
      * Checks if the cost list and the involved list provided by the user have different lengths.
      *
-     * @param hasCost A boolean representing whether the total cost was not provided by the user.
+     * @param involvedList A String array object representing the names of the persons involved in the activity.
+     * @param costList     A Money array object representing the costs of each person involved in the activity.
      * @throws InvalidFormatException If the cost list and the involved list have different lengths.
      */
-    private void checkIfHasDifferentLength(boolean hasCost, boolean hasDifferentLength) throws InvalidFormatException {
-        if (!hasCost) {
-            hasDifferentLength = involvedList.length != costList.length;
-        }
-        if (hasDifferentLength) {
+    private static void checkIfHasDifferentLength(String[] involvedList, Money[] costList)
+            throws InvalidFormatException {
+        if (involvedList.length != costList.length) {
             String invalidMessage = Message.ERROR_ACTIVITYCREATE_INVOLVED_AND_COST_DIFFERENT_LENGTH
                     + "\n" + COMMAND_FORMAT + COMMAND_FORMAT_FIRST + "\n\t" + COMMAND_FORMAT_SECOND;
             throw new InvalidFormatException(invalidMessage);
@@ -110,7 +114,8 @@ public class ActivityCreateCommandParser implements CommandParser<ActivityCreate
      * @param hasCostList A boolean representing whether the cost list was not provided by the user.
      * @throws InvalidFormatException If both the total cost and cost list are provided by the user.
      */
-    private void checkIfHasBothCostAndCostList(boolean hasCost, boolean hasCostList) throws InvalidFormatException {
+    private static void checkIfHasBothCostAndCostList(boolean hasCost, boolean hasCostList)
+            throws InvalidFormatException {
         boolean hasBothCostAndCostList = hasCost && hasCostList;
         if (hasBothCostAndCostList) {
             String invalidMessage = Message.ERROR_ACTIVITYCREATE_HAS_BOTH_COST_AND_COST_LIST
@@ -126,7 +131,8 @@ public class ActivityCreateCommandParser implements CommandParser<ActivityCreate
      * @param hasCostList A boolean representing whether the cost list was not provided by the user.
      * @throws InvalidFormatException If both the total cost and cost list are not provided by the user.
      */
-    private void checkIfMissingBothCostAndCostList(boolean hasCost, boolean hasCostList) throws InvalidFormatException {
+    private static void checkIfMissingBothCostAndCostList(boolean hasCost, boolean hasCostList)
+            throws InvalidFormatException {
         boolean hasMissingCostAndMissingCostList = !hasCost && !hasCostList;
         if (hasMissingCostAndMissingCostList) {
             String invalidMessage = Message.ERROR_ACTIVITYCREATE_MISSING_COST_AND_COST_LIST
@@ -136,17 +142,16 @@ public class ActivityCreateCommandParser implements CommandParser<ActivityCreate
     }
 
     /**
-     * Checks if the cost list of the activity is provided by the user.
+     * Returns the cost list of the activity if it is provided by the user.
      *
-     * @param commandArgs A String object representing arguments provided by the user.
-     * @return true if the cost list is successfully parsed from user input
-     *         false if the user did not indicate the cost list using the cost list delimiter.
+     * @param arguments An ArgumentTable object representing arguments provided by the user.
+     * @return A Money array object if the cost list is successfully parsed from user input,
+     *         null if the user did not indicate the cost list using the cost list delimiter.
      * @throws InvalidFormatException If the cost list argument cannot be found in the input arguments.
      */
-    private boolean hasCostList(String commandArgs) throws InvalidFormatException {
+    private static Money[] parseCostListIfSupplied(ArgumentTable arguments) throws InvalidFormatException {
         try {
-            costList = ParserUtils.parseCostList(commandArgs);
-            return true;
+            return ParserUtils.parseCostList(arguments);
         } catch (InvalidFormatException e) {
             if (!e.getMessage().equalsIgnoreCase(Message.ERROR_PARSER_DELIMITER_NOT_FOUND
                     + ParserUtils.COST_LIST_DELIMITER)) {
@@ -154,22 +159,21 @@ public class ActivityCreateCommandParser implements CommandParser<ActivityCreate
                         + "\n\t" + COMMAND_FORMAT_SECOND;
                 throw new InvalidFormatException(invalidMessage);
             }
-            return false;
+            return null;
         }
     }
 
     /**
-     * Checks if the total cost of the activity is provided by the user.
+     * Returns the total cost of the activity if it is provided by the user.
      *
-     * @param commandArgs A String object representing arguments provided by the user.
-     * @return true if the total cost is successfully parsed from user input,
-     *         false if the user did not indicate the total cost using the total cost delimiter.
+     * @param arguments An ArgumentTable object representing arguments provided by the user.
+     * @return A Money object if the total cost is successfully parsed from user input,
+     *         null if the user did not indicate the total cost using the total cost delimiter.
      * @throws InvalidFormatException If the total cost argument cannot be found in the input arguments.
      */
-    private boolean hasCost(String commandArgs) throws InvalidFormatException {
+    private static Money parseTotalCostIfSupplied(ArgumentTable arguments) throws InvalidFormatException {
         try {
-            totalCost = ParserUtils.parseTotalCost(commandArgs);
-            return true;
+            return ParserUtils.parseTotalCost(arguments);
         } catch (InvalidFormatException e) {
             if (!e.getMessage().equalsIgnoreCase(Message.ERROR_PARSER_DELIMITER_NOT_FOUND
                     + ParserUtils.TOTAL_COST_DELIMITER)) {
@@ -177,7 +181,7 @@ public class ActivityCreateCommandParser implements CommandParser<ActivityCreate
                         + "\n\t" + COMMAND_FORMAT_SECOND;
                 throw new InvalidFormatException(invalidMessage);
             }
-            return false;
+            return null;
         }
     }
 }
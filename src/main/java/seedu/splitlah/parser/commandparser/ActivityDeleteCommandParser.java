@@ -2,6 +2,7 @@ package seedu.splitlah.parser.commandparser;
 
 import seedu.splitlah.command.ActivityDeleteCommand;
 import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.parser.ArgumentTable;
 import seedu.splitlah.parser.ParserUtils;
 
 /**
@@ -23,16 +24,16 @@ public class ActivityDeleteCommandParser implements CommandParser<ActivityDelete
     /**
      * Returns a ActivityDeleteCommand object after parsing the input arguments from the user.
      *
-     * @param commandArgs A String object representing arguments provided by the user.
+     * @param arguments An ArgumentTable object representing arguments provided by the user.
      * @return An ActivityDeleteCommand object if all necessary parameters required are found in the input arguments.
      * @throws InvalidFormatException If at least one of the necessary parameters cannot be found
      *                                in the input arguments.
      */
     @Override
-    public ActivityDeleteCommand getCommand(String commandArgs) throws InvalidFormatException {
+    public ActivityDeleteCommand getCommand(ArgumentTable arguments) throws InvalidFormatException {
         try {
-            int sessionId = ParserUtils.parseSessionId(commandArgs);
-            int activityId = ParserUtils.parseActivityId(commandArgs);
+            int sessionId = ParserUtils.parseSessionId(arguments);
+            int activityId = ParserUtils.parseActivityId(arguments);
             return new ActivityDeleteCommand(sessionId, activityId);
         } catch (InvalidFormatException e) {
             throw new InvalidFormatException(e.getMessage() + "\n" + COMMAND_FORMAT);
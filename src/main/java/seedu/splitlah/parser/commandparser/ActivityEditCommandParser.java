@@ -1,7 +1,9 @@
 package seedu.splitlah.parser.commandparser;
 
 import seedu.splitlah.command.ActivityEditCommand;
+import seedu.splitlah.data.Money;
 import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.parser.ArgumentTable;
 import seedu.splitlah.parser.ParserErrors;
 import seedu.splitlah.parser.ParserUtils;
 import seedu.splitlah.ui.Message;
@@ -37,149 +39,159 @@ public class ActivityEditCommandParser implements CommandParser<ActivityEditComm
         ParserUtils.SERVICE_CHARGE_DELIMITER
     };
 
-    private int sessionId;
-    private int activityId;
-    private String activityName = null;
-    private String payer = null;
-    private String[] involvedList = null;
-    private double totalCost = -1;
-    private double[] costList = null;
-    private double gst = -1;
-    private double serviceCharge = -1;
+    private static final double NOT_SUPPLIED = -1;
 
     /**
      * Validates the list of supplied delimiters, to check if any invalid permutations of delimiters are supplied
      * or if insufficient delimiters are supplied.
      *
+     * @param activityName  A String object representing the new name of the activity, or null if not supplied.
+     * @param payer         A String object representing the name of the new payer, or null if not supplied.
+     * @param involvedList  A String array object representing the names of the persons involved, or null.
+     * @param totalCost     A Money object representing the new total cost, or null if not supplied.
+     * @param costList      A Money array object representing the new costs of each person involved, or null.
+     * @param gst           A double representing the new GST percentage, or -1 if not supplied.
+     * @param serviceCharge A double representing the new service charge percentage, or -1 if not supplied.
      * @throws InvalidFormatException If both a costlist and total cost are supplied, which is invalid.
      *                                If no activity details are supplied.
      */
-    private void checkIfRequiredDelimitersExist() throws InvalidFormatException {
+    private static void checkIfRequiredDelimitersExist(String activityName, String payer, String[] involvedList,
+            Money totalCost, Money[] costList, double gst, double serviceCharge) throws InvalidFormatException {
         // Check if no delimiters at all are supplied.
-        if (activityName == null && payer == null && involvedList == null && totalCost == -1 && costList == null
-                && gst == -1 && serviceCharge == -1) {
+        if (activityName == null && payer == null && involvedList == null && totalCost == null && costList == null
+                && gst == NOT_SUPPLIED && serviceCharge == NOT_SUPPLIED) {
             throw new InvalidFormatException(Message.ERROR_ACTIVITYEDIT_NO_CHANGE_TO_ACTIVITY);
         }
         // Check if a costlist or total cost is required.
         if (involvedList == null) {
             return;
         }
-        if (costList == null && totalCost == -1) {
+        if (costList == null && totalCost == null) {
             throw new InvalidFormatException(Message.ERROR_ACTIVITYEDIT_COST_NOT_PROVIDED);
         }
     }
 
-    private void getServiceChargeIfSupplied(String commandArgs) throws InvalidFormatException {
+    private static double getServiceChargeIfSupplied(ArgumentTable arguments) throws InvalidFormatException {
         try {
-            serviceCharge = ParserUtils.parseServiceChargeIncludingZero(commandArgs);
+            return ParserUtils.parseServiceChargeIncludingZero(arguments);
         } catch (InvalidFormatException exception) {
             if (!exception.getMessage().equals(ParserErrors.getMissingDelimiterErrorMessage("/sc"))) {
                 throw new InvalidFormatException(exception.getMessage());
             }
+            return NOT_SUPPLIED;
         }
     }
 
-    private void getGstIfSupplied(String commandArgs) throws InvalidFormatException {
+    private static double getGstIfSupplied(ArgumentTable arguments) throws InvalidFormatException {
         try {
-            gst = ParserUtils.parseGstIncludingZero(commandArgs);
+            return ParserUtils.parseGstIncludingZero(arguments);
         } catch (InvalidFormatException exception) {
             if (!exception.getMessage().equals(ParserErrors.getMissingDelimiterErrorMessage("/gst"))) {
                 throw new InvalidFormatException(exception.getMessage());
             }
+            return NOT_SUPPLIED;
         }
     }
 
-    private void checkIfBothCostListAndTotalCostSupplied() throws InvalidFormatException {
-        if (costList != null && totalCost != -1) {
+    private static void checkIfBothCostListAndTotalCostSupplied(Money totalCost, Money[] costList)
+            throws InvalidFormatException {
+        if (costList != null && totalCost != null) {
             String invalidMessage = Message.ERROR_ACTIVITYCREATE_HAS_BOTH_COST_AND_COST_LIST
                     + "\n" + COMMAND_FORMAT + COMMAND_FORMAT_FIRST + "\n\t" + COMMAND_FORMAT_SECOND;
             throw new InvalidFormatException(invalidMessage);
         }
     }
 
-    private void getCostListIfSupplied(String commandArgs) throws InvalidFormatException {
+    private static Money[] getCostListIfSupplied(ArgumentTable arguments) throws InvalidFormatException {
         try {
-            costList = ParserUtils.parseCostList(commandArgs);
+            return ParserUtils.parseCostList(arguments);
         } catch (InvalidFormatException exception) {
             if (!exception.getMessage().equals(ParserErrors.getMissingDelimiterErrorMessage("/cl"))) {
                 throw new InvalidFormatException(exception.getMessage());
             }
+            return null;
         }
     }
 
-    private void getTotalCostIfSupplied(String commandArgs) throws InvalidFormatException {
+    private static Money getTotalCostIfSupplied(ArgumentTable arguments) throws InvalidFormatException {
         try {
-            totalCost = ParserUtils.parseTotalCost(commandArgs);
+            return ParserUtils.parseTotalCost(arguments);
         } catch (InvalidFormatException exception) {
             if (!exception.getMessage().equals(ParserErrors.getMissingDelimiterErrorMessage("/co"))) {
                 throw new InvalidFormatException(exception.getMessage());
             }
+            return null;
         }
     }
 
-    private void getInvolvedListIfSupplied(String commandArgs) throws InvalidFormatException {
+    private static String[] getInvolvedListIfSupplied(ArgumentTable arguments) throws InvalidFormatException {
         try {
-            involvedList = ParserUtils.parseInvolved(commandArgs);
+            return ParserUtils.parseInvolved(arguments);
         } catch (InvalidFormatException exception) {
             if (!exception.getMessage().equals(ParserErrors.getMissingDelimiterErrorMessage("/i"))) {
                 throw new InvalidFormatException(exception.getMessage());
             }
+            return null;
         }
     }
 
-    private void getPayerNameIfSupplied(String commandArgs) throws InvalidFormatException {
+    private static String getPayerNameIfSupplied(ArgumentTable arguments) throws InvalidFormatException {
         try {
-            payer = ParserUtils.parsePayer(commandArgs);
+            return ParserUtils.parsePayer(arguments);
         } catch (InvalidFormatException exception) {
             if (!exception.getMessage().equals(ParserErrors.getMissingDelimiterErrorMessage("/p"))) {
                 throw new InvalidFormatException(exception.getMessage());
             }
+            return null;
         }
     }
 
-    private void getActivityNameIfSupplied(String commandArgs) throws InvalidFormatException {
+    private static String getActivityNameIfSupplied(ArgumentTable arguments) throws InvalidFormatException {
         try {
-            activityName = ParserUtils.parseName(commandArgs);
+            return ParserUtils.parseName(arguments);
         } catch (InvalidFormatException exception) {
             if (!exception.getMessage().equals(ParserErrors.getMissingDelimiterErrorMessage("/n"))) {
                 throw new InvalidFormatException(exception.getMessage());
             }
+            return null;
         }
     }
 
-    private void getSessionIdAndActivityId(String commandArgs) throws InvalidFormatException {
-        try {
-            sessionId = ParserUtils.parseSessionId(commandArgs);
-            activityId = ParserUtils.parseActivityId(commandArgs);
-        } catch (InvalidFormatException exception) {
-            String invalidMessage = exception.getMessage() + "\n" + COMMAND_FORMAT + COMMAND_FORMAT_FIRST
-                    + "\n\t" + COMMAND_FORMAT_SECOND;
-            throw new InvalidFormatException(invalidMessage);
-        }
+    private static InvalidFormatException getInvalidIdException(InvalidFormatException exception) {
+        String invalidMessage = exception.getMessage() + "\n" + COMMAND_FORMAT + COMMAND_FORMAT_FIRST
+                + "\n\t" + COMMAND_FORMAT_SECOND;
+        return new InvalidFormatException(invalidMessage);
     }
 
     /**
      * Returns an ActivityEditCommand object from the supplied command arguments.
      *
-     * @param commandArgs A String object representing arguments provided by the user.
+     * @param arguments An ArgumentTable object representing arguments provided by the user.
      * @return An ActivityEditCommand object if all necessary parameters required are found in the input arguments.
      * @throws InvalidFormatException If at least one of the necessary parameters cannot be found
      *                                in the input arguments.
      */
     @Override
-    public ActivityEditCommand getCommand(String commandArgs) throws InvalidFormatException {
-
-        assert commandArgs != null : Message.ASSERT_ACTIVITYEDIT_COMMAND_ARGS_NULL;
-        getSessionIdAndActivityId(commandArgs);
-        getActivityNameIfSupplied(commandArgs);
-        getPayerNameIfSupplied(commandArgs);
-        getInvolvedListIfSupplied(commandArgs);
-        getTotalCostIfSupplied(commandArgs);
-        getCostListIfSupplied(commandArgs);
-        checkIfBothCostListAndTotalCostSupplied();
-        getGstIfSupplied(commandArgs);
-        getServiceChargeIfSupplied(commandArgs);
-        checkIfRequiredDelimitersExist();
+    public ActivityEditCommand getCommand(ArgumentTable arguments) throws InvalidFormatException {
+
+        assert arguments != null : Message.ASSERT_ACTIVITYEDIT_COMMAND_ARGS_NULL;
+        int sessionId;
+        int activityId;
+        try {
+            sessionId = ParserUtils.parseSessionId(arguments);
+            activityId = ParserUtils.parseActivityId(arguments);
+        } catch (InvalidFormatException exception) {
+            throw getInvalidIdException(exception);
+        }
+        String activityName = getActivityNameIfSupplied(arguments);
+        String payer = getPayerNameIfSupplied(arguments);
+        String[] involvedList = getInvolvedListIfSupplied(arguments);
+        Money totalCost = getTotalCostIfSupplied(arguments);
+        Money[] costList = getCostListIfSupplied(arguments);
+        checkIfBothCostListAndTotalCostSupplied(totalCost, costList);
+        double gst = getGstIfSupplied(arguments);
+        double serviceCharge = getServiceChargeIfSupplied(arguments);
+        checkIfRequiredDelimitersExist(activityName, payer, involvedList, totalCost, costList, gst, serviceCharge);
         return new ActivityEditCommand(sessionId, activityId, activityName, payer, involvedList, totalCost,
                 costList, gst, serviceCharge);
     }
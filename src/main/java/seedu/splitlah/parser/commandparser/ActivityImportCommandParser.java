@@ -0,0 +1,44 @@
+package seedu.splitlah.parser.commandparser;
+
+import seedu.splitlah.command.ActivityImportCommand;
+import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.parser.ArgumentTable;
+import seedu.splitlah.parser.ParserUtils;
+
+import java.nio.file.Path;
+
+/**
+ * Represents a command parser that is able to parse user arguments into an ActivityImportCommand object.
+ *
+ * @author Warren
+ */
+public class ActivityImportCommandParser implements CommandParser<ActivityImportCommand> {
+
+    public static final String COMMAND_TEXT = "activity /import";
+
+    public static final String COMMAND_FORMAT = "Syntax: activity /import /sid [SESSION_ID] /f [CSV_FILE]";
+
+    public static final String[] COMMAND_DELIMITERS = {
+        ParserUtils.SESSION_ID_DELIMITER,
+        ParserUtils.FILE_DELIMITER
+    };
+
+    /**
+     * Returns an ActivityImportCommand object after parsing the input arguments from the user.
+     *
+     * @param arguments An ArgumentTable object representing arguments provided by the user.
+     * @return An ActivityImportCommand object if all necessary parameters required are found in the input arguments.
+     * @throws InvalidFormatException If at least one of the necessary parameters cannot be found
+     *                                in the input arguments.
+     */
+    @Override
+    public ActivityImportCommand getCommand(ArgumentTable arguments) throws InvalidFormatException {
+        try {
+            int sessionId = ParserUtils.parseSessionId(arguments);
+            Path filePath = ParserUtils.parseFilePath(arguments);
+            return new ActivityImportCommand(sessionId, filePath);
+        } catch (InvalidFormatException e) {
+            throw new InvalidFormatException(e.getMessage() + "\n" + COMMAND_FORMAT);
+        }
+    }
+}
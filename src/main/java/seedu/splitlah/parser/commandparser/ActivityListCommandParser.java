@@ -2,6 +2,7 @@ package seedu.splitlah.parser.commandparser;
 
 import seedu.splitlah.command.ActivityListCommand;
 import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.parser.ArgumentTable;
 import seedu.splitlah.parser.ParserUtils;
 import seedu.splitlah.ui.Message;
 
@@ -23,17 +24,17 @@ public class ActivityListCommandParser implements CommandParser<ActivityListComm
     /**
      * Returns an ActivityListCommand object after parsing the input arguments from the user.
      *
-     * @param commandArgs A String object representing arguments provided by the user.
+     * @param arguments An ArgumentTable object representing arguments provided by the user.
      * @return An ActivityListCommand object if a valid integer representing a session's unique identifier is found
      *         in the input arguments.
      * @throws InvalidFormatException If a valid integer representing a session's unique identifier cannot be found
      *                                in the input arguments.
      */
     @Override
-    public ActivityListCommand getCommand(String commandArgs) throws InvalidFormatException {
-        assert commandArgs != null : Message.ASSERT_PARSER_COMMAND_ARGUMENTS_NULL;
+    public ActivityListCommand getCommand(ArgumentTable arguments) throws InvalidFormatException {
+        assert arguments != null : Message.ASSERT_PARSER_COMMAND_ARGUMENTS_NULL;
         try {
-            int sessionId = ParserUtils.parseSessionId(commandArgs);
+            int sessionId = ParserUtils.parseSessionId(arguments);
             return new ActivityListCommand(sessionId);
         } catch (InvalidFormatException exception) {
             String invalidCommandMessage = exception.getMessage() + "\n" + COMMAND_FORMAT;
@@ -2,6 +2,7 @@ package seedu.splitlah.parser.commandparser;
 
 import seedu.splitlah.command.ActivityViewCommand;
 import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.parser.ArgumentTable;
 import seedu.splitlah.parser.ParserUtils;
 import seedu.splitlah.ui.Message;
 
@@ -24,7 +25,7 @@ public class ActivityViewCommandParser implements CommandParser<ActivityViewComm
     /**
      * Returns a ActivityViewCommand object after parsing the input arguments from the user.
      *
-     * @param commandArgs A String object representing arguments provided by the user.
+     * @param arguments An ArgumentTable object representing arguments provided by the user.
      * @return A ActivityViewCommand object if a valid integer representing a session's unique identifier,
      *         and a valid integer representing an activity's unique identifier are found
      *         in the input arguments.
@@ -32,11 +33,11 @@ public class ActivityViewCommandParser implements CommandParser<ActivityViewComm
      *                                and an activity's unique identifier cannot be found in the input arguments.
      */
     @Override
-    public ActivityViewCommand getCommand(String commandArgs) throws InvalidFormatException {
-        assert commandArgs != null : Message.ASSERT_PARSER_COMMAND_ARGUMENTS_NULL;
+    public ActivityViewCommand getCommand(ArgumentTable arguments) throws InvalidFormatException {
+        assert arguments != null : Message.ASSERT_PARSER_COMMAND_ARGUMENTS_NULL;
         try {
-            int sessionId = ParserUtils.parseSessionId(commandArgs);
-            int activityId = ParserUtils.parseActivityId(commandArgs);
+            int sessionId = ParserUtils.parseSessionId(arguments);
+            int activityId = ParserUtils.parseActivityId(arguments);
             return new ActivityViewCommand(sessionId,activityId);
         } catch (InvalidFormatException exception) {
             String invalidCommandMessage = exception.getMessage() + "\n" + COMMAND_FORMAT;
@@ -2,6 +2,7 @@ package seedu.splitlah.parser.commandparser;
 
 import seedu.splitlah.command.Command;
 import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.parser.ArgumentTable;
 
 /**
  * Represents a command parser that is able to parse user arguments into an object of a subclass of Command.
@@ -11,10 +12,11 @@ import seedu.splitlah.exceptions.InvalidFormatException;
 public interface CommandParser<T extends Command> {
     
     /**
-     * Returns an object of a subclass of Command given a String object representing arguments provided by the user.
+     * Returns an object of a subclass of Command given an ArgumentTable object representing arguments provided
+     * by the user.
      * 
-     * @param commandArgs A String object representing arguments provided by the user.
+     * @param arguments An ArgumentTable object representing arguments provided by the user.
      * @return An object of a subclass of Command representing the parsed instructions of the user.
      */
-    public T getCommand(String commandArgs) throws InvalidFormatException;
+    public T getCommand(ArgumentTable arguments) throws InvalidFormatException;
 }
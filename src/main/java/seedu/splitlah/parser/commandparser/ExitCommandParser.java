@@ -2,6 +2,7 @@ package seedu.splitlah.parser.commandparser;
 
 import seedu.splitlah.command.ExitCommand;
 import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.parser.ArgumentTable;
 
 /**
  * Represents a command parser that is able to parse user arguments into a ExitCommand object.
@@ -17,11 +18,11 @@ public class ExitCommandParser implements CommandParser<ExitCommand> {
     /**
      * Returns an ExitCommand object after parsing the input arguments from the user.
      *
-     * @param commandArgs A String object representing arguments provided by the user.
+     * @param arguments An ArgumentTable object representing arguments provided by the user.
      * @return An ExitCommand object when method is called.
      */
     @Override
-    public ExitCommand getCommand(String commandArgs) throws InvalidFormatException {
+    public ExitCommand getCommand(ArgumentTable arguments) throws InvalidFormatException {
         return new ExitCommand();
     }
 }
@@ -2,6 +2,7 @@ package seedu.splitlah.parser.commandparser;
 
 import seedu.splitlah.command.GroupCreateCommand;
 import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.parser.ArgumentTable;
 import seedu.splitlah.parser.ParserUtils;
 import seedu.splitlah.ui.Message;
 
@@ -25,17 +26,17 @@ public class GroupCreateCommandParser implements CommandParser<GroupCreateComman
     /**
      * Returns a GroupCreateCommand object after parsing the input arguments from the user.
      *
-     * @param commandArgs A String object representing arguments provided by the user.
+     * @param arguments An ArgumentTable object representing arguments provided by the user.
      * @return A GroupCreateCommand object if all necessary arguments required for the GroupCreateCommand object
      *         to function are found in the input arguments.
      * @throws InvalidFormatException If at least one of the necessary arguments cannot be found in the input arguments.
      */
     @Override
-    public GroupCreateCommand getCommand(String commandArgs) throws InvalidFormatException {
-        assert commandArgs != null : Message.ASSERT_PARSER_COMMAND_ARGUMENTS_NULL;
+    public GroupCreateCommand getCommand(ArgumentTable arguments) throws InvalidFormatException {
+        assert arguments != null : Message.ASSERT_PARSER_COMMAND_ARGUMENTS_NULL;
         try {
-            String parsedGroupName = ParserUtils.parseName(commandArgs);
-            String[] parsedNameList = ParserUtils.parsePersonList(commandArgs);
+            String parsedGroupName = ParserUtils.parseName(arguments);
+            String[] parsedNameList = ParserUtils.parsePersonList(arguments);
             return new GroupCreateCommand(parsedGroupName, parsedNameList);
         } catch (InvalidFormatException formatException) {
             String invalidCommandMessage = formatException.getMessage() + "\n" + COMMAND_FORMAT;
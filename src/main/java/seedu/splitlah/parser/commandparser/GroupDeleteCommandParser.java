@@ -2,6 +2,7 @@ package seedu.splitlah.parser.commandparser;
 
 import seedu.splitlah.command.GroupDeleteCommand;
 import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.parser.ArgumentTable;
 import seedu.splitlah.parser.ParserUtils;
 
 /**
@@ -22,16 +23,16 @@ public class GroupDeleteCommandParser implements CommandParser<GroupDeleteComman
     /**
      * Returns a GroupDeleteCommand object after parsing the input arguments from the user.
      *
-     * @param commandArgs A String object representing arguments provided by the user.
+     * @param arguments An ArgumentTable object representing arguments provided by the user.
      * @return A GroupDeleteCommand object if a valid integer representing a group's unique identifier is found
      *         in the input arguments.
      * @throws InvalidFormatException If a valid integer representing a group's unique identifier cannot be found
      *                                in the input arguments.
      */
     @Override
-    public GroupDeleteCommand getCommand(String commandArgs) throws InvalidFormatException {
+    public GroupDeleteCommand getCommand(ArgumentTable arguments) throws InvalidFormatException {
         try {
-            int groupId = ParserUtils.parseGroupId(commandArgs);
+            int groupId = ParserUtils.parseGroupId(arguments);
             return new GroupDeleteCommand(groupId);
         } catch (InvalidFormatException formatException) {
             String invalidCommandMessage = formatException.getMessage() + "\n" + COMMAND_FORMAT;
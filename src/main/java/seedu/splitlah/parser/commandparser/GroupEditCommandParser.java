@@ -2,6 +2,7 @@ package seedu.splitlah.parser.commandparser;
 
 import seedu.splitlah.command.GroupEditCommand;
 import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.parser.ArgumentTable;
 import seedu.splitlah.parser.ParserUtils;
 import seedu.splitlah.ui.Message;
 
@@ -24,17 +25,17 @@ public class GroupEditCommandParser implements CommandParser<GroupEditCommand> {
     /**
      * Returns a GroupEditCommand object after parsing the input arguments from the user.
      *
-     * @param commandArgs A String object representing arguments provided by the user.
+     * @param arguments An ArgumentTable object representing arguments provided by the user.
      * @return A GroupEditCommand object if all necessary arguments required for the GroupEditCommand object
      *         are found in the input arguments.
      * @throws InvalidFormatException If the group unique identifier cannot be found in the input arguments or
      *                                if all optional arguments cannot be found in the input arguments.
      */
     @Override
-    public GroupEditCommand getCommand(String commandArgs) throws InvalidFormatException {
+    public GroupEditCommand getCommand(ArgumentTable arguments) throws InvalidFormatException {
         int parsedGroupId;
         try {
-            parsedGroupId = ParserUtils.parseGroupId(commandArgs);
+            parsedGroupId = ParserUtils.parseGroupId(arguments);
         } catch (InvalidFormatException formatException) {
             String invalidCommandMessage = formatException.getMessage() + "\n" + COMMAND_FORMAT;
             throw new InvalidFormatException(invalidCommandMessage);
@@ -42,7 +43,7 @@ public class GroupEditCommandParser implements CommandParser<GroupEditCommand> {
         boolean hasGroupNameDelimiter = false;
         String parsedGroupName = null;
         try {
-            parsedGroupName = ParserUtils.parseName(commandArgs);
+            parsedGroupName = ParserUtils.parseName(arguments);
             hasGroupNameDelimiter = true;
         } catch (InvalidFormatException formatException) {
             if (!formatException.getMessage().equalsIgnoreCase(Message.ERROR_PARSER_DELIMITER_NOT_FOUND
@@ -55,7 +56,7 @@ public class GroupEditCommandParser implements CommandParser<GroupEditCommand> {
         boolean hasPersonListDelimiter = false;
         String[] parsedNames = null;
         try {
-            parsedNames = ParserUtils.parsePersonList(commandArgs);
+            parsedNames = ParserUtils.parsePersonList(arguments);
             hasPersonListDelimiter = true;
         } catch (InvalidFormatException formatException) {
             if (!formatException.getMessage().equalsIgnoreCase(Message.ERROR_PARSER_DELIMITER_NOT_FOUND
@@ -2,6 +2,7 @@ package seedu.splitlah.parser.commandparser;
 
 import seedu.splitlah.command.GroupListCommand;
 import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.parser.ArgumentTable;
 
 /**
  * Represents a command parser that is able to parse user arguments into a GroupListCommand object.
@@ -17,11 +18,11 @@ public class GroupListCommandParser implements CommandParser<GroupListCommand> {
     /**
      * Returns a GroupListCommand object after parsing the input arguments from the user.
      *
-     * @param commandArgs A String object representing arguments provided by the user.
+     * @param arguments An ArgumentTable object representing arguments provided by the user.
      * @return A GroupListCommand object when method is called.
      */
     @Override
-    public GroupListCommand getCommand(String commandArgs) throws InvalidFormatException {
+    public GroupListCommand getCommand(ArgumentTable arguments) throws InvalidFormatException {
         return new GroupListCommand();
     }
 }
@@ -2,6 +2,7 @@ package seedu.splitlah.parser.commandparser;
 
 import seedu.splitlah.command.GroupViewCommand;
 import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.parser.ArgumentTable;
 import seedu.splitlah.parser.ParserUtils;
 import seedu.splitlah.ui.Message;
 
@@ -23,15 +24,15 @@ public class GroupViewCommandParser implements CommandParser<GroupViewCommand> {
     /**
      * Returns a GroupViewCommand object after parsing the input arguments from the user.
      *
-     * @param commandArgs A String object representing arguments provided by the user.
+     * @param arguments An ArgumentTable object representing arguments provided by the user.
      * @return An GroupViewCommand object if all necessary parameters required are found in the input arguments.
      * @throws InvalidFormatException If at least one of the necessary parameters cannot be found
      *                                in the input arguments.
      */
     @Override
-    public GroupViewCommand getCommand(String commandArgs) throws InvalidFormatException {
+    public GroupViewCommand getCommand(ArgumentTable arguments) throws InvalidFormatException {
         try {
-            int groupId = ParserUtils.parseGroupId(commandArgs);
+            int groupId = ParserUtils.parseGroupId(arguments);
             assert groupId > 0 : Message.ASSERT_GROUPVIEWPARSER_GROUP_ID_NOT_INITIALIZED;
             return new GroupViewCommand(groupId);
         } catch (InvalidFormatException e) {
@@ -2,6 +2,7 @@ package seedu.splitlah.parser.commandparser;
 
 import seedu.splitlah.command.HelpCommand;
 import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.parser.ArgumentTable;
 
 /**
  * Represents a command parser that is able to parse user arguments into a HelpCommand object.
@@ -17,11 +18,11 @@ public class HelpCommandParser implements CommandParser<HelpCommand> {
     /**
      * Returns a HelpCommand object after parsing the input arguments from the user.
      *
-     * @param commandArgs A String object representing arguments provided by the user.
+     * @param arguments An ArgumentTable object representing arguments provided by the user.
      * @return A HelpCommand object when method is called.
      */
     @Override
-    public HelpCommand getCommand(String commandArgs) throws InvalidFormatException {
+    public HelpCommand getCommand(ArgumentTable arguments) throws InvalidFormatException {
         return new HelpCommand();
     }
 }
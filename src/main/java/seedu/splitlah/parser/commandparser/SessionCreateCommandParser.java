@@ -2,6 +2,7 @@ package seedu.splitlah.parser.commandparser;
 
 import seedu.splitlah.command.SessionCreateCommand;
 import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.parser.ArgumentTable;
 import seedu.splitlah.parser.ParserUtils;
 import seedu.splitlah.ui.Message;
 
@@ -29,19 +30,19 @@ public class SessionCreateCommandParser implements CommandParser<SessionCreateCo
     /**
      * Returns a SessionCreateCommand object after parsing the input arguments from the user.
      *
-     * @param commandArgs A String object representing arguments provided by the user.
+     * @param arguments An ArgumentTable object representing arguments provided by the user.
      * @return A SessionCreateCommand object if all necessary arguments required for the SessionCreateCommand object
      *         to function are found in the input arguments.
      * @throws InvalidFormatException If at least one of the necessary arguments cannot be found in the input arguments.
      */
     @Override
-    public SessionCreateCommand getCommand(String commandArgs) throws InvalidFormatException {
-        assert commandArgs != null : Message.ASSERT_PARSER_COMMAND_ARGUMENTS_NULL;
+    public SessionCreateCommand getCommand(ArgumentTable arguments) throws InvalidFormatException {
+        assert arguments != null : Message.ASSERT_PARSER_COMMAND_ARGUMENTS_NULL;
 
         boolean hasPersonListDelimiter = false;
         String [] parsedNames = null;
         try {
-            parsedNames = ParserUtils.parsePersonList(commandArgs);
+            parsedNames = ParserUtils.parsePersonList(arguments);
             hasPersonListDelimiter = true;
         } catch (InvalidFormatException formatException) {
             if (!formatException.getMessage().equalsIgnoreCase(Message.ERROR_PARSER_DELIMITER_NOT_FOUND
@@ -54,7 +55,7 @@ public class SessionCreateCommandParser implements CommandParser<SessionCreateCo
         boolean hasGroupIdDelimiter = false;
         int groupId = -1;
         try {
-            groupId = ParserUtils.parseGroupId(commandArgs);
+            groupId = ParserUtils.parseGroupId(arguments);
             hasGroupIdDelimiter = true;
         } catch (InvalidFormatException formatException) {
             if (!formatException.getMessage().equalsIgnoreCase(Message.ERROR_PARSER_DELIMITER_NOT_FOUND
@@ -72,8 +73,8 @@ public class SessionCreateCommandParser implements CommandParser<SessionCreateCo
         }
 
         try {
-            String parsedSessionName = ParserUtils.parseName(commandArgs);
-            LocalDate parsedSessionDate = ParserUtils.parseLocalDate(commandArgs);
+            String parsedSessionName = ParserUtils.parseName(arguments);
+            LocalDate parsedSessionDate = ParserUtils.parseLocalDate(arguments);
             return new SessionCreateCommand(parsedSessionName, parsedNames, parsedSessionDate, groupId);
         } catch (InvalidFormatException formatException) {
             String invalidCommandMessage = formatException.getMessage() + "\n" + COMMAND_FORMAT;
@@ -2,6 +2,7 @@ package seedu.splitlah.parser.commandparser;
 
 import seedu.splitlah.command.SessionDeleteCommand;
 import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.parser.ArgumentTable;
 import seedu.splitlah.parser.ParserUtils;
 
 /**
@@ -22,16 +23,16 @@ public class SessionDeleteCommandParser implements CommandParser<SessionDeleteCo
     /**
      * Returns a SessionDeleteCommand object after parsing the input arguments from the user.
      *
-     * @param commandArgs A String object representing arguments provided by the user.
+     * @param arguments An ArgumentTable object representing arguments provided by the user.
      * @return A SessionDeleteCommand object if a valid integer representing a session's unique identifier is found
      *         in the input arguments.
      * @throws InvalidFormatException If a valid integer representing a session's unique identifier cannot be found
      *                                in the input arguments.
      */
     @Override
-    public SessionDeleteCommand getCommand(String commandArgs) throws InvalidFormatException {
+    public SessionDeleteCommand getCommand(ArgumentTable arguments) throws InvalidFormatException {
         try {
-            int sessionId = ParserUtils.parseSessionId(commandArgs);
+            int sessionId = ParserUtils.parseSessionId(arguments);
             return new SessionDeleteCommand(sessionId);
         } catch (InvalidFormatException formatException) {
             String invalidCommandMessage = formatException.getMessage() + "\n" + COMMAND_FORMAT;
@@ -2,6 +2,7 @@ package seedu.splitlah.parser.commandparser;
 
 import seedu.splitlah.command.SessionEditCommand;
 import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.parser.ArgumentTable;
 import seedu.splitlah.parser.ParserUtils;
 import seedu.splitlah.ui.Message;
 
@@ -30,18 +31,18 @@ public class SessionEditCommandParser implements CommandParser<SessionEditComman
     /**
      * Returns a SessionEditCommand object after parsing the input arguments from the user.
      *
-     * @param commandArgs A String object representing arguments provided by the user.
+     * @param arguments An ArgumentTable object representing arguments provided by the user.
      * @return A SessionEditCommand object if all necessary arguments required for the SessionEditCommand object
      *         to function are found in the input arguments.
      * @throws InvalidFormatException If the session unique identifier cannot be found in the input arguments or
      *                                if all optional arguments cannot be found in the input arguments.
      */
     @Override
-    public SessionEditCommand getCommand(String commandArgs) throws InvalidFormatException {
-        assert commandArgs != null : Message.ASSERT_PARSER_COMMAND_ARGUMENTS_NULL;
+    public SessionEditCommand getCommand(ArgumentTable arguments) throws InvalidFormatException {
+        assert arguments != null : Message.ASSERT_PARSER_COMMAND_ARGUMENTS_NULL;
         int parsedSessionId = 0;
         try {
-            parsedSessionId = ParserUtils.parseSessionId(commandArgs);
+            parsedSessionId = ParserUtils.parseSessionId(arguments);
         } catch (InvalidFormatException formatException) {
             String invalidCommandMessage = formatException.getMessage() + "\n" + COMMAND_FORMAT;
             throw new InvalidFormatException(invalidCommandMessage);
@@ -51,7 +52,7 @@ public class SessionEditCommandParser implements CommandParser<SessionEditComman
         boolean hasSessionNameDelimiter = false;
         String parsedSessionName = null;
         try {
-            parsedSessionName = ParserUtils.parseName(commandArgs);
+            parsedSessionName = ParserUtils.parseName(arguments);
             hasSessionNameDelimiter = true;
         } catch (InvalidFormatException formatException) {
             if (!formatException.getMessage().equalsIgnoreCase(Message.ERROR_PARSER_DELIMITER_NOT_FOUND
@@ -64,7 +65,7 @@ public class SessionEditCommandParser implements CommandParser<SessionEditComman
         boolean hasSessionDateDelimiter = false;
         LocalDate parsedSessionDate = null;
         try {
-            parsedSessionDate = ParserUtils.parseLocalDate(commandArgs);
+            parsedSessionDate = ParserUtils.parseLocalDate(arguments);
             hasSessionDateDelimiter = true;
         } catch (InvalidFormatException formatException) {
             if (!formatException.getMessage().equalsIgnoreCase(Message.ERROR_PARSER_DELIMITER_NOT_FOUND
@@ -77,7 +78,7 @@ public class SessionEditCommandParser implements CommandParser<SessionEditComman
         boolean hasPersonListDelimiter = false;
         String [] parsedNames = null;
         try {
-            parsedNames = ParserUtils.parsePersonList(commandArgs);
+            parsedNames = ParserUtils.parsePersonList(arguments);
             hasPersonListDelimiter = true;
         } catch (InvalidFormatException formatException) {
             if (!formatException.getMessage().equalsIgnoreCase(Message.ERROR_PARSER_DELIMITER_NOT_FOUND
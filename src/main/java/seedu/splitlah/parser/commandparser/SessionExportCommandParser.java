@@ -0,0 +1,54 @@
+package seedu.splitlah.parser.commandparser;
+
+import seedu.splitlah.command.SessionExportCommand;
+import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.parser.ArgumentTable;
+import seedu.splitlah.parser.ParserUtils;
+import seedu.splitlah.ui.Message;
+import seedu.splitlah.util.SettlementStrategy;
+
+import java.nio.file.Path;
+
+/**
+ * Represents a command parser that is able to parse user arguments into a SessionExportCommand object.
+ *
+ * @author Warren
+ */
+public class SessionExportCommandParser implements CommandParser<SessionExportCommand> {
+
+    public static final String COMMAND_TEXT = "session /export";
+
+    public static final String COMMAND_FORMAT =
+            "Syntax: session /export /f [FILE] [</fmt [FORMAT]>] [</st [STRATEGY]>]";
+
+    public static final String[] COMMAND_DELIMITERS = {
+        ParserUtils.FILE_DELIMITER,
+        ParserUtils.EXPORT_FORMAT_DELIMITER,
+        ParserUtils.SETTLEMENT_STRATEGY_DELIMITER
+    };
+
+    /**
+     * Returns a SessionExportCommand object after parsing the input arguments from the user.
+     *
+     * @param arguments An ArgumentTable object representing arguments provided by the user.
+     * @return A SessionExportCommand object that exports all sessions to the file in the input arguments,
+     *         in the CSV format unless another export format is specified.
+     * @throws InvalidFormatException If the File delimiter is not found in the input arguments,
+     *                                if the file path provided is not valid,
+     *                                if the export format provided is not valid, or
+     *                                if the settlement strategy provided is not valid.
+     */
+    @Override
+    public SessionExportCommand getCommand(ArgumentTable arguments) throws InvalidFormatException {
+        assert arguments != null : Message.ASSERT_PARSER_COMMAND_ARGUMENTS_NULL;
+        try {
+            Path filePath = ParserUtils.parseFilePath(arguments);
+            String exportFormat = ParserUtils.parseExportFormat(arguments);
+            SettlementStrategy settlementStrategy = ParserUtils.parseSettlementStrategy(arguments);
+            return new SessionExportCommand(filePath, exportFormat, settlementStrategy);
+        } catch (InvalidFormatException exception) {
+            String invalidCommandMessage = exception.getMessage() + "\n" + COMMAND_FORMAT;
+            throw new InvalidFormatException(invalidCommandMessage);
+        }
+    }
+}
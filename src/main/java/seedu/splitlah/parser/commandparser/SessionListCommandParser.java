@@ -2,6 +2,7 @@ package seedu.splitlah.parser.commandparser;
 
 import seedu.splitlah.command.SessionListCommand;
 import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.parser.ArgumentTable;
 
 /**
  * Represents a command parser that is able to parse user arguments into a SessionListCommand object.
@@ -17,11 +18,11 @@ public class SessionListCommandParser implements CommandParser<SessionListComman
     /**
      * Returns a SessionListCommand object after parsing the input arguments from the user.
      *
-     * @param commandArgs A String object representing arguments provided by the user.
+     * @param arguments An ArgumentTable object representing arguments provided by the user.
      * @return A SessionListCommand object when method is called.
      */
     @Override
-    public SessionListCommand getCommand(String commandArgs) throws InvalidFormatException {
+    public SessionListCommand getCommand(ArgumentTable arguments) throws InvalidFormatException {
         return new SessionListCommand();
     }
 }
@@ -0,0 +1,59 @@
+package seedu.splitlah.parser.commandparser;
+
+import seedu.splitlah.command.SessionSettleAllCommand;
+import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.parser.ArgumentTable;
+import seedu.splitlah.parser.ParserUtils;
+import seedu.splitlah.ui.Message;
+import seedu.splitlah.util.SettlementStrategy;
+
+/**
+ * Represents a command parser that is able to parse user arguments into a SessionSettleAllCommand object.
+ *
+ * @author Warren
+ */
+public class SessionSettleAllCommandParser implements CommandParser<SessionSettleAllCommand> {
+
+    public static final String COMMAND_TEXT = "session /settleall";
+
+    public static final String COMMAND_FORMAT =
+            "Syntax: session /settleall [</gid [GROUP_ID]>] [</st [STRATEGY]>]";
+
+    public static final String[] COMMAND_DELIMITERS = {
+        ParserUtils.GROUP_ID_DELIMITER,
+        ParserUtils.SETTLEMENT_STRATEGY_DELIMITER
+    };
+
+    /**
+     * Returns a SessionSettleAllCommand object after parsing the input arguments from the user.
+     *
+     * @param arguments An ArgumentTable object representing arguments provided by the user.
+     * @return A SessionSettleAllCommand object that settles the sessions of a group if a valid integer representing
+     *         a group's unique identifier is found in the input arguments, or all sessions if no group is specified.
+     * @throws InvalidFormatException If the argument following the Group unique identifier delimiter is not
+     *                                a valid group unique identifier, or
+     *                                if the settlement strategy provided is not valid.
+     */
+    @Override
+    public SessionSettleAllCommand getCommand(ArgumentTable arguments) throws InvalidFormatException {
+        assert arguments != null : Message.ASSERT_PARSER_COMMAND_ARGUMENTS_NULL;
+        int groupId = SessionSettleAllCommand.NO_GROUP_ID;
+        try {
+            groupId = ParserUtils.parseGroupId(arguments);
+        } catch (InvalidFormatException formatException) {
+            if (!formatException.getMessage().equalsIgnoreCase(Message.ERROR_PARSER_DELIMITER_NOT_FOUND
+                    + ParserUtils.GROUP_ID_DELIMITER)) {
+                String invalidCommandMessage = formatException.getMessage() + "\n" + COMMAND_FORMAT;
+                throw new InvalidFormatException(invalidCommandMessage);
+            }
+        }
+
+        try {
+            SettlementStrategy settlementStrategy = ParserUtils.parseSettlementStrategy(arguments);
+            return new SessionSettleAllCommand(groupId, settlementStrategy);
+        } catch (InvalidFormatException exception) {
+            String invalidCommandMessage = exception.getMessage() + "\n" + COMMAND_FORMAT;
+            throw new InvalidFormatException(invalidCommandMessage);
+        }
+    }
+}
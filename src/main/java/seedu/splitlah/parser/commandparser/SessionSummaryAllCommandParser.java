@@ -0,0 +1,43 @@
+package seedu.splitlah.parser.commandparser;
+
+import seedu.splitlah.command.SessionSummaryAllCommand;
+import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.parser.ArgumentTable;
+import seedu.splitlah.parser.ParserUtils;
+import seedu.splitlah.ui.Message;
+import seedu.splitlah.util.SettlementStrategy;
+
+/**
+ * Represents a command parser that is able to parse user arguments into a SessionSummaryAllCommand object.
+ *
+ * @author Warren
+ */
+public class SessionSummaryAllCommandParser implements CommandParser<SessionSummaryAllCommand> {
+
+    public static final String COMMAND_TEXT = "session /summaryall";
+
+    public static final String COMMAND_FORMAT = "Syntax: session /summaryall [</st [STRATEGY]>]";
+
+    public static final String[] COMMAND_DELIMITERS = {
+        ParserUtils.SETTLEMENT_STRATEGY_DELIMITER
+    };
+
+    /**
+     * Returns a SessionSummaryAllCommand object after parsing the input arguments from the user.
+     *
+     * @param arguments An ArgumentTable object representing arguments provided by the user.
+     * @return A SessionSummaryAllCommand object.
+     * @throws InvalidFormatException If the settlement strategy provided is not valid.
+     */
+    @Override
+    public SessionSummaryAllCommand getCommand(ArgumentTable arguments) throws InvalidFormatException {
+        assert arguments != null : Message.ASSERT_PARSER_COMMAND_ARGUMENTS_NULL;
+        try {
+            SettlementStrategy settlementStrategy = ParserUtils.parseSettlementStrategy(arguments);
+            return new SessionSummaryAllCommand(settlementStrategy);
+        } catch (InvalidFormatException exception) {
+            String invalidCommandMessage = exception.getMessage() + "\n" + COMMAND_FORMAT;
+            throw new InvalidFormatException(invalidCommandMessage);
+        }
+    }
+}
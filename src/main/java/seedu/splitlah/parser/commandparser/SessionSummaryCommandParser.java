@@ -2,8 +2,10 @@ package seedu.splitlah.parser.commandparser;
 
 import seedu.splitlah.command.SessionSummaryCommand;
 import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.parser.ArgumentTable;
 import seedu.splitlah.parser.ParserUtils;
 import seedu.splitlah.ui.Message;
+import seedu.splitlah.util.SettlementStrategy;
 
 /**
  * Represents a command parser that is able to parse user arguments into a SessionSummaryCommand object.
@@ -14,27 +16,30 @@ public class SessionSummaryCommandParser implements CommandParser<SessionSummary
 
     public static final String COMMAND_TEXT = "session /summary";
 
-    public static final String COMMAND_FORMAT = "Syntax: session /summary /sid [SESSION_ID]";
+    public static final String COMMAND_FORMAT = "Syntax: session /summary /sid [SESSION_ID] [</st [STRATEGY]>]";
 
     public static final String[] COMMAND_DELIMITERS = {
-        ParserUtils.SESSION_ID_DELIMITER
+        ParserUtils.SESSION_ID_DELIMITER,
+        ParserUtils.SETTLEMENT_STRATEGY_DELIMITER
     };
 
     /**
      * Returns a SessionSummaryCommand object after parsing the input arguments from the user.
      * 
-     * @param commandArgs A String object representing arguments provided by the user.
+     * @param arguments An ArgumentTable object representing arguments provided by the user.
      * @return A SessionSummaryCommand object if a valid integer representing a session's unique identifier is found
      *         in the input arguments.
      * @throws InvalidFormatException If a valid integer representing a session's unique identifier cannot be found
-     *                                in the input arguments.
+     *                                in the input arguments, or
+     *                                if the settlement strategy provided is not valid.
      */
     @Override
-    public SessionSummaryCommand getCommand(String commandArgs) throws InvalidFormatException {
-        assert commandArgs != null : Message.ASSERT_PARSER_COMMAND_ARGUMENTS_NULL;
+    public SessionSummaryCommand getCommand(ArgumentTable arguments) throws InvalidFormatException {
+        assert arguments != null : Message.ASSERT_PARSER_COMMAND_ARGUMENTS_NULL;
         try {
-            int sessionId = ParserUtils.parseSessionId(commandArgs);
-            return new SessionSummaryCommand(sessionId);
+            int sessionId = ParserUtils.parseSessionId(arguments);
+            SettlementStrategy settlementStrategy = ParserUtils.parseSettlementStrategy(arguments);
+            return new SessionSummaryCommand(sessionId, settlementStrategy);
         } catch (InvalidFormatException exception) {
             String invalidCommandMessage = exception.getMessage() + "\n" + COMMAND_FORMAT;
             throw new InvalidFormatException(invalidCommandMessage);
@@ -0,0 +1,28 @@
+package seedu.splitlah.parser.commandparser;
+
+import seedu.splitlah.command.TransactionBeginCommand;
+import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.parser.ArgumentTable;
+
+/**
+ * Represents a command parser that is able to parse user arguments into a TransactionBeginCommand object.
+ *
+ * @author Warren
+ */
+public class TransactionBeginCommandParser implements CommandParser<TransactionBeginCommand> {
+
+    public static final String COMMAND_TEXT = "transaction /begin";
+
+    public static final String COMMAND_FORMAT = "Syntax: transaction /begin";
+
+    /**
+     * Returns a TransactionBeginCommand object after parsing the input arguments from the user.
+     *
+     * @param arguments An ArgumentTable object representing arguments provided by the user.
+     * @return A TransactionBeginCommand object when method is called.
+     */
+    @Override
+    public TransactionBeginCommand getCommand(ArgumentTable arguments) throws InvalidFormatException {
+        return new TransactionBeginCommand();
+    }
+}
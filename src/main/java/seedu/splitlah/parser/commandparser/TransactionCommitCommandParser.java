@@ -0,0 +1,28 @@
+package seedu.splitlah.parser.commandparser;
+
+import seedu.splitlah.command.TransactionCommitCommand;
+import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.parser.ArgumentTable;
+
+/**
+ * Represents a command parser that is able to parse user arguments into a TransactionCommitCommand object.
+ *
+ * @author Warren
+ */
+public class TransactionCommitCommandParser implements CommandParser<TransactionCommitCommand> {
+
+    public static final String COMMAND_TEXT = "transaction /commit";
+
+    public static final String COMMAND_FORMAT = "Syntax: transaction /commit";
+
+    /**
+     * Returns a TransactionCommitCommand object after parsing the input arguments from the user.
+     *
+     * @param arguments An ArgumentTable object representing arguments provided by the user.
+     * @return A TransactionCommitCommand object when method is called.
+     */
+    @Override
+    public TransactionCommitCommand getCommand(ArgumentTable arguments) throws InvalidFormatException {
+        return new TransactionCommitCommand();
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.splitlah.parser.commandparser;
+
+import seedu.splitlah.command.TransactionRollbackCommand;
+import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.parser.ArgumentTable;
+
+/**
+ * Represents a command parser that is able to parse user arguments into a TransactionRollbackCommand object.
+ *
+ * @author Warren
+ */
+public class TransactionRollbackCommandParser implements CommandParser<TransactionRollbackCommand> {
+
+    public static final String COMMAND_TEXT = "transaction /rollback";
+
+    public static final String COMMAND_FORMAT = "Syntax: transaction /rollback";
+
+    /**
+     * Returns a TransactionRollbackCommand object after parsing the input arguments from the user.
+     *
+     * @param arguments An ArgumentTable object representing arguments provided by the user.
+     * @return A TransactionRollbackCommand object when method is called.
+     */
+    @Override
+    public TransactionRollbackCommand getCommand(ArgumentTable arguments) throws InvalidFormatException {
+        return new TransactionRollbackCommand();
+    }
+}
@@ -0,0 +1,152 @@
+package seedu.splitlah.storage;
+
+import java.io.DataInput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Represents the primitive encodings shared by the binary save file formats of SplitLah.
+ *
+ * @author Warren
+ */
+class BinaryFormat {
+
+    private static final int VARINT_PAYLOAD_MASK = 0x7f;
+    private static final int VARINT_CONTINUATION_BIT = 0x80;
+    private static final int VARINT_PAYLOAD_BITS = 7;
+    private static final int VARINT_MAX_SHIFT = 28;
+    private static final int VARLONG_MAX_SHIFT = 63;
+
+    /**
+     * Writes a non-negative integer using as few bytes as possible, seven bits at a time.
+     *
+     * @param out   A DataOutputStream object to write to.
+     * @param value A non-negative integer to be written.
+     * @throws IOException If an I/O error occurs while writing.
+     */
+    static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        assert value >= 0;
+        while ((value & ~VARINT_PAYLOAD_MASK) != 0) {
+            out.writeByte((value & VARINT_PAYLOAD_MASK) | VARINT_CONTINUATION_BIT);
+            value >>>= VARINT_PAYLOAD_BITS;
+        }
+        out.writeByte(value);
+    }
+
+    /**
+     * Reads a non-negative integer written by writeVarInt.
+     *
+     * @param in A ByteBuffer object to read from.
+     * @return The integer that was read.
+     * @throws IllegalArgumentException If the integer is longer than five bytes.
+     */
+    static int readVarInt(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; shift <= VARINT_MAX_SHIFT; shift += VARINT_PAYLOAD_BITS) {
+            byte nextByte = in.get();
+            value |= (nextByte & VARINT_PAYLOAD_MASK) << shift;
+            if ((nextByte & VARINT_CONTINUATION_BIT) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    /**
+     * Reads a non-negative integer written by writeVarInt from a stream.
+     *
+     * @param in A DataInput object to read from.
+     * @return The integer that was read.
+     * @throws StreamCorruptedException If the integer is longer than five bytes.
+     * @throws IOException              If an I/O error occurs while reading.
+     */
+    static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift <= VARINT_MAX_SHIFT; shift += VARINT_PAYLOAD_BITS) {
+            byte nextByte = in.readByte();
+            value |= (nextByte & VARINT_PAYLOAD_MASK) << shift;
+            if ((nextByte & VARINT_CONTINUATION_BIT) == 0) {
+                return value;
+            }
+        }
+        throw new StreamCorruptedException();
+    }
+
+    /**
+     * Writes a long using as few bytes as possible, seven bits at a time. The value is first zigzag encoded, so that
+     * a long close to zero takes few bytes whether it is positive or negative.
+     *
+     * @param out   A DataOutputStream object to write to.
+     * @param value A long to be written.
+     * @throws IOException If an I/O error occurs while writing.
+     */
+    static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        long encodedValue = (value << 1) ^ (value >> (Long.SIZE - 1));
+        while ((encodedValue & ~VARINT_PAYLOAD_MASK) != 0) {
+            out.writeByte((int) (encodedValue & VARINT_PAYLOAD_MASK) | VARINT_CONTINUATION_BIT);
+            encodedValue >>>= VARINT_PAYLOAD_BITS;
+        }
+        out.writeByte((int) encodedValue);
+    }
+
+    /**
+     * Reads a long written by writeVarLong from a stream.
+     *
+     * @param in A DataInput object to read from.
+     * @return The long that was read.
+     * @throws StreamCorruptedException If the long is longer than ten bytes.
+     * @throws IOException              If an I/O error occurs while reading.
+     */
+    static long readVarLong(DataInput in) throws IOException {
+        long encodedValue = 0;
+        for (int shift = 0; shift <= VARLONG_MAX_SHIFT; shift += VARINT_PAYLOAD_BITS) {
+            byte nextByte = in.readByte();
+            encodedValue |= (long) (nextByte & VARINT_PAYLOAD_MASK) << shift;
+            if ((nextByte & VARINT_CONTINUATION_BIT) == 0) {
+                return (encodedValue >>> 1) ^ -(encodedValue & 1);
+            }
+        }
+        throw new StreamCorruptedException();
+    }
+
+    /**
+     * Writes a String object as the length of its UTF-8 encoding followed by the encoded bytes.
+     *
+     * @param out    A DataOutputStream object to write to.
+     * @param string A String object to be written.
+     * @throws IOException If an I/O error occurs while writing.
+     */
+    static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a String object written by writeString.
+     *
+     * @param in A ByteBuffer object to read from.
+     * @return The String object that was read.
+     */
+    static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[readVarInt(in)];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a String object written by writeString from a stream.
+     *
+     * @param in A DataInput object to read from.
+     * @return The String object that was read.
+     * @throws IOException If an I/O error occurs while reading.
+     */
+    static String readString(DataInput in) throws IOException {
+        byte[] bytes = new byte[readVarInt(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.splitlah.storage;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Represents an InputStream that reads the remaining bytes of a ByteBuffer, such as a mapped save file,
+ * without copying them into the heap first.
+ *
+ * @author Warren
+ */
+class ByteBufferInputStream extends InputStream {
+
+    private static final int END_OF_STREAM = -1;
+    private static final int UNSIGNED_BYTE_MASK = 0xff;
+
+    private final ByteBuffer buffer;
+
+    /**
+     * Initializes a ByteBufferInputStream object.
+     *
+     * @param buffer A ByteBuffer object to be read from its position to its limit. Its position is left unchanged.
+     */
+    ByteBufferInputStream(ByteBuffer buffer) {
+        this.buffer = buffer.duplicate();
+    }
+
+    @Override
+    public int read() {
+        if (!buffer.hasRemaining()) {
+            return END_OF_STREAM;
+        }
+        return buffer.get() & UNSIGNED_BYTE_MASK;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) {
+        if (length == 0) {
+            return 0;
+        }
+        if (!buffer.hasRemaining()) {
+            return END_OF_STREAM;
+        }
+        int readLength = Math.min(length, buffer.remaining());
+        buffer.get(bytes, offset, readLength);
+        return readLength;
+    }
+
+    @Override
+    public int available() {
+        return buffer.remaining();
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.splitlah.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Represents the codecs that the save files of SplitLah can be compressed with.
+ * Each codec is identified in a compressed save file by its codec identifier.
+ *
+ * @author Warren
+ * @see SnapshotCompression
+ */
+public enum CompressionCodec {
+
+    NONE(0) {
+        @Override
+        OutputStream compress(OutputStream out, int level) {
+            return out;
+        }
+
+        @Override
+        InputStream decompress(InputStream in) {
+            return in;
+        }
+    },
+
+    DEFLATE(1) {
+        @Override
+        OutputStream compress(OutputStream out, int level) {
+            return new DeflaterOutputStream(out) {
+                {
+                    def.setLevel(level);
+                }
+            };
+        }
+
+        @Override
+        InputStream decompress(InputStream in) {
+            return new InflaterInputStream(in);
+        }
+    },
+
+    GZIP(2) {
+        @Override
+        OutputStream compress(OutputStream out, int level) throws IOException {
+            return new GZIPOutputStream(out) {
+                {
+                    def.setLevel(level);
+                }
+            };
+        }
+
+        @Override
+        InputStream decompress(InputStream in) throws IOException {
+            return new GZIPInputStream(in);
+        }
+    };
+
+    private final int codecId;
+
+    CompressionCodec(int codecId) {
+        this.codecId = codecId;
+    }
+
+    public int getCodecId() {
+        return codecId;
+    }
+
+    /**
+     * Returns the codec with the specified codec identifier.
+     *
+     * @param codecId An integer that identifies a codec.
+     * @return A CompressionCodec object with the codec identifier, or
+     *         null if no codec has the codec identifier.
+     */
+    public static CompressionCodec getCodec(int codecId) {
+        for (CompressionCodec codec : values()) {
+            if (codec.codecId == codecId) {
+                return codec;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns a stream that compresses everything written to it into the specified stream.
+     * Closing the returned stream finishes the compressed data and releases the native resources of the compressor.
+     *
+     * @param out   An OutputStream object that the compressed data is written to.
+     * @param level An integer from 1 to 9 that trades compression speed for a smaller output.
+     * @return An OutputStream object that compresses what is written to it.
+     * @throws IOException If an I/O error occurs while writing a header.
+     */
+    abstract OutputStream compress(OutputStream out, int level) throws IOException;
+
+    /**
+     * Returns a stream that decompresses the data read from the specified stream as it is read.
+     *
+     * @param in An InputStream object that the compressed data is read from.
+     * @return An InputStream object that decompresses what is read from it.
+     * @throws IOException If an I/O error occurs while reading a header, or if the header is not valid.
+     */
+    abstract InputStream decompress(InputStream in) throws IOException;
+}
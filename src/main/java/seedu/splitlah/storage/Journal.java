@@ -0,0 +1,209 @@
+package seedu.splitlah.storage;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Represents an append-only log of mutating commands that have been applied to the Profile object
+ * since the last snapshot was written.
+ * Each journal begins with a header that records the generation of the snapshot it applies on top of,
+ * followed by records in the form of [length][UTF-8 bytes][CRC32].
+ *
+ * @author Warren
+ */
+public class Journal {
+
+    private static final int JOURNAL_MAGIC = 0x534c4a31;
+    private static final int HEADER_LENGTH = Integer.BYTES + Long.BYTES;
+    private static final int RECORD_OVERHEAD = Integer.BYTES + Integer.BYTES;
+
+    private final File journalFile;
+    private int recordCount;
+
+    /**
+     * Initializes a Journal object.
+     *
+     * @param journalPath A String object that represents the path of the journal file.
+     */
+    public Journal(String journalPath) {
+        this.journalFile = new File(journalPath);
+        this.recordCount = 0;
+    }
+
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Returns the records in the journal that were appended on top of the snapshot with the specified generation.
+     * Records that are incomplete or fail the checksum, such as those left behind by a crash in the middle of
+     * an append, are discarded together with every record after them.
+     *
+     * @param generation A long that represents the generation of the snapshot that was loaded.
+     * @return An ArrayList object of String objects, each representing a journalled command,
+     *         or an empty ArrayList object if the journal does not belong to the specified generation.
+     * @throws IOException If an I/O error occurs while reading from or repairing the journal file.
+     */
+    public ArrayList<String> readRecords(long generation) throws IOException {
+        ArrayList<String> records = new ArrayList<>();
+        if (!journalFile.exists() || journalFile.length() < HEADER_LENGTH) {
+            reset(generation);
+            return records;
+        }
+
+        long validLength = HEADER_LENGTH;
+        boolean isSameGeneration;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(journalFile)))) {
+            isSameGeneration = in.readInt() == JOURNAL_MAGIC && in.readLong() == generation;
+            while (isSameGeneration) {
+                int length = in.readInt();
+                if (length < 0 || length > journalFile.length()) {
+                    break;
+                }
+                byte[] recordBytes = new byte[length];
+                in.readFully(recordBytes);
+                int checksum = in.readInt();
+                if (checksum != getChecksum(recordBytes)) {
+                    break;
+                }
+                records.add(new String(recordBytes, StandardCharsets.UTF_8));
+                validLength += RECORD_OVERHEAD + length;
+            }
+        } catch (EOFException endOfJournal) {
+            // Remaining bytes belong to an incomplete record and are discarded below.
+            isSameGeneration = true;
+        }
+
+        if (!isSameGeneration) {
+            reset(generation);
+            return records;
+        }
+        if (journalFile.length() > validLength) {
+            try (RandomAccessFile file = new RandomAccessFile(journalFile, "rw")) {
+                file.setLength(validLength);
+            }
+        }
+        recordCount = records.size();
+        return records;
+    }
+
+    /**
+     * Appends a record to the end of the journal and forces it to the storage device.
+     *
+     * @param record A String object that represents a mutating command.
+     * @throws IOException If an I/O error occurs while writing to the journal file.
+     */
+    public void append(String record) throws IOException {
+        assert record != null;
+        append(List.of(record));
+    }
+
+    /**
+     * Appends a batch of records to the end of the journal in a single write and forces them to the storage device
+     * once, so that a burst of mutating commands only costs one round trip to the storage device.
+     *
+     * @param records A List object of String objects, each representing a mutating command, in the order they were run.
+     * @throws IOException If an I/O error occurs while writing to the journal file.
+     */
+    public void append(List<String> records) throws IOException {
+        assert records != null;
+        if (records.isEmpty()) {
+            return;
+        }
+        ArrayList<byte[]> recordBytesList = new ArrayList<>(records.size());
+        int batchLength = 0;
+        for (String record : records) {
+            byte[] recordBytes = record.getBytes(StandardCharsets.UTF_8);
+            recordBytesList.add(recordBytes);
+            batchLength += RECORD_OVERHEAD + recordBytes.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(batchLength);
+        for (byte[] recordBytes : recordBytesList) {
+            buffer.putInt(recordBytes.length).put(recordBytes).putInt(getChecksum(recordBytes));
+        }
+        buffer.flip();
+        try (FileChannel channel = FileChannel.open(journalFile.toPath(), StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        recordCount += records.size();
+    }
+
+    /**
+     * Discards all records in the journal and marks it as applying on top of the snapshot with the
+     * specified generation.
+     *
+     * @param generation A long that represents the generation of the snapshot that was last written.
+     * @throws IOException If an I/O error occurs while writing to the journal file.
+     */
+    public void reset(long generation) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+        header.putInt(JOURNAL_MAGIC).putLong(generation);
+        header.flip();
+        try (FileChannel channel = FileChannel.open(journalFile.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            channel.force(false);
+        }
+        recordCount = 0;
+    }
+
+    /**
+     * Checks if a copy of the journal with the specified suffix has already been kept.
+     *
+     * @param suffix A String object that is appended to the name of the journal file to name the copy.
+     * @return true if a file with the name of the copy exists,
+     *         false otherwise.
+     */
+    public boolean hasCopy(String suffix) {
+        return getCopyFile(suffix).exists();
+    }
+
+    /**
+     * Keeps a copy of the journal beside it, if the journal file exists, so that its records can still be recovered
+     * after the journal is reset. An existing file with the name of the copy is never replaced.
+     *
+     * @param suffix A String object that is appended to the name of the journal file to name the copy.
+     * @throws IOException If an I/O error occurs while copying the journal file, or
+     *                     if a file with the name of the copy already exists.
+     */
+    public void keepCopy(String suffix) throws IOException {
+        if (journalFile.exists()) {
+            Files.copy(journalFile.toPath(), getCopyFile(suffix).toPath());
+        }
+    }
+
+    private File getCopyFile(String suffix) {
+        return new File(journalFile.getPath() + suffix);
+    }
+
+    /**
+     * Returns the CRC32 checksum of the provided bytes, truncated to an integer.
+     *
+     * @param bytes A byte array to compute the checksum of.
+     * @return An integer representing the checksum.
+     */
+    private static int getChecksum(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length);
+        return (int) crc.getValue();
+    }
+}
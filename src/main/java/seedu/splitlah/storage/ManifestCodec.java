@@ -0,0 +1,250 @@
+package seedu.splitlah.storage;
+
+import seedu.splitlah.data.Group;
+import seedu.splitlah.data.Person;
+import seedu.splitlah.data.PersonList;
+import seedu.splitlah.data.Profile;
+import seedu.splitlah.data.Session;
+import seedu.splitlah.data.SessionLoader;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.zip.ZipException;
+
+/**
+ * Represents a codec for the manifest of the sharded save file layout, in which the participants and activities
+ * of each session are kept in a shard file of their own.
+ * The manifest holds the unique identifier trackers and the groups, followed by an index entry for each session
+ * holding its details, the revision of the shard file it is kept in and the layout of the segment in that shard.
+ * Manifests written by earlier versions of SplitLah do not record the layout, as all of their shards hold amounts of
+ * money as doubles in dollars.
+ * When a Profile object is encoded, only the sessions that have been changed since they were last saved are encoded
+ * into new shards. Every other session keeps referring to the shard it was loaded from.
+ *
+ * @author Warren
+ * @see SessionShard
+ */
+public class ManifestCodec {
+
+    public static final int FORMAT_MAGIC = 0x53504c4d;
+    private static final int DOLLAR_SHARD_FORMAT_VERSION = 1;
+    private static final int FORMAT_VERSION = 2;
+
+    /**
+     * Checks if the remaining bytes in the buffer begin with the magic number of the manifest format, or
+     * are a compressed payload, which is only ever written for manifests and session shards.
+     *
+     * @param payload A ByteBuffer object positioned at the start of the contents of a save file.
+     * @return true if the bytes are a manifest,
+     *         false otherwise.
+     */
+    public static boolean isManifest(ByteBuffer payload) {
+        if (SnapshotCompression.isCompressed(payload)) {
+            return true;
+        }
+        return payload.remaining() >= Integer.BYTES && payload.getInt(payload.position()) == FORMAT_MAGIC;
+    }
+
+    /**
+     * Returns the manifest of the specified Profile object, together with new shards for the sessions that
+     * have been changed since they were last saved. Each changed session is marked as saved and is loaded from
+     * its new shard from then on.
+     * Shards that were encoded for an earlier snapshot but have not been written yet are included again,
+     * so that a snapshot never refers to a shard that is only held in memory.
+     *
+     * @param profile        A Profile object to be encoded.
+     * @param shardDirectory A Path object that represents the directory holding the shard files.
+     * @return A ProfileSnapshot object holding the manifest and the shards to be written.
+     * @throws IOException If an I/O error occurs while writing to the underlying buffer.
+     */
+    public static ProfileSnapshot encode(Profile profile, Path shardDirectory) throws IOException {
+        ArrayList<SessionShard> shardsToWrite = new ArrayList<>();
+        HashMap<Integer, Integer> sessionRevisions = new HashMap<>();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(buffer);
+        out.writeInt(FORMAT_MAGIC);
+        BinaryFormat.writeVarInt(out, FORMAT_VERSION);
+        BinaryFormat.writeVarInt(out, profile.getSessionIdTracker());
+        BinaryFormat.writeVarInt(out, profile.getActivityIdTracker());
+        BinaryFormat.writeVarInt(out, profile.getGroupIdTracker());
+
+        BinaryFormat.writeVarInt(out, profile.getGroupList().size());
+        for (Group group : profile.getGroupList()) {
+            ProfileCodec.writeGroup(out, group);
+        }
+        BinaryFormat.writeVarInt(out, profile.getSessionList().size());
+        for (Session session : profile.getSessionList()) {
+            SessionShard shard = getShard(session, shardDirectory);
+            if (!shard.isWritten()) {
+                shardsToWrite.add(shard);
+            }
+            sessionRevisions.put(session.getSessionId(), shard.getRevision());
+            writeSession(out, session, shard);
+        }
+        out.flush();
+        return new ProfileSnapshot(buffer.toByteArray(), shardsToWrite, sessionRevisions);
+    }
+
+    /**
+     * Returns the Profile object described by the manifest, decompressing it as it is decoded if it is compressed.
+     * The participants and activities of each session are left in its shard file, and are only decoded when
+     * the session is first used.
+     *
+     * @param payload        A ByteBuffer object positioned at the start of a manifest.
+     * @param shardDirectory A Path object that represents the directory holding the shard files.
+     * @return A Profile object described by the manifest.
+     * @throws StreamCorruptedException If the bytes do not represent a manifest in a known version of the format.
+     * @throws IOException              If an I/O error occurs while decompressing the manifest.
+     */
+    public static Profile decode(ByteBuffer payload, Path shardDirectory) throws IOException {
+        try (DataInputStream in = SnapshotCompression.openPayload(payload)) {
+            if (in.readInt() != FORMAT_MAGIC) {
+                throw new StreamCorruptedException();
+            }
+            int formatVersion = BinaryFormat.readVarInt(in);
+            if (formatVersion != FORMAT_VERSION && formatVersion != DOLLAR_SHARD_FORMAT_VERSION) {
+                throw new StreamCorruptedException();
+            }
+            return decodeProfile(in, shardDirectory, formatVersion);
+        } catch (EOFException | ZipException exception) {
+            throw new StreamCorruptedException();
+        }
+    }
+
+    /**
+     * Returns the shard that holds the current participants and activities of the Session object.
+     * If the session has been changed, or has never been saved into a shard, it is encoded into a new shard
+     * with the next revision and marked as saved.
+     *
+     * @param session        A Session object to be saved.
+     * @param shardDirectory A Path object that represents the directory holding the shard files.
+     * @return A SessionShard object that holds the session.
+     * @throws IOException If an I/O error occurs while encoding the session.
+     */
+    private static SessionShard getShard(Session session, Path shardDirectory) throws IOException {
+        SessionLoader contentSource = session.getContentSource();
+        if (!session.isModified() && contentSource instanceof SessionShard) {
+            return (SessionShard) contentSource;
+        }
+        int revision = SessionShard.FIRST_REVISION;
+        if (contentSource instanceof SessionShard) {
+            revision = ((SessionShard) contentSource).getRevision() + 1;
+        }
+        SessionShard shard = new SessionShard(shardDirectory, session.getSessionId(), revision,
+                SessionSegment.CURRENT_LAYOUT, SessionSegment.getSegment(session));
+        session.markSaved(shard);
+        return shard;
+    }
+
+    /**
+     * Writes the index entry of a Session object as its identifier, name, date, group identifier,
+     * number of participants, number of activities, and the revision and layout of the shard holding it.
+     *
+     * @param out     A DataOutputStream object to write to.
+     * @param session A Session object to be written.
+     * @param shard   A SessionShard object that holds the session.
+     * @throws IOException If an I/O error occurs while writing.
+     */
+    private static void writeSession(DataOutputStream out, Session session, SessionShard shard) throws IOException {
+        BinaryFormat.writeVarInt(out, session.getSessionId());
+        BinaryFormat.writeString(out, session.getSessionName());
+        out.writeLong(session.getDateCreated().toEpochDay());
+        Group group = session.getGroup();
+        BinaryFormat.writeVarInt(out, group == null ? ProfileCodec.NO_GROUP_ID : group.getGroupId());
+        BinaryFormat.writeVarInt(out, session.getPersonCount());
+        BinaryFormat.writeVarInt(out, session.getActivityCount());
+        BinaryFormat.writeVarInt(out, shard.getRevision());
+        BinaryFormat.writeVarInt(out, shard.getLayout());
+    }
+
+    /**
+     * Reads a Profile object from the manifest, which is positioned right after the format version.
+     *
+     * @param in             A DataInput object that contains the manifest.
+     * @param shardDirectory A Path object that represents the directory holding the shard files.
+     * @param formatVersion  An integer that represents the version of the format of the manifest.
+     * @return A Profile object described by the manifest.
+     * @throws IOException If an I/O error occurs while reading, or if the manifest is not valid.
+     */
+    private static Profile decodeProfile(DataInput in, Path shardDirectory, int formatVersion) throws IOException {
+        int sessionIdTracker = BinaryFormat.readVarInt(in);
+        int activityIdTracker = BinaryFormat.readVarInt(in);
+        int groupIdTracker = BinaryFormat.readVarInt(in);
+        Profile profile = new Profile(sessionIdTracker, activityIdTracker, groupIdTracker);
+
+        HashMap<Integer, Group> groups = new HashMap<>();
+        int groupCount = BinaryFormat.readVarInt(in);
+        for (int i = 0; i < groupCount; i++) {
+            Group group = readGroup(in);
+            groups.put(group.getGroupId(), group);
+            profile.addGroup(group);
+        }
+        int sessionCount = BinaryFormat.readVarInt(in);
+        for (int i = 0; i < sessionCount; i++) {
+            profile.addSession(readSession(in, groups, shardDirectory, formatVersion));
+        }
+        return profile;
+    }
+
+    /**
+     * Reads a Group object.
+     *
+     * @param in A DataInput object positioned at the start of a Group object.
+     * @return A Group object.
+     * @throws IOException If an I/O error occurs while reading, or if the name of a person is not a valid name.
+     */
+    private static Group readGroup(DataInput in) throws IOException {
+        int groupId = BinaryFormat.readVarInt(in);
+        String groupName = BinaryFormat.readString(in);
+        int personCount = BinaryFormat.readVarInt(in);
+        ArrayList<Person> personList = new ArrayList<>(personCount);
+        for (int i = 0; i < personCount; i++) {
+            Person person = Person.createPersonFromString(BinaryFormat.readString(in));
+            if (person == null) {
+                throw new StreamCorruptedException();
+            }
+            personList.add(person);
+        }
+        return new Group(groupName, groupId, new PersonList(personList));
+    }
+
+    /**
+     * Reads the index entry of a Session object. Its participants and activities are left in its shard file,
+     * to be decoded when the session is first used.
+     *
+     * @param in             A DataInput object positioned at the start of an index entry.
+     * @param groups         A HashMap object of Group objects keyed by their group unique identifiers.
+     * @param shardDirectory A Path object that represents the directory holding the shard files.
+     * @param formatVersion  An integer that represents the version of the format of the manifest.
+     * @return A Session object whose participants and activities have not been loaded.
+     * @throws IOException If an I/O error occurs while reading, or if the index entry is not valid.
+     */
+    private static Session readSession(DataInput in, HashMap<Integer, Group> groups, Path shardDirectory,
+            int formatVersion) throws IOException {
+        int sessionId = BinaryFormat.readVarInt(in);
+        String sessionName = BinaryFormat.readString(in);
+        LocalDate dateCreated = LocalDate.ofEpochDay(in.readLong());
+        Group group = groups.get(BinaryFormat.readVarInt(in));
+        int personCount = BinaryFormat.readVarInt(in);
+        int activityCount = BinaryFormat.readVarInt(in);
+        int revision = BinaryFormat.readVarInt(in);
+        int layout = formatVersion == DOLLAR_SHARD_FORMAT_VERSION
+                ? SessionSegment.DOLLAR_AMOUNT_LAYOUT
+                : BinaryFormat.readVarInt(in);
+        if (personCount == 0 || revision < SessionShard.FIRST_REVISION || !SessionSegment.isKnownLayout(layout)) {
+            throw new StreamCorruptedException();
+        }
+        SessionShard shard = new SessionShard(shardDirectory, sessionId, revision, layout, null);
+        return new Session(sessionName, sessionId, dateCreated, group, shard, personCount, activityCount);
+    }
+}
@@ -0,0 +1,283 @@
+package seedu.splitlah.storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Represents a dedicated thread that persists changes to the Profile object in the background, so that
+ * the user does not wait for the storage device before the next prompt is shown.
+ * Writes submitted within the maximum staleness window are coalesced into a single flush. A pending snapshot
+ * supersedes every journal record submitted before it, so only the latest snapshot and the records submitted
+ * after it are written.
+ *
+ * @author Warren
+ */
+public class PersistenceExecutor {
+
+    public static final long DEFAULT_MAX_STALENESS_MILLIS = 200;
+    private static final int CHECKPOINT_INTERVAL = 50;
+    private static final long NANOS_PER_MILLI = 1_000_000;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+    private static final String THREAD_NAME = "SplitLah-persistence";
+
+    private final Storage storage;
+    private final long maxStalenessMillis;
+    private final ScheduledExecutorService executor;
+
+    private ProfileSnapshot pendingSnapshot;
+    private ArrayList<String> pendingRecords = new ArrayList<>();
+    private long oldestPendingNanos;
+    private boolean isFlushScheduled = false;
+    private boolean isClosed = false;
+    private int recordsSinceSnapshot;
+    private IOException lastFailure;
+
+    private long lastFlushLagMillis = 0;
+    private long maxFlushLagMillis = 0;
+    private long flushCount = 0;
+    private long submittedWriteCount = 0;
+
+    /**
+     * Initializes a PersistenceExecutor object and starts its background thread.
+     *
+     * @param storage            A Storage object that the changes are written to.
+     * @param maxStalenessMillis A long that represents the longest time a submitted write may wait before
+     *                           it is flushed to the storage device.
+     */
+    public PersistenceExecutor(Storage storage, long maxStalenessMillis) {
+        assert maxStalenessMillis >= 0 : "The maximum staleness window cannot be negative";
+        this.storage = storage;
+        this.maxStalenessMillis = maxStalenessMillis;
+        this.recordsSinceSnapshot = storage.getJournalRecordCount();
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Submits a mutating command to be appended to the journal at the next flush.
+     *
+     * @param record A String object that represents a command that has been applied to the Profile object.
+     */
+    public synchronized void submitRecord(String record) {
+        assert record != null;
+        final boolean hadPendingWrites = hasPendingWrites();
+        pendingRecords.add(record);
+        recordsSinceSnapshot += 1;
+        markDirty(hadPendingWrites);
+    }
+
+    /**
+     * Submits an encoded Profile object to be written as a new snapshot at the next flush.
+     * Journal records that are still pending are discarded, as the snapshot already contains their changes.
+     *
+     * @param snapshot A ProfileSnapshot object that represents an encoded Profile object.
+     */
+    public synchronized void submitSnapshot(ProfileSnapshot snapshot) {
+        assert snapshot != null;
+        final boolean hadPendingWrites = hasPendingWrites();
+        pendingSnapshot = snapshot;
+        pendingRecords.clear();
+        recordsSinceSnapshot = 0;
+        markDirty(hadPendingWrites);
+    }
+
+    /**
+     * Checks if enough commands have been journalled since the last snapshot that a new snapshot should be written.
+     *
+     * @return true if the number of journalled commands has reached the checkpoint interval,
+     *         false otherwise.
+     */
+    public synchronized boolean isCheckpointDue() {
+        return recordsSinceSnapshot >= CHECKPOINT_INTERVAL;
+    }
+
+    /**
+     * Returns and clears the error that caused the last failed flush, so that it is only reported once.
+     *
+     * @return An IOException object that caused the last failed flush, or
+     *         null if no flush has failed since the last call.
+     */
+    public synchronized IOException takeFailure() {
+        IOException failure = lastFailure;
+        lastFailure = null;
+        return failure;
+    }
+
+    /**
+     * Returns the current lag of the persisted data behind the Profile object.
+     *
+     * @return A PersistenceMetrics object.
+     */
+    public synchronized PersistenceMetrics getMetrics() {
+        int pendingWriteCount = pendingRecords.size() + (pendingSnapshot == null ? 0 : 1);
+        long currentLagMillis = pendingWriteCount == 0 ? 0 : getMillisSince(oldestPendingNanos);
+        return new PersistenceMetrics(pendingWriteCount, currentLagMillis, lastFlushLagMillis, maxFlushLagMillis,
+                flushCount, submittedWriteCount, maxStalenessMillis);
+    }
+
+    /**
+     * Flushes all pending writes and waits until they have been written to the storage device.
+     */
+    public void flush() {
+        synchronized (this) {
+            if (isClosed) {
+                return;
+            }
+        }
+        try {
+            executor.submit(this::flushPendingWrites).get();
+        } catch (RejectedExecutionException closedException) {
+            flushPendingWrites();
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException executionException) {
+            synchronized (this) {
+                lastFailure = new IOException(executionException.getCause());
+            }
+        }
+    }
+
+    /**
+     * Flushes all pending writes and stops the background thread.
+     * Called when the application exits and when the JVM shuts down, so calling it more than once has no effect.
+     */
+    public void close() {
+        flush();
+        synchronized (this) {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+        }
+        executor.shutdown();
+        try {
+            executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Checks if there are writes that have been submitted but not yet taken by a flush.
+     *
+     * @return true if a snapshot or journal record is pending,
+     *         false otherwise.
+     */
+    private boolean hasPendingWrites() {
+        return pendingSnapshot != null || !pendingRecords.isEmpty();
+    }
+
+    /**
+     * Records that a write has been submitted, and schedules a flush at the end of the maximum staleness window
+     * if no flush is scheduled yet. A write submitted after the executor is closed is flushed immediately.
+     *
+     * @param hadPendingWrites A boolean that represents whether other writes were already pending.
+     */
+    private void markDirty(boolean hadPendingWrites) {
+        if (!hadPendingWrites) {
+            oldestPendingNanos = System.nanoTime();
+        }
+        submittedWriteCount += 1;
+        if (isClosed) {
+            // The background thread has stopped, so the write is flushed on the calling thread instead.
+            flushPendingWrites();
+            return;
+        }
+        if (!isFlushScheduled) {
+            isFlushScheduled = true;
+            executor.schedule(this::flushPendingWrites, maxStalenessMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Takes all pending writes and writes them to the storage device, the snapshot first, followed by
+     * the journal records that were submitted after it in a single append.
+     * If the snapshot cannot be written, the journal is left untouched and the writes are retried later.
+     */
+    private void flushPendingWrites() {
+        ProfileSnapshot snapshot;
+        ArrayList<String> records;
+        long batchStartNanos;
+        synchronized (this) {
+            isFlushScheduled = false;
+            if (!hasPendingWrites()) {
+                return;
+            }
+            snapshot = pendingSnapshot;
+            records = pendingRecords;
+            batchStartNanos = oldestPendingNanos;
+            pendingSnapshot = null;
+            pendingRecords = new ArrayList<>();
+        }
+
+        IOException failure = null;
+        try {
+            if (snapshot != null) {
+                storage.saveSnapshotToFile(snapshot);
+            }
+        } catch (IOException ioException) {
+            synchronized (this) {
+                lastFailure = ioException;
+                requeueWrites(snapshot, records, batchStartNanos);
+            }
+            return;
+        }
+        try {
+            storage.appendToJournal(records);
+        } catch (IOException ioException) {
+            failure = ioException;
+        }
+
+        synchronized (this) {
+            if (failure != null) {
+                lastFailure = failure;
+            }
+            lastFlushLagMillis = getMillisSince(batchStartNanos);
+            maxFlushLagMillis = Math.max(maxFlushLagMillis, lastFlushLagMillis);
+            flushCount += 1;
+        }
+    }
+
+    /**
+     * Puts back a snapshot that could not be written, together with the journal records submitted after it,
+     * ahead of any writes submitted since they were taken, and schedules another flush to retry them.
+     * The records are never appended to the journal without the snapshot, as the journal still belongs to the
+     * previous snapshot, which does not contain the changes of the records submitted before the snapshot.
+     * If a newer snapshot has been submitted in the meantime, it already contains every change of the writes
+     * put back, so they are discarded instead.
+     *
+     * @param snapshot        A ProfileSnapshot object that could not be written.
+     * @param records         An ArrayList object of the journal records submitted after the snapshot.
+     * @param batchStartNanos A long that represents the time that the oldest of the writes was submitted.
+     */
+    private void requeueWrites(ProfileSnapshot snapshot, ArrayList<String> records, long batchStartNanos) {
+        if (pendingSnapshot == null) {
+            pendingSnapshot = snapshot;
+            records.addAll(pendingRecords);
+            pendingRecords = records;
+        }
+        oldestPendingNanos = batchStartNanos;
+        if (!isClosed && !isFlushScheduled) {
+            isFlushScheduled = true;
+            executor.schedule(this::flushPendingWrites, maxStalenessMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Returns the number of milliseconds that have passed since the specified time.
+     *
+     * @param startNanos A long that represents a time returned by System.nanoTime.
+     * @return A long that represents the number of milliseconds that have passed.
+     */
+    private static long getMillisSince(long startNanos) {
+        return (System.nanoTime() - startNanos) / NANOS_PER_MILLI;
+    }
+}
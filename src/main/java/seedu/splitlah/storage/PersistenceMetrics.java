@@ -0,0 +1,84 @@
+package seedu.splitlah.storage;
+
+/**
+ * Represents a point-in-time view of how far the data persisted by a PersistenceExecutor object lags behind
+ * the changes made to the Profile object.
+ *
+ * @author Warren
+ */
+public class PersistenceMetrics {
+
+    private final int pendingWriteCount;
+    private final long currentLagMillis;
+    private final long lastFlushLagMillis;
+    private final long maxFlushLagMillis;
+    private final long flushCount;
+    private final long submittedWriteCount;
+    private final long maxStalenessMillis;
+
+    /**
+     * Initializes a PersistenceMetrics object.
+     *
+     * @param pendingWriteCount   An integer that represents the number of writes that are not yet persisted.
+     * @param currentLagMillis    A long that represents how long the oldest pending write has been waiting.
+     * @param lastFlushLagMillis  A long that represents how long the oldest write of the last flush waited.
+     * @param maxFlushLagMillis   A long that represents the longest time any flushed write waited.
+     * @param flushCount          A long that represents the number of flushes that have completed.
+     * @param submittedWriteCount A long that represents the number of writes submitted to be persisted.
+     * @param maxStalenessMillis  A long that represents the configured maximum staleness window.
+     */
+    public PersistenceMetrics(int pendingWriteCount, long currentLagMillis, long lastFlushLagMillis,
+            long maxFlushLagMillis, long flushCount, long submittedWriteCount, long maxStalenessMillis) {
+        this.pendingWriteCount = pendingWriteCount;
+        this.currentLagMillis = currentLagMillis;
+        this.lastFlushLagMillis = lastFlushLagMillis;
+        this.maxFlushLagMillis = maxFlushLagMillis;
+        this.flushCount = flushCount;
+        this.submittedWriteCount = submittedWriteCount;
+        this.maxStalenessMillis = maxStalenessMillis;
+    }
+
+    public int getPendingWriteCount() {
+        return pendingWriteCount;
+    }
+
+    public long getCurrentLagMillis() {
+        return currentLagMillis;
+    }
+
+    public long getLastFlushLagMillis() {
+        return lastFlushLagMillis;
+    }
+
+    public long getMaxFlushLagMillis() {
+        return maxFlushLagMillis;
+    }
+
+    public long getFlushCount() {
+        return flushCount;
+    }
+
+    public long getSubmittedWriteCount() {
+        return submittedWriteCount;
+    }
+
+    public long getMaxStalenessMillis() {
+        return maxStalenessMillis;
+    }
+
+    /**
+     * Returns a String object that summarises the metrics.
+     *
+     * @return A String object containing the values of all metrics.
+     */
+    @Override
+    public String toString() {
+        return "pending writes: " + pendingWriteCount
+                + ", current lag: " + currentLagMillis + "ms"
+                + ", last flush lag: " + lastFlushLagMillis + "ms"
+                + ", max flush lag: " + maxFlushLagMillis + "ms"
+                + ", flushes: " + flushCount
+                + ", writes submitted: " + submittedWriteCount
+                + ", max staleness: " + maxStalenessMillis + "ms";
+    }
+}
@@ -0,0 +1,171 @@
+package seedu.splitlah.storage;
+
+import seedu.splitlah.data.Activity;
+import seedu.splitlah.data.Group;
+import seedu.splitlah.data.Money;
+import seedu.splitlah.data.Person;
+import seedu.splitlah.data.PersonList;
+import seedu.splitlah.data.Profile;
+import seedu.splitlah.data.Session;
+
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * Represents a decoder for the first two versions of the binary format of ProfileCodec, in which every Person object
+ * is written once into a profile-wide person table and may be shared between groups and sessions.
+ * Profiles in these versions are decoded eagerly, and are expected to be migrated with ProfileMigration.
+ *
+ * @author Warren
+ */
+class PersonTableProfileDecoder {
+
+    static final int EAGER_SESSION_FORMAT_VERSION = 1;
+    static final int LAZY_ACTIVITY_FORMAT_VERSION = 2;
+
+    private final int formatVersion;
+    private final ArrayList<Person> personTable = new ArrayList<>();
+    private final ArrayList<String> nameTable = new ArrayList<>();
+
+    /**
+     * Initializes a PersonTableProfileDecoder object.
+     *
+     * @param formatVersion An integer that represents the version of the format to be decoded.
+     */
+    PersonTableProfileDecoder(int formatVersion) {
+        assert formatVersion == EAGER_SESSION_FORMAT_VERSION || formatVersion == LAZY_ACTIVITY_FORMAT_VERSION;
+        this.formatVersion = formatVersion;
+    }
+
+    /**
+     * Reads a Profile object from the buffer, which is positioned right after the format version.
+     *
+     * @param in A ByteBuffer object that contains the binary representation of a Profile object.
+     * @return A Profile object represented by the buffer, with Person objects shared as they were when written.
+     * @throws StreamCorruptedException If the name of a person is not a valid name.
+     */
+    Profile decodeProfile(ByteBuffer in) throws StreamCorruptedException {
+        int sessionIdTracker = BinaryFormat.readVarInt(in);
+        int activityIdTracker = BinaryFormat.readVarInt(in);
+        int groupIdTracker = BinaryFormat.readVarInt(in);
+        Profile profile = new Profile(sessionIdTracker, activityIdTracker, groupIdTracker);
+
+        int nameCount = BinaryFormat.readVarInt(in);
+        for (int i = 0; i < nameCount; i++) {
+            nameTable.add(BinaryFormat.readString(in));
+        }
+        int personCount = BinaryFormat.readVarInt(in);
+        for (int i = 0; i < personCount; i++) {
+            personTable.add(readPerson(in));
+        }
+        HashMap<Integer, Group> groups = new HashMap<>();
+        int groupCount = BinaryFormat.readVarInt(in);
+        for (int i = 0; i < groupCount; i++) {
+            Group group = readGroup(in);
+            groups.put(group.getGroupId(), group);
+            profile.addGroup(group);
+        }
+        int sessionCount = BinaryFormat.readVarInt(in);
+        for (int i = 0; i < sessionCount; i++) {
+            profile.addSession(readSession(in, groups));
+        }
+        return profile;
+    }
+
+    /**
+     * Reads a Person object together with the costs it has borne for each activity.
+     *
+     * @param in A ByteBuffer object positioned at the start of a Person object.
+     * @return A Person object.
+     * @throws StreamCorruptedException If the name of the person is not a valid name.
+     */
+    private Person readPerson(ByteBuffer in) throws StreamCorruptedException {
+        Person person = Person.createPersonFromString(nameTable.get(BinaryFormat.readVarInt(in)));
+        if (person == null) {
+            throw new StreamCorruptedException();
+        }
+        int costCount = BinaryFormat.readVarInt(in);
+        int[] activityIds = new int[costCount];
+        for (int i = 0; i < costCount; i++) {
+            activityIds[i] = BinaryFormat.readVarInt(in);
+        }
+        Money[] costsPaid = new Money[costCount];
+        for (int i = 0; i < costCount; i++) {
+            costsPaid[i] = Money.fromDouble(in.getDouble());
+        }
+        for (int i = 0; i < costCount; i++) {
+            person.addActivityCost(activityIds[i], costsPaid[i], Money.fromDouble(in.getDouble()));
+        }
+        return person;
+    }
+
+    /**
+     * Reads a Group object.
+     *
+     * @param in A ByteBuffer object positioned at the start of a Group object.
+     * @return A Group object.
+     */
+    private Group readGroup(ByteBuffer in) {
+        int groupId = BinaryFormat.readVarInt(in);
+        String groupName = BinaryFormat.readString(in);
+        return new Group(groupName, groupId, readPersonList(in));
+    }
+
+    /**
+     * Reads a Session object together with all of its activities.
+     * In the second version of the format, the activities are preceded by the length of the body holding them.
+     *
+     * @param in     A ByteBuffer object positioned at the start of a Session object.
+     * @param groups A HashMap object of Group objects keyed by their group unique identifiers.
+     * @return A Session object.
+     */
+    private Session readSession(ByteBuffer in, HashMap<Integer, Group> groups) {
+        int sessionId = BinaryFormat.readVarInt(in);
+        String sessionName = BinaryFormat.readString(in);
+        LocalDate dateCreated = LocalDate.ofEpochDay(in.getLong());
+        Group group = groups.get(BinaryFormat.readVarInt(in));
+        Session session = new Session(sessionName, sessionId, dateCreated, readPersonList(in), group);
+        int activityCount = BinaryFormat.readVarInt(in);
+        if (formatVersion == LAZY_ACTIVITY_FORMAT_VERSION) {
+            BinaryFormat.readVarInt(in);
+        }
+        for (int i = 0; i < activityCount; i++) {
+            session.addActivity(readActivity(in));
+        }
+        return session;
+    }
+
+    /**
+     * Reads an Activity object.
+     *
+     * @param in A ByteBuffer object positioned at the start of an Activity object.
+     * @return An Activity object.
+     */
+    private Activity readActivity(ByteBuffer in) {
+        int activityId = BinaryFormat.readVarInt(in);
+        String activityName = BinaryFormat.readString(in);
+        Money totalCost = Money.fromDouble(in.getDouble());
+        double gst = in.getDouble();
+        double serviceCharge = in.getDouble();
+        Person personPaid = personTable.get(BinaryFormat.readVarInt(in));
+        return new Activity(activityId, activityName, totalCost, personPaid, readPersonList(in), gst, serviceCharge);
+    }
+
+    /**
+     * Reads a list of indexes into the person table as a PersonList object.
+     *
+     * @param in A ByteBuffer object positioned at the start of a list of person indexes.
+     * @return A PersonList object containing the Person objects referred to by the indexes.
+     */
+    private PersonList readPersonList(ByteBuffer in) {
+        int personCount = BinaryFormat.readVarInt(in);
+        ArrayList<Person> personList = new ArrayList<>(personCount);
+        for (int i = 0; i < personCount; i++) {
+            personList.add(personTable.get(BinaryFormat.readVarInt(in)));
+        }
+        return new PersonList(personList);
+    }
+}
@@ -0,0 +1,247 @@
+package seedu.splitlah.storage;
+
+import seedu.splitlah.data.Group;
+import seedu.splitlah.data.Person;
+import seedu.splitlah.data.PersonList;
+import seedu.splitlah.data.Profile;
+import seedu.splitlah.data.Session;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * Represents a codec that converts a Profile object to and from a compact, versioned binary format.
+ * Identifiers and counts are written as variable-length integers, and the costs borne by each person are written
+ * as primitive arrays.
+ * The save file begins with the unique identifier trackers and the groups, followed by an index entry for each
+ * session holding its details, immediately followed by the segment holding its participants and activities.
+ * Only the index is decoded when a save file is loaded. The segment of a session is decoded when the session is
+ * first used, and the segment of a session that has not been changed is copied into the next save file as it is.
+ * The third version of the format is decoded in the same way, with segments that hold amounts of money as doubles
+ * in dollars.
+ *
+ * @author Warren
+ * @see SessionSegment
+ */
+public class ProfileCodec {
+
+    public static final int FORMAT_MAGIC = 0x53504c42;
+    private static final int DOLLAR_AMOUNT_FORMAT_VERSION = 3;
+    private static final int FORMAT_VERSION = 4;
+    static final int NO_GROUP_ID = 0;
+
+    /**
+     * Checks if the provided bytes begin with the magic number of this binary format.
+     *
+     * @param payload A byte array that represents the contents of a save file.
+     * @return true if the bytes are in the binary format of this codec,
+     *         false otherwise.
+     */
+    public static boolean isEncodedProfile(byte[] payload) {
+        return isEncodedProfile(ByteBuffer.wrap(payload));
+    }
+
+    /**
+     * Checks if the remaining bytes in the buffer begin with the magic number of this binary format.
+     *
+     * @param payload A ByteBuffer object positioned at the start of the contents of a save file.
+     * @return true if the bytes are in the binary format of this codec,
+     *         false otherwise.
+     */
+    public static boolean isEncodedProfile(ByteBuffer payload) {
+        return payload.remaining() >= Integer.BYTES && payload.getInt(payload.position()) == FORMAT_MAGIC;
+    }
+
+    /**
+     * Returns the binary representation of the specified Profile object.
+     *
+     * @param profile A Profile object to be encoded.
+     * @return A byte array that represents the Profile object.
+     * @throws IOException If an I/O error occurs while writing to the underlying buffer.
+     */
+    public static byte[] encode(Profile profile) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(buffer);
+        out.writeInt(FORMAT_MAGIC);
+        BinaryFormat.writeVarInt(out, FORMAT_VERSION);
+        BinaryFormat.writeVarInt(out, profile.getSessionIdTracker());
+        BinaryFormat.writeVarInt(out, profile.getActivityIdTracker());
+        BinaryFormat.writeVarInt(out, profile.getGroupIdTracker());
+
+        BinaryFormat.writeVarInt(out, profile.getGroupList().size());
+        for (Group group : profile.getGroupList()) {
+            writeGroup(out, group);
+        }
+        BinaryFormat.writeVarInt(out, profile.getSessionList().size());
+        for (Session session : profile.getSessionList()) {
+            writeSession(out, session);
+        }
+        out.flush();
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Returns the Profile object represented by the provided binary representation.
+     *
+     * @param payload A byte array that represents a Profile object.
+     * @return A Profile object represented by the bytes.
+     * @throws StreamCorruptedException If the bytes do not represent a Profile object in a known version of the format.
+     */
+    public static Profile decode(byte[] payload) throws StreamCorruptedException {
+        return decode(ByteBuffer.wrap(payload));
+    }
+
+    /**
+     * Returns the Profile object represented by the binary representation in the buffer.
+     * The segment of each session is left in the buffer and is only decoded when the session is first used,
+     * so the buffer must not be modified after it is decoded.
+     * Profiles written in earlier versions of the format are decoded eagerly and migrated.
+     *
+     * @param payload A ByteBuffer object positioned at the start of a Profile object, such as a mapped save file.
+     * @return A Profile object represented by the bytes.
+     * @throws StreamCorruptedException If the bytes do not represent a Profile object in a known version of the format.
+     */
+    public static Profile decode(ByteBuffer payload) throws StreamCorruptedException {
+        ByteBuffer in = payload.duplicate();
+        try {
+            if (in.getInt() != FORMAT_MAGIC) {
+                throw new StreamCorruptedException();
+            }
+            int formatVersion = BinaryFormat.readVarInt(in);
+            if (formatVersion == FORMAT_VERSION) {
+                return decodeProfile(in, SessionSegment.CURRENT_LAYOUT);
+            }
+            if (formatVersion == DOLLAR_AMOUNT_FORMAT_VERSION) {
+                return decodeProfile(in, SessionSegment.DOLLAR_AMOUNT_LAYOUT);
+            }
+            if (formatVersion == PersonTableProfileDecoder.EAGER_SESSION_FORMAT_VERSION
+                    || formatVersion == PersonTableProfileDecoder.LAZY_ACTIVITY_FORMAT_VERSION) {
+                Profile profile = new PersonTableProfileDecoder(formatVersion).decodeProfile(in);
+                return ProfileMigration.separateSessionPersons(profile);
+            }
+            throw new StreamCorruptedException();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException exception) {
+            throw new StreamCorruptedException();
+        }
+    }
+
+    /**
+     * Writes a Group object as its identifier, name and the names of its persons.
+     *
+     * @param out   A DataOutputStream object to write to.
+     * @param group A Group object to be written.
+     * @throws IOException If an I/O error occurs while writing.
+     */
+    static void writeGroup(DataOutputStream out, Group group) throws IOException {
+        BinaryFormat.writeVarInt(out, group.getGroupId());
+        BinaryFormat.writeString(out, group.getGroupName());
+        BinaryFormat.writeVarInt(out, group.getPersonCount());
+        for (Person person : group.getPersonList()) {
+            BinaryFormat.writeString(out, person.getName());
+        }
+    }
+
+    /**
+     * Writes the index entry of a Session object as its identifier, name, date, group identifier,
+     * number of participants, number of activities and the length of its segment, followed by the segment.
+     *
+     * @param out     A DataOutputStream object to write to.
+     * @param session A Session object to be written.
+     * @throws IOException If an I/O error occurs while writing.
+     */
+    private static void writeSession(DataOutputStream out, Session session) throws IOException {
+        final ByteBuffer segment = SessionSegment.getSegment(session);
+        BinaryFormat.writeVarInt(out, session.getSessionId());
+        BinaryFormat.writeString(out, session.getSessionName());
+        out.writeLong(session.getDateCreated().toEpochDay());
+        Group group = session.getGroup();
+        BinaryFormat.writeVarInt(out, group == null ? NO_GROUP_ID : group.getGroupId());
+        BinaryFormat.writeVarInt(out, session.getPersonCount());
+        BinaryFormat.writeVarInt(out, session.getActivityCount());
+        byte[] segmentBytes = new byte[segment.remaining()];
+        segment.get(segmentBytes);
+        BinaryFormat.writeVarInt(out, segmentBytes.length);
+        out.write(segmentBytes);
+    }
+
+    /**
+     * Reads a Profile object from the buffer, which is positioned right after the format version.
+     *
+     * @param in     A ByteBuffer object that contains the binary representation of a Profile object.
+     * @param layout An integer that represents the layout that the segments of the sessions are written in.
+     * @return A Profile object represented by the buffer.
+     * @throws StreamCorruptedException If the name of a person in a group is not a valid name.
+     */
+    private static Profile decodeProfile(ByteBuffer in, int layout) throws StreamCorruptedException {
+        int sessionIdTracker = BinaryFormat.readVarInt(in);
+        int activityIdTracker = BinaryFormat.readVarInt(in);
+        int groupIdTracker = BinaryFormat.readVarInt(in);
+        Profile profile = new Profile(sessionIdTracker, activityIdTracker, groupIdTracker);
+
+        HashMap<Integer, Group> groups = new HashMap<>();
+        int groupCount = BinaryFormat.readVarInt(in);
+        for (int i = 0; i < groupCount; i++) {
+            Group group = readGroup(in);
+            groups.put(group.getGroupId(), group);
+            profile.addGroup(group);
+        }
+        int sessionCount = BinaryFormat.readVarInt(in);
+        for (int i = 0; i < sessionCount; i++) {
+            profile.addSession(readSession(in, groups, layout));
+        }
+        return profile;
+    }
+
+    /**
+     * Reads a Group object.
+     *
+     * @param in A ByteBuffer object positioned at the start of a Group object.
+     * @return A Group object.
+     * @throws StreamCorruptedException If the name of a person in the group is not a valid name.
+     */
+    private static Group readGroup(ByteBuffer in) throws StreamCorruptedException {
+        int groupId = BinaryFormat.readVarInt(in);
+        String groupName = BinaryFormat.readString(in);
+        int personCount = BinaryFormat.readVarInt(in);
+        ArrayList<Person> personList = new ArrayList<>(personCount);
+        for (int i = 0; i < personCount; i++) {
+            Person person = Person.createPersonFromString(BinaryFormat.readString(in));
+            if (person == null) {
+                throw new StreamCorruptedException();
+            }
+            personList.add(person);
+        }
+        return new Group(groupName, groupId, new PersonList(personList));
+    }
+
+    /**
+     * Reads the index entry of a Session object. Its segment is left in the buffer, to be decoded when the session
+     * is first used.
+     *
+     * @param in     A ByteBuffer object positioned at the start of a Session object.
+     * @param groups A HashMap object of Group objects keyed by their group unique identifiers.
+     * @param layout An integer that represents the layout that the segment of the session is written in.
+     * @return A Session object whose participants and activities have not been loaded.
+     */
+    private static Session readSession(ByteBuffer in, HashMap<Integer, Group> groups, int layout) {
+        int sessionId = BinaryFormat.readVarInt(in);
+        String sessionName = BinaryFormat.readString(in);
+        LocalDate dateCreated = LocalDate.ofEpochDay(in.getLong());
+        Group group = groups.get(BinaryFormat.readVarInt(in));
+        int personCount = BinaryFormat.readVarInt(in);
+        int activityCount = BinaryFormat.readVarInt(in);
+        int segmentLength = BinaryFormat.readVarInt(in);
+        ByteBuffer segment = in.slice();
+        segment.limit(segmentLength);
+        in.position(in.position() + segmentLength);
+        return new Session(sessionName, sessionId, dateCreated, group, new SessionSegment(segment, layout),
+                personCount, activityCount);
+    }
+}
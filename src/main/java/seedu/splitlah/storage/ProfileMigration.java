@@ -0,0 +1,115 @@
+package seedu.splitlah.storage;
+
+import seedu.splitlah.data.Activity;
+import seedu.splitlah.data.ActivityCostLedger;
+import seedu.splitlah.data.Money;
+import seedu.splitlah.data.Group;
+import seedu.splitlah.data.Person;
+import seedu.splitlah.data.PersonList;
+import seedu.splitlah.data.Profile;
+import seedu.splitlah.data.Session;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+
+/**
+ * Represents the migration of a Profile object loaded from a save file written before each session owned its
+ * participants. In such save files, a Person object of a group is shared with every session created with the group,
+ * and holds the costs of all those sessions.
+ * The migration gives every group and session its own Person objects, each holding only the costs incurred
+ * in the session that owns it, so that each session can be stored and loaded on its own.
+ *
+ * @author Warren
+ */
+class ProfileMigration {
+
+    /**
+     * Returns a copy of the Profile object in which no Person object is shared between groups and sessions.
+     *
+     * @param profile A Profile object loaded from an older save file.
+     * @return A Profile object with the same groups, sessions, activities and costs.
+     */
+    static Profile separateSessionPersons(Profile profile) {
+        Profile migratedProfile = new Profile(profile.getSessionIdTracker(), profile.getActivityIdTracker(),
+                profile.getGroupIdTracker());
+        HashMap<Integer, Group> groups = new HashMap<>();
+        for (Group group : profile.getGroupList()) {
+            ArrayList<Person> personList = new ArrayList<>();
+            for (Person person : group.getPersonList()) {
+                personList.add(Person.createPersonFromString(person.getName()));
+            }
+            Group migratedGroup = new Group(group.getGroupName(), group.getGroupId(), new PersonList(personList));
+            groups.put(migratedGroup.getGroupId(), migratedGroup);
+            migratedProfile.addGroup(migratedGroup);
+        }
+        for (Session session : profile.getSessionList()) {
+            migratedProfile.addSession(separateSessionPersons(session, groups));
+        }
+        return migratedProfile;
+    }
+
+    /**
+     * Returns a copy of the Session object with its own Person objects, each holding only the costs of
+     * the activities in the session.
+     *
+     * @param session A Session object whose Person objects may be shared with groups or other sessions.
+     * @param groups  A HashMap object of migrated Group objects keyed by their group unique identifiers.
+     * @return A Session object that owns all of its Person objects.
+     */
+    private static Session separateSessionPersons(Session session, HashMap<Integer, Group> groups) {
+        HashSet<Integer> activityIds = new HashSet<>();
+        for (Activity activity : session.getActivityList()) {
+            activityIds.add(activity.getActivityId());
+        }
+        IdentityHashMap<Person, Person> personCopies = new IdentityHashMap<>();
+        ArrayList<Person> personList = new ArrayList<>();
+        for (Person person : session.getPersonArrayList()) {
+            personList.add(getPersonCopy(person, personCopies, activityIds));
+        }
+
+        Group group = session.getGroup() == null ? null : groups.get(session.getGroup().getGroupId());
+        Session migratedSession = new Session(session.getSessionName(), session.getSessionId(),
+                session.getDateCreated(), new PersonList(personList), group);
+        for (Activity activity : session.getActivityList()) {
+            ArrayList<Person> involvedPersonList = new ArrayList<>();
+            for (Person person : activity.getInvolvedPersonList()) {
+                involvedPersonList.add(getPersonCopy(person, personCopies, activityIds));
+            }
+            Person personPaid = getPersonCopy(activity.getPersonPaid(), personCopies, activityIds);
+            migratedSession.addActivity(new Activity(activity.getActivityId(), activity.getActivityName(),
+                    activity.getTotalCost(), personPaid, new PersonList(involvedPersonList), activity.getGst(),
+                    activity.getServiceCharge()));
+        }
+        return migratedSession;
+    }
+
+    /**
+     * Returns the copy of the Person object that belongs to the session being migrated, creating it
+     * with only the costs of the activities in the session if it has not been copied before.
+     *
+     * @param person       A Person object that may be shared with groups or other sessions.
+     * @param personCopies An IdentityHashMap object of the copies made so far for the session.
+     * @param activityIds  A HashSet object of the identifiers of the activities in the session.
+     * @return A Person object that belongs to the session.
+     */
+    private static Person getPersonCopy(Person person, IdentityHashMap<Person, Person> personCopies,
+            HashSet<Integer> activityIds) {
+        Person personCopy = personCopies.get(person);
+        if (personCopy != null) {
+            return personCopy;
+        }
+        personCopy = Person.createPersonFromString(person.getName());
+        ActivityCostLedger activityCostLedger = person.getActivityCostLedger();
+        for (int slot = 0; slot < activityCostLedger.size(); slot++) {
+            int activityId = activityCostLedger.getActivityId(slot);
+            if (activityIds.contains(activityId)) {
+                personCopy.addActivityCost(activityId, Money.ofCents(activityCostLedger.getCostPaid(slot)),
+                        Money.ofCents(activityCostLedger.getCostOwed(slot)));
+            }
+        }
+        personCopies.put(person, personCopy);
+        return personCopy;
+    }
+}
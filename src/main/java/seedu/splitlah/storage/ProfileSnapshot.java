@@ -0,0 +1,54 @@
+package seedu.splitlah.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * Represents the encoded state of a Profile object in the sharded save file layout, captured to be written
+ * by another thread. It consists of the manifest, the shards of the sessions that have to be written before
+ * the manifest, and the revision of every session that the manifest refers to.
+ *
+ * @author Warren
+ * @see ManifestCodec
+ */
+public class ProfileSnapshot {
+
+    private final byte[] manifest;
+    private final ArrayList<SessionShard> shardsToWrite;
+    private final HashMap<Integer, Integer> sessionRevisions;
+
+    /**
+     * Initializes a ProfileSnapshot object.
+     *
+     * @param manifest         A byte array that represents the encoded manifest.
+     * @param shardsToWrite    An ArrayList object of SessionShard objects that are not yet written.
+     * @param sessionRevisions A HashMap object of the revision of each session, keyed by session unique identifiers.
+     */
+    ProfileSnapshot(byte[] manifest, ArrayList<SessionShard> shardsToWrite,
+            HashMap<Integer, Integer> sessionRevisions) {
+        this.manifest = manifest;
+        this.shardsToWrite = shardsToWrite;
+        this.sessionRevisions = sessionRevisions;
+    }
+
+    byte[] getManifest() {
+        return manifest;
+    }
+
+    ArrayList<SessionShard> getShardsToWrite() {
+        return shardsToWrite;
+    }
+
+    HashMap<Integer, Integer> getSessionRevisions() {
+        return sessionRevisions;
+    }
+
+    /**
+     * Returns the number of session shards that have to be written with this snapshot.
+     *
+     * @return An integer that represents the number of shards to be written.
+     */
+    public int getShardWriteCount() {
+        return shardsToWrite.size();
+    }
+}
@@ -0,0 +1,273 @@
+package seedu.splitlah.storage;
+
+import seedu.splitlah.data.Activity;
+import seedu.splitlah.data.Group;
+import seedu.splitlah.data.Money;
+import seedu.splitlah.data.Person;
+import seedu.splitlah.data.PersonList;
+import seedu.splitlah.data.Profile;
+import seedu.splitlah.data.Session;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamField;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Represents a reader of save files written with Java serialization, before ProfileCodec was introduced.
+ * Such save files hold the data classes in the field layout that they had when SplitLah was first released, which
+ * no longer matches the data classes. Every class descriptor of a data class read from the save file is checked
+ * against a private class with the same serialVersionUID and fields as the data class had then, and replaced with
+ * the descriptor of that class. The objects read are then converted into the data classes of today, keeping Person
+ * objects that are shared between groups, sessions and activities shared.
+ * Only the classes that such save files can hold are resolved, so no other class is ever instantiated from
+ * a save file.
+ *
+ * @author Warren
+ */
+class SerializedProfileDecoder extends ObjectInputStream {
+
+    private static final String DATA_PACKAGE = "seedu.splitlah.data.";
+    private static final Map<String, Class<?>> LEGACY_CLASSES = Map.of(
+            DATA_PACKAGE + "Profile", LegacyProfile.class,
+            DATA_PACKAGE + "Group", LegacyGroup.class,
+            DATA_PACKAGE + "Session", LegacySession.class,
+            DATA_PACKAGE + "Activity", LegacyActivity.class,
+            DATA_PACKAGE + "ActivityCost", LegacyActivityCost.class,
+            DATA_PACKAGE + "PersonList", LegacyPersonList.class,
+            DATA_PACKAGE + "Person", LegacyPerson.class,
+            DATA_PACKAGE + "Name", LegacyName.class);
+    private static final Set<String> JDK_CLASSES = Set.of("java.util.ArrayList", "java.time.Ser");
+
+    // ERROR MESSAGES
+    private static final String INCOMPATIBLE_LAYOUT = "The class does not have the layout of a legacy save file";
+    private static final String UNEXPECTED_CLASS = "The class cannot be held by a legacy save file";
+    private static final String NOT_A_PROFILE = "The save file does not hold a Profile object";
+    private static final String INVALID_NAME = "The save file holds an invalid name";
+
+    private final IdentityHashMap<LegacyPerson, Person> persons = new IdentityHashMap<>();
+
+    /**
+     * Initializes a SerializedProfileDecoder object that reads from the specified stream.
+     *
+     * @param in An InputStream object that holds a save file written with Java serialization.
+     * @throws IOException If the stream does not begin with a valid serialization header.
+     */
+    SerializedProfileDecoder(InputStream in) throws IOException {
+        super(in);
+    }
+
+    /**
+     * Reads the Profile object in the save file and converts it into a Profile object of today.
+     * Person objects shared between groups, sessions and activities in the save file stay shared, to be separated
+     * by ProfileMigration.
+     *
+     * @return A Profile object with the same groups, sessions, activities and costs as the save file.
+     * @throws IOException            If the save file cannot be read, or
+     *                                if it holds anything other than a Profile object of the legacy layout.
+     * @throws ClassNotFoundException If Class of a serialized object cannot be found.
+     */
+    Profile readProfile() throws IOException, ClassNotFoundException {
+        Object object = readObject();
+        if (!(object instanceof LegacyProfile)) {
+            throw new InvalidObjectException(NOT_A_PROFILE);
+        }
+        return toProfile((LegacyProfile) object);
+    }
+
+    /**
+     * Reads a class descriptor, replacing the descriptor of every data class with the descriptor of the private
+     * class with its legacy layout.
+     *
+     * @return An ObjectStreamClass object that describes the layout of the class in the save file.
+     * @throws IOException            If the descriptor cannot be read, or
+     *                                if a data class in the save file does not have the legacy layout.
+     * @throws ClassNotFoundException If Class of a serialized object cannot be found.
+     */
+    @Override
+    protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+        ObjectStreamClass descriptor = super.readClassDescriptor();
+        Class<?> legacyClass = LEGACY_CLASSES.get(descriptor.getName());
+        if (legacyClass == null) {
+            return descriptor;
+        }
+        ObjectStreamClass legacyDescriptor = ObjectStreamClass.lookup(legacyClass);
+        if (descriptor.getSerialVersionUID() != legacyDescriptor.getSerialVersionUID()
+                || !hasSameFields(descriptor, legacyDescriptor)) {
+            throw new InvalidClassException(descriptor.getName(), INCOMPATIBLE_LAYOUT);
+        }
+        return legacyDescriptor;
+    }
+
+    /**
+     * Returns the class of a descriptor, if it is a class that a save file written with Java serialization can hold.
+     *
+     * @param descriptor An ObjectStreamClass object that describes a class in the save file.
+     * @return A Class object of the class described.
+     * @throws IOException            If the class cannot be held by such a save file.
+     * @throws ClassNotFoundException If the class cannot be found.
+     */
+    @Override
+    protected Class<?> resolveClass(ObjectStreamClass descriptor) throws IOException, ClassNotFoundException {
+        String className = descriptor.getName();
+        boolean isLegacyClass = LEGACY_CLASSES.values().stream()
+                .anyMatch(legacyClass -> legacyClass.getName().equals(className));
+        if (!isLegacyClass && !JDK_CLASSES.contains(className)) {
+            throw new InvalidClassException(className, UNEXPECTED_CLASS);
+        }
+        return super.resolveClass(descriptor);
+    }
+
+    /**
+     * Checks if two class descriptors have fields with the same names and kinds of types, in the same order.
+     *
+     * @param descriptor       An ObjectStreamClass object read from the save file.
+     * @param legacyDescriptor An ObjectStreamClass object of a private class with a legacy layout.
+     * @return true if the fields match,
+     *         false otherwise.
+     */
+    private static boolean hasSameFields(ObjectStreamClass descriptor, ObjectStreamClass legacyDescriptor) {
+        ObjectStreamField[] fields = descriptor.getFields();
+        ObjectStreamField[] legacyFields = legacyDescriptor.getFields();
+        if (fields.length != legacyFields.length) {
+            return false;
+        }
+        for (int i = 0; i < fields.length; i++) {
+            if (!fields[i].getName().equals(legacyFields[i].getName())
+                    || fields[i].getTypeCode() != legacyFields[i].getTypeCode()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Profile toProfile(LegacyProfile legacyProfile) throws InvalidObjectException {
+        Profile profile = new Profile(legacyProfile.sessionIdTracker, legacyProfile.activityIdTracker,
+                legacyProfile.groupIdTracker);
+        HashMap<Integer, Group> groups = new HashMap<>();
+        for (LegacyGroup legacyGroup : legacyProfile.groupList) {
+            Group group = new Group(legacyGroup.groupName, legacyGroup.groupId, toPersonList(legacyGroup.personList));
+            groups.put(group.getGroupId(), group);
+            profile.addGroup(group);
+        }
+        for (LegacySession legacySession : legacyProfile.sessionList) {
+            Group group = legacySession.group == null ? null : groups.get(legacySession.group.groupId);
+            Session session = new Session(legacySession.sessionName, legacySession.sessionId,
+                    legacySession.dateCreated, toPersonList(legacySession.personList), group);
+            for (LegacyActivity legacyActivity : legacySession.activityList) {
+                session.addActivity(new Activity(legacyActivity.activityId, legacyActivity.activityName,
+                        Money.fromDouble(legacyActivity.totalCost), toPerson(legacyActivity.personPaid),
+                        toPersonList(legacyActivity.involvedPersonList), legacyActivity.gst,
+                        legacyActivity.serviceCharge));
+            }
+            profile.addSession(session);
+        }
+        return profile;
+    }
+
+    private PersonList toPersonList(LegacyPersonList legacyPersonList) throws InvalidObjectException {
+        ArrayList<Person> personList = new ArrayList<>();
+        for (LegacyPerson legacyPerson : legacyPersonList.personList) {
+            personList.add(toPerson(legacyPerson));
+        }
+        return new PersonList(personList);
+    }
+
+    /**
+     * Returns the Person object converted from a Person object in the save file, converting it the first time
+     * that it is met, so that a Person object shared in the save file is converted into a single Person object.
+     *
+     * @param legacyPerson A LegacyPerson object read from the save file.
+     * @return A Person object with the same name and activity costs.
+     * @throws InvalidObjectException If the name of the person is not valid.
+     */
+    private Person toPerson(LegacyPerson legacyPerson) throws InvalidObjectException {
+        Person person = persons.get(legacyPerson);
+        if (person != null) {
+            return person;
+        }
+        person = Person.createPersonFromString(legacyPerson.name.name);
+        if (person == null) {
+            throw new InvalidObjectException(INVALID_NAME);
+        }
+        for (LegacyActivityCost activityCost : legacyPerson.activityCostList) {
+            person.addActivityCost(activityCost.activityId, Money.fromDouble(activityCost.costPaid),
+                    Money.fromDouble(activityCost.costOwed));
+        }
+        persons.put(legacyPerson, person);
+        return person;
+    }
+
+    // The classes below hold the fields that the data classes had when SplitLah was first released, with the
+    // serialVersionUID that was computed for each of them. They must not be changed.
+
+    private static final class LegacyProfile implements Serializable {
+        private static final long serialVersionUID = 7298416960366647224L;
+        private ArrayList<LegacySession> sessionList;
+        private ArrayList<LegacyGroup> groupList;
+        private int sessionIdTracker;
+        private int activityIdTracker;
+        private int groupIdTracker;
+    }
+
+    private static final class LegacyGroup implements Serializable {
+        private static final long serialVersionUID = 6896133244308701184L;
+        private String groupName;
+        private int groupId;
+        private LegacyPersonList personList;
+    }
+
+    private static final class LegacySession implements Serializable {
+        private static final long serialVersionUID = -5814387291229479L;
+        private String sessionName;
+        private int sessionId;
+        private LocalDate dateCreated;
+        private ArrayList<LegacyActivity> activityList;
+        private LegacyPersonList personList;
+        private LegacyGroup group;
+    }
+
+    private static final class LegacyActivity implements Serializable {
+        private static final long serialVersionUID = 4488373444477179333L;
+        private int activityId;
+        private String activityName;
+        private double totalCost;
+        private LegacyPerson personPaid;
+        private LegacyPersonList involvedPersonList;
+        private double gst;
+        private double serviceCharge;
+    }
+
+    private static final class LegacyActivityCost implements Serializable {
+        private static final long serialVersionUID = -1239499703340762406L;
+        private int activityId;
+        private double costPaid;
+        private double costOwed;
+    }
+
+    private static final class LegacyPersonList implements Serializable {
+        private static final long serialVersionUID = -1680452840471671331L;
+        private ArrayList<LegacyPerson> personList;
+    }
+
+    private static final class LegacyPerson implements Serializable {
+        private static final long serialVersionUID = 3374049290122455102L;
+        private LegacyName name;
+        private ArrayList<LegacyActivityCost> activityCostList;
+    }
+
+    private static final class LegacyName implements Serializable {
+        private static final long serialVersionUID = -196675503719391367L;
+        private String name;
+    }
+}
@@ -0,0 +1,284 @@
+package seedu.splitlah.storage;
+
+import seedu.splitlah.data.Activity;
+import seedu.splitlah.data.ActivityCostLedger;
+import seedu.splitlah.data.Money;
+import seedu.splitlah.data.Person;
+import seedu.splitlah.data.PersonList;
+import seedu.splitlah.data.Session;
+import seedu.splitlah.data.SessionLoader;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+
+/**
+ * Represents the segment of a save file that holds the participants and activities of a single session.
+ * A segment is self-contained: participants are written with their names and the costs they have borne in the session,
+ * and activities refer to participants by their index in the segment. Amounts of money are written as whole numbers
+ * of cents. This allows a Session object to be loaded from its segment on demand, and allows an unchanged segment
+ * to be copied into the next save file as it is.
+ * Segments written by earlier versions of SplitLah hold amounts of money as doubles in dollars instead. They are
+ * still decoded, and are encoded again in the current layout the next time their sessions are saved.
+ *
+ * @author Warren
+ */
+public class SessionSegment implements SessionLoader {
+
+    static final int DOLLAR_AMOUNT_LAYOUT = 1;
+    static final int CENT_AMOUNT_LAYOUT = 2;
+    static final int CURRENT_LAYOUT = CENT_AMOUNT_LAYOUT;
+
+    private final ByteBuffer segment;
+    private final int layout;
+
+    /**
+     * Initializes a SessionSegment object.
+     *
+     * @param segment A ByteBuffer object holding exactly the bytes of the segment. It must not be modified afterwards.
+     * @param layout  An integer that represents the layout that the segment was written in.
+     */
+    public SessionSegment(ByteBuffer segment, int layout) {
+        assert isKnownLayout(layout);
+        this.segment = segment.slice();
+        this.layout = layout;
+    }
+
+    /**
+     * Checks if segments written in the specified layout can be decoded.
+     *
+     * @param layout An integer that represents the layout of a segment.
+     * @return true if the layout is known,
+     *         false otherwise.
+     */
+    static boolean isKnownLayout(int layout) {
+        return layout == DOLLAR_AMOUNT_LAYOUT || layout == CENT_AMOUNT_LAYOUT;
+    }
+
+    /**
+     * Returns the encoded participants and activities of the Session object in the current layout. If the session
+     * has not been changed since it was loaded from a segment in the current layout, that segment is returned without
+     * decoding or encoding the session.
+     *
+     * @param session A Session object to be encoded.
+     * @return A ByteBuffer object holding the bytes of the segment.
+     * @throws IOException If an I/O error occurs while writing to the underlying buffer.
+     */
+    public static ByteBuffer getSegment(Session session) throws IOException {
+        if (!session.isModified() && session.getContentSource() instanceof SessionSegment) {
+            SessionSegment contentSource = (SessionSegment) session.getContentSource();
+            if (contentSource.layout == CURRENT_LAYOUT) {
+                return contentSource.segment.duplicate();
+            }
+        }
+        return ByteBuffer.wrap(encode(session));
+    }
+
+    /**
+     * Returns the participants and activities of the Session object encoded as a segment in the current layout.
+     *
+     * @param session A Session object to be encoded.
+     * @return A byte array that represents the segment.
+     * @throws IOException If an I/O error occurs while writing to the underlying buffer.
+     */
+    public static byte[] encode(Session session) throws IOException {
+        ArrayList<Person> personList = session.getPersonArrayList();
+        IdentityHashMap<Person, Integer> personIndexes = new IdentityHashMap<>();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(buffer);
+
+        BinaryFormat.writeVarInt(out, personList.size());
+        for (Person person : personList) {
+            personIndexes.put(person, personIndexes.size());
+            writePerson(out, person);
+        }
+        Collection<Activity> activityList = session.getActivityList();
+        BinaryFormat.writeVarInt(out, activityList.size());
+        for (Activity activity : activityList) {
+            writeActivity(out, activity, personIndexes);
+        }
+        out.flush();
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Decodes the participants and activities in the segment and restores them into the Session object.
+     *
+     * @param session A Session object whose participants and activities have not been loaded.
+     * @throws UncheckedIOException If the segment does not hold a valid session.
+     */
+    @Override
+    public void loadContents(Session session) {
+        try (DataInputStream in = new DataInputStream(new ByteBufferInputStream(segment))) {
+            readContents(in, session, layout);
+        } catch (IOException ioException) {
+            throw new UncheckedIOException(ioException);
+        }
+    }
+
+    /**
+     * Decodes the participants and activities of a segment as they are read from the stream, and restores them
+     * into the Session object.
+     *
+     * @param in      A DataInput object positioned at the start of a segment.
+     * @param session A Session object whose participants and activities have not been loaded.
+     * @param layout  An integer that represents the layout that the segment was written in.
+     * @throws IOException If an I/O error occurs while reading, or if the stream does not hold a valid segment.
+     */
+    static void readContents(DataInput in, Session session, int layout) throws IOException {
+        int personCount = BinaryFormat.readVarInt(in);
+        ArrayList<Person> personList = new ArrayList<>(personCount);
+        for (int i = 0; i < personCount; i++) {
+            personList.add(readPerson(in, layout));
+        }
+        int activityCount = BinaryFormat.readVarInt(in);
+        ArrayList<Activity> activityList = new ArrayList<>(activityCount);
+        for (int i = 0; i < activityCount; i++) {
+            activityList.add(readActivity(in, personList, layout));
+        }
+        session.restoreContents(new PersonList(personList), activityList);
+    }
+
+    /**
+     * Writes a Person object as its name, followed by its activity identifiers, costs paid and costs owed
+     * as three primitive arrays, with every cost in cents.
+     *
+     * @param out    A DataOutputStream object to write to.
+     * @param person A Person object to be written.
+     * @throws IOException If an I/O error occurs while writing.
+     */
+    private static void writePerson(DataOutputStream out, Person person) throws IOException {
+        ActivityCostLedger activityCostLedger = person.getActivityCostLedger();
+        int costCount = activityCostLedger.size();
+        BinaryFormat.writeString(out, person.getName());
+        BinaryFormat.writeVarInt(out, costCount);
+        for (int slot = 0; slot < costCount; slot++) {
+            BinaryFormat.writeVarInt(out, activityCostLedger.getActivityId(slot));
+        }
+        for (int slot = 0; slot < costCount; slot++) {
+            BinaryFormat.writeVarLong(out, activityCostLedger.getCostPaid(slot));
+        }
+        for (int slot = 0; slot < costCount; slot++) {
+            BinaryFormat.writeVarLong(out, activityCostLedger.getCostOwed(slot));
+        }
+    }
+
+    /**
+     * Writes an Activity object as its identifier, name, costs, the index of its payer and the indexes of
+     * its involved persons in the segment.
+     *
+     * @param out           A DataOutputStream object to write to.
+     * @param activity      An Activity object to be written.
+     * @param personIndexes An IdentityHashMap object of the index of each participant in the segment.
+     * @throws IOException If an I/O error occurs while writing.
+     */
+    private static void writeActivity(DataOutputStream out, Activity activity,
+            IdentityHashMap<Person, Integer> personIndexes) throws IOException {
+        assert personIndexes.containsKey(activity.getPersonPaid()) : "The payer must be a participant of the session";
+        BinaryFormat.writeVarInt(out, activity.getActivityId());
+        BinaryFormat.writeString(out, activity.getActivityName());
+        BinaryFormat.writeVarLong(out, activity.getTotalCost().getCents());
+        out.writeDouble(activity.getGst());
+        out.writeDouble(activity.getServiceCharge());
+        BinaryFormat.writeVarInt(out, personIndexes.get(activity.getPersonPaid()));
+        ArrayList<Person> involvedPersonList = activity.getInvolvedPersonList();
+        BinaryFormat.writeVarInt(out, involvedPersonList.size());
+        for (Person person : involvedPersonList) {
+            assert personIndexes.containsKey(person) : "Involved persons must be participants of the session";
+            BinaryFormat.writeVarInt(out, personIndexes.get(person));
+        }
+    }
+
+    /**
+     * Reads a Person object together with the costs it has borne in the session.
+     *
+     * @param in     A DataInput object positioned at the start of a Person object.
+     * @param layout An integer that represents the layout that the segment was written in.
+     * @return A Person object.
+     * @throws IOException If an I/O error occurs while reading, or if the name of the person is not a valid name.
+     */
+    private static Person readPerson(DataInput in, int layout) throws IOException {
+        Person person = Person.createPersonFromString(BinaryFormat.readString(in));
+        if (person == null) {
+            throw new StreamCorruptedException();
+        }
+        int costCount = BinaryFormat.readVarInt(in);
+        int[] activityIds = new int[costCount];
+        for (int i = 0; i < costCount; i++) {
+            activityIds[i] = BinaryFormat.readVarInt(in);
+        }
+        Money[] costsPaid = new Money[costCount];
+        for (int i = 0; i < costCount; i++) {
+            costsPaid[i] = readAmount(in, layout);
+        }
+        for (int i = 0; i < costCount; i++) {
+            person.addActivityCost(activityIds[i], costsPaid[i], readAmount(in, layout));
+        }
+        return person;
+    }
+
+    /**
+     * Reads an Activity object.
+     *
+     * @param in         A DataInput object positioned at the start of an Activity object.
+     * @param personList An ArrayList object of the participants of the session, in the order they were written.
+     * @param layout     An integer that represents the layout that the segment was written in.
+     * @return An Activity object.
+     * @throws IOException If an I/O error occurs while reading, or if a participant index is out of range.
+     */
+    private static Activity readActivity(DataInput in, ArrayList<Person> personList, int layout)
+            throws IOException {
+        int activityId = BinaryFormat.readVarInt(in);
+        String activityName = BinaryFormat.readString(in);
+        Money totalCost = readAmount(in, layout);
+        double gst = in.readDouble();
+        double serviceCharge = in.readDouble();
+        Person personPaid = getPerson(personList, BinaryFormat.readVarInt(in));
+        int involvedCount = BinaryFormat.readVarInt(in);
+        ArrayList<Person> involvedPersonList = new ArrayList<>(involvedCount);
+        for (int i = 0; i < involvedCount; i++) {
+            involvedPersonList.add(getPerson(personList, BinaryFormat.readVarInt(in)));
+        }
+        return new Activity(activityId, activityName, totalCost, personPaid, new PersonList(involvedPersonList),
+                gst, serviceCharge);
+    }
+
+    /**
+     * Reads an amount of money, written as a whole number of cents, or as a double in dollars in segments written
+     * by earlier versions of SplitLah.
+     *
+     * @param in     A DataInput object positioned at the start of an amount of money.
+     * @param layout An integer that represents the layout that the segment was written in.
+     * @return A Money object that represents the amount.
+     * @throws IOException If an I/O error occurs while reading.
+     */
+    private static Money readAmount(DataInput in, int layout) throws IOException {
+        if (layout == DOLLAR_AMOUNT_LAYOUT) {
+            return Money.fromDouble(in.readDouble());
+        }
+        return Money.ofCents(BinaryFormat.readVarLong(in));
+    }
+
+    /**
+     * Returns the participant at the specified index in the segment.
+     *
+     * @param personList  An ArrayList object of the participants of the session, in the order they were written.
+     * @param personIndex An integer that represents the index of a participant in the segment.
+     * @return A Person object.
+     * @throws StreamCorruptedException If the index is out of range.
+     */
+    private static Person getPerson(ArrayList<Person> personList, int personIndex) throws StreamCorruptedException {
+        if (personIndex >= personList.size()) {
+            throw new StreamCorruptedException();
+        }
+        return personList.get(personIndex);
+    }
+}
@@ -0,0 +1,156 @@
+package seedu.splitlah.storage;
+
+import seedu.splitlah.data.Session;
+import seedu.splitlah.data.SessionLoader;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Represents the shard file that holds the segment of a single session in the sharded save file layout.
+ * Every time a changed session is saved, its segment is written into a new shard file named with the session unique
+ * identifier and the next revision of the session, so that the shard referred to by the last written manifest is
+ * never overwritten in place.
+ * A shard that has been encoded but not yet written keeps its segment in memory, and its session is loaded from
+ * that segment until the shard is written to the storage device.
+ *
+ * @author Warren
+ * @see SessionSegment
+ */
+public class SessionShard implements SessionLoader {
+
+    static final int FIRST_REVISION = 1;
+    private static final String SHARD_FILE_PREFIX = "session-";
+    private static final String SHARD_FILE_SEPARATOR = "-";
+    private static final String SHARD_FILE_SUFFIX = ".data";
+
+    private final Path shardPath;
+    private final int sessionId;
+    private final int revision;
+    private final int layout;
+    private volatile ByteBuffer pendingSegment;
+
+    /**
+     * Initializes a SessionShard object.
+     *
+     * @param shardDirectory A Path object that represents the directory holding the shard files.
+     * @param sessionId      An integer that uniquely identifies the session held by the shard.
+     * @param revision       An integer that represents the revision of the session held by the shard.
+     * @param layout         An integer that represents the layout that the segment of the shard is written in.
+     * @param pendingSegment A ByteBuffer object holding the segment to be written into the shard file, which must be
+     *                       in the current layout, or null if the shard file has already been written.
+     */
+    SessionShard(Path shardDirectory, int sessionId, int revision, int layout, ByteBuffer pendingSegment) {
+        assert revision >= FIRST_REVISION;
+        assert SessionSegment.isKnownLayout(layout);
+        assert pendingSegment == null || layout == SessionSegment.CURRENT_LAYOUT;
+        this.shardPath = shardDirectory.resolve(getShardFileName(sessionId, revision));
+        this.sessionId = sessionId;
+        this.revision = revision;
+        this.layout = layout;
+        this.pendingSegment = pendingSegment == null ? null : pendingSegment.slice();
+    }
+
+    /**
+     * Returns the name of the shard file that holds the specified revision of a session.
+     *
+     * @param sessionId An integer that uniquely identifies a session.
+     * @param revision  An integer that represents a revision of the session.
+     * @return A String object that represents the name of the shard file.
+     */
+    static String getShardFileName(int sessionId, int revision) {
+        return SHARD_FILE_PREFIX + sessionId + SHARD_FILE_SEPARATOR + revision + SHARD_FILE_SUFFIX;
+    }
+
+    public int getSessionId() {
+        return sessionId;
+    }
+
+    public int getRevision() {
+        return revision;
+    }
+
+    int getLayout() {
+        return layout;
+    }
+
+    Path getShardPath() {
+        return shardPath;
+    }
+
+    /**
+     * Checks if the segment of the shard has been written into its shard file.
+     *
+     * @return true if the shard file holds the segment,
+     *         false if the segment is only held in memory.
+     */
+    public boolean isWritten() {
+        return pendingSegment == null;
+    }
+
+    /**
+     * Writes the segment held in memory into the shard file, then releases it from memory so that the session is
+     * loaded from the shard file from then on. Does nothing if the shard file has already been written.
+     *
+     * @param compression A SnapshotCompression object that represents the compression to write the shard with.
+     * @throws IOException If an I/O error occurs while writing to the shard file.
+     */
+    void write(SnapshotCompression compression) throws IOException {
+        ByteBuffer segment = pendingSegment;
+        if (segment == null) {
+            return;
+        }
+        byte[] segmentBytes = new byte[segment.remaining()];
+        segment.duplicate().get(segmentBytes);
+        new SnapshotFile(shardPath.toString()).write(compression.compress(segmentBytes), revision);
+        pendingSegment = null;
+    }
+
+    /**
+     * Decodes the participants and activities of the session from the segment held in memory, or from
+     * the shard file once it has been written, and restores them into the Session object.
+     * A compressed shard file is decompressed as it is decoded.
+     *
+     * @param session A Session object whose participants and activities have not been loaded.
+     * @throws UncheckedIOException If the shard file cannot be read or fails verification, in which case a copy of
+     *                              the shard file is kept beside it.
+     */
+    @Override
+    public void loadContents(Session session) {
+        ByteBuffer segment = pendingSegment;
+        if (segment != null) {
+            new SessionSegment(segment, layout).loadContents(session);
+            return;
+        }
+        try {
+            ByteBuffer payload = new SnapshotFile(shardPath.toString()).map();
+            try (DataInputStream in = SnapshotCompression.openPayload(payload)) {
+                SessionSegment.readContents(in, session, layout);
+            }
+        } catch (IOException ioException) {
+            keepCorruptedCopy();
+            throw new UncheckedIOException(ioException);
+        }
+    }
+
+    /**
+     * Keeps a copy of a shard file that cannot be decoded beside it, the same way as a save file that fails
+     * verification, so that it is not lost once the session is saved into a new shard. As a shard file is never
+     * changed once written, only one copy is kept however many times loading it fails.
+     * A shard file that is missing, or that cannot be copied, is left as it is.
+     */
+    private void keepCorruptedCopy() {
+        SnapshotFile shardFile = new SnapshotFile(shardPath.toString());
+        try {
+            if (Files.exists(shardPath) && !shardFile.hasCopy(Storage.CORRUPTED_FILE_SUFFIX)) {
+                shardFile.keepCopy(Storage.CORRUPTED_FILE_SUFFIX);
+            }
+        } catch (IOException ioException) {
+            // The shard file itself is still kept until the session is saved into a new shard.
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package seedu.splitlah.storage;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.util.zip.Deflater;
+
+/**
+ * Represents the compression applied to the payload of each save file, as a codec and a compression level.
+ * A compressed payload is in the form of [magic number][codec identifier][compressed bytes], so that save files
+ * written with any codec, or without compression, can always be read regardless of the current setting.
+ * Compressed payloads are decompressed as they are decoded, so the decompressed payload is never held in memory
+ * as a whole.
+ *
+ * @author Warren
+ * @see CompressionCodec
+ */
+public class SnapshotCompression {
+
+    public static final int COMPRESSED_MAGIC = 0x53504c5a;
+    public static final int DEFAULT_LEVEL = 6;
+    public static final SnapshotCompression NONE = new SnapshotCompression(CompressionCodec.NONE, Deflater.BEST_SPEED);
+    public static final SnapshotCompression DEFAULT = new SnapshotCompression(CompressionCodec.DEFLATE, DEFAULT_LEVEL);
+    private static final int HEADER_LENGTH = Integer.BYTES + Byte.BYTES;
+    private static final int DECOMPRESSION_BUFFER_SIZE = 8192;
+
+    private final CompressionCodec codec;
+    private final int level;
+
+    /**
+     * Initializes a SnapshotCompression object.
+     *
+     * @param codec A CompressionCodec object that represents the codec to compress with.
+     * @param level An integer from 1 to 9 that trades compression speed for a smaller save file.
+     */
+    public SnapshotCompression(CompressionCodec codec, int level) {
+        assert codec != null;
+        assert level >= Deflater.BEST_SPEED && level <= Deflater.BEST_COMPRESSION : "Invalid compression level";
+        this.codec = codec;
+        this.level = level;
+    }
+
+    public CompressionCodec getCodec() {
+        return codec;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Returns the payload compressed with the codec and level of this setting, preceded by the compression header.
+     * The payload is returned as it is if this setting does not compress.
+     *
+     * @param payload A byte array that represents the payload of a save file.
+     * @return A byte array that represents the payload to be written into the save file.
+     * @throws IOException If an I/O error occurs while compressing the payload.
+     */
+    public byte[] compress(byte[] payload) throws IOException {
+        if (codec == CompressionCodec.NONE) {
+            return payload;
+        }
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(HEADER_LENGTH + payload.length / 2);
+        DataOutputStream header = new DataOutputStream(buffer);
+        header.writeInt(COMPRESSED_MAGIC);
+        header.writeByte(codec.getCodecId());
+        header.flush();
+        try (OutputStream out = codec.compress(buffer, level)) {
+            out.write(payload);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Checks if the remaining bytes in the buffer begin with the compression header.
+     *
+     * @param payload A ByteBuffer object positioned at the start of the payload of a save file.
+     * @return true if the payload is compressed,
+     *         false otherwise.
+     */
+    public static boolean isCompressed(ByteBuffer payload) {
+        return payload.remaining() >= HEADER_LENGTH && payload.getInt(payload.position()) == COMPRESSED_MAGIC;
+    }
+
+    /**
+     * Returns a stream that reads the payload of a save file, decompressing it as it is read if it is compressed.
+     * The stream must be closed to release the native resources of the decompressor.
+     *
+     * @param payload A ByteBuffer object positioned at the start of the payload of a save file.
+     * @return A DataInputStream object positioned at the start of the decompressed payload.
+     * @throws StreamCorruptedException If the payload is compressed with an unknown codec.
+     * @throws IOException              If an I/O error occurs while reading the header of the codec.
+     */
+    public static DataInputStream openPayload(ByteBuffer payload) throws IOException {
+        if (!isCompressed(payload)) {
+            return new DataInputStream(new ByteBufferInputStream(payload));
+        }
+        ByteBuffer compressedPayload = payload.duplicate();
+        compressedPayload.getInt();
+        CompressionCodec codec = CompressionCodec.getCodec(compressedPayload.get());
+        if (codec == null) {
+            throw new StreamCorruptedException();
+        }
+        InputStream in = codec.decompress(new ByteBufferInputStream(compressedPayload));
+        return new DataInputStream(new BufferedInputStream(in, DECOMPRESSION_BUFFER_SIZE));
+    }
+
+    @Override
+    public String toString() {
+        if (codec == CompressionCodec.NONE) {
+            return codec.toString();
+        }
+        return codec + " level " + level;
+    }
+}
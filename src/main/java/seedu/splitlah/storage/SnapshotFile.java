@@ -0,0 +1,219 @@
+package seedu.splitlah.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Represents a save file that holds a snapshot of the Profile object followed by a checksummed footer.
+ * The footer is in the form of [payload length][generation][CRC32 of payload][magic number].
+ * A snapshot is first written to a temporary file and forced to the storage device before it atomically
+ * replaces the previous snapshot, so a crash in the middle of a save never corrupts the last saved snapshot.
+ *
+ * @author Warren
+ */
+public class SnapshotFile {
+
+    private static final int FOOTER_MAGIC = 0x534c5346;
+    private static final int FOOTER_LENGTH = Long.BYTES + Long.BYTES + Integer.BYTES + Integer.BYTES;
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final long MAP_THRESHOLD_BYTES = 1 << 20;
+
+    private final Path snapshotPath;
+    private long generation;
+    private boolean isLegacyFormat;
+
+    /**
+     * Initializes a SnapshotFile object.
+     *
+     * @param snapshotPath A String object that represents the path of the save file.
+     */
+    public SnapshotFile(String snapshotPath) {
+        this.snapshotPath = new File(snapshotPath).toPath();
+        this.generation = 0;
+        this.isLegacyFormat = false;
+    }
+
+    /**
+     * Returns the generation recorded in the footer of the snapshot that was last read.
+     *
+     * @return A long that represents the generation of the snapshot.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Checks if the snapshot that was last read was written before checksummed footers were introduced.
+     *
+     * @return true if the snapshot has no footer,
+     *         false otherwise.
+     */
+    public boolean isLegacyFormat() {
+        return isLegacyFormat;
+    }
+
+    /**
+     * Writes the payload with a checksummed footer to a temporary file in a single sequential write,
+     * forces it to the storage device and atomically replaces the save file with it.
+     *
+     * @param payload    A byte array that represents the serialized Profile object.
+     * @param generation A long that represents the generation of the snapshot.
+     * @throws IOException If an I/O error occurs while writing to or replacing the save file.
+     */
+    public void write(byte[] payload, long generation) throws IOException {
+        assert payload != null;
+        ByteBuffer footer = ByteBuffer.allocate(FOOTER_LENGTH);
+        footer.putLong(payload.length).putLong(generation).putInt(getChecksum(payload)).putInt(FOOTER_MAGIC);
+        footer.flip();
+        ByteBuffer[] buffers = { ByteBuffer.wrap(payload), footer };
+
+        Path temporaryPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + TEMPORARY_FILE_SUFFIX);
+        try (FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (footer.hasRemaining()) {
+                channel.write(buffers);
+            }
+            channel.force(true);
+        }
+
+        try {
+            Files.move(temporaryPath, snapshotPath, StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException exception) {
+            Files.move(temporaryPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        this.generation = generation;
+        this.isLegacyFormat = false;
+    }
+
+    /**
+     * Reads the save file and verifies the payload against the checksum recorded in its footer.
+     * If the save file has no footer, it is treated as a legacy save file and its contents are returned as they are.
+     *
+     * @return A byte array that represents the serialized Profile object.
+     * @throws StreamCorruptedException If the length or checksum recorded in the footer does not match the payload.
+     * @throws IOException              If an I/O error occurs while reading from the save file.
+     */
+    public byte[] read() throws IOException {
+        ByteBuffer payload = verify(ByteBuffer.wrap(Files.readAllBytes(snapshotPath)));
+        byte[] payloadBytes = new byte[payload.remaining()];
+        payload.get(payloadBytes);
+        return payloadBytes;
+    }
+
+    /**
+     * Opens the save file for reading and verifies the payload against the checksum recorded in its footer.
+     * Save files larger than the mapping threshold are mapped into memory with FileChannel#map instead of being
+     * copied into the heap, so that parts of the payload that are never decoded are never read from the storage device
+     * beyond the checksum pass.
+     * If the save file has no footer, it is treated as a legacy save file and its contents are returned as they are.
+     *
+     * @return A read-only ByteBuffer object positioned at the start of the payload and limited to its end.
+     * @throws StreamCorruptedException If the length or checksum recorded in the footer does not match the payload.
+     * @throws IOException              If an I/O error occurs while reading from the save file.
+     */
+    public ByteBuffer map() throws IOException {
+        try (FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < MAP_THRESHOLD_BYTES) {
+                return verify(ByteBuffer.wrap(Files.readAllBytes(snapshotPath)).asReadOnlyBuffer());
+            }
+            if (fileSize > Integer.MAX_VALUE) {
+                throw new StreamCorruptedException();
+            }
+            return verify(channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize));
+        }
+    }
+
+    /**
+     * Verifies the contents of the save file against the footer and returns the payload.
+     *
+     * @param contents A ByteBuffer object holding the full contents of the save file.
+     * @return A ByteBuffer object positioned at the start of the payload and limited to its end.
+     * @throws StreamCorruptedException If the length or checksum recorded in the footer does not match the payload.
+     */
+    private ByteBuffer verify(ByteBuffer contents) throws StreamCorruptedException {
+        int contentsLength = contents.limit();
+        int footerIndex = contentsLength - FOOTER_LENGTH;
+        if (footerIndex < 0 || contents.getInt(contentsLength - Integer.BYTES) != FOOTER_MAGIC) {
+            isLegacyFormat = true;
+            generation = 0;
+            return contents;
+        }
+
+        long payloadLength = contents.getLong(footerIndex);
+        int checksum = contents.getInt(footerIndex + Long.BYTES + Long.BYTES);
+        if (payloadLength != footerIndex) {
+            throw new StreamCorruptedException();
+        }
+        ByteBuffer payload = contents.duplicate();
+        payload.position(0).limit(footerIndex);
+        if (getChecksum(payload.duplicate()) != checksum) {
+            throw new StreamCorruptedException();
+        }
+        isLegacyFormat = false;
+        generation = contents.getLong(footerIndex + Long.BYTES);
+        return payload.slice();
+    }
+
+    /**
+     * Checks if a copy of the save file with the specified suffix has already been kept.
+     *
+     * @param suffix A String object that is appended to the name of the save file to name the copy.
+     * @return true if a file with the name of the copy exists,
+     *         false otherwise.
+     */
+    public boolean hasCopy(String suffix) {
+        return Files.exists(getCopyPath(suffix));
+    }
+
+    /**
+     * Keeps a copy of the save file beside it, so that it is not lost when the next snapshot is saved.
+     * An existing file with the name of the copy is never replaced.
+     *
+     * @param suffix A String object that is appended to the name of the save file to name the copy.
+     * @return A String object that represents the path of the copy.
+     * @throws IOException If an I/O error occurs while copying the save file, or
+     *                     if a file with the name of the copy already exists.
+     */
+    public String keepCopy(String suffix) throws IOException {
+        Path copyPath = getCopyPath(suffix);
+        Files.copy(snapshotPath, copyPath);
+        return copyPath.toString();
+    }
+
+    private Path getCopyPath(String suffix) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + suffix);
+    }
+
+    /**
+     * Returns the CRC32 checksum of the provided bytes, truncated to an integer.
+     *
+     * @param bytes A byte array to compute the checksum of.
+     * @return An integer representing the checksum.
+     */
+    private static int getChecksum(byte[] bytes) {
+        return getChecksum(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Returns the CRC32 checksum of the remaining bytes in the buffer, truncated to an integer.
+     *
+     * @param bytes A ByteBuffer object holding the bytes to compute the checksum of.
+     * @return An integer representing the checksum.
+     */
+    private static int getChecksum(ByteBuffer bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return (int) crc.getValue();
+    }
+}
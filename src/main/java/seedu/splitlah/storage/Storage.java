@@ -1,19 +1,65 @@
 package seedu.splitlah.storage;
 
 import seedu.splitlah.data.Profile;
+import seedu.splitlah.data.Session;
 
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 
 public class Storage {
 
-    private static final String FILE_DIRECTORY = "data/";
-    private static final String FILE_NAME = "SplitLah.data";
-    private static final String FILE_FULL_PATH = FILE_DIRECTORY + FILE_NAME;
+    private static final String SHARD_FILE_GLOB = "session-*";
+    private static final long INITIAL_GENERATION = 0;
+    static final String CORRUPTED_FILE_SUFFIX = ".corrupt";
+
+    private final StorageConfiguration configuration;
+    private final SnapshotFile snapshotFile;
+    private final Journal journal;
+    private final Path shardDirectory;
+    private final SnapshotCompression compression;
+    private HashMap<Integer, Integer> savedSessionRevisions = new HashMap<>();
+    private ArrayList<Integer> missingShardSessionIds = new ArrayList<>();
+    private long generation = INITIAL_GENERATION;
+
+    /**
+     * Initializes a Storage object that keeps the save files of the default profile in the default data directory.
+     */
+    public Storage() {
+        this(StorageConfiguration.getDefault());
+    }
+
+    /**
+     * Initializes a Storage object that keeps the save files of the configured profile in the configured directory,
+     * and compresses them with the configured compression. Save files written with any other compression can still
+     * be loaded.
+     *
+     * @param configuration A StorageConfiguration object that represents where and how the save files are kept.
+     */
+    public Storage(StorageConfiguration configuration) {
+        this.configuration = configuration;
+        this.compression = configuration.getCompression();
+        this.snapshotFile = new SnapshotFile(configuration.getSaveFilePath().toString());
+        this.journal = new Journal(configuration.getJournalFilePath().toString());
+        this.shardDirectory = configuration.getShardDirectory();
+    }
+
+    public StorageConfiguration getConfiguration() {
+        return configuration;
+    }
 
     /**
      * Checks to see if file directory for save file exists.
@@ -23,8 +69,8 @@ public class Storage {
      *         false if file directory does not exist and no directory was created.
      */
     public boolean hasDataDirectory() {
-        File directory = new File(FILE_DIRECTORY);
-        return directory.exists() || directory.mkdir();
+        File directory = configuration.getDataDirectory().toFile();
+        return directory.exists() || directory.mkdirs();
     }
 
     /**
@@ -35,7 +81,7 @@ public class Storage {
      *         false if file does not exist and no file was created.
      */
     public boolean hasDataFile() {
-        File file = new File(FILE_FULL_PATH);
+        File file = configuration.getSaveFilePath().toFile();
         try {
             if (!file.exists() && !file.createNewFile()) {
                 return true;
@@ -47,32 +93,286 @@ public class Storage {
     }
 
     /**
-     * Saves the serialized Profile object into a file.
+     * Checks to see if the save file holds any data, as a save file that was just created by
+     * {@link #hasDataFile()} is empty.
+     *
+     * @return true if the save file exists and is not empty,
+     *         false otherwise.
+     */
+    public boolean hasSaveData() {
+        File file = configuration.getSaveFilePath().toFile();
+        return file.length() > 0;
+    }
+
+    /**
+     * Saves the Profile object as a new snapshot, then folds the journal into it by discarding all journalled records.
+     * Only the sessions that have been changed since they were last saved are written into new shard files.
      *
      * @param profile A Profile object to be saved.
      * @throws IOException if an I/O error occurs while writing to save file.
      */
     public void saveProfileToFile(Profile profile) throws IOException {
-        FileOutputStream file = new FileOutputStream(FILE_FULL_PATH);
-        ObjectOutputStream out = new ObjectOutputStream(file);
-        out.writeObject(profile);
-        out.close();
-        file.close();
+        saveSnapshotToFile(encodeProfile(profile));
+    }
+
+    /**
+     * Returns the encoded form of the Profile object that is written into the save files.
+     * Used to capture the state of the Profile object before it is handed to another thread to be written.
+     * Only the sessions that have been changed since they were last saved are encoded.
+     *
+     * @param profile A Profile object to be encoded.
+     * @return A ProfileSnapshot object that holds the manifest and the session shards to be written.
+     * @throws IOException If an I/O error occurs while encoding the Profile object.
+     */
+    public ProfileSnapshot encodeProfile(Profile profile) throws IOException {
+        return ManifestCodec.encode(profile, shardDirectory);
+    }
+
+    /**
+     * Saves an encoded Profile object as a new snapshot, then folds the journal into it by discarding all
+     * journalled records.
+     * The shards of the changed sessions are written before the manifest that refers to them replaces the previous
+     * manifest, and the shards that are no longer referred to are only deleted afterwards, so that a crash at any
+     * point leaves the last written manifest and all of its shards intact.
+     *
+     * @param snapshot A ProfileSnapshot object that represents an encoded Profile object.
+     * @throws IOException if an I/O error occurs while writing to save file.
+     */
+    public void saveSnapshotToFile(ProfileSnapshot snapshot) throws IOException {
+        Files.createDirectories(shardDirectory);
+        for (SessionShard shard : snapshot.getShardsToWrite()) {
+            shard.write(compression);
+        }
+        long nextGeneration = generation + 1;
+        snapshotFile.write(compression.compress(snapshot.getManifest()), nextGeneration);
+        generation = nextGeneration;
+        journal.reset(generation);
+
+        HashMap<Integer, Integer> replacedSessionRevisions = savedSessionRevisions;
+        savedSessionRevisions = snapshot.getSessionRevisions();
+        for (Map.Entry<Integer, Integer> entry : replacedSessionRevisions.entrySet()) {
+            if (!entry.getValue().equals(savedSessionRevisions.get(entry.getKey()))) {
+                deleteShardFile(SessionShard.getShardFileName(entry.getKey(), entry.getValue()));
+            }
+        }
     }
 
     /**
-     * Saves the data from the save file into the Profile object.
+     * Saves the data from the save files into the Profile object.
+     * The manifest is verified against its checksum before any data is read from it, and the participants and
+     * activities of each session are only read from its shard file when they are first needed.
+     * Save files written as a single file by earlier versions of SplitLah, either in the binary format of
+     * ProfileCodec or with Java serialization, are still read, and every session in them is written into
+     * a shard file the next time a snapshot is saved.
+     * Every shard file referred to by the manifest is checked to exist, and the sessions whose shard files are
+     * missing are kept to be reported by getMissingShardSessionIds, while every other session is still loaded.
      *
      * @return A Profile object that represents the data that was previously saved.
+     * @throws StreamCorruptedException If the save file fails verification.
+     * @throws IOException              If an I/O error occurs while reading from the save file.
+     * @throws ClassNotFoundException   If Class of a serialized object cannot be found.
+     */
+    public Profile loadStorage() throws IOException, ClassNotFoundException {
+        generation = INITIAL_GENERATION;
+        savedSessionRevisions = new HashMap<>();
+        missingShardSessionIds = new ArrayList<>();
+        ByteBuffer payload = snapshotFile.map();
+        if (ManifestCodec.isManifest(payload)) {
+            final Profile profile = ManifestCodec.decode(payload, shardDirectory);
+            generation = snapshotFile.getGeneration();
+            savedSessionRevisions = getSessionRevisions(profile);
+            missingShardSessionIds = findMissingShardSessionIds();
+            deleteUnreferencedShardFiles();
+            return profile;
+        }
+        if (ProfileCodec.isEncodedProfile(payload)) {
+            final Profile profile = ProfileCodec.decode(payload);
+            generation = snapshotFile.getGeneration();
+            return profile;
+        }
+        byte[] serializedProfile = new byte[payload.remaining()];
+        payload.get(serializedProfile);
+        return loadSerializedProfile(serializedProfile);
+    }
+
+    /**
+     * Returns the revision of the shard holding each session of a Profile object that was just loaded from
+     * a manifest.
+     *
+     * @param profile A Profile object decoded from a manifest.
+     * @return A HashMap object of the revision of each session, keyed by session unique identifiers.
+     */
+    private HashMap<Integer, Integer> getSessionRevisions(Profile profile) {
+        HashMap<Integer, Integer> sessionRevisions = new HashMap<>();
+        for (Session session : profile.getSessionList()) {
+            SessionShard shard = (SessionShard) session.getContentSource();
+            sessionRevisions.put(shard.getSessionId(), shard.getRevision());
+        }
+        return sessionRevisions;
+    }
+
+    /**
+     * Returns the unique identifiers of the sessions whose shard files, referred to by the manifest that was
+     * last loaded, do not exist. The participants and activities of such sessions cannot be loaded.
+     *
+     * @return An ArrayList object of the unique identifiers of the sessions, in ascending order.
+     */
+    public ArrayList<Integer> getMissingShardSessionIds() {
+        return new ArrayList<>(missingShardSessionIds);
+    }
+
+    /**
+     * Returns the unique identifiers of the sessions of the manifest that was last loaded whose shard files do
+     * not exist.
+     *
+     * @return An ArrayList object of the unique identifiers of the sessions, in ascending order.
+     */
+    private ArrayList<Integer> findMissingShardSessionIds() {
+        ArrayList<Integer> sessionIds = new ArrayList<>();
+        for (Map.Entry<Integer, Integer> entry : savedSessionRevisions.entrySet()) {
+            String fileName = SessionShard.getShardFileName(entry.getKey(), entry.getValue());
+            if (!Files.isRegularFile(shardDirectory.resolve(fileName))) {
+                sessionIds.add(entry.getKey());
+            }
+        }
+        Collections.sort(sessionIds);
+        return sessionIds;
+    }
+
+    /**
+     * Deletes the shard files that are not referred to by the manifest that was last loaded, such as shards
+     * written by a save that was interrupted before its manifest was written. Copies kept of corrupted shard files
+     * are never deleted.
+     *
+     * @throws IOException If an I/O error occurs while listing the shard directory.
+     */
+    private void deleteUnreferencedShardFiles() throws IOException {
+        if (!Files.isDirectory(shardDirectory)) {
+            return;
+        }
+        HashSet<String> referencedFileNames = new HashSet<>();
+        for (Map.Entry<Integer, Integer> entry : savedSessionRevisions.entrySet()) {
+            referencedFileNames.add(SessionShard.getShardFileName(entry.getKey(), entry.getValue()));
+        }
+        try (DirectoryStream<Path> shardFiles = Files.newDirectoryStream(shardDirectory, SHARD_FILE_GLOB)) {
+            for (Path shardFile : shardFiles) {
+                String fileName = shardFile.getFileName().toString();
+                boolean isCorruptedCopy = fileName.contains(CORRUPTED_FILE_SUFFIX);
+                if (!referencedFileNames.contains(fileName) && !isCorruptedCopy) {
+                    deleteShardFile(fileName);
+                }
+            }
+        }
+    }
+
+    /**
+     * Deletes a shard file that is no longer referred to. A shard file that cannot be deleted is left to be
+     * deleted the next time the save files are loaded.
+     *
+     * @param fileName A String object that represents the name of the shard file.
+     */
+    private void deleteShardFile(String fileName) {
+        try {
+            Files.deleteIfExists(shardDirectory.resolve(fileName));
+        } catch (IOException ioException) {
+            // The shard file is deleted when the save files are next loaded.
+        }
+    }
+
+    /**
+     * Returns the Profile object from a save file written with Java serialization, converted from the layout
+     * that the data classes had then and migrated so that each session owns its participants.
+     *
+     * @param payload A byte array that represents the serialized Profile object.
+     * @return A Profile object that represents the data that was previously saved.
      * @throws IOException            If an I/O error occurs while reading from the save file.
      * @throws ClassNotFoundException If Class of a serialized object cannot be found.
      */
-    public Profile loadStorage() throws IOException, ClassNotFoundException {
-        FileInputStream file = new FileInputStream(FILE_FULL_PATH);
-        ObjectInputStream in = new ObjectInputStream(file);
-        Profile profile = (Profile) in.readObject();
+    private Profile loadSerializedProfile(byte[] payload) throws IOException, ClassNotFoundException {
+        SerializedProfileDecoder in = new SerializedProfileDecoder(new ByteArrayInputStream(payload));
+        final Profile profile = in.readProfile();
+        if (!snapshotFile.isLegacyFormat()) {
+            generation = snapshotFile.getGeneration();
+        } else {
+            generation = readLegacyGeneration(in);
+        }
         in.close();
-        file.close();
-        return profile;
+        return ProfileMigration.separateSessionPersons(profile);
+    }
+
+    /**
+     * Returns the generation that follows the Profile object in save files written before checksummed footers
+     * were introduced.
+     *
+     * @param in An ObjectInputStream object positioned right after the Profile object.
+     * @return A long that represents the generation of the save file, or
+     *         the initial generation if the save file does not record a generation.
+     * @throws IOException If an I/O error occurs while reading from the save file.
+     */
+    private long readLegacyGeneration(ObjectInputStream in) throws IOException {
+        try {
+            return in.readLong();
+        } catch (EOFException legacySaveFile) {
+            return INITIAL_GENERATION;
+        }
+    }
+
+    /**
+     * Keeps a copy of a save file that failed verification, together with a copy of the journal, so that neither is
+     * lost when the journal is reset and the next snapshot is saved. The journal cannot be replayed once the save
+     * file is not loaded, as its records only apply on top of that save file.
+     * Copies kept earlier are never replaced, and the copies of the save file and journal share the same suffix.
+     *
+     * @return A String object that represents the path of the copy of the save file.
+     * @throws IOException If an I/O error occurs while copying the save file or journal.
+     */
+    public String keepCorruptedSaveFile() throws IOException {
+        String suffix = CORRUPTED_FILE_SUFFIX;
+        for (int copyNumber = 1; snapshotFile.hasCopy(suffix) || journal.hasCopy(suffix); copyNumber++) {
+            suffix = CORRUPTED_FILE_SUFFIX + "." + copyNumber;
+        }
+        journal.keepCopy(suffix);
+        return snapshotFile.keepCopy(suffix);
+    }
+
+    /**
+     * Returns the journalled commands that have to be replayed on top of the Profile object that was last loaded.
+     * If the save file could not be loaded, the journal is only replayed if it applies on top of an empty Profile.
+     *
+     * @return An ArrayList object of String objects, each representing a command to be replayed in order.
+     * @throws IOException If an I/O error occurs while reading from the journal file.
+     */
+    public ArrayList<String> loadJournal() throws IOException {
+        return journal.readRecords(generation);
+    }
+
+    /**
+     * Appends a mutating command to the journal, so that it is persisted without rewriting the save file.
+     *
+     * @param commandInput A String object that represents a command that has been applied to the Profile object.
+     * @throws IOException If an I/O error occurs while writing to the journal file.
+     */
+    public void appendToJournal(String commandInput) throws IOException {
+        journal.append(commandInput);
+    }
+
+    /**
+     * Appends a batch of mutating commands to the journal in a single write.
+     *
+     * @param commandInputs A List object of String objects, each representing a command that has been applied to
+     *                      the Profile object, in the order they were run.
+     * @throws IOException If an I/O error occurs while writing to the journal file.
+     */
+    public void appendToJournal(List<String> commandInputs) throws IOException {
+        journal.append(commandInputs);
+    }
+
+    /**
+     * Returns the number of commands in the journal that have not been folded into the save file.
+     *
+     * @return An integer that represents the number of journalled commands.
+     */
+    public int getJournalRecordCount() {
+        return journal.getRecordCount();
     }
 }
@@ -0,0 +1,105 @@
+package seedu.splitlah.storage;
+
+import seedu.splitlah.exceptions.InvalidDataException;
+import seedu.splitlah.ui.Message;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.regex.Pattern;
+
+/**
+ * Represents the configuration of a Storage object: the directory that holds its save files, the name of the profile
+ * that the save files are named after, and the compression that the save files are written with.
+ * Storage objects with different directories or profile names never share a file, so several profiles can be
+ * loaded side by side in the same JVM.
+ *
+ * @author Warren
+ */
+public class StorageConfiguration {
+
+    public static final String DEFAULT_DATA_DIRECTORY = "data";
+    public static final String DEFAULT_PROFILE_NAME = "SplitLah";
+    private static final Pattern PROFILE_NAME_PATTERN = Pattern.compile("[A-Za-z0-9_-]+");
+    private static final String SAVE_FILE_EXTENSION = ".data";
+    private static final String JOURNAL_FILE_EXTENSION = ".journal";
+    private static final String SHARD_DIRECTORY_EXTENSION = ".sessions";
+
+    private final Path dataDirectory;
+    private final String profileName;
+    private final SnapshotCompression compression;
+
+    /**
+     * Initializes a StorageConfiguration object.
+     *
+     * @param dataDirectory A Path object that represents the directory holding the save files.
+     * @param profileName   A String object that represents the name of the profile, made up of letters, digits,
+     *                      hyphens and underscores only, as the save files are named after it.
+     * @param compression   A SnapshotCompression object that represents the compression to write save files with.
+     * @throws InvalidDataException If the profile name cannot be used as the name of a file.
+     */
+    public StorageConfiguration(Path dataDirectory, String profileName, SnapshotCompression compression)
+            throws InvalidDataException {
+        assert dataDirectory != null;
+        assert compression != null;
+        if (profileName == null || !PROFILE_NAME_PATTERN.matcher(profileName).matches()) {
+            throw new InvalidDataException(Message.ERROR_STORAGE_INVALID_PROFILE_NAME);
+        }
+        this.dataDirectory = dataDirectory;
+        this.profileName = profileName;
+        this.compression = compression;
+    }
+
+    /**
+     * Returns the configuration that SplitLah uses when none is specified, which keeps the save files of
+     * the default profile in the data directory of the working directory.
+     *
+     * @return A StorageConfiguration object with the default directory, profile name and compression.
+     */
+    public static StorageConfiguration getDefault() {
+        try {
+            return new StorageConfiguration(Paths.get(DEFAULT_DATA_DIRECTORY), DEFAULT_PROFILE_NAME,
+                    SnapshotCompression.DEFAULT);
+        } catch (InvalidDataException exception) {
+            throw new AssertionError(exception);
+        }
+    }
+
+    public Path getDataDirectory() {
+        return dataDirectory;
+    }
+
+    public String getProfileName() {
+        return profileName;
+    }
+
+    public SnapshotCompression getCompression() {
+        return compression;
+    }
+
+    /**
+     * Returns the path of the save file holding the manifest of the profile.
+     *
+     * @return A Path object that represents the path of the save file.
+     */
+    public Path getSaveFilePath() {
+        return dataDirectory.resolve(profileName + SAVE_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the path of the journal file of the profile.
+     *
+     * @return A Path object that represents the path of the journal file.
+     */
+    public Path getJournalFilePath() {
+        return dataDirectory.resolve(profileName + JOURNAL_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the path of the directory holding the session shards of the profile.
+     *
+     * @return A Path object that represents the path of the shard directory.
+     */
+    public Path getShardDirectory() {
+        return dataDirectory.resolve(profileName + SHARD_DIRECTORY_EXTENSION);
+    }
+}
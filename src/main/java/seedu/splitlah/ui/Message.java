@@ -3,6 +3,7 @@ package seedu.splitlah.ui;
 import seedu.splitlah.parser.commandparser.ActivityCreateCommandParser;
 import seedu.splitlah.parser.commandparser.ActivityDeleteCommandParser;
 import seedu.splitlah.parser.commandparser.ActivityEditCommandParser;
+import seedu.splitlah.parser.commandparser.ActivityImportCommandParser;
 import seedu.splitlah.parser.commandparser.ActivityListCommandParser;
 import seedu.splitlah.parser.commandparser.ActivityViewCommandParser;
 import seedu.splitlah.parser.commandparser.ExitCommandParser;
@@ -15,9 +16,15 @@ import seedu.splitlah.parser.commandparser.HelpCommandParser;
 import seedu.splitlah.parser.commandparser.SessionCreateCommandParser;
 import seedu.splitlah.parser.commandparser.SessionDeleteCommandParser;
 import seedu.splitlah.parser.commandparser.SessionEditCommandParser;
+import seedu.splitlah.parser.commandparser.SessionExportCommandParser;
 import seedu.splitlah.parser.commandparser.SessionListCommandParser;
+import seedu.splitlah.parser.commandparser.SessionSettleAllCommandParser;
+import seedu.splitlah.parser.commandparser.SessionSummaryAllCommandParser;
 import seedu.splitlah.parser.commandparser.SessionSummaryCommandParser;
 import seedu.splitlah.parser.commandparser.SessionViewCommandParser;
+import seedu.splitlah.parser.commandparser.TransactionBeginCommandParser;
+import seedu.splitlah.parser.commandparser.TransactionCommitCommandParser;
+import seedu.splitlah.parser.commandparser.TransactionRollbackCommandParser;
 
 /**
  * Container of hardcoded messages.
@@ -30,6 +37,22 @@ public abstract class Message {
     // SplitLah
     public static final String LOGGER_SPLITLAH_APPLICATION_EXIT =
             "The application is terminated";
+    public static final String ERROR_SPLITLAH_INVALID_PROGRAM_ARGUMENTS =
+            "Usage: java -jar splitlah.jar [--batch SCRIPT_FILE [--save-every COMMAND_COUNT]]";
+    public static final String ERROR_SPLITLAH_SCRIPT_NOT_READABLE =
+            "The script file could not be read: ";
+
+    // BatchRunner
+    public static final String MESSAGE_BATCHRUNNER_SUMMARY =
+            "Batch completed: %d commands run in %d ms (%.1f commands/s).";
+    public static final String MESSAGE_BATCHRUNNER_FAILED_COUNT =
+            "Failed commands: ";
+    public static final String MESSAGE_BATCHRUNNER_FAILED_LINE =
+            "  Line ";
+    public static final String ASSERT_BATCHRUNNER_SAVE_INTERVAL_NEGATIVE =
+            "The number of commands between each save cannot be negative.";
+    public static final String LOGGER_BATCHRUNNER_SCRIPT_RUN =
+            "Number of commands run from the script: ";
 
     // TextUI
     public static final String ASCII_TEXTUI_LOGO =
@@ -68,21 +91,35 @@ public abstract class Message {
                     + "        " + ActivityViewCommandParser.COMMAND_FORMAT + "\n"
                     + "10. List all existing activities\n"
                     + "        " + ActivityListCommandParser.COMMAND_FORMAT + "\n"
-                    + "11. Show the summary of an existing session\n"
+                    + "11. Import activities from a CSV file\n"
+                    + "        " + ActivityImportCommandParser.COMMAND_FORMAT + "\n"
+                    + "12. Show the summary of an existing session\n"
                     + "        " + SessionSummaryCommandParser.COMMAND_FORMAT + "\n"
-                    + "12. Create a new group\n"
+                    + "13. Show the summaries of all existing sessions\n"
+                    + "        " + SessionSummaryAllCommandParser.COMMAND_FORMAT + "\n"
+                    + "14. Settle all existing sessions at once\n"
+                    + "        " + SessionSettleAllCommandParser.COMMAND_FORMAT + "\n"
+                    + "15. Export all sessions to a CSV or JSON file\n"
+                    + "        " + SessionExportCommandParser.COMMAND_FORMAT + "\n"
+                    + "16. Create a new group\n"
                     + "        " + GroupCreateCommandParser.COMMAND_FORMAT + "\n"
-                    + "13. Delete an existing group\n"
+                    + "17. Delete an existing group\n"
                     + "        " + GroupDeleteCommandParser.COMMAND_FORMAT + "\n"
-                    + "14. Edit an existing group\n"
+                    + "18. Edit an existing group\n"
                     + "         " + GroupEditCommandParser.COMMAND_FORMAT + "\n"
-                    + "15. View an existing group's details\n"
+                    + "19. View an existing group's details\n"
                     + "        " + GroupViewCommandParser.COMMAND_FORMAT + "\n"
-                    + "16. List all existing groups\n"
+                    + "20. List all existing groups\n"
                     + "        " + GroupListCommandParser.COMMAND_FORMAT + "\n"
-                    + "17. Show this help menu\n"
+                    + "21. Begin a transaction\n"
+                    + "        " + TransactionBeginCommandParser.COMMAND_FORMAT + "\n"
+                    + "22. Commit the open transaction\n"
+                    + "        " + TransactionCommitCommandParser.COMMAND_FORMAT + "\n"
+                    + "23. Roll back the open transaction\n"
+                    + "        " + TransactionRollbackCommandParser.COMMAND_FORMAT + "\n"
+                    + "24. Show this help menu\n"
                     + "        " + HelpCommandParser.COMMAND_FORMAT + "\n"
-                    + "18. Exit the program\n"
+                    + "25. Exit the program\n"
                     + "        " + ExitCommandParser.COMMAND_FORMAT;
     public static final String PROMPT_TEXTUI_AWAITING_INPUT =
             "> ";
@@ -102,6 +139,8 @@ public abstract class Message {
             "Please enter a positive value for identifier numbers.";
     public static final String ERROR_PARSER_INVALID_DATE_FORMAT =
             "Please enter the date in the form DD-MM-YYYY or enter 'today' for today's date.";
+    public static final String ERROR_PARSER_INVALID_FILE_PATH =
+            "Please enter a valid file path. The following is not a valid file path: ";
     public static final String ERROR_PARSER_NON_MONETARY_VALUE_ARGUMENT =
             "Please enter a valid monetary value(s) after the following delimiter: ";
     public static final String ERROR_PARSER_COST_NOT_POSITIVE =
@@ -122,6 +161,10 @@ public abstract class Message {
             "Please enter a valid GST surcharge in % in the range [0, 100] after the delimiter: ";
     public static final String ERROR_PARSER_INVALID_SERVICE_CHARGE =
             "Please enter a valid service charge in % in the range [0, 100] after the delimiter: ";
+    public static final String ERROR_PARSER_INVALID_SETTLEMENT_STRATEGY =
+            "Please enter either 'greedy' or 'matching' as the settlement strategy after the delimiter: ";
+    public static final String ERROR_PARSER_INVALID_EXPORT_FORMAT =
+            "Please enter either 'csv' or 'json' as the export format after the delimiter: ";
     public static final String ERROR_PARSER_EMPTY_COMMAND =
             "Please enter a command.";
     public static final String ERROR_PARSER_INVALID_COMMAND =
@@ -159,6 +202,10 @@ public abstract class Message {
     public static final String LOGGER_ACTIVITYCOST_CONSTRUCT_WITH_ALL_PARAMS =
             "Constructing ActivityCost with activityId, costPaid and costOwed";
 
+    // ActivityCostLedger
+    public static final String ERROR_ACTIVITYCOSTLEDGER_RUNNING_TOTAL_INCONSISTENT =
+            "The running total of the ledger does not match the total recomputed from its entries: ";
+
     // Person
     public static final String ERROR_PERSON_NO_ACTIVITIES =
             "This person is not participating in any activities.";
@@ -226,6 +273,9 @@ public abstract class Message {
             "There are currently no sessions stored.";
     public static final String ERROR_PROFILE_SESSION_NOT_IN_LIST =
             "The session that you have specified was not found.";
+    public static final String ERROR_PROFILE_SESSION_NOT_LOADED =
+            "The participants and activities of the session are missing from the save files or have been corrupted. "
+            + "Any corrupted file was kept with the extension .corrupt. Session Id: #";
     public static final String ERROR_PROFILE_GROUP_LIST_EMPTY =
             "There are currently no groups stored.";
     public static final String ERROR_PROFILE_GROUP_NOT_IN_LIST =
@@ -233,6 +283,14 @@ public abstract class Message {
     public static final String LOGGER_PROFILE_GROUP_NOT_IN_LIST =
             "The Group object was not found in the list";
 
+    // Manager
+    public static final String ERROR_MANAGER_TRANSACTION_ALREADY_OPEN =
+            "A transaction is already open. Please commit or roll it back first.";
+    public static final String ERROR_MANAGER_TRANSACTION_NOT_OPEN =
+            "There is no open transaction. Please begin a transaction first.";
+    public static final String ERROR_MANAGER_TRANSACTION_ROLLED_BACK_ON_EXIT =
+            "The open transaction was rolled back. Changes made inside it were not saved.";
+
     // Storage
     public static final String ERROR_STORAGE_FILE_NOT_FOUND =
             "The data file was not found or has been corrupted. No saves were loaded into SplitLah.";
@@ -246,6 +304,24 @@ public abstract class Message {
             "An internal error of ClassNotFoundException has occurred.";
     public static final String LOGGER_STORAGE_FILE_ERROR =
             "There was an error in retrieving data from save file.";
+    public static final String ERROR_STORAGE_FILE_CORRUPTED =
+            "The data file has been corrupted. No saves were loaded into SplitLah. A copy was kept at: ";
+    public static final String ERROR_STORAGE_FILE_NOT_READ =
+            "The data file could not be read. No saves were loaded into SplitLah. A copy was kept at: ";
+    public static final String LOGGER_STORAGE_FILE_CORRUPTED =
+            "The save file failed verification against its checksum.";
+    public static final String ERROR_STORAGE_JOURNAL_NOT_LOADED =
+            "The journal file could not be read. Changes made after the last save were not loaded into SplitLah.";
+    public static final String LOGGER_STORAGE_JOURNAL_ERROR =
+            "There was an error in retrieving commands from the journal file.";
+    public static final String LOGGER_STORAGE_JOURNAL_REPLAYED =
+            "Number of journalled commands replayed: ";
+    public static final String LOGGER_STORAGE_BACKGROUND_WRITE_FAILED =
+            "A write made by the persistence thread has failed: ";
+    public static final String ERROR_STORAGE_SHARD_MISSING =
+            "The save file of a session is missing. Its participants and activities could not be loaded. Session Id: #";
+    public static final String ERROR_STORAGE_INVALID_PROFILE_NAME =
+            "A profile name can only contain letters, digits, hyphens and underscores.";
 
     // Activity
     public static final String ERROR_ACTIVITY_INACCURATE_INVOLVED_LIST =
@@ -297,13 +373,40 @@ public abstract class Message {
             "There are no payments to be made.";
     public static final String ASSERT_SESSIONSUMMARY_INVALID_PERSONCOSTPAIR_LIST =
             "The generated personCostPairList is invalid with a non-zero total sum of debt.";
-    public static final String ASSERT_SESSIONSUMMARY_PAYER_EXPECTS_FROM_RECEIVER =
-            "Payer has a greater total cost than receiver.";
     public static final String LOGGER_SESSIONSUMMARY_SESSION_ID_NOT_FOUND =
             "A session summary was not produced as a Session object with the following Id was not found: ";
     public static final String LOGGER_SESSIONSUMMARY_SESSION_SUMMARY_PRINTED =
             "A session summary has been successful produced for the Session object with the following Id: ";
 
+    // Session Summary All Command
+    public static final String LOGGER_SESSIONSUMMARYALL_SUMMARIES_PRINTED =
+            "Session summaries have been successfully produced for the following number of sessions: ";
+
+    // Session Settle All Command
+    public static final String ERROR_SESSIONSETTLEALL_NO_SESSIONS =
+            "There are no sessions to be settled.";
+    public static final String LOGGER_SESSIONSETTLEALL_GROUP_ID_NOT_FOUND =
+            "A settlement was not produced as a Group object with the following Id was not found: ";
+    public static final String LOGGER_SESSIONSETTLEALL_SETTLEMENT_PRINTED =
+            "A settlement has been successfully produced for the following number of sessions: ";
+
+    // Session Export Command
+    public static final String ERROR_SESSIONEXPORT_FILE_NOT_WRITABLE =
+            "The sessions could not be exported, as the following file could not be written: ";
+    public static final String ERROR_SESSIONEXPORT_SESSION_NOT_LOADED =
+            "The sessions could not be exported, as the participants and activities of a session could not be loaded "
+            + "from the save files.";
+    public static final String ASSERT_SESSIONEXPORT_FILE_PATH_NULL =
+            "The path of the file to export to is null.";
+    public static final String LOGGER_SESSIONEXPORT_SESSIONS_EXPORTED =
+            "Sessions have been successfully exported, with the following number of sessions: ";
+    public static final String LOGGER_SESSIONEXPORT_FAILED =
+            "The sessions were not exported due to the following reason: ";
+
+    // Greedy Settlement Strategy
+    public static final String ASSERT_GREEDYSETTLEMENT_PAYER_EXPECTS_FROM_RECEIVER =
+            "Payer has a greater total cost than receiver.";
+
     // Session List Command
     public static final String LOGGER_SESSIONLIST_SESSIONS_LISTED =
             "All the sessions have been listed.";
@@ -339,6 +442,36 @@ public abstract class Message {
             "An Activity object failed to be added into the list of activities due to the following error: ";
 
 
+    // Activity Import Command
+    public static final String ERROR_ACTIVITYIMPORT_FILE_NOT_READABLE =
+            "The file could not be read: ";
+    public static final String ERROR_ACTIVITYIMPORT_NO_ROWS =
+            "The file does not contain any activities.";
+    public static final String ERROR_ACTIVITYIMPORT_INVALID_ROWS =
+            "No activities were imported. Please rectify the rows below and try again. Number of invalid rows: ";
+    public static final String MESSAGE_ACTIVITYIMPORT_LINE =
+            "Line ";
+    public static final String ASSERT_ACTIVITYIMPORT_SESSION_ID_LESS_THAN_ONE =
+            "Session ID is less than or equals to zero.";
+    public static final String ASSERT_ACTIVITYIMPORT_FILE_PATH_NULL =
+            "File path is missing.";
+    public static final String LOGGER_ACTIVITYIMPORT_ACTIVITIES_ADDED =
+            "Number of Activity objects imported into the list of activities: ";
+    public static final String LOGGER_ACTIVITYIMPORT_FAILED =
+            "Activity objects failed to be imported due to the following error: ";
+
+    // Activity Csv Parser
+    public static final String ERROR_ACTIVITYCSV_WRONG_COLUMN_COUNT =
+            "Each row should have the following columns, where gst and sc may be left out: ";
+    public static final String ERROR_ACTIVITYCSV_EMPTY_COLUMN =
+            "The following column cannot be empty: ";
+
+    // Csv Format
+    public static final String ERROR_CSVFORMAT_UNTERMINATED_QUOTE =
+            "A field that begins with a double quote must end with a double quote.";
+    public static final String ERROR_CSVFORMAT_TEXT_AFTER_QUOTED_FIELD =
+            "A field that ends with a double quote must be followed by a comma or the end of the row.";
+
     // Activity Edit Command
     public static final String LOGGER_ACTIVITYEDIT_FAILED_EDITING_ACTIVITY =
             "An Activity object failed to be edited.";
@@ -466,4 +599,14 @@ public abstract class Message {
     // Group Edit Command Parser
     public static final String ERROR_GROUPEDIT_NO_EDIT_DELIMITERS_FOUND =
             "No delimiters were found. Please rectify and try again.";
+
+    // Transaction Commands
+    public static final String LOGGER_TRANSACTION_BEGUN =
+            "A transaction was begun.";
+    public static final String LOGGER_TRANSACTION_COMMITTED =
+            "A transaction was committed.";
+    public static final String LOGGER_TRANSACTION_ROLLED_BACK =
+            "A transaction was rolled back.";
+    public static final String LOGGER_TRANSACTION_FAILED =
+            "A transaction command failed as the transaction was in the wrong state.";
 }
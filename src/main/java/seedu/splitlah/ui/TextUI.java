@@ -37,6 +37,19 @@ public class TextUI {
         printDivider();
     }
 
+    /**
+     * Replaces the stream that messages are printed to, such as to capture the output of commands
+     * that are run from a script instead of being entered by the user.
+     *
+     * @param out A PrintStream object that messages are to be printed to.
+     * @return The PrintStream object that messages were printed to before.
+     */
+    public PrintStream redirectOutput(PrintStream out) {
+        PrintStream previousOut = this.out;
+        this.out = out;
+        return previousOut;
+    }
+
     public String readNextLine() {
         printMessage(Message.PROMPT_TEXTUI_AWAITING_INPUT);
         return in.nextLine();
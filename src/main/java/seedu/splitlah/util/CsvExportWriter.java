@@ -0,0 +1,122 @@
+package seedu.splitlah.util;
+
+import seedu.splitlah.data.Activity;
+import seedu.splitlah.data.Money;
+import seedu.splitlah.data.Person;
+import seedu.splitlah.data.Session;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Represents an ExportWriter object that exports the contents of a profile as a single CSV table.
+ * Every row is a record of a session, an activity, an activity cost or a settlement, named in its first column.
+ * All records share the same columns, and the columns that do not apply to a record are left empty, so that the
+ * table can be filtered by its record column.
+ *
+ * @author Warren
+ */
+public class CsvExportWriter implements ExportWriter {
+
+    public static final String NAME = "csv";
+    public static final String HEADER = "record,session_id,session_name,date_created,activity_id,activity_name,"
+            + "person,receiver,amount,cost_paid,cost_owed,gst,sc";
+
+    // RECORD TYPES
+    public static final String SESSION_RECORD = "session";
+    public static final String ACTIVITY_RECORD = "activity";
+    public static final String ACTIVITY_COST_RECORD = "cost";
+    public static final String SETTLEMENT_RECORD = "settlement";
+
+    private static final String EMPTY_FIELD = "";
+    private static final String NAME_SEPARATOR = " ";
+
+    private final Writer writer;
+
+    /**
+     * Initializes a CsvExportWriter object.
+     *
+     * @param writer A Writer object that the table is written to.
+     */
+    public CsvExportWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void beginExport() throws IOException {
+        writer.write(HEADER);
+        writer.write(CsvFormat.ROW_TERMINATOR);
+    }
+
+    /**
+     * Writes a session record, with the names of its participants separated by whitespaces in the person column.
+     *
+     * @param session A Session object that represents the session, with its contents loaded.
+     * @throws IOException If the table cannot be written.
+     */
+    @Override
+    public void beginSession(Session session) throws IOException {
+        StringBuilder participants = new StringBuilder();
+        for (Person person : session.getPersonArrayList()) {
+            if (participants.length() > 0) {
+                participants.append(NAME_SEPARATOR);
+            }
+            participants.append(person.getName());
+        }
+        CsvFormat.writeRow(writer, SESSION_RECORD, Integer.toString(session.getSessionId()),
+                session.getSessionName(), session.getDateCreated().toString(), EMPTY_FIELD, EMPTY_FIELD,
+                participants.toString(), EMPTY_FIELD, EMPTY_FIELD, EMPTY_FIELD, EMPTY_FIELD, EMPTY_FIELD, EMPTY_FIELD);
+    }
+
+    /**
+     * Writes an activity record, with the payer in the person column and the total cost in the amount column.
+     *
+     * @param sessionId An integer that uniquely identifies the session that the activity belongs to.
+     * @param activity  An Activity object that represents the activity.
+     * @throws IOException If the table cannot be written.
+     */
+    @Override
+    public void beginActivity(int sessionId, Activity activity) throws IOException {
+        CsvFormat.writeRow(writer, ACTIVITY_RECORD, Integer.toString(sessionId), EMPTY_FIELD, EMPTY_FIELD,
+                Integer.toString(activity.getActivityId()), activity.getActivityName(),
+                activity.getPersonPaid().getName(), EMPTY_FIELD, activity.getTotalCost().toString(), EMPTY_FIELD,
+                EMPTY_FIELD, Double.toString(activity.getGst()), Double.toString(activity.getServiceCharge()));
+    }
+
+    @Override
+    public void writeActivityCost(int sessionId, int activityId, String personName, long costPaid, long costOwed)
+            throws IOException {
+        CsvFormat.writeRow(writer, ACTIVITY_COST_RECORD, Integer.toString(sessionId), EMPTY_FIELD, EMPTY_FIELD,
+                Integer.toString(activityId), EMPTY_FIELD, personName, EMPTY_FIELD, EMPTY_FIELD,
+                Money.formatCents(costPaid), Money.formatCents(costOwed), EMPTY_FIELD, EMPTY_FIELD);
+    }
+
+    @Override
+    public void endActivity() {
+        // Every record is a single row, so nothing is left to be closed.
+    }
+
+    /**
+     * Writes a settlement record, with the payer in the person column and the amount to be paid in the amount column.
+     *
+     * @param sessionId An integer that uniquely identifies the session.
+     * @param transfer  A Transfer object that represents the payment to be made.
+     * @throws IOException If the table cannot be written.
+     */
+    @Override
+    public void writeTransfer(int sessionId, Transfer transfer) throws IOException {
+        CsvFormat.writeRow(writer, SETTLEMENT_RECORD, Integer.toString(sessionId), EMPTY_FIELD, EMPTY_FIELD,
+                EMPTY_FIELD, EMPTY_FIELD, transfer.getPayer().getName(), transfer.getReceiver().getName(),
+                Money.formatCents(transfer.getAmount()), EMPTY_FIELD, EMPTY_FIELD, EMPTY_FIELD, EMPTY_FIELD);
+    }
+
+    @Override
+    public void endSession() {
+        // Every record is a single row, so nothing is left to be closed.
+    }
+
+    @Override
+    public void endExport() {
+        // Every record is a single row, so nothing is left to be closed.
+    }
+}
@@ -0,0 +1,142 @@
+package seedu.splitlah.util;
+
+import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.ui.Message;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+
+/**
+ * A utility class that reads and writes rows of comma-separated values (CSV), in the common format where a field
+ * that contains a comma or a double quote is enclosed in double quotes, and a double quote inside such a field is
+ * written twice.
+ * Each row is read in a single pass over its characters. A field cannot span more than one line when read.
+ *
+ * @author Warren
+ */
+public final class CsvFormat {
+
+    public static final char SEPARATOR = ',';
+    public static final char ROW_TERMINATOR = '\n';
+    private static final char QUOTE = '"';
+
+    private CsvFormat() {
+    }
+
+    /**
+     * Splits a row into its fields. Surrounding whitespaces of a field that is not enclosed in double quotes are kept.
+     *
+     * @param row A String object that represents a single row, without its line terminator.
+     * @return An ArrayList object of String objects, one for each field in the row, in order.
+     * @throws InvalidFormatException If a field that begins with a double quote is not closed with one, or
+     *                                if characters other than a separator follow the closing double quote.
+     */
+    public static ArrayList<String> splitRow(String row) throws InvalidFormatException {
+        assert row != null;
+
+        ArrayList<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int length = row.length();
+        int index = 0;
+        while (true) {
+            field.setLength(0);
+            if (index < length && row.charAt(index) == QUOTE) {
+                index = readQuotedField(row, index + 1, field);
+                if (index < length && row.charAt(index) != SEPARATOR) {
+                    throw new InvalidFormatException(Message.ERROR_CSVFORMAT_TEXT_AFTER_QUOTED_FIELD);
+                }
+            } else {
+                int end = row.indexOf(SEPARATOR, index);
+                end = end == -1 ? length : end;
+                field.append(row, index, end);
+                index = end;
+            }
+            fields.add(field.toString());
+            if (index >= length) {
+                return fields;
+            }
+            // Skips the separator that ends the field.
+            index += 1;
+        }
+    }
+
+    /**
+     * Reads the contents of a field enclosed in double quotes, replacing each pair of double quotes with one.
+     *
+     * @param row   A String object that represents a single row.
+     * @param start An integer that represents the index right after the opening double quote.
+     * @param field A StringBuilder object that the contents of the field are appended to.
+     * @return An integer that represents the index right after the closing double quote.
+     * @throws InvalidFormatException If the field is not closed with a double quote.
+     */
+    private static int readQuotedField(String row, int start, StringBuilder field) throws InvalidFormatException {
+        int index = start;
+        while (index < row.length()) {
+            char character = row.charAt(index);
+            index += 1;
+            if (character != QUOTE) {
+                field.append(character);
+                continue;
+            }
+            if (index < row.length() && row.charAt(index) == QUOTE) {
+                field.append(QUOTE);
+                index += 1;
+                continue;
+            }
+            return index;
+        }
+        throw new InvalidFormatException(Message.ERROR_CSVFORMAT_UNTERMINATED_QUOTE);
+    }
+
+    /**
+     * Writes a row of fields, followed by a row terminator, directly to a Writer object.
+     *
+     * @param writer A Writer object that the row is written to.
+     * @param fields String objects, one for each field in the row, in order.
+     * @throws IOException If the row cannot be written.
+     */
+    public static void writeRow(Writer writer, String... fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                writer.write(SEPARATOR);
+            }
+            writeField(writer, fields[i]);
+        }
+        writer.write(ROW_TERMINATOR);
+    }
+
+    /**
+     * Writes a single field, enclosing it in double quotes if it contains a separator, a double quote or
+     * a line break.
+     *
+     * @param writer A Writer object that the field is written to.
+     * @param field  A String object that represents the contents of the field.
+     * @throws IOException If the field cannot be written.
+     */
+    private static void writeField(Writer writer, String field) throws IOException {
+        if (!needsQuotes(field)) {
+            writer.write(field);
+            return;
+        }
+        writer.write(QUOTE);
+        for (int i = 0; i < field.length(); i++) {
+            char character = field.charAt(i);
+            if (character == QUOTE) {
+                writer.write(QUOTE);
+            }
+            writer.write(character);
+        }
+        writer.write(QUOTE);
+    }
+
+    private static boolean needsQuotes(String field) {
+        for (int i = 0; i < field.length(); i++) {
+            char character = field.charAt(i);
+            if (character == SEPARATOR || character == QUOTE || character == ROW_TERMINATOR || character == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.splitlah.util;
+
+import seedu.splitlah.data.Activity;
+import seedu.splitlah.data.Session;
+
+import java.io.IOException;
+
+/**
+ * Represents a file format that the contents of a profile are exported in.
+ * An ExportWriter object writes each part of the profile to its underlying Writer object as soon as it is given,
+ * so that the exported document is never held in memory as a whole.
+ * The parts are given in the following order: the start of the export, then for every session, the session, then
+ * every activity in the session followed by the activity costs of that activity, then every transfer that settles
+ * the session, then the end of the session, and finally the end of the export.
+ *
+ * @author Warren
+ */
+public interface ExportWriter {
+
+    /**
+     * Writes the start of the exported document.
+     *
+     * @throws IOException If the document cannot be written.
+     */
+    void beginExport() throws IOException;
+
+    /**
+     * Writes the details and participants of a session.
+     *
+     * @param session A Session object that represents the session, with its contents loaded.
+     * @throws IOException If the document cannot be written.
+     */
+    void beginSession(Session session) throws IOException;
+
+    /**
+     * Writes the details of an activity of the session that was last written.
+     *
+     * @param sessionId An integer that uniquely identifies the session that the activity belongs to.
+     * @param activity  An Activity object that represents the activity.
+     * @throws IOException If the document cannot be written.
+     */
+    void beginActivity(int sessionId, Activity activity) throws IOException;
+
+    /**
+     * Writes the cost paid and owed by a person for the activity that was last written.
+     *
+     * @param sessionId  An integer that uniquely identifies the session that the activity belongs to.
+     * @param activityId An integer that uniquely identifies the activity.
+     * @param personName A String object that represents the name of the person.
+     * @param costPaid   A long that represents the cost paid by the person in cents.
+     * @param costOwed   A long that represents the cost owed by the person in cents.
+     * @throws IOException If the document cannot be written.
+     */
+    void writeActivityCost(int sessionId, int activityId, String personName, long costPaid, long costOwed)
+            throws IOException;
+
+    /**
+     * Writes the end of the activity that was last written.
+     *
+     * @throws IOException If the document cannot be written.
+     */
+    void endActivity() throws IOException;
+
+    /**
+     * Writes a transfer that settles part of the debts of the session that was last written.
+     *
+     * @param sessionId An integer that uniquely identifies the session.
+     * @param transfer  A Transfer object that represents the payment to be made.
+     * @throws IOException If the document cannot be written.
+     */
+    void writeTransfer(int sessionId, Transfer transfer) throws IOException;
+
+    /**
+     * Writes the end of the session that was last written.
+     *
+     * @throws IOException If the document cannot be written.
+     */
+    void endSession() throws IOException;
+
+    /**
+     * Writes the end of the exported document.
+     *
+     * @throws IOException If the document cannot be written.
+     */
+    void endExport() throws IOException;
+}
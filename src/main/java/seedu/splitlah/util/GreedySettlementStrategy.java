@@ -0,0 +1,105 @@
+package seedu.splitlah.util;
+
+import seedu.splitlah.ui.Message;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents a settlement strategy that sorts all persons by their costs and repeatedly matches the person with the
+ * largest debt to pay with the person with the largest debt to collect.
+ * This is the default strategy, and makes at most one fewer transfer than the number of persons with debts.
+ *
+ * @author Warren
+ */
+public class GreedySettlementStrategy implements SettlementStrategy {
+
+    public static final String NAME = "greedy";
+    private static final int ZERO_INDEXING_OFFSET = 1;
+
+    /**
+     * Returns a transfer between two persons that settles the debt of at least one of them, and updates the costs
+     * of the PersonCostPair objects of both persons.
+     *
+     * @param payer    A PersonCostPair object that describes the total cost borne by a Person object representing a
+     *                 person that has to pay.
+     * @param receiver A PersonCostPair object that describes the total cost borne by a Person object representing a
+     *                 person that has to be paid.
+     * @return A Transfer object if there are debts to settle, null if both parties have no debt/to-be-paid amount.
+     */
+    private static Transfer processTransaction(PersonCostPair payer, PersonCostPair receiver) {
+        long payerCost = Math.abs(payer.getCost());
+        long receiverAmount = Math.abs(receiver.getCost());
+
+        // Both parties have no debt/cost
+        if (payerCost == 0 && receiverAmount == 0) {
+            payer.setProcessed(true);
+            receiver.setProcessed(true);
+            return null;
+        }
+
+        // Equal costs
+        if (payerCost == receiverAmount) {
+            payer.setProcessed(true);
+            receiver.setProcessed(true);
+            return new Transfer(payer.getPerson(), receiver.getPerson(), payerCost);
+        }
+
+        // Payer has less debt than receiver has to collect
+        if (payerCost < receiverAmount) {
+            payer.setProcessed(true);
+            receiver.setCost(receiverAmount - payerCost);
+            return new Transfer(payer.getPerson(), receiver.getPerson(), payerCost);
+        }
+
+        // Payer has more debt than receiver has to collect
+        receiver.setProcessed(true);
+        payer.setCost(receiverAmount - payerCost);
+        return new Transfer(payer.getPerson(), receiver.getPerson(), receiverAmount);
+    }
+
+    /**
+     * Returns a list of transfers that settles every debt, found by matching the largest debt to pay with the
+     * largest debt to collect until no debts remain.
+     *
+     * @param personCostPairList A List object of PersonCostPair objects with costs that add up to zero.
+     * @return A List object of Transfer objects.
+     */
+    @Override
+    public List<Transfer> settle(List<PersonCostPair> personCostPairList) {
+        ArrayList<PersonCostPair> workingList = new ArrayList<>();
+        for (PersonCostPair personCostPair : personCostPairList) {
+            if (personCostPair.getCost() == 0) {
+                continue;
+            }
+            workingList.add(new PersonCostPair(personCostPair.getPerson(), personCostPair.getCost()));
+        }
+        workingList.sort(PersonCostPair::compareTo);
+
+        ArrayList<Transfer> transfers = new ArrayList<>();
+        int payerIndex = 0;
+        int receiverIndex = workingList.size() - ZERO_INDEXING_OFFSET;
+        while (payerIndex < receiverIndex) {
+            PersonCostPair payer = workingList.get(payerIndex);
+            PersonCostPair receiver = workingList.get(receiverIndex);
+            assert payer.getCost() < receiver.getCost() : Message.ASSERT_GREEDYSETTLEMENT_PAYER_EXPECTS_FROM_RECEIVER;
+            Transfer transfer = processTransaction(payer, receiver);
+
+            if (transfer != null) {
+                transfers.add(transfer);
+            }
+            if (payer.isProcessed()) {
+                payerIndex += 1;
+            }
+            if (receiver.isProcessed()) {
+                receiverIndex -= 1;
+            }
+        }
+        return transfers;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+}
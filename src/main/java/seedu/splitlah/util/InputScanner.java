@@ -0,0 +1,148 @@
+package seedu.splitlah.util;
+
+/**
+ * A utility class that validates numbers and names from the user input in a single pass over their characters,
+ * without regular expressions or intermediate String objects.
+ * Numbers are read in hundredths, so that a cost is read directly as a whole number of cents, and a percentage is
+ * read as a whole number of hundredths of a percent.
+ *
+ * @author Warren
+ */
+public final class InputScanner {
+
+    /** Returned when the characters are not a number, such as "1-0", "1.2.3" or ".". */
+    public static final long NOT_A_NUMBER = -1;
+    /** Returned when the number is negative. */
+    public static final long NEGATIVE = -2;
+    /** Returned when the number is zero but zero is not allowed. */
+    public static final long ZERO = -3;
+    /** Returned when the number has more than two decimal places. */
+    public static final long MORE_THAN_TWO_DECIMAL_PLACES = -4;
+    /** Returned when the number has more than the given number of digits before the decimal point. */
+    public static final long TOO_MANY_INTEGER_PLACES = -5;
+
+    private static final int DECIMAL_PLACES = 2;
+    private static final int HUNDREDTHS_PER_WHOLE = 100;
+    // No number with more integer places than this is accepted, so the hundredths read never overflow a long.
+    private static final int MAX_INTEGER_PLACES = 16;
+
+    private InputScanner() {
+    }
+
+    /**
+     * Reads the characters in a range of the input as a non-negative number with at most two decimal places,
+     * such as "10", "10.7", "10.70", "10." or ".5", and returns the number in hundredths.
+     * The range is only read once. When the range is not valid, the returned error is the first of the following
+     * that applies, in this order: NOT_A_NUMBER, NEGATIVE or ZERO, MORE_THAN_TWO_DECIMAL_PLACES and
+     * TOO_MANY_INTEGER_PLACES.
+     * Every digit before the decimal point is counted as an integer place, including leading zeroes.
+     *
+     * @param input         A CharSequence object that contains the number.
+     * @param start         An integer that represents the index of the first character of the number.
+     * @param end           An integer that represents the index after the last character of the number.
+     * @param integerPlaces An integer that represents the maximum number of digits before the decimal point.
+     * @param isZeroAllowed A boolean that represents whether zero is a valid number.
+     * @return A non-negative long that represents the number in hundredths, or
+     *         a negative long that represents the reason that the number is not valid.
+     */
+    public static long scanHundredths(CharSequence input, int start, int end, int integerPlaces,
+            boolean isZeroAllowed) {
+        assert input != null;
+        assert 0 <= start && start <= end && end <= input.length();
+        assert 0 <= integerPlaces && integerPlaces <= MAX_INTEGER_PLACES;
+
+        int index = start;
+        boolean isNegative = index < end && input.charAt(index) == '-';
+        if (isNegative) {
+            index += 1;
+        }
+
+        long value = 0;
+        int integerDigits = 0;
+        int decimalDigits = 0;
+        boolean hasDecimalPoint = false;
+        boolean hasNonZeroDigit = false;
+        for (; index < end; index++) {
+            char character = input.charAt(index);
+            if (character == '.' && !hasDecimalPoint) {
+                hasDecimalPoint = true;
+                continue;
+            }
+            if (character < '0' || character > '9') {
+                return NOT_A_NUMBER;
+            }
+            hasNonZeroDigit |= character != '0';
+            if (hasDecimalPoint) {
+                decimalDigits += 1;
+            } else {
+                integerDigits += 1;
+            }
+            if (integerDigits <= MAX_INTEGER_PLACES && decimalDigits <= DECIMAL_PLACES) {
+                value = value * 10 + (character - '0');
+            }
+        }
+
+        if (integerDigits + decimalDigits == 0) {
+            return NOT_A_NUMBER;
+        }
+        if (isNegative && hasNonZeroDigit) {
+            return NEGATIVE;
+        }
+        if (!hasNonZeroDigit && !isZeroAllowed) {
+            return ZERO;
+        }
+        if (decimalDigits > DECIMAL_PLACES) {
+            return MORE_THAN_TWO_DECIMAL_PLACES;
+        }
+        if (integerDigits > integerPlaces) {
+            return TOO_MANY_INTEGER_PLACES;
+        }
+        for (int i = decimalDigits; i < DECIMAL_PLACES; i++) {
+            value *= 10;
+        }
+        return value;
+    }
+
+    /**
+     * Converts a number in hundredths, as returned by InputScanner#scanHundredths, into a double.
+     *
+     * @param hundredths A non-negative long that represents a number in hundredths.
+     * @return A double that is the closest to the number, the same as parsing the number with Double#parseDouble.
+     */
+    public static double hundredthsToDouble(long hundredths) {
+        assert hundredths >= 0;
+        return (double) hundredths / HUNDREDTHS_PER_WHOLE;
+    }
+
+    /**
+     * Checks if the input, ignoring leading and trailing whitespaces, consists of one or more
+     * alphabetical characters in the English alphabet only.
+     *
+     * @param input A String object to be checked.
+     * @return true if the input without its leading and trailing whitespaces is made up of only
+     *         the characters 'a' to 'z' and 'A' to 'Z', and is not empty,
+     *         false otherwise.
+     */
+    public static boolean isAlphabetic(String input) {
+        assert input != null;
+
+        int start = 0;
+        int end = input.length();
+        while (start < end && Character.isWhitespace(input.charAt(start))) {
+            start += 1;
+        }
+        while (end > start && Character.isWhitespace(input.charAt(end - 1))) {
+            end -= 1;
+        }
+        if (start == end) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            char character = input.charAt(i);
+            if ((character < 'a' || character > 'z') && (character < 'A' || character > 'Z')) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
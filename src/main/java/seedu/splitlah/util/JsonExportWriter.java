@@ -0,0 +1,181 @@
+package seedu.splitlah.util;
+
+import seedu.splitlah.data.Activity;
+import seedu.splitlah.data.Money;
+import seedu.splitlah.data.Person;
+import seedu.splitlah.data.Session;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Represents an ExportWriter object that exports the contents of a profile as a JSON document.
+ * The document is an object with a "sessions" array. Every session holds its "participants", its "activities", each
+ * with the "costs" paid and owed by every person, and the "settlements" to be made. Amounts of money are written as
+ * numbers in dollars with exactly two decimal places, and dates are written in the ISO-8601 format.
+ * Every element is written as soon as it is given, keeping track of only whether a separator is needed before it.
+ *
+ * @author Warren
+ */
+public class JsonExportWriter implements ExportWriter {
+
+    public static final String NAME = "json";
+
+    private static final char ELEMENT_SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final char ESCAPE = '\\';
+    private static final char FIRST_PRINTABLE_CHARACTER = ' ';
+    private static final String CONTROL_CHARACTER_ESCAPE_FORMAT = "\\u%04x";
+
+    private final Writer writer;
+    private boolean isFirstSession;
+    private boolean isFirstActivity;
+    private boolean isFirstActivityCost;
+    private boolean isFirstTransfer;
+    private boolean isWritingSettlements;
+
+    /**
+     * Initializes a JsonExportWriter object.
+     *
+     * @param writer A Writer object that the document is written to.
+     */
+    public JsonExportWriter(Writer writer) {
+        this.writer = writer;
+        this.isFirstSession = true;
+    }
+
+    @Override
+    public void beginExport() throws IOException {
+        writer.write("{\"sessions\":[");
+    }
+
+    @Override
+    public void beginSession(Session session) throws IOException {
+        writeSeparatorUnlessFirst(isFirstSession);
+        isFirstSession = false;
+        writer.write("\n{\"sessionId\":");
+        writer.write(Integer.toString(session.getSessionId()));
+        writer.write(",\"sessionName\":");
+        writeString(session.getSessionName());
+        writer.write(",\"dateCreated\":");
+        writeString(session.getDateCreated().toString());
+        writer.write(",\"participants\":[");
+        boolean isFirstPerson = true;
+        for (Person person : session.getPersonArrayList()) {
+            writeSeparatorUnlessFirst(isFirstPerson);
+            isFirstPerson = false;
+            writeString(person.getName());
+        }
+        writer.write("],\"activities\":[");
+        isFirstActivity = true;
+        isFirstTransfer = true;
+        isWritingSettlements = false;
+    }
+
+    @Override
+    public void beginActivity(int sessionId, Activity activity) throws IOException {
+        assert !isWritingSettlements;
+        writeSeparatorUnlessFirst(isFirstActivity);
+        isFirstActivity = false;
+        writer.write("\n{\"activityId\":");
+        writer.write(Integer.toString(activity.getActivityId()));
+        writer.write(",\"activityName\":");
+        writeString(activity.getActivityName());
+        writer.write(",\"payer\":");
+        writeString(activity.getPersonPaid().getName());
+        writer.write(",\"totalCost\":");
+        writer.write(activity.getTotalCost().toString());
+        writer.write(",\"gst\":");
+        writer.write(Double.toString(activity.getGst()));
+        writer.write(",\"serviceCharge\":");
+        writer.write(Double.toString(activity.getServiceCharge()));
+        writer.write(",\"costs\":[");
+        isFirstActivityCost = true;
+    }
+
+    @Override
+    public void writeActivityCost(int sessionId, int activityId, String personName, long costPaid, long costOwed)
+            throws IOException {
+        writeSeparatorUnlessFirst(isFirstActivityCost);
+        isFirstActivityCost = false;
+        writer.write("{\"person\":");
+        writeString(personName);
+        writer.write(",\"costPaid\":");
+        writer.write(Money.formatCents(costPaid));
+        writer.write(",\"costOwed\":");
+        writer.write(Money.formatCents(costOwed));
+        writer.write('}');
+    }
+
+    @Override
+    public void endActivity() throws IOException {
+        writer.write("]}");
+    }
+
+    @Override
+    public void writeTransfer(int sessionId, Transfer transfer) throws IOException {
+        beginSettlements();
+        writeSeparatorUnlessFirst(isFirstTransfer);
+        isFirstTransfer = false;
+        writer.write("\n{\"payer\":");
+        writeString(transfer.getPayer().getName());
+        writer.write(",\"receiver\":");
+        writeString(transfer.getReceiver().getName());
+        writer.write(",\"amount\":");
+        writer.write(Money.formatCents(transfer.getAmount()));
+        writer.write('}');
+    }
+
+    @Override
+    public void endSession() throws IOException {
+        beginSettlements();
+        writer.write("]}");
+    }
+
+    @Override
+    public void endExport() throws IOException {
+        writer.write("\n]}\n");
+    }
+
+    /**
+     * Closes the array of activities of the current session and opens its array of settlements, if this has not
+     * already been done.
+     *
+     * @throws IOException If the document cannot be written.
+     */
+    private void beginSettlements() throws IOException {
+        if (isWritingSettlements) {
+            return;
+        }
+        writer.write("],\"settlements\":[");
+        isWritingSettlements = true;
+    }
+
+    private void writeSeparatorUnlessFirst(boolean isFirstElement) throws IOException {
+        if (!isFirstElement) {
+            writer.write(ELEMENT_SEPARATOR);
+        }
+    }
+
+    /**
+     * Writes a JSON string, escaping double quotes, backslashes and control characters.
+     *
+     * @param value A String object that represents the contents of the string.
+     * @throws IOException If the document cannot be written.
+     */
+    private void writeString(String value) throws IOException {
+        writer.write(QUOTE);
+        for (int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+            if (character == QUOTE || character == ESCAPE) {
+                writer.write(ESCAPE);
+                writer.write(character);
+            } else if (character < FIRST_PRINTABLE_CHARACTER) {
+                writer.write(String.format(CONTROL_CHARACTER_ESCAPE_FORMAT, (int) character));
+            } else {
+                writer.write(character);
+            }
+        }
+        writer.write(QUOTE);
+    }
+}
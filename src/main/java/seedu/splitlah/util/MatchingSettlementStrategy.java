@@ -0,0 +1,214 @@
+package seedu.splitlah.util;
+
+import seedu.splitlah.data.Person;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Represents a settlement strategy for large sessions that first settles small groups of persons whose costs cancel
+ * out exactly, then settles the remaining persons with the greedy strategy.
+ * Two persons whose costs cancel out are settled with one transfer, and three persons whose costs cancel out are
+ * settled with two transfers, which is the fewest possible for each group. Groups are found with hash lookups on the
+ * costs in cents, and the search for groups of three stops once the time budget runs out, so that the strategy stays
+ * responsive with thousands of persons.
+ *
+ * @author Warren
+ */
+public class MatchingSettlementStrategy implements SettlementStrategy {
+
+    public static final String NAME = "matching";
+    public static final long DEFAULT_TIME_BUDGET_NANOS = 100_000_000L;
+    private static final int DEADLINE_CHECK_INTERVAL = 1024;
+    private static final int NOT_FOUND = -1;
+
+    private final long timeBudgetNanos;
+    private final SettlementStrategy fallbackStrategy;
+
+    /**
+     * Initializes a MatchingSettlementStrategy object with the default time budget.
+     */
+    public MatchingSettlementStrategy() {
+        this(DEFAULT_TIME_BUDGET_NANOS);
+    }
+
+    /**
+     * Initializes a MatchingSettlementStrategy object.
+     *
+     * @param timeBudgetNanos A long that represents the time in nanoseconds that may be spent searching for groups
+     *                        of persons whose costs cancel out.
+     */
+    public MatchingSettlementStrategy(long timeBudgetNanos) {
+        this.timeBudgetNanos = timeBudgetNanos;
+        this.fallbackStrategy = new GreedySettlementStrategy();
+    }
+
+    /**
+     * Returns a list of transfers that settles every debt. Pairs of persons whose costs cancel out are settled first,
+     * followed by groups of three within the time budget, and the remaining persons are settled by the greedy strategy.
+     *
+     * @param personCostPairList A List object of PersonCostPair objects with costs that add up to zero.
+     * @return A List object of Transfer objects.
+     */
+    @Override
+    public List<Transfer> settle(List<PersonCostPair> personCostPairList) {
+        final long deadline = System.nanoTime() + timeBudgetNanos;
+        int size = personCostPairList.size();
+        Person[] persons = new Person[size];
+        long[] costs = new long[size];
+        boolean[] isSettled = new boolean[size];
+        HashMap<Long, ArrayDeque<Integer>> indicesByCost = new HashMap<>();
+        ArrayList<Integer> payerIndices = new ArrayList<>();
+        ArrayList<Integer> receiverIndices = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            PersonCostPair personCostPair = personCostPairList.get(i);
+            persons[i] = personCostPair.getPerson();
+            costs[i] = personCostPair.getCost();
+            if (costs[i] == 0) {
+                isSettled[i] = true;
+                continue;
+            }
+            indicesByCost.computeIfAbsent(costs[i], cost -> new ArrayDeque<>()).add(i);
+            if (costs[i] < 0) {
+                payerIndices.add(i);
+            } else {
+                receiverIndices.add(i);
+            }
+        }
+
+        ArrayList<Transfer> transfers = new ArrayList<>();
+        settlePairs(receiverIndices, persons, costs, isSettled, indicesByCost, transfers);
+        settleTriples(receiverIndices, payerIndices, persons, costs, isSettled, indicesByCost, transfers, deadline);
+        settleTriples(payerIndices, receiverIndices, persons, costs, isSettled, indicesByCost, transfers, deadline);
+
+        ArrayList<PersonCostPair> remainingList = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (!isSettled[i]) {
+                remainingList.add(new PersonCostPair(persons[i], costs[i]));
+            }
+        }
+        transfers.addAll(fallbackStrategy.settle(remainingList));
+        return transfers;
+    }
+
+    /**
+     * Settles every person who has to be paid exactly the amount that another person has to pay, with a single
+     * transfer between the two persons.
+     *
+     * @param receiverIndices An ArrayList object of the indices of persons who have to be paid.
+     * @param persons         An array of Person objects.
+     * @param costs           An array of the costs in cents of the persons.
+     * @param isSettled       An array that marks the persons whose debts have been settled.
+     * @param indicesByCost   A HashMap object that maps each cost to the indices of persons with that cost.
+     * @param transfers       An ArrayList object that the transfers are added to.
+     */
+    private static void settlePairs(ArrayList<Integer> receiverIndices, Person[] persons, long[] costs,
+            boolean[] isSettled, HashMap<Long, ArrayDeque<Integer>> indicesByCost, ArrayList<Transfer> transfers) {
+        for (int receiverIndex : receiverIndices) {
+            int payerIndex = findUnsettledIndex(indicesByCost, -costs[receiverIndex], isSettled, NOT_FOUND);
+            if (payerIndex == NOT_FOUND) {
+                continue;
+            }
+            transfers.add(new Transfer(persons[payerIndex], persons[receiverIndex], costs[receiverIndex]));
+            isSettled[payerIndex] = true;
+            isSettled[receiverIndex] = true;
+        }
+    }
+
+    /**
+     * Settles groups of three persons whose costs cancel out, where one person, the hub, pays or is paid by the
+     * other two persons. Stops searching once the deadline has passed.
+     *
+     * @param hubIndices    An ArrayList object of the indices of persons who may be the hub of a group.
+     * @param otherIndices  An ArrayList object of the indices of persons with costs of the opposite sign.
+     * @param persons       An array of Person objects.
+     * @param costs         An array of the costs in cents of the persons.
+     * @param isSettled     An array that marks the persons whose debts have been settled.
+     * @param indicesByCost A HashMap object that maps each cost to the indices of persons with that cost.
+     * @param transfers     An ArrayList object that the transfers are added to.
+     * @param deadline      A long that represents the value of System#nanoTime after which the search stops.
+     */
+    private static void settleTriples(ArrayList<Integer> hubIndices, ArrayList<Integer> otherIndices,
+            Person[] persons, long[] costs, boolean[] isSettled, HashMap<Long, ArrayDeque<Integer>> indicesByCost,
+            ArrayList<Transfer> transfers, long deadline) {
+        int iterations = 0;
+        for (int hubIndex : hubIndices) {
+            if (isSettled[hubIndex]) {
+                continue;
+            }
+            long hubAmount = Math.abs(costs[hubIndex]);
+            for (int firstIndex : otherIndices) {
+                iterations += 1;
+                if (iterations % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() - deadline > 0) {
+                    return;
+                }
+                if (isSettled[firstIndex] || Math.abs(costs[firstIndex]) >= hubAmount) {
+                    continue;
+                }
+                long secondCost = -costs[hubIndex] - costs[firstIndex];
+                int secondIndex = findUnsettledIndex(indicesByCost, secondCost, isSettled, firstIndex);
+                if (secondIndex == NOT_FOUND) {
+                    continue;
+                }
+                addHubTransfer(hubIndex, firstIndex, persons, costs, transfers);
+                addHubTransfer(hubIndex, secondIndex, persons, costs, transfers);
+                isSettled[hubIndex] = true;
+                isSettled[firstIndex] = true;
+                isSettled[secondIndex] = true;
+                break;
+            }
+        }
+    }
+
+    /**
+     * Adds the transfer that settles the cost of a person with the hub of a group of three persons.
+     *
+     * @param hubIndex   An integer that represents the index of the hub.
+     * @param otherIndex An integer that represents the index of the person settling with the hub.
+     * @param persons    An array of Person objects.
+     * @param costs      An array of the costs in cents of the persons.
+     * @param transfers  An ArrayList object that the transfer is added to.
+     */
+    private static void addHubTransfer(int hubIndex, int otherIndex, Person[] persons, long[] costs,
+            ArrayList<Transfer> transfers) {
+        if (costs[otherIndex] < 0) {
+            transfers.add(new Transfer(persons[otherIndex], persons[hubIndex], -costs[otherIndex]));
+        } else {
+            transfers.add(new Transfer(persons[hubIndex], persons[otherIndex], costs[otherIndex]));
+        }
+    }
+
+    /**
+     * Returns the index of a person with the specified cost whose debts have not been settled.
+     * Indices of settled persons at the front of the queue are discarded along the way.
+     *
+     * @param indicesByCost A HashMap object that maps each cost to the indices of persons with that cost.
+     * @param cost          A long that represents the cost in cents to look up.
+     * @param isSettled     An array that marks the persons whose debts have been settled.
+     * @param excludedIndex An integer that represents an index that must not be returned.
+     * @return An integer that represents the index of a person if found, -1 otherwise.
+     */
+    private static int findUnsettledIndex(HashMap<Long, ArrayDeque<Integer>> indicesByCost, long cost,
+            boolean[] isSettled, int excludedIndex) {
+        ArrayDeque<Integer> indices = indicesByCost.get(cost);
+        if (indices == null) {
+            return NOT_FOUND;
+        }
+        while (!indices.isEmpty() && isSettled[indices.peekFirst()]) {
+            indices.pollFirst();
+        }
+        for (int index : indices) {
+            if (!isSettled[index] && index != excludedIndex) {
+                return index;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+}
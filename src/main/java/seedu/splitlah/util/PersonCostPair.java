@@ -7,18 +7,31 @@ import java.util.Comparator;
 /**
  * Represents a total cost that a person must pay or receive to settle the transactions for the session.
  * A negative value represents a debt to pay another person with a positive value.
+ * The cost is held as a whole number of cents, so that settling costs between persons is exact.
  * 
  * @author Warren
  */
 public class PersonCostPair implements Comparable<PersonCostPair> {
 
     private Person person;
-    private double cost;
+    private long cost;
     private boolean isProcessed;
 
     public PersonCostPair(Person person) {
         this.person = person;
-        this.cost = person.getTotalCost();
+        this.cost = person.getTotalCostInCents();
+        this.isProcessed = false;
+    }
+
+    /**
+     * Initializes a PersonCostPair object with a specified cost instead of the total cost of the person.
+     *
+     * @param person A Person object.
+     * @param cost   A long that represents the cost in cents that the person must pay or receive.
+     */
+    public PersonCostPair(Person person, long cost) {
+        this.person = person;
+        this.cost = cost;
         this.isProcessed = false;
     }
 
@@ -26,11 +39,11 @@ public class PersonCostPair implements Comparable<PersonCostPair> {
         return person;
     }
 
-    public double getCost() {
+    public long getCost() {
         return cost;
     }
 
-    public void setCost(double cost) {
+    public void setCost(long cost) {
         this.cost = cost;
     }
 
@@ -53,6 +66,6 @@ public class PersonCostPair implements Comparable<PersonCostPair> {
      */
     @Override
     public int compareTo(PersonCostPair personCostPair) {
-        return Double.compare(cost, personCostPair.getCost());
+        return Long.compare(cost, personCostPair.getCost());
     }
 }
@@ -0,0 +1,27 @@
+package seedu.splitlah.util;
+
+import java.util.List;
+
+/**
+ * Represents a way of choosing the transfers that settle the debts between a group of persons.
+ * A SettlementStrategy object does not modify the PersonCostPair objects that it is given.
+ *
+ * @author Warren
+ */
+public interface SettlementStrategy {
+
+    /**
+     * Returns a list of transfers that settles every debt described by the list of PersonCostPair objects.
+     *
+     * @param personCostPairList A List object of PersonCostPair objects with costs that add up to zero.
+     * @return A List object of Transfer objects that, once made, leaves every person with nothing to pay or receive.
+     */
+    List<Transfer> settle(List<PersonCostPair> personCostPairList);
+
+    /**
+     * Returns the name that the user enters to select this strategy.
+     *
+     * @return A String object that represents the name of the strategy.
+     */
+    String getName();
+}
@@ -0,0 +1,53 @@
+package seedu.splitlah.util;
+
+import seedu.splitlah.data.Money;
+import seedu.splitlah.data.Person;
+
+/**
+ * Represents a payment that one person has to make to another person to settle their debts.
+ * The amount is held as a whole number of cents.
+ *
+ * @author Warren
+ */
+public class Transfer {
+
+    private final Person payer;
+    private final Person receiver;
+    private final long amount;
+
+    /**
+     * Initializes a Transfer object.
+     *
+     * @param payer    A Person object that represents the person who has to pay.
+     * @param receiver A Person object that represents the person who has to be paid.
+     * @param amount   A long that represents the positive amount to be paid in cents.
+     */
+    public Transfer(Person payer, Person receiver, long amount) {
+        assert amount > 0 : "The amount of a transfer must be positive";
+        this.payer = payer;
+        this.receiver = receiver;
+        this.amount = amount;
+    }
+
+    public Person getPayer() {
+        return payer;
+    }
+
+    public Person getReceiver() {
+        return receiver;
+    }
+
+    public long getAmount() {
+        return amount;
+    }
+
+    /**
+     * Returns a String object that describes the transfer, such as "Alice has to pay Bob $10.00".
+     *
+     * @return A String object that describes the transfer.
+     */
+    @Override
+    public String toString() {
+        return payer.getName() + " has to pay " + receiver.getName() + " $" + Money.formatCents(amount);
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.splitlah;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.splitlah.data.Manager;
+import seedu.splitlah.data.Profile;
+import seedu.splitlah.storage.SnapshotCompression;
+import seedu.splitlah.storage.Storage;
+import seedu.splitlah.storage.StorageConfiguration;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchRunnerTest {
+
+    @TempDir
+    Path tempDirectory;
+
+    /**
+     * Checks if every command before the exit command is run, if blank lines are skipped, and if commands that
+     * cannot be parsed or fail to make their change are reported with their line numbers.
+     */
+    @Test
+    void run_scriptWithFailingCommands_failuresReportedByLine() throws Exception {
+        Manager manager = new Manager();
+        String script = "session /create /n Lunch /d 15-02-2022 /pl Alice Bob\n"
+                + "\n"
+                + "activity /create /sid 1 /n Meal /p Alice /i Alice Bob /co 10\n"
+                + "activity /create /sid 2 /n Meal /p Alice /i Alice Bob /co 10\n"
+                + "session /bogus\n"
+                + "session /list\n"
+                + "exit\n"
+                + "session /create /n Dinner /d 15-02-2022 /pl Alice Bob\n";
+        BatchRunner.Report report = new BatchRunner(manager, BatchRunner.SAVE_AT_END_ONLY)
+                .run(new BufferedReader(new StringReader(script)));
+
+        assertEquals(5, report.getCommandCount());
+        List<String> failures = report.getFailures();
+        assertEquals(2, failures.size());
+        assertTrue(failures.get(0).startsWith("4: "));
+        assertTrue(failures.get(1).startsWith("5: Invalid command"));
+        assertEquals(1, manager.getProfile().getSessionList().size());
+        assertEquals(1, manager.getProfile().getSession(1).getActivityList().size());
+    }
+
+    /**
+     * Checks if the changes made by the commands of a script are persisted as a checkpoint, without journalling
+     * each command.
+     */
+    @Test
+    void run_saveAtEndOnly_changesCheckpointedWithoutJournal() throws Exception {
+        StorageConfiguration configuration = new StorageConfiguration(tempDirectory,
+                StorageConfiguration.DEFAULT_PROFILE_NAME, SnapshotCompression.DEFAULT);
+        Manager manager = new Manager(configuration);
+        StringBuilder script = new StringBuilder("session /create /n Trip /d 15-02-2022 /pl Alice Bob\n");
+        for (int i = 0; i < 120; i++) {
+            script.append("activity /create /sid 1 /n Meal /p Alice /i Alice Bob /co ").append(i + 1).append('\n');
+        }
+        BatchRunner.Report report = new BatchRunner(manager, BatchRunner.SAVE_AT_END_ONLY)
+                .run(new BufferedReader(new StringReader(script.toString())));
+        manager.closeStorage();
+
+        assertEquals(121, report.getCommandCount());
+        assertEquals(0, report.getFailures().size());
+        Storage storage = new Storage(configuration);
+        Profile loadedProfile = storage.loadStorage();
+        assertEquals(0, storage.loadJournal().size());
+        assertEquals(120, loadedProfile.getSession(1).getActivityList().size());
+    }
+}
@@ -3,6 +3,7 @@ package seedu.splitlah.command;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import seedu.splitlah.data.Manager;
+import seedu.splitlah.data.Money;
 import seedu.splitlah.data.Person;
 import seedu.splitlah.exceptions.InvalidDataException;
 import seedu.splitlah.parser.Parser;
@@ -102,9 +103,9 @@ class ActivityCreateCommandTest {
         Person aliceOne = manager.getProfile().getSession(1).getPersonByName("Alice");
         Person bobOne = manager.getProfile().getSession(1).getPersonByName("Bob");
         Person charlieOne = manager.getProfile().getSession(1).getPersonByName("Charlie");
-        assertEquals(10, aliceOne.getActivityCostOwed(2));
-        assertEquals(10, bobOne.getActivityCostOwed(2));
-        assertEquals(10, charlieOne.getActivityCostOwed(2));
+        assertEquals(Money.ofCents(1000), aliceOne.getActivityCostOwed(2));
+        assertEquals(Money.ofCents(1000), bobOne.getActivityCostOwed(2));
+        assertEquals(Money.ofCents(1000), charlieOne.getActivityCostOwed(2));
 
         //Checks that the activityId is incremented
         int testActivityOneId = manager.getProfile().getActivityIdTracker();
@@ -126,9 +127,9 @@ class ActivityCreateCommandTest {
         Person aliceTwo = manager.getProfile().getSession(1).getPersonByName("Alice");
         Person bobTwo = manager.getProfile().getSession(1).getPersonByName("Bob");
         Person charlieTwo = manager.getProfile().getSession(1).getPersonByName("Charlie");
-        assertEquals(5, aliceTwo.getActivityCostOwed(3));
-        assertEquals(10, bobTwo.getActivityCostOwed(3));
-        assertEquals(15, charlieTwo.getActivityCostOwed(3));
+        assertEquals(Money.ofCents(500), aliceTwo.getActivityCostOwed(3));
+        assertEquals(Money.ofCents(1000), bobTwo.getActivityCostOwed(3));
+        assertEquals(Money.ofCents(1500), charlieTwo.getActivityCostOwed(3));
 
         //Checks that the activityId is incremented
         int testActivityTwoId = manager.getProfile().getActivityIdTracker();
@@ -150,9 +151,9 @@ class ActivityCreateCommandTest {
         Person aliceThree = manager.getProfile().getSession(1).getPersonByName("Alice");
         Person bobThree = manager.getProfile().getSession(1).getPersonByName("Bob");
         Person charlieThree = manager.getProfile().getSession(1).getPersonByName("Charlie");
-        assertEquals(0, aliceThree.getActivityCostOwed(4));
-        assertEquals(10, bobThree.getActivityCostOwed(4));
-        assertEquals(10, charlieThree.getActivityCostOwed(4));
+        assertEquals(Money.ZERO, aliceThree.getActivityCostOwed(4));
+        assertEquals(Money.ofCents(1000), bobThree.getActivityCostOwed(4));
+        assertEquals(Money.ofCents(1000), charlieThree.getActivityCostOwed(4));
 
         //Checks that the activityId is incremented
         int testActivityThreeId = manager.getProfile().getActivityIdTracker();
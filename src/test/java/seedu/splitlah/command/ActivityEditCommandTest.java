@@ -6,13 +6,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import seedu.splitlah.data.Activity;
 import seedu.splitlah.data.Manager;
+import seedu.splitlah.data.Money;
 import seedu.splitlah.data.Person;
 import seedu.splitlah.data.Session;
 import seedu.splitlah.exceptions.InvalidDataException;
 import seedu.splitlah.parser.Parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ActivityEditCommandTest {
 
@@ -126,7 +126,7 @@ class ActivityEditCommandTest {
         Command command = Parser.getCommand(userInput);
         assertEquals(ActivityEditCommand.class, command.getClass());
         command.run(manager);
-        assertEquals(20, session.getActivity(ACTIVITY_ID).getTotalCost());
+        assertEquals(Money.ofCents(2000), session.getActivity(ACTIVITY_ID).getTotalCost());
     }
 
     /**
@@ -140,8 +140,7 @@ class ActivityEditCommandTest {
         Command command = Parser.getCommand(userInput);
         assertEquals(ActivityEditCommand.class, command.getClass());
         command.run(manager);
-        double newCost = session.getActivity(ACTIVITY_ID).getTotalCost();
-        assertTrue(Math.abs(newCost - 16.05) < 0.1);
+        assertEquals(Money.ofCents(1605), session.getActivity(ACTIVITY_ID).getTotalCost());
     }
 
     /**
@@ -155,8 +154,7 @@ class ActivityEditCommandTest {
         Command command = Parser.getCommand(userInput);
         assertEquals(ActivityEditCommand.class, command.getClass());
         command.run(manager);
-        double newCost = session.getActivity(ACTIVITY_ID).getTotalCost();
-        assertTrue(Math.abs(newCost - 16.5) < 0.1);
+        assertEquals(Money.ofCents(1650), session.getActivity(ACTIVITY_ID).getTotalCost());
     }
 
     /**
@@ -171,12 +169,12 @@ class ActivityEditCommandTest {
         Command command = Parser.getCommand(userInput);
         assertEquals(ActivityEditCommand.class, command.getClass());
         command.run(manager);
-        double aliceCost = activity.getInvolvedPersonList().get(0).getActivityCostList().get(0).getCostOwed();
-        double bobCost = activity.getInvolvedPersonList().get(1).getActivityCostList().get(0).getCostOwed();
-        double charlieCost = activity.getInvolvedPersonList().get(2).getActivityCostList().get(0).getCostOwed();
-        assertEquals(5, aliceCost);
-        assertEquals(10, bobCost);
-        assertEquals(15, charlieCost);
+        Money aliceCost = activity.getInvolvedPersonList().get(0).getActivityCostList().get(0).getCostOwed();
+        Money bobCost = activity.getInvolvedPersonList().get(1).getActivityCostList().get(0).getCostOwed();
+        Money charlieCost = activity.getInvolvedPersonList().get(2).getActivityCostList().get(0).getCostOwed();
+        assertEquals(Money.ofCents(500), aliceCost);
+        assertEquals(Money.ofCents(1000), bobCost);
+        assertEquals(Money.ofCents(1500), charlieCost);
     }
 
     /**
@@ -188,7 +186,7 @@ class ActivityEditCommandTest {
         Command command = Parser.getCommand(userInput);
         command.run(manager);
         Activity editedActivity = manager.getProfile().getSession(1).getActivity(1);
-        assertEquals(15, editedActivity.getTotalCost());
+        assertEquals(Money.ofCents(1500), editedActivity.getTotalCost());
         assertEquals(3, editedActivity.getInvolvedPersonList().size());
     }
 
@@ -201,7 +199,7 @@ class ActivityEditCommandTest {
         Command command = Parser.getCommand(userInput);
         command.run(manager);
         Activity editedActivity = manager.getProfile().getSession(1).getActivity(1);
-        assertEquals(15, editedActivity.getTotalCost());
+        assertEquals(Money.ofCents(1500), editedActivity.getTotalCost());
         assertEquals(3, editedActivity.getInvolvedPersonList().size());
     }
 
@@ -224,8 +222,8 @@ class ActivityEditCommandTest {
         assertEquals(2, editedActivity.getInvolvedPersonList().size());
         assertEquals("Alice", editedActivity.getInvolvedPersonList().get(0).getName());
         assertEquals("Bob", editedActivity.getInvolvedPersonList().get(1).getName());
-        double newCost = editedActivity.getTotalCost();
-        assertTrue(newCost - (20 * 1.07 * 1.1) < 0.001);
+        // $10.00 each, plus $1.00 service charge and $0.77 GST each
+        assertEquals(Money.ofCents(2354), editedActivity.getTotalCost());
     }
 
     /**
@@ -287,7 +285,7 @@ class ActivityEditCommandTest {
         assertEquals(ActivityEditCommand.class, command.getClass());
         command.run(manager);
         Activity editedActivity = manager.getProfile().getSession(1).getActivity(1);
-        assertEquals(15, editedActivity.getTotalCost());
+        assertEquals(Money.ofCents(1500), editedActivity.getTotalCost());
     }
 
     /**
@@ -305,8 +303,8 @@ class ActivityEditCommandTest {
         assertEquals(ActivityEditCommand.class, command.getClass());
         command.run(manager);
         Activity editedActivity = manager.getProfile().getSession(1).getActivity(1);
-        assertEquals(10, editedActivity.getInvolvedPersonList().get(0).getActivityCostOwed(2));
-        assertEquals(20, editedActivity.getInvolvedPersonList().get(1).getActivityCostOwed(2));
-        assertEquals(30, editedActivity.getInvolvedPersonList().get(2).getActivityCostOwed(2));
+        assertEquals(Money.ofCents(1000), editedActivity.getInvolvedPersonList().get(0).getActivityCostOwed(2));
+        assertEquals(Money.ofCents(2000), editedActivity.getInvolvedPersonList().get(1).getActivityCostOwed(2));
+        assertEquals(Money.ofCents(3000), editedActivity.getInvolvedPersonList().get(2).getActivityCostOwed(2));
     }
 }
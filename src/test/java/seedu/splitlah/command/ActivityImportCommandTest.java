@@ -0,0 +1,109 @@
+package seedu.splitlah.command;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.splitlah.data.Activity;
+import seedu.splitlah.data.Manager;
+import seedu.splitlah.data.Money;
+import seedu.splitlah.data.Session;
+import seedu.splitlah.exceptions.InvalidDataException;
+import seedu.splitlah.parser.ActivityCsvParser;
+import seedu.splitlah.parser.Parser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ActivityImportCommandTest {
+
+    Manager manager = new Manager();
+
+    @TempDir
+    Path tempDirectory;
+
+    /**
+     * Creates a session that is stored and managed by the Manager object, with an activity in it.
+     */
+    @BeforeEach
+    void setUp() {
+        Parser.getCommand("session /create /n Class outing /d 15-02-2022 /pl Alice Bob Charlie").run(manager);
+        Parser.getCommand("activity /create /sid 1 /n Lunch /p Alice /i Alice Bob Charlie /co 15").run(manager);
+    }
+
+    /**
+     * Writes the specified rows into a CSV file in the temporary directory.
+     *
+     * @param rows String objects, each representing a row of the CSV file.
+     * @return A Path object that represents the CSV file.
+     * @throws IOException If the file cannot be written.
+     */
+    private Path writeCsvFile(String... rows) throws IOException {
+        Path filePath = tempDirectory.resolve("activities.csv");
+        Files.writeString(filePath, String.join("\n", rows));
+        return filePath;
+    }
+
+    /**
+     * Checks if every row is created as an activity with the same costs as the activity /create command,
+     * with consecutive activity unique identifiers in the order of the rows.
+     *
+     * @throws Exception If the CSV file cannot be written, or if the session cannot be found.
+     */
+    @Test
+    public void run_validRows_activitiesCreatedInOrder() throws Exception {
+        Path filePath = writeCsvFile(ActivityCsvParser.HEADER,
+                "Dinner,Bob,Alice Bob,30,7,10",
+                "",
+                "\"Snacks, drinks\",Charlie,Alice Bob Charlie,1 2 3.5",
+                "Taxi,Alice,Alice Charlie,10");
+        new ActivityImportCommand(1, filePath).run(manager);
+
+        Session session = manager.getProfile().getSession(1);
+        ArrayList<Activity> activities = new ArrayList<>(session.getActivityList());
+        assertEquals(4, activities.size());
+        assertEquals(2, activities.get(1).getActivityId());
+        assertEquals("Dinner", activities.get(1).getActivityName());
+        // 30 with 10% service charge, then 7% GST: 33.00 * 1.07 = 35.31
+        assertEquals(Money.ofCents(3531), activities.get(1).getTotalCost());
+        assertEquals("Snacks, drinks", activities.get(2).getActivityName());
+        assertEquals(Money.ofCents(650), activities.get(2).getTotalCost());
+        assertEquals(4, activities.get(3).getActivityId());
+        assertEquals(5, manager.getProfile().getActivityIdTracker());
+        assertEquals(Money.ofCents(500), session.getPersonByName("Charlie").getActivityCostOwed(4));
+    }
+
+    /**
+     * Checks if no activity is created and no activity unique identifier is issued when any row is invalid.
+     *
+     * @throws Exception If the CSV file cannot be written, or if the session cannot be found.
+     */
+    @Test
+    public void run_oneInvalidRow_noActivityCreated() throws Exception {
+        Path filePath = writeCsvFile("Dinner,Bob,Alice Bob,30",
+                "Taxi,Alice,Alice Dave,10",
+                "Breakfast,Alice,Alice Bob,12");
+        new ActivityImportCommand(1, filePath).run(manager);
+
+        assertEquals(1, manager.getProfile().getSession(1).getActivityCount());
+        assertEquals(2, manager.getProfile().getActivityIdTracker());
+        assertEquals(0, manager.getProfile().getSession(1).getPersonByName("Bob").getActivityCostList().stream()
+                .filter(activityCost -> activityCost.getActivityId() != 1).count());
+    }
+
+    /**
+     * Checks if no activity is created when the file cannot be read or the session is not found.
+     *
+     * @throws InvalidDataException If the session cannot be found.
+     */
+    @Test
+    public void run_missingFileOrSession_noActivityCreated() throws Exception {
+        new ActivityImportCommand(1, tempDirectory.resolve("missing.csv")).run(manager);
+        new ActivityImportCommand(2, writeCsvFile("Dinner,Bob,Alice Bob,30")).run(manager);
+        assertEquals(1, manager.getProfile().getSession(1).getActivityCount());
+        assertEquals(2, manager.getProfile().getActivityIdTracker());
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.splitlah.command;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.splitlah.data.Manager;
+import seedu.splitlah.parser.Parser;
+import seedu.splitlah.util.CsvExportWriter;
+import seedu.splitlah.util.GreedySettlementStrategy;
+import seedu.splitlah.util.JsonExportWriter;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class SessionExportCommandTest {
+
+    Manager manager = new Manager();
+
+    @TempDir
+    Path tempDirectory;
+
+    /**
+     * Creates two sessions that are stored and managed by the Manager object, the first with two activities.
+     */
+    @BeforeEach
+    void setUp() {
+        Parser.getCommand("session /create /n Class outing /d 15-02-2022 /pl Alice Bob Charlie").run(manager);
+        Parser.getCommand("session /create /n \"Big\" day /d 16-02-2022 /pl Alice Bob").run(manager);
+        Parser.getCommand("activity /create /sid 1 /n Lunch, dessert /p Alice /i Alice Bob Charlie /co 15")
+                .run(manager);
+        Parser.getCommand("activity /create /sid 1 /n Taxi /p Bob /i Charlie /co 6 /gst 7").run(manager);
+    }
+
+    /**
+     * Checks if every session, activity, activity cost and settlement is exported as a row of the CSV table,
+     * in the order of the unique identifiers, with fields containing separators or quotes enclosed in quotes.
+     *
+     * @throws Exception If the exported file cannot be read.
+     */
+    @Test
+    void run_csvFormat_everyRecordExported() throws Exception {
+        Path filePath = tempDirectory.resolve("profile.csv");
+        new SessionExportCommand(filePath, CsvExportWriter.NAME, new GreedySettlementStrategy()).run(manager);
+
+        List<String> rows = Files.readAllLines(filePath);
+        List<String> expectedRows = List.of(
+                CsvExportWriter.HEADER,
+                "session,1,Class outing,2022-02-15,,,Alice Bob Charlie,,,,,,",
+                "activity,1,,,1,\"Lunch, dessert\",Alice,,15.00,,,0.0,0.0",
+                "cost,1,,,1,,Alice,,,15.00,5.00,,",
+                "cost,1,,,1,,Bob,,,0.00,5.00,,",
+                "cost,1,,,1,,Charlie,,,0.00,5.00,,",
+                "activity,1,,,2,Taxi,Bob,,6.42,,,7.0,0.0",
+                "cost,1,,,2,,Bob,,,6.42,0.00,,",
+                "cost,1,,,2,,Charlie,,,0.00,6.42,,",
+                "settlement,1,,,,,Charlie,Alice,10.00,,,,",
+                "settlement,1,,,,,Charlie,Bob,1.42,,,,",
+                "session,2,\"\"\"Big\"\" day\",2022-02-16,,,Alice Bob,,,,,,");
+        assertEquals(expectedRows, rows);
+    }
+
+    /**
+     * Checks if every session is exported as an element of the sessions array of the JSON document, with its
+     * activities, activity costs and settlements nested in it, and with double quotes escaped.
+     *
+     * @throws Exception If the exported file cannot be read.
+     */
+    @Test
+    void run_jsonFormat_everyRecordExported() throws Exception {
+        Path filePath = tempDirectory.resolve("profile.json");
+        new SessionExportCommand(filePath, JsonExportWriter.NAME, new GreedySettlementStrategy()).run(manager);
+
+        String expectedDocument = "{\"sessions\":[\n"
+                + "{\"sessionId\":1,\"sessionName\":\"Class outing\",\"dateCreated\":\"2022-02-15\","
+                + "\"participants\":[\"Alice\",\"Bob\",\"Charlie\"],\"activities\":[\n"
+                + "{\"activityId\":1,\"activityName\":\"Lunch, dessert\",\"payer\":\"Alice\",\"totalCost\":15.00,"
+                + "\"gst\":0.0,\"serviceCharge\":0.0,\"costs\":[{\"person\":\"Alice\",\"costPaid\":15.00,"
+                + "\"costOwed\":5.00},{\"person\":\"Bob\",\"costPaid\":0.00,\"costOwed\":5.00},"
+                + "{\"person\":\"Charlie\",\"costPaid\":0.00,\"costOwed\":5.00}]},\n"
+                + "{\"activityId\":2,\"activityName\":\"Taxi\",\"payer\":\"Bob\",\"totalCost\":6.42,"
+                + "\"gst\":7.0,\"serviceCharge\":0.0,\"costs\":[{\"person\":\"Bob\",\"costPaid\":6.42,"
+                + "\"costOwed\":0.00},{\"person\":\"Charlie\",\"costPaid\":0.00,\"costOwed\":6.42}]}],"
+                + "\"settlements\":[\n"
+                + "{\"payer\":\"Charlie\",\"receiver\":\"Alice\",\"amount\":10.00},\n"
+                + "{\"payer\":\"Charlie\",\"receiver\":\"Bob\",\"amount\":1.42}]},\n"
+                + "{\"sessionId\":2,\"sessionName\":\"\\\"Big\\\" day\",\"dateCreated\":\"2022-02-16\","
+                + "\"participants\":[\"Alice\",\"Bob\"],\"activities\":[],\"settlements\":[]}\n"
+                + "]}\n";
+        assertEquals(expectedDocument, Files.readString(filePath));
+    }
+
+    /**
+     * Checks if a profile without sessions is exported as a document without sessions, and if no file is left
+     * behind when the file cannot be written.
+     *
+     * @throws Exception If the exported file cannot be read.
+     */
+    @Test
+    void run_noSessionsOrUnwritableFile_emptyDocumentOrNoFile() throws Exception {
+        Manager emptyManager = new Manager();
+        Path filePath = tempDirectory.resolve("empty.json");
+        new SessionExportCommand(filePath, JsonExportWriter.NAME, new GreedySettlementStrategy()).run(emptyManager);
+        assertEquals("{\"sessions\":[\n]}\n", Files.readString(filePath));
+
+        Path unwritablePath = tempDirectory.resolve("missing").resolve("profile.csv");
+        new SessionExportCommand(unwritablePath, CsvExportWriter.NAME, new GreedySettlementStrategy()).run(manager);
+        assertFalse(Files.exists(unwritablePath));
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.splitlah.command;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.splitlah.data.Manager;
+import seedu.splitlah.data.Profile;
+import seedu.splitlah.data.Session;
+import seedu.splitlah.exceptions.InvalidDataException;
+import seedu.splitlah.parser.Parser;
+import seedu.splitlah.util.GreedySettlementStrategy;
+import seedu.splitlah.util.PersonCostPair;
+
+import java.util.ArrayList;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SessionSettleAllCommandTest {
+
+    Manager manager = new Manager();
+
+    /**
+     * Creates a group and three sessions, where only the third session belongs to the group, and where
+     * the same persons appear in different sessions with names in different cases.
+     */
+    @BeforeEach
+    void setUp() {
+        String[] commands = {
+            "group /create /n Friends /pl Alice Dave",
+            "session /create /n Lunch /d 15-02-2022 /pl Alice Bob",
+            "session /create /n Dinner /d 16-02-2022 /pl alice bob Charlie",
+            "session /create /n Movie /d 17-02-2022 /gid 1",
+            "activity /create /sid 1 /n Meal /p Alice /i Alice Bob /co 20",
+            "activity /create /sid 2 /n Meal /p bob /i alice bob Charlie /co 30",
+            "activity /create /sid 3 /n Tickets /p Dave /i Alice Dave /co 25",
+        };
+        for (String userInput : commands) {
+            Parser.getCommand(userInput).run(manager);
+        }
+    }
+
+    /**
+     * Checks if the costs of persons with the same name in different sessions are added together, and if persons
+     * who have nothing to pay or receive overall are left out.
+     */
+    @Test
+    void getNetPersonCostPairList_allSessions_costsNettedByName() throws InvalidDataException {
+        Profile profile = manager.getProfile();
+        SessionSettleAllCommand command =
+                new SessionSettleAllCommand(SessionSettleAllCommand.NO_GROUP_ID, new GreedySettlementStrategy());
+        ArrayList<Session> sessions = command.getIncludedSessions(profile);
+        assertEquals(3, sessions.size());
+
+        ArrayList<PersonCostPair> personCostPairList = SessionSettleAllCommand.getNetPersonCostPairList(profile,
+                sessions);
+        // Alice: +10.00 - 10.00 - 12.50, Bob: -10.00 + 20.00, Charlie: -10.00, Dave: +12.50
+        assertEquals(4, personCostPairList.size());
+        assertEquals("Alice", personCostPairList.get(0).getPerson().getName());
+        assertEquals(-1250, personCostPairList.get(0).getCost());
+        assertEquals(1000, personCostPairList.get(1).getCost());
+        assertEquals(-1000, personCostPairList.get(2).getCost());
+        assertEquals(1250, personCostPairList.get(3).getCost());
+    }
+
+    /**
+     * Checks if only the sessions of the specified group are settled.
+     */
+    @Test
+    void getIncludedSessions_groupSpecified_onlySessionsOfGroupIncluded() throws InvalidDataException {
+        Profile profile = manager.getProfile();
+        SessionSettleAllCommand command = new SessionSettleAllCommand(1, new GreedySettlementStrategy());
+        ArrayList<Session> sessions = command.getIncludedSessions(profile);
+        assertEquals(1, sessions.size());
+        assertEquals("Movie", sessions.get(0).getSessionName());
+
+        ArrayList<PersonCostPair> personCostPairList = SessionSettleAllCommand.getNetPersonCostPairList(profile,
+                sessions);
+        assertEquals(2, personCostPairList.size());
+        assertEquals(-1250, personCostPairList.get(0).getCost());
+    }
+
+    /**
+     * Checks if names that differ only in case are added together regardless of the default locale, such as
+     * a Turkish locale, where the lower case of 'I' is a dotless i.
+     */
+    @Test
+    void getNetPersonCostPairList_turkishDefaultLocale_costsNettedByName() throws InvalidDataException {
+        final Locale defaultLocale = Locale.getDefault();
+        Manager localeManager = new Manager();
+        String[] commands = {
+            "session /create /n Trip /d 18-02-2022 /pl IVAN Bob",
+            "session /create /n Tour /d 19-02-2022 /pl ivan Bob",
+            "activity /create /sid 1 /n Bus /p IVAN /i IVAN Bob /co 10",
+            "activity /create /sid 2 /n Boat /p ivan /i ivan Bob /co 10",
+        };
+        for (String userInput : commands) {
+            Parser.getCommand(userInput).run(localeManager);
+        }
+        Profile profile = localeManager.getProfile();
+
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            ArrayList<PersonCostPair> personCostPairList = SessionSettleAllCommand.getNetPersonCostPairList(profile,
+                    profile.getSessionList());
+            assertEquals(2, personCostPairList.size());
+            assertEquals(1000, personCostPairList.get(0).getCost());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+}
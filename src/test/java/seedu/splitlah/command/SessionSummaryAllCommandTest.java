@@ -0,0 +1,80 @@
+package seedu.splitlah.command;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.splitlah.data.Manager;
+import seedu.splitlah.data.Session;
+import seedu.splitlah.data.SessionSettlementSnapshot;
+import seedu.splitlah.parser.Parser;
+import seedu.splitlah.util.GreedySettlementStrategy;
+import seedu.splitlah.util.SettlementStrategy;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SessionSummaryAllCommandTest {
+
+    private static final int SESSION_COUNT = 20;
+    private static final int PARALLELISM = 4;
+
+    Manager manager = new Manager();
+
+    /**
+     * Creates several sessions, each with an activity of a different cost.
+     */
+    @BeforeEach
+    void setUp() {
+        for (int sessionId = 1; sessionId <= SESSION_COUNT; sessionId++) {
+            Parser.getCommand("session /create /n Outing " + sessionId + " /d 15-02-2022 /pl Alice Bob Charlie")
+                    .run(manager);
+            Parser.getCommand("activity /create /sid " + sessionId + " /n Meal /p Alice /i Alice Bob Charlie /co "
+                    + sessionId).run(manager);
+        }
+    }
+
+    /**
+     * Checks if the summaries produced in parallel are the same as the summaries produced one after another,
+     * and are in the order of the sessions' unique identifiers.
+     */
+    @Test
+    void summarizeAll_manySessions_sameSummariesAsSequentialInIdOrder() {
+        SettlementStrategy settlementStrategy = new GreedySettlementStrategy();
+        ArrayList<Session> sessions = manager.getProfile().getSessionList();
+        SessionSettlementSnapshot[] snapshots = new SessionSettlementSnapshot[sessions.size()];
+        String[] expectedSummaries = new String[sessions.size()];
+        for (int i = 0; i < sessions.size(); i++) {
+            snapshots[i] = sessions.get(i).createSettlementSnapshot();
+            expectedSummaries[i] = SessionSummaryAllCommand.summarize(snapshots[i], settlementStrategy);
+        }
+
+        String[] summaries = new String[sessions.size()];
+        ForkJoinPool pool = new ForkJoinPool(PARALLELISM);
+        try {
+            SessionSummaryAllCommand.summarizeAll(snapshots, summaries, settlementStrategy, pool);
+        } finally {
+            pool.shutdown();
+        }
+        for (int i = 0; i < summaries.length; i++) {
+            assertEquals(expectedSummaries[i], summaries[i]);
+            assertTrue(summaries[i].startsWith("Summary (Session Id #" + (i + 1) + ")"));
+        }
+        assertTrue(summaries[2].contains("Bob has to pay Alice $1.00"));
+    }
+
+    /**
+     * Checks if running the command caches the summary of every session, so that a later session summary of an
+     * unchanged session is not produced again.
+     */
+    @Test
+    void run_unchangedSessions_summariesCached() {
+        Parser.getCommand("session /summaryall").run(manager);
+        for (Session session : manager.getProfile().getSessionList()) {
+            String expectedSummary = SessionSummaryAllCommand.summarize(session.createSettlementSnapshot(),
+                    new GreedySettlementStrategy());
+            assertEquals(expectedSummary, session.getCachedSettlementSummary(GreedySettlementStrategy.NAME));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.splitlah.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ActivityCostLedgerTest {
+
+    private static final long RANDOM_SEED = 2103;
+    private static final int OPERATION_COUNT = 20000;
+    private static final int ACTIVITY_ID_RANGE = 500;
+
+    /**
+     * Checks if every entry can still be looked up with the correct costs after a long sequence of random
+     * additions and removals, compared against a HashMap object holding the same entries.
+     */
+    @Test
+    void indexOf_randomAdditionsAndRemovals_sameEntriesAsHashMap() {
+        ActivityCostLedger ledger = new ActivityCostLedger();
+        HashMap<Integer, Long> expectedCostsOwed = new HashMap<>();
+        Random random = new Random(RANDOM_SEED);
+        for (int i = 0; i < OPERATION_COUNT; i++) {
+            int activityId = random.nextInt(ACTIVITY_ID_RANGE);
+            if (random.nextBoolean()) {
+                ledger.add(activityId, 0, activityId);
+                expectedCostsOwed.merge(activityId, (long) activityId, Long::sum);
+            } else {
+                assertEquals(expectedCostsOwed.remove(activityId) != null, ledger.remove(activityId));
+            }
+        }
+        assertEquals(expectedCostsOwed.size(), ledger.size());
+        ledger.checkConsistency();
+        long expectedTotalCostOwed = expectedCostsOwed.values().stream().mapToLong(Long::longValue).sum();
+        assertEquals(expectedTotalCostOwed, ledger.getTotalCostOwed());
+        for (int activityId = 0; activityId < ACTIVITY_ID_RANGE; activityId++) {
+            int slot = ledger.indexOf(activityId);
+            assertEquals(expectedCostsOwed.containsKey(activityId), slot >= 0);
+            if (slot >= 0) {
+                assertEquals(activityId, ledger.getActivityId(slot));
+                assertEquals((long) expectedCostsOwed.get(activityId), ledger.getCostOwed(slot));
+            }
+        }
+    }
+
+    /**
+     * Checks if an entry moved to another activity unique identifier keeps its costs, and is added onto an existing
+     * entry of that identifier.
+     */
+    @Test
+    void replaceActivityId_existingEntry_costsMoved() {
+        ActivityCostLedger ledger = new ActivityCostLedger();
+        ledger.add(1, 10, 5);
+        ledger.add(-1, 20, 7);
+        assertTrue(ledger.replaceActivityId(-1, 2));
+        assertFalse(ledger.replaceActivityId(-1, 2));
+        assertEquals(-1, ledger.indexOf(-1));
+        assertEquals(7, ledger.getCostOwed(ledger.indexOf(2)));
+
+        assertTrue(ledger.replaceActivityId(2, 1));
+        assertEquals(1, ledger.size());
+        assertEquals(30, ledger.getCostPaid(ledger.indexOf(1)));
+        assertEquals(12, ledger.getTotalCostOwed());
+    }
+
+    /**
+     * Checks if entries can still be looked up, added and removed after the ledger is serialized and deserialized,
+     * as the hash table is not serialized.
+     */
+    @Test
+    void readObject_serializedLedger_entriesLookedUp() throws Exception {
+        ActivityCostLedger ledger = new ActivityCostLedger();
+        for (int activityId = 1; activityId <= 10; activityId++) {
+            ledger.add(activityId, activityId, 0);
+        }
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(buffer)) {
+            out.writeObject(ledger);
+        }
+        ActivityCostLedger restoredLedger;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(buffer.toByteArray()))) {
+            restoredLedger = (ActivityCostLedger) in.readObject();
+        }
+        assertEquals(55, restoredLedger.getTotalCostPaid());
+        assertEquals(7, restoredLedger.getCostPaid(restoredLedger.indexOf(7)));
+        assertTrue(restoredLedger.remove(3));
+        restoredLedger.add(11, 11, 0);
+        assertEquals(63, restoredLedger.getTotalCostPaid());
+    }
+}
@@ -11,7 +11,7 @@ public class ActivityCostTest {
 
     @BeforeEach
     public void setUp() {
-        activityCost = new ActivityCost(1, 10, 100);
+        activityCost = new ActivityCost(1, Money.ofCents(1000), Money.ofCents(10000));
     }
 
     // Getter and setter tests
@@ -22,11 +22,11 @@ public class ActivityCostTest {
 
     @Test
     public void getCostPaid_costPaidIsTen_returnsTen() {
-        assertEquals(10, activityCost.getCostPaid());
+        assertEquals(Money.ofCents(1000), activityCost.getCostPaid());
     }
 
     @Test
     public void getCostOwed_costOwedIsHundred_returnsHundred() {
-        assertEquals(100, activityCost.getCostOwed());
+        assertEquals(Money.ofCents(10000), activityCost.getCostOwed());
     }
 }
@@ -40,7 +40,7 @@ class ActivityTest {
                     + "-------------------------\n"
                     + "1 | Alice   | $5.89     \n"
                     + "2 | Bob     | $5.89     \n"
-                    + "3 | Charlie | $5.89     \n"
+                    + "3 | Charlie | $5.88     \n"
                     + "=========================";
 
     /**
@@ -85,7 +85,7 @@ class ActivityTest {
      */
     @Test
     void getTotalCost_activityOne_correctActivityTotalCost() {
-        assertTrue(Math.abs(17.65 - activityOne.getTotalCost()) < 0.01);
+        assertEquals(Money.ofCents(1766), activityOne.getTotalCost());
     }
 
     /**
@@ -0,0 +1,109 @@
+package seedu.splitlah.data;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.splitlah.command.Command;
+import seedu.splitlah.exceptions.InvalidDataException;
+import seedu.splitlah.parser.Parser;
+import seedu.splitlah.storage.SnapshotCompression;
+import seedu.splitlah.storage.Storage;
+import seedu.splitlah.storage.StorageConfiguration;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ManagerTest {
+
+    private static final String CREATE_TEST_SESSION_INPUT =
+            "session /create /n Class outing /d 15-02-2022 /pl Alice Bob";
+    private static final String CREATE_TEST_ACTIVITY_INPUT =
+            "activity /create /sid 1 /n Lunch /p Alice /i Alice Bob /co 10";
+
+    @TempDir
+    Path tempDirectory;
+
+    /**
+     * Runs a command on the Manager object as if it was entered by the user.
+     *
+     * @param manager      A Manager object that the command is run on.
+     * @param commandInput A String object representing the input entered by the user.
+     */
+    private static void runCommand(Manager manager, String commandInput) {
+        Command command = Parser.getCommand(commandInput);
+        manager.setCurrentCommandInput(commandInput);
+        command.run(manager);
+    }
+
+    /**
+     * Checks if every change made inside a transaction is discarded when the transaction is rolled back,
+     * including the unique identifiers issued inside it.
+     */
+    @Test
+    void rollbackTransaction_changesInsideTransaction_changesDiscarded() throws InvalidDataException {
+        Manager manager = new Manager();
+        runCommand(manager, CREATE_TEST_SESSION_INPUT);
+        final Profile profileBeforeTransaction = manager.getProfile();
+
+        manager.beginTransaction();
+        runCommand(manager, CREATE_TEST_ACTIVITY_INPUT);
+        runCommand(manager, "session /edit /sid 1 /n Renamed outing");
+        runCommand(manager, "session /create /n Dinner /d 15-02-2022 /pl Alice Bob");
+        assertEquals(1, manager.getProfile().getSession(1).getActivityCount());
+        assertEquals(2, manager.getProfile().getSessionList().size());
+        manager.rollbackTransaction();
+
+        assertFalse(manager.isInTransaction());
+        assertTrue(manager.getProfile() == profileBeforeTransaction);
+        Session session = manager.getProfile().getSession(1);
+        assertEquals("Class outing", session.getSessionName());
+        assertEquals(0, session.getActivityCount());
+        assertEquals(1, manager.getProfile().getSessionList().size());
+        assertEquals(2, manager.getProfile().getNewSessionId());
+    }
+
+    /**
+     * Checks if transactions cannot be nested, and if a transaction cannot be committed or rolled back
+     * when none is open.
+     */
+    @Test
+    void beginTransaction_transactionAlreadyOpen_exceptionThrown() throws InvalidDataException {
+        Manager manager = new Manager();
+        assertThrows(InvalidDataException.class, manager::commitTransaction);
+        assertThrows(InvalidDataException.class, manager::rollbackTransaction);
+        manager.beginTransaction();
+        assertThrows(InvalidDataException.class, manager::beginTransaction);
+        manager.commitTransaction();
+        assertFalse(manager.isInTransaction());
+    }
+
+    /**
+     * Checks if committing a transaction persists all of its changes with a single write, without journalling
+     * any of the commands run inside it.
+     */
+    @Test
+    void commitTransaction_manyChanges_singleWritePersisted() throws Exception {
+        StorageConfiguration configuration = new StorageConfiguration(tempDirectory,
+                StorageConfiguration.DEFAULT_PROFILE_NAME, SnapshotCompression.DEFAULT);
+        Manager manager = new Manager(configuration);
+        runCommand(manager, CREATE_TEST_SESSION_INPUT);
+        long writeCountBeforeTransaction = manager.getPersistenceMetrics().getSubmittedWriteCount();
+
+        manager.beginTransaction();
+        for (int i = 0; i < 50; i++) {
+            runCommand(manager, CREATE_TEST_ACTIVITY_INPUT);
+        }
+        assertEquals(writeCountBeforeTransaction, manager.getPersistenceMetrics().getSubmittedWriteCount());
+        manager.commitTransaction();
+        assertEquals(writeCountBeforeTransaction + 1, manager.getPersistenceMetrics().getSubmittedWriteCount());
+        manager.closeStorage();
+
+        Storage storage = new Storage(configuration);
+        Profile loadedProfile = storage.loadStorage();
+        assertEquals(0, storage.loadJournal().size());
+        assertEquals(50, loadedProfile.getSession(1).getActivityCount());
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.splitlah.data;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MoneyTest {
+
+    /**
+     * Checks if amounts with no, one or two decimal places are parsed into the exact number of cents, and if
+     * amounts with more than two decimal places are rejected.
+     */
+    @Test
+    void parse_amountsWithAtMostTwoDecimalPlaces_exactCents() {
+        assertEquals(Money.ofCents(1070), Money.parse("10.7"));
+        assertEquals(Money.ofCents(1070), Money.parse("10.70"));
+        assertEquals(Money.ofCents(1000), Money.parse("10"));
+        assertEquals(Money.ofCents(50), Money.parse(".5"));
+        assertEquals(Money.ofCents(12345678901299L), Money.parse("123456789012.99"));
+        assertThrows(NumberFormatException.class, () -> Money.parse("10.705"));
+        assertThrows(NumberFormatException.class, () -> Money.parse("1-0"));
+    }
+
+    /**
+     * Checks if the cents left over from an uneven split are given one each to the first parts, so that
+     * the parts always add up to exactly the amount.
+     */
+    @Test
+    void split_unevenAmount_leftOverCentsGivenToFirstParts() {
+        Money amount = Money.ofCents(1000);
+        Money[] parts = amount.split(3);
+        assertArrayEquals(new Money[] { Money.ofCents(334), Money.ofCents(333), Money.ofCents(333) }, parts);
+        assertEquals(amount, Money.sum(parts));
+
+        Money[] negativeParts = Money.ofCents(-1000).split(3);
+        assertEquals(Money.ofCents(-1000), Money.sum(negativeParts));
+    }
+
+    /**
+     * Checks if percentage surcharges are rounded to the nearest cent with half a cent rounded up, and if removing
+     * a surcharge returns the amount it was added onto.
+     */
+    @Test
+    void addPercentage_surchargeWithHalfCent_roundedHalfUp() {
+        Money amount = Money.ofCents(1650);
+        // 16.50 * 1.07 = 17.655
+        assertEquals(Money.ofCents(1766), amount.addPercentage(7));
+        assertEquals(Money.ofCents(1650), amount.addPercentage(0));
+        assertEquals(Money.ofCents(1650), Money.ofCents(1500).addPercentage(10));
+        assertEquals(Money.ofCents(1500), Money.ofCents(1650).removePercentage(10));
+        assertEquals(amount, amount.addPercentage(7).removePercentage(7));
+    }
+
+    /**
+     * Checks if amounts are formatted with exactly two decimal places, including negative amounts below a dollar.
+     */
+    @Test
+    void toString_variousAmounts_twoDecimalPlaces() {
+        assertEquals("10.70", Money.ofCents(1070).toString());
+        assertEquals("0.05", Money.ofCents(5).toString());
+        assertEquals("-0.05", Money.ofCents(-5).toString());
+        assertEquals("0.00", Money.ZERO.toString());
+        assertEquals(Money.ofCents(29), Money.fromDouble(0.29));
+    }
+}
@@ -59,7 +59,7 @@ public class PersonTest {
     public void addActivityCost_addOneActivityCost_activityCostListIncreasesByOne() {
         Person person = Person.createPersonFromString("John");
         assertNotNull(person);
-        person.addActivityCost(1, 10, 20);
+        person.addActivityCost(1, Money.ofCents(1000), Money.ofCents(2000));
         assertEquals(1, person.getActivityCostList().size());
     }
 
@@ -67,7 +67,7 @@ public class PersonTest {
     public void removeActivityCost_removeOneActivityCost_activityCostListDecreasesByOne() throws InvalidDataException {
         Person person = Person.createPersonFromString("John");
         assertNotNull(person);
-        person.addActivityCost(1, 10, 20);
+        person.addActivityCost(1, Money.ofCents(1000), Money.ofCents(2000));
         assertEquals(1, person.getActivityCostList().size());
         person.removeActivityCost(1);
         assertEquals(0, person.getActivityCostList().size());
@@ -77,16 +77,31 @@ public class PersonTest {
     public void getTotalCost_noActivites_returnsZero() {
         Person person = Person.createPersonFromString("John");
         assertNotNull(person);
-        assertEquals(0, person.getTotalCost());
+        assertEquals(Money.ZERO, person.getTotalCost());
     }
 
     @Test
     public void getTotalCost_someActivities_returnsTotalCost() {
         Person person = Person.createPersonFromString("John");
         assertNotNull(person);
-        person.addActivityCost(1, 10, 5);
-        person.addActivityCost(2, 20, 10);
-        assertEquals(15, person.getTotalCost());
+        person.addActivityCost(1, Money.ofCents(1000), Money.ofCents(500));
+        person.addActivityCost(2, Money.ofCents(2000), Money.ofCents(1000));
+        assertEquals(Money.ofCents(1500), person.getTotalCost());
+    }
+
+    @Test
+    public void getTotalCost_activityRemoved_returnsRemainingTotalCost() throws InvalidDataException {
+        Person person = Person.createPersonFromString("John");
+        assertNotNull(person);
+        person.addActivityCost(1, Money.ofCents(1000), Money.ofCents(500));
+        person.addActivityCost(2, Money.ofCents(2000), Money.ofCents(1000));
+        person.addActivityCost(3, Money.ZERO, Money.ofCents(750));
+        person.removeActivityCost(2);
+        assertEquals(Money.ofCents(-250), person.getTotalCost());
+        person.getActivityCostLedger().checkConsistency();
+        person.removeActivityCost(1);
+        person.removeActivityCost(3);
+        assertEquals(Money.ZERO, person.getTotalCost());
     }
 
     @Test
@@ -6,6 +6,11 @@ import seedu.splitlah.exceptions.InvalidDataException;
 import seedu.splitlah.parser.Parser;
 import seedu.splitlah.ui.Message;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -356,4 +361,124 @@ class ProfileTest {
         manager.getProfile().getNewGroupId();
         assertEquals(groupIdToTest + 1, manager.getProfile().getGroupIdTracker());
     }
+
+    /**
+     * Checks if the indexes of session and group names are updated when sessions and groups are renamed
+     * or removed, so that the old names are no longer found and the new names are found regardless of case.
+     */
+    @Test
+    public void hasSessionNameAndHasGroupName_sessionAndGroupRenamedAndRemoved_indexesUpdated()
+            throws InvalidDataException {
+        Parser.getCommand(CREATE_TEST_SESSION_INPUT).run(manager);
+        Parser.getCommand(CREATE_TEST_GROUP_INPUT).run(manager);
+        Parser.getCommand("session /edit /sid 1 /n Class gathering").run(manager);
+        Parser.getCommand("group /edit /gid 1 /n Study group").run(manager);
+        Profile profile = manager.getProfile();
+        assertFalse(profile.hasSessionName("Class outing"));
+        assertTrue(profile.hasSessionName("CLASS GATHERING"));
+        assertFalse(profile.hasGroupName("Project members"));
+        assertTrue(profile.hasGroupName("study GROUP"));
+
+        profile.removeSession(1);
+        profile.removeGroup(1);
+        assertFalse(profile.hasSessionName("Class gathering"));
+        assertFalse(profile.hasSessionId(1));
+        assertFalse(profile.hasGroupName("Study group"));
+        assertFalse(profile.hasGroupId(1));
+    }
+
+    /**
+     * Checks if the indexes of sessions and groups are rebuilt when a Profile object is restored
+     * with Java serialization.
+     */
+    @Test
+    public void getSessionAndGetGroup_profileDeserialized_indexesRebuilt() throws Exception {
+        Parser.getCommand(CREATE_TEST_SESSION_INPUT).run(manager);
+        Parser.getCommand(CREATE_TEST_GROUP_INPUT).run(manager);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(buffer)) {
+            out.writeObject(manager.getProfile());
+        }
+        Profile profile;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(buffer.toByteArray()))) {
+            profile = (Profile) in.readObject();
+        }
+        assertEquals("Class outing", profile.getSession(1).getSessionName());
+        assertEquals("Project members", profile.getGroup(1).getGroupName());
+        assertTrue(profile.hasSessionName("class outing"));
+        assertTrue(profile.hasGroupName("project members"));
+    }
+
+    /**
+     * Checks if changes made through a copy-on-write view of a Profile object, including changes to a group that
+     * are seen by the sessions of the group, do not change the Profile object that the view was created from.
+     */
+    @Test
+    public void createCopyOnWriteView_sessionsAndGroupsChanged_baseProfileUnchanged() throws InvalidDataException {
+        Parser.getCommand(CREATE_TEST_GROUP_INPUT).run(manager);
+        Parser.getCommand("session /create /n Class outing /d 15-02-2022 /gid 1").run(manager);
+        Profile profile = manager.getProfile();
+        Profile view = profile.createCopyOnWriteView();
+
+        view.renameGroup(view.getGroup(1), "Study group");
+        view.renameSession(view.getSession(1), "Class gathering");
+        assertEquals("Study group", view.getSession(1).getGroup().getGroupName());
+        assertTrue(view.getSession(1).getGroup() == view.getGroup(1));
+
+        assertEquals("Project members", profile.getGroup(1).getGroupName());
+        assertEquals("Class outing", profile.getSession(1).getSessionName());
+        assertTrue(profile.getSession(1).getGroup() == profile.getGroup(1));
+        assertTrue(profile.hasSessionName("class outing"));
+        assertFalse(view.hasSessionName("class outing"));
+
+        view.removeGroup(1);
+        assertEquals(null, view.getSession(1).getGroup());
+        assertEquals(1, profile.getSession(1).getGroup().getGroupId());
+    }
+
+    /**
+     * Checks if a session only read through a copy-on-write view is not copied, unless the group it refers to
+     * has been changed in the view, and if a session changed through the view is copied.
+     */
+    @Test
+    public void getReadOnlySession_copyOnWriteView_sessionCopiedOnlyWhenNeeded() throws InvalidDataException {
+        Parser.getCommand(CREATE_TEST_GROUP_INPUT).run(manager);
+        Parser.getCommand("session /create /n Class outing /d 15-02-2022 /gid 1").run(manager);
+        Parser.getCommand("session /create /n Dinner /d 16-02-2022 /gid 1").run(manager);
+        Profile profile = manager.getProfile();
+        Profile view = profile.createCopyOnWriteView();
+
+        assertTrue(view.getReadOnlySession(1) == profile.getSession(1));
+        assertTrue(view.getSession(1) != profile.getSession(1));
+
+        view.renameGroup(view.getGroup(1), "Study group");
+        Session session = view.getReadOnlySession(2);
+        assertTrue(session != profile.getSession(2));
+        assertEquals("Study group", session.getGroup().getGroupName());
+    }
+
+    /**
+     * Checks if a group only read through a copy-on-write view is not copied, and neither are its sessions,
+     * and if a session created with the group in the view sees the group once it is changed in the view.
+     */
+    @Test
+    public void getReadOnlyGroup_copyOnWriteView_groupAndSessionsNotCopied() throws InvalidDataException {
+        Parser.getCommand(CREATE_TEST_GROUP_INPUT).run(manager);
+        Parser.getCommand("session /create /n Class outing /d 15-02-2022 /gid 1").run(manager);
+        final Profile profile = manager.getProfile();
+        manager.beginTransaction();
+        final Profile view = manager.getProfile();
+
+        Parser.getCommand("group /view /gid 1").run(manager);
+        Parser.getCommand("session /settleall /gid 1").run(manager);
+        Parser.getCommand("session /create /n Dinner /d 16-02-2022 /gid 1").run(manager);
+        assertTrue(view.getReadOnlyGroup(1) == profile.getGroup(1));
+        assertTrue(view.getReadOnlySession(1) == profile.getSession(1));
+        assertTrue(view.getReadOnlySession(2).getGroup() == profile.getGroup(1));
+
+        view.renameGroup(view.getGroup(1), "Study group");
+        assertEquals("Study group", view.getReadOnlySession(1).getGroup().getGroupName());
+        assertEquals("Study group", view.getReadOnlySession(2).getGroup().getGroupName());
+        assertEquals("Project members", profile.getGroup(1).getGroupName());
+    }
 }
@@ -11,6 +11,8 @@ import java.util.ArrayList;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -277,6 +279,33 @@ class SessionTest {
         }
     }
 
+    // addActivity()
+
+    /**
+     * Checks if Activity objects added to the Session object out of the order of their activity unique identifiers
+     * are listed in ascending order of their activity unique identifiers and can each be retrieved by identifier.
+     */
+    @Test
+    void addActivity_activitiesAddedOutOfOrder_activitiesListedInIdOrder() {
+        Person payer = sessionOne.getPersonArrayList().get(0);
+        PersonList involvedList = sessionOne.getPersonList();
+        Activity activityThree = new Activity(3, "Supper", Money.ofCents(900), payer, involvedList, 0, 0);
+        Activity activityOne = new Activity(1, "Breakfast", Money.ofCents(600), payer, involvedList, 0, 0);
+        sessionOne.addActivity(activityThree);
+        sessionOne.addActivity(activityOne);
+
+        ArrayList<Activity> activityList = new ArrayList<>(sessionOne.getActivityList());
+        assertEquals(2, activityList.size());
+        assertEquals(activityOne, activityList.get(0));
+        assertEquals(activityThree, activityList.get(1));
+        try {
+            assertEquals(activityThree, sessionOne.getActivity(3));
+        } catch (InvalidDataException exception) {
+            fail();
+        }
+        assertFalse(sessionOne.hasActivity(2));
+    }
+
     // getPersonByName()
 
     /**
@@ -410,6 +439,24 @@ class SessionTest {
         assertEquals(expectedActivityListTable, activityListSummaryString);
     }
 
+    /**
+     * Checks if the same cached String object is returned while the session is unchanged, and if the summary is
+     * rendered again once an activity is added to the session.
+     */
+    @Test
+    void getActivityListSummaryString_activityAddedAfterCaching_summaryRenderedAgain() {
+        String emptySummaryString = sessionOne.getActivityListSummaryString();
+        int modificationCount = sessionOne.getModificationCount();
+        assertSame(emptySummaryString, sessionOne.getActivityListSummaryString());
+
+        Command createActivityCommand = Parser.getCommand(CREATE_TEST_ACTIVITY_INPUT_ONE);
+        createActivityCommand.run(manager);
+        assertTrue(sessionOne.getModificationCount() > modificationCount);
+        String populatedSummaryString = sessionOne.getActivityListSummaryString();
+        assertNotEquals(emptySummaryString, populatedSummaryString);
+        assertSame(populatedSummaryString, sessionOne.getActivityListSummaryString());
+    }
+
     /**
      * Checks if a negative integer is returned when a Session object with a smaller session unique identifier
      * is compared against a Session object with a larger session unique identifier.
@@ -469,4 +516,17 @@ class SessionTest {
                 + "================================";
         assertEquals(expectedFormat, sessionThree.toString());
     }
+
+    /**
+     * Checks if the name of the group is read again when the group is renamed, as renaming a group does not change
+     * the sessions of the group.
+     */
+    @Test
+    void toString_groupRenamedAfterCaching_newGroupNameShown() {
+        String descriptionBeforeRename = sessionThree.toString();
+        assertTrue(descriptionBeforeRename.contains("Group: Besties"));
+        Command editGroupCommand = Parser.getCommand("group /edit /gid 1 /n Friends");
+        editGroupCommand.run(manager);
+        assertTrue(sessionThree.toString().contains("Group: Friends"));
+    }
 }
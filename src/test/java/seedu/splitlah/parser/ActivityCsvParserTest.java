@@ -0,0 +1,66 @@
+package seedu.splitlah.parser;
+
+import org.junit.jupiter.api.Test;
+import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.ui.Message;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ActivityCsvParserTest {
+
+    /**
+     * Checks if the header row is recognised regardless of case and whitespaces, and a data row is not.
+     */
+    @Test
+    void isHeader_variousRows_onlyHeaderRecognised() {
+        assertTrue(ActivityCsvParser.isHeader(ActivityCsvParser.HEADER));
+        assertTrue(ActivityCsvParser.isHeader("Name, Payer, Involved, Cost, GST, SC"));
+        assertFalse(ActivityCsvParser.isHeader("name,payer,involved,cost"));
+        assertFalse(ActivityCsvParser.isHeader("Lunch,Alice,Alice Bob,10"));
+    }
+
+    /**
+     * Checks if rows with a total cost or a cost list, with or without the optional columns, are parsed.
+     */
+    @Test
+    void parseRow_validRows_commandReturned() {
+        assertDoesNotThrow(() -> ActivityCsvParser.parseRow(1, "Lunch,Alice,Alice Bob,10"));
+        assertDoesNotThrow(() -> ActivityCsvParser.parseRow(1, "Lunch,Alice,Alice Bob,10,7,10"));
+        assertDoesNotThrow(() -> ActivityCsvParser.parseRow(1, "Lunch,Alice,Alice Bob,4 6,,10"));
+        assertDoesNotThrow(() -> ActivityCsvParser.parseRow(1, "\"Lunch, dessert\", Alice , Alice Bob ,10,7"));
+    }
+
+    /**
+     * Checks if an exception with the reason is thrown for rows that the activity /create command would reject,
+     * including rows with characters or delimiters that the parser would reject in a command input, and for rows
+     * with a wrong number of columns or an empty required column.
+     */
+    @Test
+    void parseRow_invalidRows_exceptionThrown() {
+        assertParseError(Message.ERROR_ACTIVITYCSV_WRONG_COLUMN_COUNT + ActivityCsvParser.HEADER,
+                "Lunch,Alice,Alice Bob");
+        assertParseError(Message.ERROR_ACTIVITYCSV_WRONG_COLUMN_COUNT + ActivityCsvParser.HEADER,
+                "Lunch,Alice,Alice Bob,10,7,10,1");
+        assertParseError(Message.ERROR_ACTIVITYCSV_EMPTY_COLUMN + "payer", "Lunch, ,Alice Bob,10");
+        assertParseError(Message.ERROR_PARSER_NON_ASCII_ARGUMENT, "Café ☕,Alice,Alice Bob,10");
+        assertParseError(Message.ERROR_PARSER_NON_ASCII_ARGUMENT, "Lunch,Alice,Alice Zoë,10");
+        assertParseError(Message.ERROR_PARSER_INVALID_DELIMITERS, "Lunch /x,Alice,Alice Bob,10");
+        assertParseError(Message.ERROR_PARSER_INVALID_DELIMITERS, "Lunch,Alice,Alice /p Bob,10");
+        assertParseError(Message.ERROR_PARSER_MORE_THAN_ONE_PAYER, "Lunch,Alice Bob,Alice Bob,10");
+        assertParseError(Message.ERROR_PERSONLIST_DUPLICATE_NAME_IN_ACTIVITY, "Lunch,Alice,Alice alice,10");
+        assertParseError(Message.ERROR_ACTIVITYCREATE_INVOLVED_AND_COST_DIFFERENT_LENGTH,
+                "Lunch,Alice,Alice Bob,1 2 3");
+        assertThrows(InvalidFormatException.class, () -> ActivityCsvParser.parseRow(1, "Lunch,Alice,Alice Bob,-10"));
+        assertThrows(InvalidFormatException.class, () -> ActivityCsvParser.parseRow(1, "Lunch,Alice,Alice Bob,1,101"));
+    }
+
+    private static void assertParseError(String expectedMessage, String row) {
+        InvalidFormatException exception =
+                assertThrows(InvalidFormatException.class, () -> ActivityCsvParser.parseRow(1, row));
+        assertEquals(expectedMessage, exception.getMessage());
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.splitlah.parser;
+
+import org.junit.jupiter.api.Test;
+import seedu.splitlah.exceptions.InvalidFormatException;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ArgumentTableTest {
+
+    /**
+     * Checks if every delimiter is mapped to the text up to the next delimiter, ignoring the case of the delimiter
+     * and keeping the whitespaces within the argument.
+     */
+    @Test
+    void getArgument_multipleDelimiters_argumentsUpToNextDelimiter() throws InvalidFormatException {
+        ArgumentTable table = new ArgumentTable("/N Class  outing /d 15-02-2022 /pl Alice Bob");
+        assertEquals("Class  outing", table.getArgument("/n"));
+        assertEquals("15-02-2022", table.getArgument("/d"));
+        assertEquals("Alice Bob", table.getArgument("/pl"));
+        assertFalse(table.hasDelimiter("/p"));
+        assertThrows(InvalidFormatException.class, () -> table.getArgument("/p"));
+    }
+
+    /**
+     * Checks if a delimiter without an argument is found in the table, but its argument cannot be retrieved.
+     */
+    @Test
+    void getArgument_delimiterWithoutArgument_InvalidFormatExceptionThrown() {
+        ArgumentTable table = new ArgumentTable("/sid /n Lunch");
+        assertTrue(table.hasDelimiter("/sid"));
+        assertThrows(InvalidFormatException.class, () -> table.getArgument("/sid"));
+    }
+
+    /**
+     * Checks if every token containing a forward slash character is recorded in order, and if repeated delimiters
+     * are detected regardless of case.
+     */
+    @Test
+    void getDelimiterTokens_repeatedDelimiters_duplicatesDetected() throws InvalidFormatException {
+        ArgumentTable table = new ArgumentTable("/sid 1 /n a/b /N c");
+        assertEquals(List.of("/sid", "/n", "a/b", "/n"), table.getDelimiterTokens());
+        assertTrue(table.hasDuplicateDelimiters());
+        assertEquals("a/b", table.getArgument("/n"));
+        assertFalse(new ArgumentTable("/sid 1 /n Lunch").hasDuplicateDelimiters());
+    }
+
+    /**
+     * Checks if delimiters are matched ignoring case regardless of the default locale, such as a Turkish locale,
+     * where the lower case of 'I' is a dotless i.
+     */
+    @Test
+    void getArgument_turkishDefaultLocale_delimitersMatchedIgnoringCase() throws InvalidFormatException {
+        final Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            ArgumentTable table = new ArgumentTable("/SID 1 /I Alice Bob");
+            assertTrue(table.hasDelimiter("/sid"));
+            assertEquals("Alice Bob", table.getArgument("/i"));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+}
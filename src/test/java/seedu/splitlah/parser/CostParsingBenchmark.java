@@ -0,0 +1,133 @@
+package seedu.splitlah.parser;
+
+import seedu.splitlah.data.Money;
+import seedu.splitlah.data.Name;
+import seedu.splitlah.exceptions.InvalidFormatException;
+
+import java.util.Random;
+
+/**
+ * Represents a benchmark that compares the time taken to parse a long list of costs and validate names with
+ * the single pass InputScanner against the regular expression based parsing that ParserUtils used before.
+ * Run with the test classes on the classpath:
+ * {@code java -cp build/classes/java/main:build/classes/java/test seedu.splitlah.parser.CostParsingBenchmark}
+ *
+ * @author Warren
+ */
+public class CostParsingBenchmark {
+
+    private static final int COST_COUNT = 500;
+    private static final int NAME_COUNT = 500;
+    private static final int WARMUP_ROUNDS = 2000;
+    private static final int MEASURED_ROUNDS = 2000;
+    private static final double NANOS_PER_MICRO = 1000.0;
+    private static final long RANDOM_SEED = 2113;
+
+    // Prevents the results of the parsing from being optimised away.
+    private static long blackhole;
+
+    public static void main(String[] args) throws Exception {
+        Random random = new Random(RANDOM_SEED);
+        StringBuilder costList = new StringBuilder(ParserUtils.COST_LIST_DELIMITER);
+        for (int i = 0; i < COST_COUNT; i++) {
+            costList.append(' ').append(1 + random.nextInt(100000)).append('.').append(random.nextInt(100));
+        }
+        String commandArgs = costList.toString();
+        String[] names = new String[NAME_COUNT];
+        for (int i = 0; i < NAME_COUNT; i++) {
+            names[i] = "Person" + (char) ('a' + random.nextInt(26)) + (char) ('a' + random.nextInt(26));
+        }
+
+        System.out.printf("%-24s %14s %14s%n", "Benchmark", "Regex (us)", "Scanner (us)");
+        System.out.printf("%-24s %14.2f %14.2f%n", COST_COUNT + " costs",
+                measure(() -> legacyParseCostList(commandArgs)),
+                measure(() -> ParserUtils.parseCostList(new ArgumentTable(commandArgs)).length));
+        System.out.printf("%-24s %14.2f %14.2f%n", NAME_COUNT + " names",
+                measure(() -> legacyValidateNames(names)),
+                measure(() -> validateNames(names)));
+    }
+
+    /**
+     * Returns the average time taken by the task, in microseconds, after running it for a number of warmup rounds.
+     *
+     * @param task A BenchmarkTask object to be measured.
+     * @return A double that represents the average time taken by one run of the task in microseconds.
+     * @throws Exception If the task throws an exception.
+     */
+    private static double measure(BenchmarkTask task) throws Exception {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            blackhole += task.run();
+        }
+        long startNanos = System.nanoTime();
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            blackhole += task.run();
+        }
+        return (System.nanoTime() - startNanos) / NANOS_PER_MICRO / MEASURED_ROUNDS;
+    }
+
+    private static long validateNames(String[] names) {
+        long validCount = 0;
+        for (String name : names) {
+            validCount += Name.validateName(name) ? 1 : 0;
+        }
+        return validCount;
+    }
+
+    private static long legacyValidateNames(String[] names) {
+        long validCount = 0;
+        for (String name : names) {
+            validCount += name.strip().matches("[a-zA-Z]+") ? 1 : 0;
+        }
+        return validCount;
+    }
+
+    /**
+     * Parses a list of costs in the same way as ParserUtils#parseCostList did before InputScanner was used,
+     * by splitting the argument with a regular expression and matching and parsing every cost three times.
+     *
+     * @param commandArgs A String object containing the arguments portion of the entire command input from the user.
+     * @return A long that represents the number of costs parsed.
+     * @throws InvalidFormatException If any cost is not valid.
+     */
+    private static long legacyParseCostList(String commandArgs) throws InvalidFormatException {
+        ArgumentTable arguments = new ArgumentTable(commandArgs);
+        String argument = ParserUtils.getArgumentFromDelimiter(arguments, ParserUtils.COST_LIST_DELIMITER);
+        String[] costStrings = argument.split("\\s+");
+        Money[] costs = new Money[costStrings.length];
+        for (int i = 0; i < costStrings.length; i++) {
+            String input = costStrings[i];
+            if (legacyParseDouble(input) <= 0 || !legacyHasAtMostTwoDecimalPlaces(input)
+                    || !legacyHasAtMostTwelveIntegerPlaces(input)) {
+                throw new InvalidFormatException(input);
+            }
+            costs[i] = Money.parse(input);
+        }
+        return costs.length;
+    }
+
+    private static double legacyParseDouble(String input) {
+        if (!input.matches("[0-9.-]+")) {
+            throw new NumberFormatException();
+        }
+        return Double.parseDouble(input);
+    }
+
+    private static boolean legacyHasAtMostTwoDecimalPlaces(String input) {
+        legacyParseDouble(input);
+        int indexOfDecimal = input.indexOf('.');
+        return indexOfDecimal == -1 || input.length() - indexOfDecimal - 1 <= 2;
+    }
+
+    private static boolean legacyHasAtMostTwelveIntegerPlaces(String input) {
+        legacyParseDouble(input);
+        int indexOfDecimal = input.indexOf('.');
+        return indexOfDecimal == -1 ? input.length() <= 12 : indexOfDecimal <= 12;
+    }
+
+    /**
+     * Represents a piece of work to be timed by the benchmark.
+     */
+    private interface BenchmarkTask {
+        long run() throws Exception;
+    }
+}
@@ -22,6 +22,8 @@ import seedu.splitlah.command.SessionListCommand;
 import seedu.splitlah.command.SessionSummaryCommand;
 import seedu.splitlah.command.SessionViewCommand;
 
+import java.util.Locale;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
@@ -107,6 +109,37 @@ class ParserTest {
         assertEquals(ExitCommand.class, command.getClass());
     }
     
+    /**
+     * Checks if the command type is matched ignoring case, and if the arguments of an input are not carried over
+     * to the next input of the same command type, as a single CommandParser object parses both inputs.
+     */
+    @Test
+    void getCommand_sameCommandTypeRepeated_argumentsNotCarriedOver() {
+        Command command = Parser.getCommand("SESSION /List");
+        assertEquals(SessionListCommand.class, command.getClass());
+
+        command = Parser.getCommand("activity /edit /sid 1 /aid 1 /n Dinner");
+        assertEquals(ActivityEditCommand.class, command.getClass());
+        command = Parser.getCommand("activity /edit /sid 1 /aid 1");
+        assertEquals(InvalidCommand.class, command.getClass());
+    }
+
+    /**
+     * Checks if the command type is matched ignoring case regardless of the default locale, such as a Turkish
+     * locale, where the lower case of 'I' is a dotless i.
+     */
+    @Test
+    void getCommand_turkishDefaultLocale_commandTypeMatchedIgnoringCase() {
+        final Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            Command command = Parser.getCommand("ACTIVITY /LIST /SID 1");
+            assertEquals(ActivityListCommand.class, command.getClass());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
     /**
      * Checks if an InvalidCommand is returned when an empty String object is provided by the user.
      */
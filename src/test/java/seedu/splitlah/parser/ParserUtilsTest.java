@@ -1,10 +1,14 @@
 package seedu.splitlah.parser;
 
 import org.junit.jupiter.api.Test;
+import seedu.splitlah.data.Money;
 import seedu.splitlah.exceptions.InvalidFormatException;
 import seedu.splitlah.ui.Message;
+import seedu.splitlah.util.MatchingSettlementStrategy;
+import seedu.splitlah.util.SettlementStrategy;
 
 import java.time.LocalDate;
+import java.util.Locale;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -23,10 +27,27 @@ public class ParserUtilsTest {
             fail();
         }
         String remainingArgs = Parser.getRemainingArgument(commandInput);
-        String errorMessage = ParserUtils.checkIfCommandIsValid(commandType, remainingArgs);
+        String errorMessage = ParserUtils.checkIfCommandIsValid(commandType, new ArgumentTable(remainingArgs));
         assertEquals(Message.ERROR_PARSER_NON_ASCII_ARGUMENT, errorMessage);
     }
 
+    /**
+     * Checks if delimiters are recognised ignoring case regardless of the default locale, such as a Turkish locale,
+     * where the lower case of 'I' is a dotless i.
+     */
+    @Test
+    void checkIfCommandIsValid_turkishDefaultLocale_delimitersRecognised() {
+        final Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            String errorMessage = ParserUtils.checkIfCommandIsValid("activity /create",
+                    new ArgumentTable("/SID 1 /N Lunch /P Alice /I Alice Bob /CO 10"));
+            assertEquals("", errorMessage);
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
     // parseName()
     /**
      * Checks if an InvalidFormatException with the correct message is properly thrown
@@ -36,7 +57,7 @@ public class ParserUtilsTest {
     void parseName_missingDelimiter_InvalidFormatExceptionThrown() {
         String argumentWithoutNameDelimiter = "n Class outing /d 23-02-2022 /pl Alice Alice Bob";
         try {
-            String output = ParserUtils.parseName(argumentWithoutNameDelimiter);
+            String output = ParserUtils.parseName(new ArgumentTable(argumentWithoutNameDelimiter));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_DELIMITER_NOT_FOUND + ParserUtils.NAME_DELIMITER;
@@ -52,7 +73,7 @@ public class ParserUtilsTest {
     void parseName_delimiterExistsWithoutArgument_InvalidFormatExceptionThrown() {
         String argumentWithoutNameArgument = "/n /d 23-02-2022 /pl Alice Alice Bob";
         try {
-            String output = ParserUtils.parseName(argumentWithoutNameArgument);
+            String output = ParserUtils.parseName(new ArgumentTable(argumentWithoutNameArgument));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_MISSING_ARGUMENT + ParserUtils.NAME_DELIMITER;
@@ -68,7 +89,7 @@ public class ParserUtilsTest {
     void parseName_delimiterAndArgumentExists_argumentString() {
         String argumentWithDelimiterAndArgument = "/n Class outing /d 23-02-2022 /pl Alice Alice Bob";
         try {
-            String output = ParserUtils.parseName(argumentWithDelimiterAndArgument);
+            String output = ParserUtils.parseName(new ArgumentTable(argumentWithDelimiterAndArgument));
             assertEquals("Class outing", output);
         } catch (InvalidFormatException exception) {
             fail();
@@ -84,7 +105,7 @@ public class ParserUtilsTest {
     void parsePersonList_missingDelimiter_InvalidFormatExceptionThrown() {
         String argumentWithoutPersonListDelimiter = "/n Class outing /d 23-02-2022 pl Alice Alice Bob";
         try {
-            String[] output = ParserUtils.parsePersonList(argumentWithoutPersonListDelimiter);
+            String[] output = ParserUtils.parsePersonList(new ArgumentTable(argumentWithoutPersonListDelimiter));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_DELIMITER_NOT_FOUND + ParserUtils.PERSON_LIST_DELIMITER;
@@ -100,7 +121,7 @@ public class ParserUtilsTest {
     void parsePersonList_delimiterExistsWithoutArgument_InvalidFormatExceptionThrown() {
         String argumentWithoutPersonListArgument = "/n Class outing /d 23-02-2022 /pl";
         try {
-            String[] output = ParserUtils.parsePersonList(argumentWithoutPersonListArgument);
+            String[] output = ParserUtils.parsePersonList(new ArgumentTable(argumentWithoutPersonListArgument));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_MISSING_ARGUMENT + ParserUtils.PERSON_LIST_DELIMITER;
@@ -116,7 +137,7 @@ public class ParserUtilsTest {
     void parsePersonList_delimiterAndArgumentExists_personList() {
         String argumentWithDelimiterAndArgument = "/n Class outing /d 23-02-2022 /pl Alice Charles Bob";
         try {
-            String[] output = ParserUtils.parsePersonList(argumentWithDelimiterAndArgument);
+            String[] output = ParserUtils.parsePersonList(new ArgumentTable(argumentWithDelimiterAndArgument));
             assertEquals(3, output.length);
             assertEquals("Alice", output[0]);
             assertEquals("Charles", output[1]);
@@ -135,7 +156,7 @@ public class ParserUtilsTest {
     void parseInvolved_missingDelimiter_InvalidFormatExceptionThrown() {
         String argumentWithoutInvolvedDelimiter = "/sid 1 /n Lunch /p Alice i Alice Bob Charlie /co 15";
         try {
-            String[] output = ParserUtils.parseInvolved(argumentWithoutInvolvedDelimiter);
+            String[] output = ParserUtils.parseInvolved(new ArgumentTable(argumentWithoutInvolvedDelimiter));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_DELIMITER_NOT_FOUND + ParserUtils.INVOLVED_DELIMITER;
@@ -151,7 +172,7 @@ public class ParserUtilsTest {
     void parseInvolved_delimiterExistsWithoutArgument_InvalidFormatExceptionThrown() {
         String argumentWithoutInvolvedArgument = "/sid 1 /n Lunch /p Alice /i /co 15";
         try {
-            String[] output = ParserUtils.parseInvolved(argumentWithoutInvolvedArgument);
+            String[] output = ParserUtils.parseInvolved(new ArgumentTable(argumentWithoutInvolvedArgument));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_MISSING_ARGUMENT + ParserUtils.INVOLVED_DELIMITER;
@@ -167,7 +188,7 @@ public class ParserUtilsTest {
     void parseInvolved_delimiterAndArgumentExists_personList() {
         String argumentWithDelimiterAndArgument = "/sid 1 /n Lunch /p Alice /i Alice Bob Charlie /co 15";
         try {
-            String[] output = ParserUtils.parseInvolved(argumentWithDelimiterAndArgument);
+            String[] output = ParserUtils.parseInvolved(new ArgumentTable(argumentWithDelimiterAndArgument));
             assertEquals(3, output.length);
             assertEquals("Alice", output[0]);
             assertEquals("Bob", output[1]);
@@ -186,7 +207,7 @@ public class ParserUtilsTest {
     void parsePayer_missingDelimiter_InvalidFormatExceptionThrown() {
         String argumentWithoutPayerDelimiter = "/sid 1 /n Lunch p Alice /i Alice Bob Charlie /co 15";
         try {
-            String output = ParserUtils.parsePayer(argumentWithoutPayerDelimiter);
+            String output = ParserUtils.parsePayer(new ArgumentTable(argumentWithoutPayerDelimiter));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_DELIMITER_NOT_FOUND + ParserUtils.PAYER_DELIMITER;
@@ -202,7 +223,7 @@ public class ParserUtilsTest {
     void parsePayer_delimiterExistsWithoutArgument_InvalidFormatExceptionThrown() {
         String argumentWithoutPayerArgument = "/sid 1 /n Lunch /p /i Alice Bob Charlie /co 15";
         try {
-            String output = ParserUtils.parsePayer(argumentWithoutPayerArgument);
+            String output = ParserUtils.parsePayer(new ArgumentTable(argumentWithoutPayerArgument));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_MISSING_ARGUMENT + ParserUtils.PAYER_DELIMITER;
@@ -218,7 +239,7 @@ public class ParserUtilsTest {
     void parsePayer_delimiterExistsMultiplePayers_InvalidFormatExceptionThrown() {
         String argumentWithoutPayerArgument = "/sid 1 /n Lunch /p Alice Bob /i Alice Bob Charlie /co 15";
         try {
-            String output = ParserUtils.parsePayer(argumentWithoutPayerArgument);
+            String output = ParserUtils.parsePayer(new ArgumentTable(argumentWithoutPayerArgument));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_MORE_THAN_ONE_PAYER;
@@ -234,7 +255,7 @@ public class ParserUtilsTest {
     void parsePayer_delimiterExistsSinglePayer_argumentString() {
         String argumentWithDelimiterAndArgument = "/sid 1 /n Lunch /p Alice /i Alice Bob Charlie /co 15";
         try {
-            String output = ParserUtils.parsePayer(argumentWithDelimiterAndArgument);
+            String output = ParserUtils.parsePayer(new ArgumentTable(argumentWithDelimiterAndArgument));
             assertEquals("Alice", output);
         } catch (InvalidFormatException exception) {
             fail();
@@ -250,7 +271,7 @@ public class ParserUtilsTest {
     void parseSessionId_missingDelimiter_InvalidFormatExceptionThrown() {
         String argumentWithoutSessionIdDelimiter = "sid 1 /n Lunch /p Alice /i Alice Bob Charlie /co 15";
         try {
-            int output = ParserUtils.parseSessionId(argumentWithoutSessionIdDelimiter);
+            int output = ParserUtils.parseSessionId(new ArgumentTable(argumentWithoutSessionIdDelimiter));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_DELIMITER_NOT_FOUND + ParserUtils.SESSION_ID_DELIMITER;
@@ -266,7 +287,7 @@ public class ParserUtilsTest {
     void parseSessionId_delimiterExistsWithoutArgument_InvalidFormatExceptionThrown() {
         String argumentWithoutSessionIdArgument = "/sid  /n Lunch /p Alice /i Alice Bob Charlie /co 15";
         try {
-            int output = ParserUtils.parseSessionId(argumentWithoutSessionIdArgument);
+            int output = ParserUtils.parseSessionId(new ArgumentTable(argumentWithoutSessionIdArgument));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_MISSING_ARGUMENT + ParserUtils.SESSION_ID_DELIMITER;
@@ -282,7 +303,7 @@ public class ParserUtilsTest {
     void parseSessionId_delimiterExistsArgumentNotInteger_InvalidFormatExceptionThrown() {
         String argumentWithNonIntArgument = "/sid a1 /n Lunch /p Alice /i Alice Bob Charlie /co 15";
         try {
-            int output = ParserUtils.parseSessionId(argumentWithNonIntArgument);
+            int output = ParserUtils.parseSessionId(new ArgumentTable(argumentWithNonIntArgument));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_NON_INTEGER_ARGUMENT + ParserUtils.SESSION_ID_DELIMITER;
@@ -298,7 +319,7 @@ public class ParserUtilsTest {
     void parseSessionId_delimiterExistsArgumentNegativeInteger_InvalidFormatExceptionThrown() {
         String argumentWithNegativeIntArgument = "/sid -9 /n Lunch /p Alice /i Alice Bob Charlie /co 15";
         try {
-            int output = ParserUtils.parseSessionId(argumentWithNegativeIntArgument);
+            int output = ParserUtils.parseSessionId(new ArgumentTable(argumentWithNegativeIntArgument));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_ID_VALUE_NOT_POSITIVE;
@@ -314,7 +335,7 @@ public class ParserUtilsTest {
     void parseSessionId_delimiterExistsArgumentPositiveInteger_sessionId() {
         String argumentWithDelimiterAndPositiveInt = "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie /co 15";
         try {
-            int output = ParserUtils.parseSessionId(argumentWithDelimiterAndPositiveInt);
+            int output = ParserUtils.parseSessionId(new ArgumentTable(argumentWithDelimiterAndPositiveInt));
             assertEquals(3, output);
         } catch (InvalidFormatException exception) {
             fail();
@@ -330,7 +351,7 @@ public class ParserUtilsTest {
     void parseActivityId_missingDelimiter_InvalidFormatExceptionThrown() {
         String argumentWithoutActivityIdDelimiter = "/sid 1 aid 5";
         try {
-            int output = ParserUtils.parseActivityId(argumentWithoutActivityIdDelimiter);
+            int output = ParserUtils.parseActivityId(new ArgumentTable(argumentWithoutActivityIdDelimiter));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_DELIMITER_NOT_FOUND + ParserUtils.ACTIVITY_ID_DELIMITER;
@@ -346,7 +367,7 @@ public class ParserUtilsTest {
     void parseActivityId_delimiterExistsWithoutArgument_InvalidFormatExceptionThrown() {
         String argumentWithoutActivityIdArgument = "/sid 1 /aid ";
         try {
-            int output = ParserUtils.parseActivityId(argumentWithoutActivityIdArgument);
+            int output = ParserUtils.parseActivityId(new ArgumentTable(argumentWithoutActivityIdArgument));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_MISSING_ARGUMENT + ParserUtils.ACTIVITY_ID_DELIMITER;
@@ -362,7 +383,7 @@ public class ParserUtilsTest {
     void parseActivityId_delimiterExistsArgumentNotInteger_InvalidFormatExceptionThrown() {
         String argumentWithNonIntArgument = "/sid 1 /aid a5";
         try {
-            int output = ParserUtils.parseActivityId(argumentWithNonIntArgument);
+            int output = ParserUtils.parseActivityId(new ArgumentTable(argumentWithNonIntArgument));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_NON_INTEGER_ARGUMENT + ParserUtils.ACTIVITY_ID_DELIMITER;
@@ -378,7 +399,7 @@ public class ParserUtilsTest {
     void parseActivityId_delimiterExistsArgumentNegativeInteger_InvalidFormatExceptionThrown() {
         String argumentWithNegativeIntArgument = "/sid 1 /aid -5";
         try {
-            int output = ParserUtils.parseActivityId(argumentWithNegativeIntArgument);
+            int output = ParserUtils.parseActivityId(new ArgumentTable(argumentWithNegativeIntArgument));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_ID_VALUE_NOT_POSITIVE;
@@ -394,7 +415,7 @@ public class ParserUtilsTest {
     void parseActivityId_delimiterExistsArgumentPositiveInteger_activityId() {
         String argumentWithDelimiterAndPositiveInt = "/sid 1 /aid 5";
         try {
-            int output = ParserUtils.parseActivityId(argumentWithDelimiterAndPositiveInt);
+            int output = ParserUtils.parseActivityId(new ArgumentTable(argumentWithDelimiterAndPositiveInt));
             assertEquals(5, output);
         } catch (InvalidFormatException exception) {
             fail();
@@ -410,7 +431,7 @@ public class ParserUtilsTest {
     void parseLocalDate_missingDelimiter_InvalidFormatExceptionThrown() {
         String argumentWithoutDateDelimiter = "/n Class outing d 23-02-2022 /pl Alice Alice Bob";
         try {
-            LocalDate output = ParserUtils.parseLocalDate(argumentWithoutDateDelimiter);
+            LocalDate output = ParserUtils.parseLocalDate(new ArgumentTable(argumentWithoutDateDelimiter));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_DELIMITER_NOT_FOUND + ParserUtils.DATE_DELIMITER;
@@ -426,7 +447,7 @@ public class ParserUtilsTest {
     void parseLocalDate_delimiterExistsWithoutArgument_InvalidFormatExceptionThrown() {
         String argumentWithoutDateArgument = "/n Class outing /d /pl Alice Alice Bob";
         try {
-            LocalDate output = ParserUtils.parseLocalDate(argumentWithoutDateArgument);
+            LocalDate output = ParserUtils.parseLocalDate(new ArgumentTable(argumentWithoutDateArgument));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_MISSING_ARGUMENT + ParserUtils.DATE_DELIMITER;
@@ -442,7 +463,7 @@ public class ParserUtilsTest {
     void parseLocalDate_invalidDateFormatting_InvalidFormatExceptionThrown() {
         String argumentWithInvalidDateFormatting = "/n Class outing /d 2022-03-04 /pl Alice Alice Bob";
         try {
-            LocalDate output = ParserUtils.parseLocalDate(argumentWithInvalidDateFormatting);
+            LocalDate output = ParserUtils.parseLocalDate(new ArgumentTable(argumentWithInvalidDateFormatting));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_INVALID_DATE_FORMAT;
@@ -458,7 +479,7 @@ public class ParserUtilsTest {
     void parseLocalDate_validDateFormatting_validDate() {
         String argumentWithValidDateFormatting = "/n Class outing /d 23-02-2022 /pl Alice Alice Bob";
         try {
-            LocalDate output = ParserUtils.parseLocalDate(argumentWithValidDateFormatting);
+            LocalDate output = ParserUtils.parseLocalDate(new ArgumentTable(argumentWithValidDateFormatting));
             assertEquals(23, output.getDayOfMonth());
             assertEquals(2, output.getMonthValue());
             assertEquals(2022, output.getYear());
@@ -475,7 +496,7 @@ public class ParserUtilsTest {
     void parseLocalDate_todayAsInput_validDate() {
         String argumentWithTodayAsDate = "/n Class outing /d today /pl Alice Alice Bob";
         try {
-            LocalDate output = ParserUtils.parseLocalDate(argumentWithTodayAsDate);
+            LocalDate output = ParserUtils.parseLocalDate(new ArgumentTable(argumentWithTodayAsDate));
             LocalDate today = LocalDate.now();
             assertEquals(today, output);
         } catch (InvalidFormatException exception) {
@@ -492,7 +513,7 @@ public class ParserUtilsTest {
     void parseTotalCost_missingDelimiter_InvalidFormatExceptionThrown() {
         String argumentWithoutTotalCostDelimiter = "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie co 15";
         try {
-            double output = ParserUtils.parseTotalCost(argumentWithoutTotalCostDelimiter);
+            Money output = ParserUtils.parseTotalCost(new ArgumentTable(argumentWithoutTotalCostDelimiter));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_DELIMITER_NOT_FOUND + ParserUtils.TOTAL_COST_DELIMITER;
@@ -508,7 +529,7 @@ public class ParserUtilsTest {
     void parseTotalCost_delimiterExistsWithoutArgument_InvalidFormatExceptionThrown() {
         String argumentWithoutTotalCostArgument = "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie /co ";
         try {
-            double output = ParserUtils.parseTotalCost(argumentWithoutTotalCostArgument);
+            Money output = ParserUtils.parseTotalCost(new ArgumentTable(argumentWithoutTotalCostArgument));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_MISSING_ARGUMENT + ParserUtils.TOTAL_COST_DELIMITER;
@@ -525,7 +546,7 @@ public class ParserUtilsTest {
         // Standard non-numerics
         String argumentWithNonNumericArgument = "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie /co apple";
         try {
-            double output = ParserUtils.parseTotalCost(argumentWithNonNumericArgument);
+            Money output = ParserUtils.parseTotalCost(new ArgumentTable(argumentWithNonNumericArgument));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_NON_MONETARY_VALUE_ARGUMENT + ParserUtils.TOTAL_COST_DELIMITER;
@@ -535,7 +556,7 @@ public class ParserUtilsTest {
         // Double.parseDouble reserved characters
         String argumentWithReservedCharacters = "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie /co 7.5d";
         try {
-            double output = ParserUtils.parseTotalCost(argumentWithReservedCharacters);
+            Money output = ParserUtils.parseTotalCost(new ArgumentTable(argumentWithReservedCharacters));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_NON_MONETARY_VALUE_ARGUMENT + ParserUtils.TOTAL_COST_DELIMITER;
@@ -551,7 +572,7 @@ public class ParserUtilsTest {
     void parseTotalCost_delimiterExistsArgumentNegative_InvalidFormatExceptionThrown() {
         String argumentWithNegativeArgument = "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie /co -1.24";
         try {
-            double output = ParserUtils.parseTotalCost(argumentWithNegativeArgument);
+            Money output = ParserUtils.parseTotalCost(new ArgumentTable(argumentWithNegativeArgument));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_COST_NOT_POSITIVE;
@@ -567,7 +588,7 @@ public class ParserUtilsTest {
     void parseTotalCost_delimiterExistsArgumentPositiveMoreThanTwoDecimalPlaces_InvalidFormatExceptionThrown() {
         String argumentWithPositiveArgumentMoreThan2DP = "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie /co 1.2444";
         try {
-            double output = ParserUtils.parseTotalCost(argumentWithPositiveArgumentMoreThan2DP);
+            Money output = ParserUtils.parseTotalCost(new ArgumentTable(argumentWithPositiveArgumentMoreThan2DP));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_COST_NOT_TWO_DP;
@@ -585,7 +606,8 @@ public class ParserUtilsTest {
         String argumentWithPositiveArgumentMoreThan12DigitsBeforeDP =
                 "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie /co 1234567890123.1";
         try {
-            double output = ParserUtils.parseTotalCost(argumentWithPositiveArgumentMoreThan12DigitsBeforeDP);
+            Money output = ParserUtils.parseTotalCost(
+                    new ArgumentTable(argumentWithPositiveArgumentMoreThan12DigitsBeforeDP));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_COST_MORE_THAN_TWELVE_DIGITS_BEFORE_DP;
@@ -604,8 +626,9 @@ public class ParserUtilsTest {
         String argumentWithDelimiterAndValidArgumentTestLimit =
                 "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie /co 123456789012.99";
         try {
-            double output = ParserUtils.parseTotalCost(argumentWithDelimiterAndValidArgumentTestLimit);
-            assertEquals(123456789012.99, output);
+            Money output = ParserUtils.parseTotalCost(
+                    new ArgumentTable(argumentWithDelimiterAndValidArgumentTestLimit));
+            assertEquals(Money.ofCents(12345678901299L), output);
         } catch (InvalidFormatException exception) {
             fail();
         }
@@ -614,8 +637,9 @@ public class ParserUtilsTest {
         String argumentWithDelimiterAndValidArgumentTestNoDecimal =
                 "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie /co 123456789012";
         try {
-            double output = ParserUtils.parseTotalCost(argumentWithDelimiterAndValidArgumentTestNoDecimal);
-            assertEquals(123456789012.0, output);
+            Money output = ParserUtils.parseTotalCost(
+                    new ArgumentTable(argumentWithDelimiterAndValidArgumentTestNoDecimal));
+            assertEquals(Money.ofCents(12345678901200L), output);
         } catch (InvalidFormatException exception) {
             fail();
         }
@@ -624,8 +648,9 @@ public class ParserUtilsTest {
         String argumentWithDelimiterAndValidArgumentTestNormal =
                 "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie /co 10.70";
         try {
-            double output = ParserUtils.parseTotalCost(argumentWithDelimiterAndValidArgumentTestNormal);
-            assertEquals(10.70, output);
+            Money output = ParserUtils.parseTotalCost(
+                    new ArgumentTable(argumentWithDelimiterAndValidArgumentTestNormal));
+            assertEquals(Money.ofCents(1070), output);
         } catch (InvalidFormatException exception) {
             fail();
         }
@@ -640,7 +665,7 @@ public class ParserUtilsTest {
     void parseCostList_missingDelimiter_InvalidFormatExceptionThrown() {
         String argumentWithoutCostListDelimiter = "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie cl 10 10 10";
         try {
-            double[] output = ParserUtils.parseCostList(argumentWithoutCostListDelimiter);
+            Money[] output = ParserUtils.parseCostList(new ArgumentTable(argumentWithoutCostListDelimiter));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_DELIMITER_NOT_FOUND + ParserUtils.COST_LIST_DELIMITER;
@@ -656,7 +681,7 @@ public class ParserUtilsTest {
     void parseCostList_delimiterExistsWithoutArgument_InvalidFormatExceptionThrown() {
         String argumentWithoutCostListArguments = "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie /cl ";
         try {
-            double[] output = ParserUtils.parseCostList(argumentWithoutCostListArguments);
+            Money[] output = ParserUtils.parseCostList(new ArgumentTable(argumentWithoutCostListArguments));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_MISSING_ARGUMENT + ParserUtils.COST_LIST_DELIMITER;
@@ -673,7 +698,7 @@ public class ParserUtilsTest {
         // Standard non-numerics
         String argumentWithNonNumericArguments = "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie /cl apple orange";
         try {
-            double[] output = ParserUtils.parseCostList(argumentWithNonNumericArguments);
+            Money[] output = ParserUtils.parseCostList(new ArgumentTable(argumentWithNonNumericArguments));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_NON_MONETARY_VALUE_ARGUMENT + ParserUtils.COST_LIST_DELIMITER;
@@ -683,7 +708,7 @@ public class ParserUtilsTest {
         // Double.parseDouble reserved characters
         String argumentWithReservedCharacters = "/sid 3 /n Lunch /p Alice /i Alice Bob /cl 3.5 7.0d";
         try {
-            double[] output = ParserUtils.parseCostList(argumentWithReservedCharacters);
+            Money[] output = ParserUtils.parseCostList(new ArgumentTable(argumentWithReservedCharacters));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_NON_MONETARY_VALUE_ARGUMENT + ParserUtils.COST_LIST_DELIMITER;
@@ -700,7 +725,7 @@ public class ParserUtilsTest {
         String argumentWithNegativeArguments =
                 "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie /cl 10 -10 10";
         try {
-            double[] output = ParserUtils.parseCostList(argumentWithNegativeArguments);
+            Money[] output = ParserUtils.parseCostList(new ArgumentTable(argumentWithNegativeArguments));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_COST_NOT_POSITIVE;
@@ -717,7 +742,7 @@ public class ParserUtilsTest {
         String argumentWithPositiveArgumentsMoreThan2DP =
                 "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie /cl 1.2444 15.30 20";
         try {
-            double[] output = ParserUtils.parseCostList(argumentWithPositiveArgumentsMoreThan2DP);
+            Money[] output = ParserUtils.parseCostList(new ArgumentTable(argumentWithPositiveArgumentsMoreThan2DP));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_COST_NOT_TWO_DP;
@@ -735,7 +760,8 @@ public class ParserUtilsTest {
         String argumentWithPositiveArgumentsMoreThan12DigitsBeforeDP =
                 "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie /cl 1234567890123.1 15.30 20";
         try {
-            double[] output = ParserUtils.parseCostList(argumentWithPositiveArgumentsMoreThan12DigitsBeforeDP);
+            Money[] output = ParserUtils.parseCostList(
+                    new ArgumentTable(argumentWithPositiveArgumentsMoreThan12DigitsBeforeDP));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_COST_MORE_THAN_TWELVE_DIGITS_BEFORE_DP;
@@ -749,15 +775,15 @@ public class ParserUtilsTest {
      * A valid positive numeric value has at most twelve digits before the decimal point and at most 2 decimal places.
      */
     @Test
-    void parseCostList_delimiterExistsArgumentValid_doubleArrayContainingCostList() {
+    void parseCostList_delimiterExistsArgumentValid_moneyArrayContainingCostList() {
         String argumentWithDelimiterAndValidArguments =
                 "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie /cl 123456789012.34 123456789012 10.70";
         try {
-            double[] output = ParserUtils.parseCostList(argumentWithDelimiterAndValidArguments);
+            Money[] output = ParserUtils.parseCostList(new ArgumentTable(argumentWithDelimiterAndValidArguments));
             assertEquals(3, output.length);
-            assertEquals(123456789012.34, output[0]);
-            assertEquals(123456789012.0, output[1]);
-            assertEquals(10.70, output[2]);
+            assertEquals(Money.ofCents(12345678901234L), output[0]);
+            assertEquals(Money.ofCents(12345678901200L), output[1]);
+            assertEquals(Money.ofCents(1070), output[2]);
         } catch (InvalidFormatException exception) {
             fail();
         }
@@ -773,7 +799,7 @@ public class ParserUtilsTest {
         String argumentWithoutGstDelimiter =
                 "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie /co 15";
         try {
-            double output = ParserUtils.parseGst(argumentWithoutGstDelimiter);
+            double output = ParserUtils.parseGst(new ArgumentTable(argumentWithoutGstDelimiter));
             assertEquals(0, output);
         } catch (InvalidFormatException exception) {
             fail();
@@ -789,7 +815,7 @@ public class ParserUtilsTest {
         String argumentWithoutGstArgument =
                 "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie /co 15 /gst /sc 10";
         try {
-            double output = ParserUtils.parseGst(argumentWithoutGstArgument);
+            double output = ParserUtils.parseGst(new ArgumentTable(argumentWithoutGstArgument));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_MISSING_ARGUMENT + ParserUtils.GST_DELIMITER;
@@ -807,7 +833,7 @@ public class ParserUtilsTest {
         String argumentWithNonDoubleArgument =
                 "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie /co 15 /gst apple /sc 10";
         try {
-            double output = ParserUtils.parseGst(argumentWithNonDoubleArgument);
+            double output = ParserUtils.parseGst(new ArgumentTable(argumentWithNonDoubleArgument));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_NON_PERCENTAGE_ARGUMENT + ParserUtils.GST_DELIMITER;
@@ -818,7 +844,7 @@ public class ParserUtilsTest {
         String argumentWithReservedCharacters =
                 "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie /co 15 /gst 7.0d /sc 10";
         try {
-            double output = ParserUtils.parseGst(argumentWithReservedCharacters);
+            double output = ParserUtils.parseGst(new ArgumentTable(argumentWithReservedCharacters));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_NON_PERCENTAGE_ARGUMENT + ParserUtils.GST_DELIMITER;
@@ -836,7 +862,7 @@ public class ParserUtilsTest {
         String argumentWithDoubleArgumentMoreThan3DigitsBeforeDP =
                 "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie /co 15 /gst 1000 /sc 10";
         try {
-            double output = ParserUtils.parseGst(argumentWithDoubleArgumentMoreThan3DigitsBeforeDP);
+            double output = ParserUtils.parseGst(new ArgumentTable(argumentWithDoubleArgumentMoreThan3DigitsBeforeDP));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_PERCENTAGE_MORE_THAN_THREE_DIGITS_BEFORE_DP;
@@ -853,7 +879,7 @@ public class ParserUtilsTest {
         String argumentWithDoubleArgumentMoreThan2DP =
                 "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie /co 15 /gst 10.123 /sc 10";
         try {
-            double output = ParserUtils.parseGst(argumentWithDoubleArgumentMoreThan2DP);
+            double output = ParserUtils.parseGst(new ArgumentTable(argumentWithDoubleArgumentMoreThan2DP));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_PERCENTAGE_NOT_TWO_DP;
@@ -872,7 +898,7 @@ public class ParserUtilsTest {
         String argumentWithDoubleArgumentUnderRange =
                 "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie /co 15 /gst -1 /sc 10";
         try {
-            double output = ParserUtils.parseGst(argumentWithDoubleArgumentUnderRange);
+            double output = ParserUtils.parseGst(new ArgumentTable(argumentWithDoubleArgumentUnderRange));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_PERCENTAGE_NEGATIVE;
@@ -883,7 +909,7 @@ public class ParserUtilsTest {
         String argumentWithDoubleArgumentAboveRange =
                 "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie /co 15 /gst 101 /sc 10";
         try {
-            double output = ParserUtils.parseGst(argumentWithDoubleArgumentAboveRange);
+            double output = ParserUtils.parseGst(new ArgumentTable(argumentWithDoubleArgumentAboveRange));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_INVALID_GST_SURCHARGE + ParserUtils.GST_DELIMITER;
@@ -894,7 +920,7 @@ public class ParserUtilsTest {
         String argumentWithDoubleArgumentNearRange =
                 "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie /co 15 /gst 100.01 /sc 10";
         try {
-            double output = ParserUtils.parseGst(argumentWithDoubleArgumentNearRange);
+            double output = ParserUtils.parseGst(new ArgumentTable(argumentWithDoubleArgumentNearRange));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_INVALID_GST_SURCHARGE + ParserUtils.GST_DELIMITER;
@@ -912,7 +938,7 @@ public class ParserUtilsTest {
         String argumentWithDoubleArgumentInRange =
                 "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie /co 15 /gst 7 /sc 10";
         try {
-            double output = ParserUtils.parseGst(argumentWithDoubleArgumentInRange);
+            double output = ParserUtils.parseGst(new ArgumentTable(argumentWithDoubleArgumentInRange));
             assertEquals(7, output);
         } catch (InvalidFormatException exception) {
             fail();
@@ -922,7 +948,7 @@ public class ParserUtilsTest {
         String argumentWithMinPercentageArgument =
                 "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie /co 15 /gst 0 /sc 10";
         try {
-            double output = ParserUtils.parseGst(argumentWithMinPercentageArgument);
+            double output = ParserUtils.parseGst(new ArgumentTable(argumentWithMinPercentageArgument));
             assertEquals(ParserUtils.MINIMUM_SURCHARGE_PERCENT, output);
         } catch (InvalidFormatException exception) {
             fail();
@@ -932,7 +958,7 @@ public class ParserUtilsTest {
         String argumentWithMaxPercentageArgument =
                 "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie /co 15 /gst 100 /sc 10";
         try {
-            double output = ParserUtils.parseGst(argumentWithMaxPercentageArgument);
+            double output = ParserUtils.parseGst(new ArgumentTable(argumentWithMaxPercentageArgument));
             assertEquals(ParserUtils.MAXIMUM_SURCHARGE_PERCENT, output);
         } catch (InvalidFormatException exception) {
             fail();
@@ -949,7 +975,7 @@ public class ParserUtilsTest {
         String argumentWithoutServiceChargeDelimiter =
                 "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie /co 15";
         try {
-            double output = ParserUtils.parseServiceCharge(argumentWithoutServiceChargeDelimiter);
+            double output = ParserUtils.parseServiceCharge(new ArgumentTable(argumentWithoutServiceChargeDelimiter));
             assertEquals(0, output);
         } catch (InvalidFormatException exception) {
             fail();
@@ -965,7 +991,7 @@ public class ParserUtilsTest {
         String argumentWithoutServiceChargeArgument =
                 "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie /co 15 /gst 7 /sc ";
         try {
-            double output = ParserUtils.parseServiceCharge(argumentWithoutServiceChargeArgument);
+            double output = ParserUtils.parseServiceCharge(new ArgumentTable(argumentWithoutServiceChargeArgument));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_MISSING_ARGUMENT + ParserUtils.SERVICE_CHARGE_DELIMITER;
@@ -983,7 +1009,7 @@ public class ParserUtilsTest {
         String argumentWithNonDoubleArgument =
                 "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie /co 15 /gst 7 /sc apple";
         try {
-            double output = ParserUtils.parseServiceCharge(argumentWithNonDoubleArgument);
+            double output = ParserUtils.parseServiceCharge(new ArgumentTable(argumentWithNonDoubleArgument));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage =
@@ -995,7 +1021,7 @@ public class ParserUtilsTest {
         String argumentWithReservedCharacters =
                 "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie /co 15 /gst 7.0 /sc 10.0d";
         try {
-            double output = ParserUtils.parseServiceCharge(argumentWithReservedCharacters);
+            double output = ParserUtils.parseServiceCharge(new ArgumentTable(argumentWithReservedCharacters));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage =
@@ -1014,7 +1040,8 @@ public class ParserUtilsTest {
         String argumentWithDoubleArgumentMoreThan3DigitsBeforeDP =
                 "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie /co 15 /gst 7 /sc 1000";
         try {
-            double output = ParserUtils.parseServiceCharge(argumentWithDoubleArgumentMoreThan3DigitsBeforeDP);
+            double output = ParserUtils.parseServiceCharge(
+                    new ArgumentTable(argumentWithDoubleArgumentMoreThan3DigitsBeforeDP));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_PERCENTAGE_MORE_THAN_THREE_DIGITS_BEFORE_DP;
@@ -1031,7 +1058,7 @@ public class ParserUtilsTest {
         String argumentWithDoubleArgumentMoreThan2DP =
                 "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie /co 15 /gst 7 /sc 10.123";
         try {
-            double output = ParserUtils.parseServiceCharge(argumentWithDoubleArgumentMoreThan2DP);
+            double output = ParserUtils.parseServiceCharge(new ArgumentTable(argumentWithDoubleArgumentMoreThan2DP));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_PERCENTAGE_NOT_TWO_DP;
@@ -1050,7 +1077,7 @@ public class ParserUtilsTest {
         String argumentWithDoubleArgumentUnderRange =
                 "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie /co 15 /gst 7 /sc -1";
         try {
-            double output = ParserUtils.parseServiceCharge(argumentWithDoubleArgumentUnderRange);
+            double output = ParserUtils.parseServiceCharge(new ArgumentTable(argumentWithDoubleArgumentUnderRange));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_PERCENTAGE_NEGATIVE;
@@ -1061,7 +1088,7 @@ public class ParserUtilsTest {
         String argumentWithDoubleArgumentAboveRange =
                 "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie /co 15 /gst 7 /sc 101";
         try {
-            double output = ParserUtils.parseServiceCharge(argumentWithDoubleArgumentAboveRange);
+            double output = ParserUtils.parseServiceCharge(new ArgumentTable(argumentWithDoubleArgumentAboveRange));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_INVALID_SERVICE_CHARGE + ParserUtils.SERVICE_CHARGE_DELIMITER;
@@ -1072,7 +1099,7 @@ public class ParserUtilsTest {
         String argumentWithDoubleArgumentNearRange =
                 "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie /co 15 /gst 7 /sc 100.01";
         try {
-            double output = ParserUtils.parseServiceCharge(argumentWithDoubleArgumentNearRange);
+            double output = ParserUtils.parseServiceCharge(new ArgumentTable(argumentWithDoubleArgumentNearRange));
             fail();
         } catch (InvalidFormatException exception) {
             String errorMessage = Message.ERROR_PARSER_INVALID_SERVICE_CHARGE + ParserUtils.SERVICE_CHARGE_DELIMITER;
@@ -1091,7 +1118,7 @@ public class ParserUtilsTest {
         String argumentWithDoubleArgumentInRange =
                 "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie /co 15 /gst 7 /sc 10";
         try {
-            double output = ParserUtils.parseServiceCharge(argumentWithDoubleArgumentInRange);
+            double output = ParserUtils.parseServiceCharge(new ArgumentTable(argumentWithDoubleArgumentInRange));
             assertEquals(10, output);
         } catch (InvalidFormatException exception) {
             fail();
@@ -1101,7 +1128,7 @@ public class ParserUtilsTest {
         String argumentWithMinPercentageArgument =
                 "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie /co 15 /gst 7 /sc 0";
         try {
-            double output = ParserUtils.parseServiceCharge(argumentWithMinPercentageArgument);
+            double output = ParserUtils.parseServiceCharge(new ArgumentTable(argumentWithMinPercentageArgument));
             assertEquals(ParserUtils.MINIMUM_SURCHARGE_PERCENT, output);
         } catch (InvalidFormatException exception) {
             fail();
@@ -1111,10 +1138,47 @@ public class ParserUtilsTest {
         String argumentWithMaxPercentageArgument =
                 "/sid 3 /n Lunch /p Alice /i Alice Bob Charlie /co 15 /gst 7 /sc 100";
         try {
-            double output = ParserUtils.parseServiceCharge(argumentWithMaxPercentageArgument);
+            double output = ParserUtils.parseServiceCharge(new ArgumentTable(argumentWithMaxPercentageArgument));
             assertEquals(ParserUtils.MAXIMUM_SURCHARGE_PERCENT, output);
         } catch (InvalidFormatException exception) {
             fail();
         }
     }
+
+    // getInputWithAbsoluteDate()
+    /**
+     * Checks if the relative date argument "today" is replaced by the current date in the correct format.
+     */
+    @Test
+    void getInputWithAbsoluteDate_todayDateArgument_replacedByCurrentDate() {
+        String commandInput = "session /create /n Class outing /d Today /pl Alice Bob";
+        String today = LocalDate.now().format(ParserUtils.DATE_FORMAT);
+        String expectedOutput = "session /create /n Class outing /d " + today + " /pl Alice Bob";
+        assertEquals(expectedOutput, ParserUtils.getInputWithAbsoluteDate(commandInput));
+    }
+
+    /**
+     * Checks if the command input is unchanged when the word "today" is not a date argument.
+     */
+    @Test
+    void getInputWithAbsoluteDate_todayInOtherArgument_inputUnchanged() {
+        String commandInput = "session /create /n today /d 15-02-2022 /pl Alice Bob";
+        assertEquals(commandInput, ParserUtils.getInputWithAbsoluteDate(commandInput));
+    }
+
+    /**
+     * Checks if the name of a settlement strategy is matched ignoring case regardless of the default locale,
+     * such as a Turkish locale, where the lower case of 'I' is a dotless i.
+     */
+    @Test
+    void parseSettlementStrategy_turkishDefaultLocale_strategyMatchedIgnoringCase() throws InvalidFormatException {
+        final Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            SettlementStrategy strategy = ParserUtils.parseSettlementStrategy(new ArgumentTable("/sid 1 /st MATCHING"));
+            assertEquals(MatchingSettlementStrategy.class, strategy.getClass());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
 }
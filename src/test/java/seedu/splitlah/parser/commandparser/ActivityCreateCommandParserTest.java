@@ -6,6 +6,7 @@ import seedu.splitlah.command.ActivityCreateCommand;
 import seedu.splitlah.command.Command;
 import seedu.splitlah.data.Manager;
 import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.parser.ArgumentTable;
 import seedu.splitlah.parser.Parser;
 import seedu.splitlah.parser.ParserUtils;
 import seedu.splitlah.ui.Message;
@@ -37,14 +38,14 @@ class ActivityCreateCommandParserTest {
     public void getCommand_hasMissingCostAndCostList_InvalidFormatExceptionThrown() {
         String userInput = "activity /create /sid 1 /n Dinner /p Alice /i Alice Bob Charlie";
         String arguments = Parser.getRemainingArgument(userInput);
-        String errorMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, arguments);
+        String errorMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, new ArgumentTable(arguments));
         if (!errorMessage.isEmpty()) {
             fail();
         }
 
         ActivityCreateCommandParser activityCreateCommandParser = new ActivityCreateCommandParser();
         try {
-            activityCreateCommandParser.getCommand(arguments);
+            activityCreateCommandParser.getCommand(new ArgumentTable(arguments));
             fail();
         } catch (InvalidFormatException e) {
             String messageToTest = Message.ERROR_ACTIVITYCREATE_MISSING_COST_AND_COST_LIST
@@ -63,14 +64,14 @@ class ActivityCreateCommandParserTest {
     public void getCommand_hasBothCostAndCostList_InvalidFormatExceptionThrown() {
         String userInput = "activity /create /sid 1 /n Dinner /p Alice /i Alice Bob Charlie /co 30 /cl 10 10 10";
         String arguments = Parser.getRemainingArgument(userInput);
-        String errorMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, arguments);
+        String errorMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, new ArgumentTable(arguments));
         if (!errorMessage.isEmpty()) {
             fail();
         }
 
         ActivityCreateCommandParser activityCreateCommandParser = new ActivityCreateCommandParser();
         try {
-            activityCreateCommandParser.getCommand(arguments);
+            activityCreateCommandParser.getCommand(new ArgumentTable(arguments));
             fail();
         } catch (InvalidFormatException e) {
             String messageToTest = Message.ERROR_ACTIVITYCREATE_HAS_BOTH_COST_AND_COST_LIST
@@ -92,13 +93,13 @@ class ActivityCreateCommandParserTest {
         //Case 1: Involved list longer than cost list
         String userInputOne = "activity /create /sid 1 /n Dinner /p Alice /i Alice Bob Charlie /cl 10 10";
         String argumentsOne = Parser.getRemainingArgument(userInputOne);
-        String errorMessageOne = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, argumentsOne);
+        String errorMessageOne = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, new ArgumentTable(argumentsOne));
         if (!errorMessageOne.isEmpty()) {
             fail();
         }
 
         try {
-            activityCreateCommandParser.getCommand(argumentsOne);
+            activityCreateCommandParser.getCommand(new ArgumentTable(argumentsOne));
             fail();
         } catch (InvalidFormatException e) {
             String messageToTest = Message.ERROR_ACTIVITYCREATE_INVOLVED_AND_COST_DIFFERENT_LENGTH
@@ -111,13 +112,13 @@ class ActivityCreateCommandParserTest {
         //Case 2: Involved list shorter than cost list
         String userInputTwo = "activity /create /sid 1 /n Dinner /p Alice /i Alice Bob /cl 10 10 10";
         String argumentsTwo = Parser.getRemainingArgument(userInputTwo);
-        String errorMessageTwo = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, argumentsTwo);
+        String errorMessageTwo = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, new ArgumentTable(argumentsTwo));
         if (!errorMessageTwo.isEmpty()) {
             fail();
         }
 
         try {
-            activityCreateCommandParser.getCommand(argumentsTwo);
+            activityCreateCommandParser.getCommand(new ArgumentTable(argumentsTwo));
             fail();
         } catch (InvalidFormatException e) {
             String messageToTest = Message.ERROR_ACTIVITYCREATE_INVOLVED_AND_COST_DIFFERENT_LENGTH
@@ -139,13 +140,14 @@ class ActivityCreateCommandParserTest {
         // Case 1: Missing /sid delimiter
         String inputMissingSessionIdDelimiter = "activity /create /n Dinner /p Alice /i Alice Bob Charlie /co 15";
         String argsMissingSessionIdDelimiter = Parser.getRemainingArgument(inputMissingSessionIdDelimiter);
-        String errorMessageOne = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, argsMissingSessionIdDelimiter);
+        String errorMessageOne = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE,
+                new ArgumentTable(argsMissingSessionIdDelimiter));
         if (!errorMessageOne.isEmpty()) {
             fail();
         }
 
         try {
-            activityCreateCommandParser.getCommand(argsMissingSessionIdDelimiter);
+            activityCreateCommandParser.getCommand(new ArgumentTable(argsMissingSessionIdDelimiter));
             fail();
         } catch (InvalidFormatException e) {
             String messageToTest = Message.ERROR_PARSER_DELIMITER_NOT_FOUND + "/sid"
@@ -158,13 +160,14 @@ class ActivityCreateCommandParserTest {
         // Case 2: Missing /n delimiter
         String inputMissingNameDelimiter = "activity /create /sid 1 /p Alice /i Alice Bob Charlie /co 15";
         String argsMissingNameDelimiter = Parser.getRemainingArgument(inputMissingNameDelimiter);
-        String errorMessageTwo = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, argsMissingNameDelimiter);
+        String errorMessageTwo = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE,
+                new ArgumentTable(argsMissingNameDelimiter));
         if (!errorMessageTwo.isEmpty()) {
             fail();
         }
 
         try {
-            activityCreateCommandParser.getCommand(argsMissingNameDelimiter);
+            activityCreateCommandParser.getCommand(new ArgumentTable(argsMissingNameDelimiter));
             fail();
         } catch (InvalidFormatException e) {
             String messageToTest = Message.ERROR_PARSER_DELIMITER_NOT_FOUND + "/n"
@@ -177,13 +180,14 @@ class ActivityCreateCommandParserTest {
         // Case 3: Missing /p delimiter
         String inputMissingPayerDelimiter = "activity /create /sid 1 /n Dinner /i Alice Bob Charlie /co 15";
         String argsMissingPayerDelimiter = Parser.getRemainingArgument(inputMissingPayerDelimiter);
-        String errorMessageThree = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, argsMissingPayerDelimiter);
+        String errorMessageThree = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE,
+                new ArgumentTable(argsMissingPayerDelimiter));
         if (!errorMessageThree.isEmpty()) {
             fail();
         }
 
         try {
-            activityCreateCommandParser.getCommand(argsMissingPayerDelimiter);
+            activityCreateCommandParser.getCommand(new ArgumentTable(argsMissingPayerDelimiter));
             fail();
         } catch (InvalidFormatException e) {
             String messageToTest = Message.ERROR_PARSER_DELIMITER_NOT_FOUND + "/p"
@@ -196,13 +200,14 @@ class ActivityCreateCommandParserTest {
         // Case 4: Missing /i delimiter
         String inputMissingInvolvedListDelimiter = "activity /create /sid 1 /n Dinner /p Alice /co 15";
         String argsMissingInvolvedListDelimiter = Parser.getRemainingArgument(inputMissingInvolvedListDelimiter);
-        String errorMessageFour = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, argsMissingInvolvedListDelimiter);
+        String errorMessageFour = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE,
+                new ArgumentTable(argsMissingInvolvedListDelimiter));
         if (!errorMessageFour.isEmpty()) {
             fail();
         }
 
         try {
-            activityCreateCommandParser.getCommand(argsMissingInvolvedListDelimiter);
+            activityCreateCommandParser.getCommand(new ArgumentTable(argsMissingInvolvedListDelimiter));
             fail();
         } catch (InvalidFormatException e) {
             String messageToTest = Message.ERROR_PARSER_DELIMITER_NOT_FOUND + "/i"
@@ -224,13 +229,14 @@ class ActivityCreateCommandParserTest {
         // Case 1: Missing session ID
         String inputMissingSessionIdArgument = "activity /create /sid /n Dinner /p Alice /i Alice Bob Charlie /co 15";
         String argsMissingSessionIdArgument = Parser.getRemainingArgument(inputMissingSessionIdArgument);
-        String errorMessageOne = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, argsMissingSessionIdArgument);
+        String errorMessageOne = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE,
+                new ArgumentTable(argsMissingSessionIdArgument));
         if (!errorMessageOne.isEmpty()) {
             fail();
         }
 
         try {
-            activityCreateCommandParser.getCommand(argsMissingSessionIdArgument);
+            activityCreateCommandParser.getCommand(new ArgumentTable(argsMissingSessionIdArgument));
             fail();
         } catch (InvalidFormatException e) {
             String messageToTest = Message.ERROR_PARSER_MISSING_ARGUMENT + "/sid"
@@ -243,13 +249,14 @@ class ActivityCreateCommandParserTest {
         // Case 2: Missing Activity Name
         String inputMissingNameArgument = "activity /create /sid 1 /n /p Alice /i Alice Bob Charlie /co 15";
         String argsMissingNameArgument = Parser.getRemainingArgument(inputMissingNameArgument);
-        String errorMessageTwo = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, argsMissingNameArgument);
+        String errorMessageTwo = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE,
+                new ArgumentTable(argsMissingNameArgument));
         if (!errorMessageTwo.isEmpty()) {
             fail();
         }
 
         try {
-            activityCreateCommandParser.getCommand(argsMissingNameArgument);
+            activityCreateCommandParser.getCommand(new ArgumentTable(argsMissingNameArgument));
             fail();
         } catch (InvalidFormatException e) {
             String messageToTest = Message.ERROR_PARSER_MISSING_ARGUMENT + "/n"
@@ -262,13 +269,14 @@ class ActivityCreateCommandParserTest {
         // Case 3: Missing Payer
         String inputMissingPayerArgument = "activity /create /sid 1 /n Dinner /p /i Alice Bob Charlie /co 15";
         String argsMissingPayerArgument = Parser.getRemainingArgument(inputMissingPayerArgument);
-        String errorMessageThree = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, argsMissingPayerArgument);
+        String errorMessageThree = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE,
+                new ArgumentTable(argsMissingPayerArgument));
         if (!errorMessageThree.isEmpty()) {
             fail();
         }
 
         try {
-            activityCreateCommandParser.getCommand(argsMissingPayerArgument);
+            activityCreateCommandParser.getCommand(new ArgumentTable(argsMissingPayerArgument));
             fail();
         } catch (InvalidFormatException e) {
             String messageToTest = Message.ERROR_PARSER_MISSING_ARGUMENT + "/p"
@@ -281,13 +289,14 @@ class ActivityCreateCommandParserTest {
         // Case 4: Missing involved list
         String inputMissingInvolvedListArgument = "activity /create /sid 1 /n Dinner /p Alice /i /co 15";
         String argsMissingInvolvedListArgument = Parser.getRemainingArgument(inputMissingInvolvedListArgument);
-        String errorMessageFour = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, argsMissingInvolvedListArgument);
+        String errorMessageFour = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE,
+                new ArgumentTable(argsMissingInvolvedListArgument));
         if (!errorMessageFour.isEmpty()) {
             fail();
         }
 
         try {
-            activityCreateCommandParser.getCommand(argsMissingInvolvedListArgument);
+            activityCreateCommandParser.getCommand(new ArgumentTable(argsMissingInvolvedListArgument));
             fail();
         } catch (InvalidFormatException e) {
             String messageToTest = Message.ERROR_PARSER_MISSING_ARGUMENT + "/i"
@@ -300,13 +309,14 @@ class ActivityCreateCommandParserTest {
         // Case 5: Missing total cost
         String inputMissingTotalCostArgument = "activity /create /sid 1 /n Dinner /p Alice /i Alice Bob Charlie /co";
         String argsMissingTotalCostArgument = Parser.getRemainingArgument(inputMissingTotalCostArgument);
-        String errorMessageFive = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, argsMissingTotalCostArgument);
+        String errorMessageFive = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE,
+                new ArgumentTable(argsMissingTotalCostArgument));
         if (!errorMessageFive.isEmpty()) {
             fail();
         }
 
         try {
-            activityCreateCommandParser.getCommand(argsMissingTotalCostArgument);
+            activityCreateCommandParser.getCommand(new ArgumentTable(argsMissingTotalCostArgument));
             fail();
         } catch (InvalidFormatException e) {
             String messageToTest = Message.ERROR_PARSER_MISSING_ARGUMENT + "/co"
@@ -319,13 +329,14 @@ class ActivityCreateCommandParserTest {
         // Case 6: Missing cost list
         String inputMissingCostListArgument = "activity /create /sid 1 /n Dinner /p Alice /i Alice Bob Charlie /cl";
         String argsMissingCostListArgument = Parser.getRemainingArgument(inputMissingCostListArgument);
-        String errorMessageSix = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, argsMissingCostListArgument);
+        String errorMessageSix = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE,
+                new ArgumentTable(argsMissingCostListArgument));
         if (!errorMessageSix.isEmpty()) {
             fail();
         }
 
         try {
-            activityCreateCommandParser.getCommand(argsMissingCostListArgument);
+            activityCreateCommandParser.getCommand(new ArgumentTable(argsMissingCostListArgument));
             fail();
         } catch (InvalidFormatException e) {
             String messageToTest = Message.ERROR_PARSER_MISSING_ARGUMENT + "/cl"
@@ -338,13 +349,14 @@ class ActivityCreateCommandParserTest {
         // Case 7: Missing gst
         String inputMissingGstArgument = "activity /create /sid 1 /n Dinner /p Alice /i Alice Bob Charlie /co 30 /gst";
         String argsMissingGstArgument = Parser.getRemainingArgument(inputMissingGstArgument);
-        String errorMessageSeven = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, argsMissingGstArgument);
+        String errorMessageSeven = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE,
+                new ArgumentTable(argsMissingGstArgument));
         if (!errorMessageSeven.isEmpty()) {
             fail();
         }
 
         try {
-            activityCreateCommandParser.getCommand(argsMissingGstArgument);
+            activityCreateCommandParser.getCommand(new ArgumentTable(argsMissingGstArgument));
             fail();
         } catch (InvalidFormatException e) {
             String messageToTest = Message.ERROR_PARSER_MISSING_ARGUMENT + "/gst"
@@ -357,13 +369,14 @@ class ActivityCreateCommandParserTest {
         // Case 8: Missing service charge
         String inputMissingScArgument = "activity /create /sid 1 /n Dinner /p Alice /i Alice Bob Charlie /co 30 /sc";
         String argsMissingScArgument = Parser.getRemainingArgument(inputMissingScArgument);
-        String errorMessageEight = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, argsMissingScArgument);
+        String errorMessageEight = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE,
+                new ArgumentTable(argsMissingScArgument));
         if (!errorMessageEight.isEmpty()) {
             fail();
         }
 
         try {
-            activityCreateCommandParser.getCommand(argsMissingScArgument);
+            activityCreateCommandParser.getCommand(new ArgumentTable(argsMissingScArgument));
             fail();
         } catch (InvalidFormatException e) {
             String messageToTest = Message.ERROR_PARSER_MISSING_ARGUMENT + "/sc"
@@ -381,14 +394,14 @@ class ActivityCreateCommandParserTest {
     public void getCommand_validUserInput_ActivityCreateCommand() {
         String validUserInput = "activity /create /sid 1 /n Lunch /p Alice /i Alice Bob Charlie /co 15";
         String validArguments = Parser.getRemainingArgument(validUserInput);
-        String errorMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, validArguments);
+        String errorMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, new ArgumentTable(validArguments));
         if (!errorMessage.isEmpty()) {
             fail();
         }
 
         ActivityCreateCommandParser activityCreateCommandParser = new ActivityCreateCommandParser();
         try {
-            Command command = activityCreateCommandParser.getCommand(validArguments);
+            Command command = activityCreateCommandParser.getCommand(new ArgumentTable(validArguments));
             assertEquals(ActivityCreateCommand.class, command.getClass());
         } catch (InvalidFormatException e) {
             fail();
@@ -5,6 +5,7 @@ import seedu.splitlah.command.ActivityDeleteCommand;
 import seedu.splitlah.command.Command;
 import seedu.splitlah.data.Manager;
 import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.parser.ArgumentTable;
 import seedu.splitlah.parser.Parser;
 import seedu.splitlah.parser.ParserUtils;
 import seedu.splitlah.ui.Message;
@@ -27,13 +28,14 @@ class ActivityDeleteCommandParserTest {
         // Case 1: Missing /sid delimiter
         String inputMissingSessionIdDelimiter = "activity /delete /aid 1";
         String argsMissingSessionIdDelimiter = Parser.getRemainingArgument(inputMissingSessionIdDelimiter);
-        String errorMessageOne = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, argsMissingSessionIdDelimiter);
+        String errorMessageOne = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE,
+                new ArgumentTable(argsMissingSessionIdDelimiter));
         if (!errorMessageOne.isEmpty()) {
             fail();
         }
 
         try {
-            activityDeleteCommandParser.getCommand(argsMissingSessionIdDelimiter);
+            activityDeleteCommandParser.getCommand(new ArgumentTable(argsMissingSessionIdDelimiter));
             fail();
         } catch (InvalidFormatException e) {
             String messageToTest = Message.ERROR_PARSER_DELIMITER_NOT_FOUND + "/sid"
@@ -44,13 +46,14 @@ class ActivityDeleteCommandParserTest {
         // Case 2: Missing /aid delimiter
         String inputMissingActivityIdDelimiter = "activity /delete /sid 1";
         String argsMissingActivityIdDelimiter = Parser.getRemainingArgument(inputMissingActivityIdDelimiter);
-        String errorMessageTwo = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, argsMissingActivityIdDelimiter);
+        String errorMessageTwo = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE,
+                new ArgumentTable(argsMissingActivityIdDelimiter));
         if (!errorMessageTwo.isEmpty()) {
             fail();
         }
 
         try {
-            activityDeleteCommandParser.getCommand(argsMissingActivityIdDelimiter);
+            activityDeleteCommandParser.getCommand(new ArgumentTable(argsMissingActivityIdDelimiter));
             fail();
         } catch (InvalidFormatException e) {
             String messageToTest = Message.ERROR_PARSER_DELIMITER_NOT_FOUND + "/aid"
@@ -70,13 +73,14 @@ class ActivityDeleteCommandParserTest {
         // Case 1: Missing session ID
         String inputMissingSessionIdArgument = "activity /delete /sid /aid 1";
         String argsMissingSessionIdArgument = Parser.getRemainingArgument(inputMissingSessionIdArgument);
-        String errorMessageOne = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, argsMissingSessionIdArgument);
+        String errorMessageOne = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE,
+                new ArgumentTable(argsMissingSessionIdArgument));
         if (!errorMessageOne.isEmpty()) {
             fail();
         }
 
         try {
-            activityDeleteCommandParser.getCommand(argsMissingSessionIdArgument);
+            activityDeleteCommandParser.getCommand(new ArgumentTable(argsMissingSessionIdArgument));
             fail();
         } catch (InvalidFormatException e) {
             String messageToTest = Message.ERROR_PARSER_MISSING_ARGUMENT + "/sid"
@@ -87,13 +91,14 @@ class ActivityDeleteCommandParserTest {
         // Case : Missing activity ID
         String inputMissingActivityIdArgument = "activity /delete /sid 1 /aid";
         String argsMissingActivityIdArgument = Parser.getRemainingArgument(inputMissingActivityIdArgument);
-        String errorMessageTwo = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, argsMissingActivityIdArgument);
+        String errorMessageTwo = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE,
+                new ArgumentTable(argsMissingActivityIdArgument));
         if (!errorMessageTwo.isEmpty()) {
             fail();
         }
 
         try {
-            activityDeleteCommandParser.getCommand(argsMissingActivityIdArgument);
+            activityDeleteCommandParser.getCommand(new ArgumentTable(argsMissingActivityIdArgument));
             fail();
         } catch (InvalidFormatException e) {
             String messageToTest = Message.ERROR_PARSER_MISSING_ARGUMENT + "/aid"
@@ -118,14 +123,14 @@ class ActivityDeleteCommandParserTest {
 
         String validUserInput = "activity /delete /sid 1 /aid 1";
         String validArguments = Parser.getRemainingArgument(validUserInput);
-        String errorMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, validArguments);
+        String errorMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, new ArgumentTable(validArguments));
         if (!errorMessage.isEmpty()) {
             fail();
         }
 
         ActivityDeleteCommandParser activityDeleteCommandParser = new ActivityDeleteCommandParser();
         try {
-            Command command = activityDeleteCommandParser.getCommand(validArguments);
+            Command command = activityDeleteCommandParser.getCommand(new ArgumentTable(validArguments));
             assertEquals(ActivityDeleteCommand.class, command.getClass());
         } catch (InvalidFormatException e) {
             fail();
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Test;
 import seedu.splitlah.command.Command;
 import seedu.splitlah.command.ExitCommand;
 import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.parser.ArgumentTable;
 import seedu.splitlah.parser.Parser;
 import seedu.splitlah.parser.ParserUtils;
 
@@ -21,14 +22,14 @@ public class ExitCommandParserTest {
     void getCommand_validUserInput_HelpCommand() {
         String validUserInput = "exit";
         String remainingArgs = Parser.getRemainingArgument(validUserInput);
-        String errorMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, remainingArgs);
+        String errorMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, new ArgumentTable(remainingArgs));
         if (!errorMessage.isEmpty()) {
             fail();
         }
 
         ExitCommandParser exitCommandParser = new ExitCommandParser();
         try {
-            Command command = exitCommandParser.getCommand(remainingArgs);
+            Command command = exitCommandParser.getCommand(new ArgumentTable(remainingArgs));
             assertEquals(ExitCommand.class, command.getClass());
         } catch (InvalidFormatException exception) {
             fail();
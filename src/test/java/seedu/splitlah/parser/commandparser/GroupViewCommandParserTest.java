@@ -5,6 +5,7 @@ import seedu.splitlah.command.Command;
 import seedu.splitlah.command.GroupViewCommand;
 import seedu.splitlah.data.Manager;
 import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.parser.ArgumentTable;
 import seedu.splitlah.parser.Parser;
 import seedu.splitlah.parser.ParserUtils;
 import seedu.splitlah.ui.Message;
@@ -24,14 +25,15 @@ class GroupViewCommandParserTest {
     public void getCommand_hasMissingGroupIdDelimiter_InvalidFormatExceptionThrown() {
         String inputMissingGroupIdDelimiter = "group /view";
         String argsMissingGroupIdDelimiter = Parser.getRemainingArgument(inputMissingGroupIdDelimiter);
-        String errorMessageOne = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, argsMissingGroupIdDelimiter);
+        String errorMessageOne = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE,
+                new ArgumentTable(argsMissingGroupIdDelimiter));
         if (!errorMessageOne.isEmpty()) {
             fail();
         }
 
         GroupViewCommandParser groupViewCommandParser = new GroupViewCommandParser();
         try {
-            groupViewCommandParser.getCommand(argsMissingGroupIdDelimiter);
+            groupViewCommandParser.getCommand(new ArgumentTable(argsMissingGroupIdDelimiter));
             fail();
         } catch (InvalidFormatException e) {
             String messageToTest = Message.ERROR_PARSER_DELIMITER_NOT_FOUND + "/gid"
@@ -48,14 +50,15 @@ class GroupViewCommandParserTest {
     public void getCommand_hasMissingGroupIdArgument_InvalidFormatExceptionThrown() {
         String inputMissingGroupIdArgument = "group /view /gid";
         String argsMissingGroupIdArgument = Parser.getRemainingArgument(inputMissingGroupIdArgument);
-        String errorMessageOne = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, argsMissingGroupIdArgument);
+        String errorMessageOne = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE,
+                new ArgumentTable(argsMissingGroupIdArgument));
         if (!errorMessageOne.isEmpty()) {
             fail();
         }
 
         GroupViewCommandParser groupViewCommandParser = new GroupViewCommandParser();
         try {
-            groupViewCommandParser.getCommand(argsMissingGroupIdArgument);
+            groupViewCommandParser.getCommand(new ArgumentTable(argsMissingGroupIdArgument));
             fail();
         } catch (InvalidFormatException e) {
             String messageToTest = Message.ERROR_PARSER_MISSING_ARGUMENT + "/gid"
@@ -77,14 +80,14 @@ class GroupViewCommandParserTest {
 
         String validUserInput = "group /view /gid 1";
         String validArguments = Parser.getRemainingArgument(validUserInput);
-        String errorMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, validArguments);
+        String errorMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, new ArgumentTable(validArguments));
         if (!errorMessage.isEmpty()) {
             fail();
         }
 
         GroupViewCommandParser groupViewCommandParser = new GroupViewCommandParser();
         try {
-            Command command = groupViewCommandParser.getCommand(validArguments);
+            Command command = groupViewCommandParser.getCommand(new ArgumentTable(validArguments));
             assertEquals(GroupViewCommand.class, command.getClass());
         } catch (InvalidFormatException e) {
             fail();
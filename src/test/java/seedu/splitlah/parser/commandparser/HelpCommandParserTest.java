@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Test;
 import seedu.splitlah.command.Command;
 import seedu.splitlah.command.HelpCommand;
 import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.parser.ArgumentTable;
 import seedu.splitlah.parser.Parser;
 import seedu.splitlah.parser.ParserUtils;
 
@@ -21,14 +22,14 @@ class HelpCommandParserTest {
     void getCommand_validUserInput_HelpCommand() {
         String validUserInput = "help";
         String remainingArgs = Parser.getRemainingArgument(validUserInput);
-        String errorMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, remainingArgs);
+        String errorMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, new ArgumentTable(remainingArgs));
         if (!errorMessage.isEmpty()) {
             fail();
         }
         
         HelpCommandParser helpCommandParser = new HelpCommandParser();
         try {
-            Command command = helpCommandParser.getCommand(remainingArgs);
+            Command command = helpCommandParser.getCommand(new ArgumentTable(remainingArgs));
             assertEquals(HelpCommand.class, command.getClass());
         } catch (InvalidFormatException exception) {
             fail();
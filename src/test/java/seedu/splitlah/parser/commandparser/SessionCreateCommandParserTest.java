@@ -5,6 +5,7 @@ import seedu.splitlah.command.Command;
 import seedu.splitlah.command.SessionCreateCommand;
 import seedu.splitlah.data.Manager;
 import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.parser.ArgumentTable;
 import seedu.splitlah.parser.Parser;
 import seedu.splitlah.parser.ParserUtils;
 import seedu.splitlah.ui.Message;
@@ -24,13 +25,13 @@ public class SessionCreateCommandParserTest {
         // Case 1: Create a session with /pl to indicate people involved in a session.
         String validUserInputOne = "session /create /n Class gathering /d 15-02-2022 /pl Alice Bob";
         String validArgumentsOne = Parser.getRemainingArgument(validUserInputOne);
-        String errorMessageOne = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, validArgumentsOne);
+        String errorMessageOne = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, new ArgumentTable(validArgumentsOne));
         if (!errorMessageOne.isEmpty()) {
             fail();
         }
         try {
             SessionCreateCommandParser sessionCreateCommandParser = new SessionCreateCommandParser();
-            Command sessionCreateCommand = sessionCreateCommandParser.getCommand(validArgumentsOne);
+            Command sessionCreateCommand = sessionCreateCommandParser.getCommand(new ArgumentTable(validArgumentsOne));
             assertEquals(sessionCreateCommand.getClass(), SessionCreateCommand.class);
         } catch (InvalidFormatException invalidFormatException) {
             fail();
@@ -44,13 +45,13 @@ public class SessionCreateCommandParserTest {
 
         String validUserInputTwo = "session /create /n Class gathering /d 15-02-2022 /gid 1";
         String validArgumentsTwo = Parser.getRemainingArgument(validUserInputTwo);
-        String errorMessageTwo = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, validArgumentsTwo);
+        String errorMessageTwo = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, new ArgumentTable(validArgumentsTwo));
         if (!errorMessageTwo.isEmpty()) {
             fail();
         }
         try {
             SessionCreateCommandParser sessionCreateCommandParser = new SessionCreateCommandParser();
-            Command sessionCreateCommand = sessionCreateCommandParser.getCommand(validArgumentsTwo);
+            Command sessionCreateCommand = sessionCreateCommandParser.getCommand(new ArgumentTable(validArgumentsTwo));
             sessionCreateCommand.run(manager);
             assertEquals(SessionCreateCommand.class, sessionCreateCommand.getClass());
         } catch (InvalidFormatException invalidFormatException) {
@@ -69,12 +70,13 @@ public class SessionCreateCommandParserTest {
         // Case 1: Missing /n delimiter.
         String inputMissingNameDelimiter = "session /create /d 15-02-2022 /pl Alice Bob";
         String argsMissingNameDelimiter = Parser.getRemainingArgument(inputMissingNameDelimiter);
-        String errorNameMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, argsMissingNameDelimiter);
+        String errorNameMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE,
+                new ArgumentTable(argsMissingNameDelimiter));
         if (!errorNameMessage.isEmpty()) {
             fail();
         }
         try {
-            sessionCreateCommandParser.getCommand(argsMissingNameDelimiter);
+            sessionCreateCommandParser.getCommand(new ArgumentTable(argsMissingNameDelimiter));
             fail();
         } catch (InvalidFormatException invalidFormatException) {
             String messageToTest = Message.ERROR_PARSER_DELIMITER_NOT_FOUND + "/n"
@@ -85,12 +87,13 @@ public class SessionCreateCommandParserTest {
         // Case 2: Missing /d delimiter.
         String inputMissingDateDelimiter = "session /create /n Class gathering /pl Alice Bob";
         String argsMissingDateDelimiter = Parser.getRemainingArgument(inputMissingDateDelimiter);
-        String errorDateMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, argsMissingDateDelimiter);
+        String errorDateMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE,
+                new ArgumentTable(argsMissingDateDelimiter));
         if (!errorDateMessage.isEmpty()) {
             fail();
         }
         try {
-            sessionCreateCommandParser.getCommand(argsMissingDateDelimiter);
+            sessionCreateCommandParser.getCommand(new ArgumentTable(argsMissingDateDelimiter));
             fail();
         } catch (InvalidFormatException invalidFormatException) {
             String messageToTest = Message.ERROR_PARSER_DELIMITER_NOT_FOUND + "/d"
@@ -110,12 +113,13 @@ public class SessionCreateCommandParserTest {
         // Case 1: Missing Session name.
         String inputMissingNameArgument = "session /create /n /d 15-02-2022 /pl Alice Bob";
         String argsMissingNameArgument = Parser.getRemainingArgument(inputMissingNameArgument);
-        String errorNameMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, argsMissingNameArgument);
+        String errorNameMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE,
+                new ArgumentTable(argsMissingNameArgument));
         if (!errorNameMessage.isEmpty()) {
             fail();
         }
         try {
-            sessionCreateCommandParser.getCommand(argsMissingNameArgument);
+            sessionCreateCommandParser.getCommand(new ArgumentTable(argsMissingNameArgument));
             fail();
         } catch (InvalidFormatException invalidFormatException) {
             String messageToTest = Message.ERROR_PARSER_MISSING_ARGUMENT + "/n"
@@ -126,12 +130,13 @@ public class SessionCreateCommandParserTest {
         // Case 2: Missing Session Date.
         String inputMissingDateArgument = "session /create /n Class gathering /d /pl Alice Bob";
         String argsMissingDateArgument = Parser.getRemainingArgument(inputMissingDateArgument);
-        String errorDateMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, argsMissingDateArgument);
+        String errorDateMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE,
+                new ArgumentTable(argsMissingDateArgument));
         if (!errorDateMessage.isEmpty()) {
             fail();
         }
         try {
-            sessionCreateCommandParser.getCommand(argsMissingDateArgument);
+            sessionCreateCommandParser.getCommand(new ArgumentTable(argsMissingDateArgument));
             fail();
         } catch (InvalidFormatException invalidFormatException) {
             String messageToTest = Message.ERROR_PARSER_MISSING_ARGUMENT + "/d"
@@ -142,12 +147,13 @@ public class SessionCreateCommandParserTest {
         // Case 3: Missing List of persons.
         String inputMissingPersonListArgument = "session /create /n Class gathering /d 15-02-2022 /pl";
         String argsMissingPersonListArgument = Parser.getRemainingArgument(inputMissingPersonListArgument);
-        String errorPersonListMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, argsMissingPersonListArgument);
+        String errorPersonListMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE,
+                new ArgumentTable(argsMissingPersonListArgument));
         if (!errorPersonListMessage.isEmpty()) {
             fail();
         }
         try {
-            sessionCreateCommandParser.getCommand(argsMissingPersonListArgument);
+            sessionCreateCommandParser.getCommand(new ArgumentTable(argsMissingPersonListArgument));
             fail();
         } catch (InvalidFormatException invalidFormatException) {
             String messageToTest = Message.ERROR_PARSER_MISSING_ARGUMENT + "/pl"
@@ -158,12 +164,13 @@ public class SessionCreateCommandParserTest {
         // Case 4: Missing Group unique identifier.
         String inputMissingGidArgument = "session /create /n Class gathering /d 15-02-2022 /gid";
         String argsMissingGidArgument = Parser.getRemainingArgument(inputMissingGidArgument);
-        String errorGidMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, argsMissingGidArgument);
+        String errorGidMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE,
+                new ArgumentTable(argsMissingGidArgument));
         if (!errorGidMessage.isEmpty()) {
             fail();
         }
         try {
-            sessionCreateCommandParser.getCommand(argsMissingGidArgument);
+            sessionCreateCommandParser.getCommand(new ArgumentTable(argsMissingGidArgument));
             fail();
         } catch (InvalidFormatException invalidFormatException) {
             String messageToTest = Message.ERROR_PARSER_MISSING_ARGUMENT + "/gid"
@@ -183,12 +190,13 @@ public class SessionCreateCommandParserTest {
         String inputMissingPersonListAndGidDelimiters = "session /create /n Class gathering /d 15-02-2022";
         String argsWithMissingPersonListAndGidDelimiter =
                 Parser.getRemainingArgument(inputMissingPersonListAndGidDelimiters);
-        String errorMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, argsWithMissingPersonListAndGidDelimiter);
+        String errorMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE,
+                new ArgumentTable(argsWithMissingPersonListAndGidDelimiter));
         if (!errorMessage.isEmpty()) {
             fail();
         }
         try {
-            sessionCreateCommandParser.getCommand(argsWithMissingPersonListAndGidDelimiter);
+            sessionCreateCommandParser.getCommand(new ArgumentTable(argsWithMissingPersonListAndGidDelimiter));
             fail();
         } catch (InvalidFormatException invalidFormatException) {
             String messageToTest = Message.ERROR_SESSIONCREATE_MISSING_PERSONLIST_AND_GROUP_DELIMITERS
@@ -5,6 +5,7 @@ import seedu.splitlah.command.Command;
 import seedu.splitlah.command.SessionDeleteCommand;
 import seedu.splitlah.data.Manager;
 import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.parser.ArgumentTable;
 import seedu.splitlah.parser.Parser;
 import seedu.splitlah.parser.ParserUtils;
 import seedu.splitlah.ui.Message;
@@ -28,14 +29,14 @@ public class SessionDeleteCommandParserTest {
 
         String validUserInput = "session /delete /sid 1";
         String validArguments = Parser.getRemainingArgument(validUserInput);
-        String errorMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, validArguments);
+        String errorMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, new ArgumentTable(validArguments));
         if (!errorMessage.isEmpty()) {
             fail();
         }
         
         try {
             SessionDeleteCommandParser sessionDeleteCommandParser = new SessionDeleteCommandParser();
-            Command sessionDeleteCommand = sessionDeleteCommandParser.getCommand(validArguments);
+            Command sessionDeleteCommand = sessionDeleteCommandParser.getCommand(new ArgumentTable(validArguments));
             sessionDeleteCommand.run(manager);
             assertEquals(SessionDeleteCommand.class, sessionDeleteCommand.getClass());
         } catch (InvalidFormatException invalidFormatException) {
@@ -51,14 +52,15 @@ public class SessionDeleteCommandParserTest {
     public void getCommand_hasMissingDelimiter_InvalidFormatExceptionThrown() {
         String inputMissingSidDelimiter = "session /delete";
         String argsWithMissingSidDelimiter = Parser.getRemainingArgument(inputMissingSidDelimiter);
-        String errorMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, argsWithMissingSidDelimiter);
+        String errorMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE,
+                new ArgumentTable(argsWithMissingSidDelimiter));
         if (!errorMessage.isEmpty()) {
             fail();
         }
 
         SessionDeleteCommandParser sessionDeleteCommandParser = new SessionDeleteCommandParser();
         try {
-            sessionDeleteCommandParser.getCommand(argsWithMissingSidDelimiter);
+            sessionDeleteCommandParser.getCommand(new ArgumentTable(argsWithMissingSidDelimiter));
             fail();
         } catch (InvalidFormatException invalidFormatException) {
             String messageTest = Message.ERROR_PARSER_DELIMITER_NOT_FOUND + "/sid"
@@ -75,14 +77,15 @@ public class SessionDeleteCommandParserTest {
     public void getCommand_hasMissingArgument_InvalidFormatExceptionThrown() {
         String inputMissingSidDelimiter = "session /delete /sid";
         String argsWithMissingSidDelimiter = Parser.getRemainingArgument(inputMissingSidDelimiter);
-        String errorMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, argsWithMissingSidDelimiter);
+        String errorMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE,
+                new ArgumentTable(argsWithMissingSidDelimiter));
         if (!errorMessage.isEmpty()) {
             fail();
         }
 
         SessionDeleteCommandParser sessionDeleteCommandParser = new SessionDeleteCommandParser();
         try {
-            sessionDeleteCommandParser.getCommand(argsWithMissingSidDelimiter);
+            sessionDeleteCommandParser.getCommand(new ArgumentTable(argsWithMissingSidDelimiter));
             fail();
         } catch (InvalidFormatException invalidFormatException) {
             String messageTest = Message.ERROR_PARSER_MISSING_ARGUMENT + "/sid"
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Test;
 import seedu.splitlah.command.Command;
 import seedu.splitlah.command.SessionEditCommand;
 import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.parser.ArgumentTable;
 import seedu.splitlah.parser.Parser;
 import seedu.splitlah.parser.ParserUtils;
 import seedu.splitlah.ui.Message;
@@ -23,13 +24,13 @@ public class SessionEditCommandParserTest {
         // Case 1: Edit a session with /n delimiter only.
         String validUserInputName = "session /edit /sid 1 /n Class Outing";
         String validArgumentsName = Parser.getRemainingArgument(validUserInputName);
-        String errorMessageOne = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, validArgumentsName);
+        String errorMessageOne = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, new ArgumentTable(validArgumentsName));
         if (!errorMessageOne.isEmpty()) {
             fail();
         }
         try {
             SessionEditCommandParser sessionEditCommandParser = new SessionEditCommandParser();
-            Command sessionEditCommand = sessionEditCommandParser.getCommand(validArgumentsName);
+            Command sessionEditCommand = sessionEditCommandParser.getCommand(new ArgumentTable(validArgumentsName));
             assertEquals(sessionEditCommand.getClass(), SessionEditCommand.class);
         } catch (InvalidFormatException invalidFormatException) {
             fail();
@@ -38,13 +39,13 @@ public class SessionEditCommandParserTest {
         // Case 2: Edit a session with /d delimiter only.
         String validUserInputDate = "session /edit /sid 1 /d 20-04-2022";
         String validArgumentsDate = Parser.getRemainingArgument(validUserInputDate);
-        String errorMessageTwo = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, validArgumentsDate);
+        String errorMessageTwo = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, new ArgumentTable(validArgumentsDate));
         if (!errorMessageTwo.isEmpty()) {
             fail();
         }
         try {
             SessionEditCommandParser sessionEditCommandParser = new SessionEditCommandParser();
-            Command sessionEditCommand = sessionEditCommandParser.getCommand(validArgumentsDate);
+            Command sessionEditCommand = sessionEditCommandParser.getCommand(new ArgumentTable(validArgumentsDate));
             assertEquals(sessionEditCommand.getClass(), SessionEditCommand.class);
         } catch (InvalidFormatException invalidFormatException) {
             fail();
@@ -53,13 +54,15 @@ public class SessionEditCommandParserTest {
         // Case 3: Edit a session with /pl delimiter only.
         String validUserInputPersonList = "session /edit /sid 1 /pl Alice Bob";
         String validArgumentsPersonList = Parser.getRemainingArgument(validUserInputPersonList);
-        String errorMessageThree = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, validArgumentsPersonList);
+        String errorMessageThree = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE,
+                new ArgumentTable(validArgumentsPersonList));
         if (!errorMessageThree.isEmpty()) {
             fail();
         }
         try {
             SessionEditCommandParser sessionEditCommandParser = new SessionEditCommandParser();
-            Command sessionEditCommand = sessionEditCommandParser.getCommand(validArgumentsPersonList);
+            Command sessionEditCommand = sessionEditCommandParser.getCommand(
+                    new ArgumentTable(validArgumentsPersonList));
             assertEquals(sessionEditCommand.getClass(), SessionEditCommand.class);
         } catch (InvalidFormatException invalidFormatException) {
             fail();
@@ -68,13 +71,13 @@ public class SessionEditCommandParserTest {
         // Case 4: Edit a session with /n, /d, /pl delimiters.
         String validUserInput = "session /edit /sid 1 /n Class outing /d 20-04-2022 /pl Alice Bob";
         String validArguments = Parser.getRemainingArgument(validUserInput);
-        String errorMessageFour = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, validArguments);
+        String errorMessageFour = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, new ArgumentTable(validArguments));
         if (!errorMessageFour.isEmpty()) {
             fail();
         }
         try {
             SessionEditCommandParser sessionEditCommandParser = new SessionEditCommandParser();
-            Command sessionEditCommand = sessionEditCommandParser.getCommand(validArguments);
+            Command sessionEditCommand = sessionEditCommandParser.getCommand(new ArgumentTable(validArguments));
             assertEquals(sessionEditCommand.getClass(), SessionEditCommand.class);
         } catch (InvalidFormatException invalidFormatException) {
             fail();
@@ -89,13 +92,14 @@ public class SessionEditCommandParserTest {
     public void getCommand_hasMissingDelimiter_InvalidFormatExceptionThrown() {
         String inputMissingSessionIdDelimiter = "session /edit";
         String argsMissingSessionIdDelimiter = Parser.getRemainingArgument(inputMissingSessionIdDelimiter);
-        String errorNameMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, argsMissingSessionIdDelimiter);
+        String errorNameMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE,
+                new ArgumentTable(argsMissingSessionIdDelimiter));
         if (!errorNameMessage.isEmpty()) {
             fail();
         }
         SessionEditCommandParser sessionEditCommandParser = new SessionEditCommandParser();
         try {
-            sessionEditCommandParser.getCommand(argsMissingSessionIdDelimiter);
+            sessionEditCommandParser.getCommand(new ArgumentTable(argsMissingSessionIdDelimiter));
             fail();
         } catch (InvalidFormatException invalidFormatException) {
             String messageToTest = Message.ERROR_PARSER_DELIMITER_NOT_FOUND + "/sid"
@@ -115,12 +119,13 @@ public class SessionEditCommandParserTest {
         // Case 1: Missing argument when /sid delimiter is provided
         String inputMissingIdArgument = "session /edit /sid";
         String argsMissingIdArgument = Parser.getRemainingArgument(inputMissingIdArgument);
-        String errorIdMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, argsMissingIdArgument);
+        String errorIdMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE,
+                new ArgumentTable(argsMissingIdArgument));
         if (!errorIdMessage.isEmpty()) {
             fail();
         }
         try {
-            sessionEditCommandParser.getCommand(argsMissingIdArgument);
+            sessionEditCommandParser.getCommand(new ArgumentTable(argsMissingIdArgument));
             fail();
         } catch (InvalidFormatException invalidFormatException) {
             String messageToTest = Message.ERROR_PARSER_MISSING_ARGUMENT + "/sid"
@@ -131,12 +136,13 @@ public class SessionEditCommandParserTest {
         // Case 2: Missing argument when /n delimiter is provided
         String inputMissingNameArgument = "session /edit /sid 1 /n";
         String argsMissingNameArgument = Parser.getRemainingArgument(inputMissingNameArgument);
-        String errorNameMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, argsMissingNameArgument);
+        String errorNameMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE,
+                new ArgumentTable(argsMissingNameArgument));
         if (!errorNameMessage.isEmpty()) {
             fail();
         }
         try {
-            sessionEditCommandParser.getCommand(argsMissingNameArgument);
+            sessionEditCommandParser.getCommand(new ArgumentTable(argsMissingNameArgument));
             fail();
         } catch (InvalidFormatException invalidFormatException) {
             String messageToTest = Message.ERROR_PARSER_MISSING_ARGUMENT + "/n"
@@ -147,12 +153,13 @@ public class SessionEditCommandParserTest {
         // Case 3: Missing argument when /d delimiter is provided
         String inputMissingDateArgument = "session /edit /sid 1 /d";
         String argsMissingDateArgument = Parser.getRemainingArgument(inputMissingDateArgument);
-        String errorDateMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, argsMissingDateArgument);
+        String errorDateMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE,
+                new ArgumentTable(argsMissingDateArgument));
         if (!errorDateMessage.isEmpty()) {
             fail();
         }
         try {
-            sessionEditCommandParser.getCommand(argsMissingDateArgument);
+            sessionEditCommandParser.getCommand(new ArgumentTable(argsMissingDateArgument));
             fail();
         } catch (InvalidFormatException invalidFormatException) {
             String messageToTest = Message.ERROR_PARSER_MISSING_ARGUMENT + "/d"
@@ -163,12 +170,13 @@ public class SessionEditCommandParserTest {
         // Case 4: Missing argument when /pl delimiter is provided
         String inputMissingPersonListArgument = "session /edit /sid 1 /pl";
         String argsMissingPersonListArgument = Parser.getRemainingArgument(inputMissingPersonListArgument);
-        String errorPersonListMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, argsMissingPersonListArgument);
+        String errorPersonListMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE,
+                new ArgumentTable(argsMissingPersonListArgument));
         if (!errorPersonListMessage.isEmpty()) {
             fail();
         }
         try {
-            sessionEditCommandParser.getCommand(argsMissingPersonListArgument);
+            sessionEditCommandParser.getCommand(new ArgumentTable(argsMissingPersonListArgument));
             fail();
         } catch (InvalidFormatException invalidFormatException) {
             String messageToTest = Message.ERROR_PARSER_MISSING_ARGUMENT + "/pl"
@@ -179,12 +187,13 @@ public class SessionEditCommandParserTest {
         // Case 5: Missing all editable arguments (/n /d /pl).
         String inputMissingAllArgument = "session /edit /sid 1";
         String argsMissingAllArgument = Parser.getRemainingArgument(inputMissingAllArgument);
-        String errorAllMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, argsMissingAllArgument);
+        String errorAllMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE,
+                new ArgumentTable(argsMissingAllArgument));
         if (!errorAllMessage.isEmpty()) {
             fail();
         }
         try {
-            sessionEditCommandParser.getCommand(argsMissingAllArgument);
+            sessionEditCommandParser.getCommand(new ArgumentTable(argsMissingAllArgument));
             fail();
         } catch (InvalidFormatException invalidFormatException) {
             String messageToTest = Message.ERROR_SESSIONEDIT_NO_EDIT_DELIMITERS_FOUND
@@ -0,0 +1,83 @@
+package seedu.splitlah.parser.commandparser;
+
+import org.junit.jupiter.api.Test;
+import seedu.splitlah.command.Command;
+import seedu.splitlah.command.SessionExportCommand;
+import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.parser.ArgumentTable;
+import seedu.splitlah.parser.Parser;
+import seedu.splitlah.parser.ParserErrors;
+import seedu.splitlah.parser.ParserUtils;
+import seedu.splitlah.ui.Message;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class SessionExportCommandParserTest {
+
+    private static final String COMMAND_TYPE = SessionExportCommandParser.COMMAND_TEXT;
+
+    /**
+     * Checks if a SessionExportCommand object is correctly returned both with and without the optional
+     * Export format and Settlement strategy delimiters.
+     */
+    @Test
+    void getCommand_validUserInput_SessionExportCommand() {
+        String[] validUserInputs = {
+            "session /export /f profile.csv",
+            "session /export /f profile.json /fmt JSON",
+            "session /export /f profile.csv /fmt csv /st matching"
+        };
+        SessionExportCommandParser sessionExportCommandParser = new SessionExportCommandParser();
+        for (String validUserInput : validUserInputs) {
+            String remainingArgs = Parser.getRemainingArgument(validUserInput);
+            String errorMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, new ArgumentTable(remainingArgs));
+            if (!errorMessage.isEmpty()) {
+                fail();
+            }
+
+            try {
+                Command command = sessionExportCommandParser.getCommand(new ArgumentTable(remainingArgs));
+                assertEquals(SessionExportCommand.class, command.getClass());
+            } catch (InvalidFormatException exception) {
+                fail();
+            }
+        }
+    }
+
+    /**
+     * Checks if an InvalidFormatException with the correct message is thrown
+     * when the File delimiter is missing from the user input.
+     */
+    @Test
+    void getCommand_fileDelimiterMissing_InvalidFormatExceptionThrown() {
+        String remainingArgs = Parser.getRemainingArgument("session /export /fmt json");
+        SessionExportCommandParser sessionExportCommandParser = new SessionExportCommandParser();
+        try {
+            sessionExportCommandParser.getCommand(new ArgumentTable(remainingArgs));
+            fail();
+        } catch (InvalidFormatException exception) {
+            String exceptionMessage = Message.ERROR_PARSER_DELIMITER_NOT_FOUND + ParserUtils.FILE_DELIMITER
+                    + "\n" + SessionExportCommandParser.COMMAND_FORMAT;
+            assertEquals(exceptionMessage, exception.getMessage());
+        }
+    }
+
+    /**
+     * Checks if an InvalidFormatException with the correct message is thrown
+     * when the export format provided by the user is neither CSV nor JSON.
+     */
+    @Test
+    void getCommand_unknownExportFormat_InvalidFormatExceptionThrown() {
+        String remainingArgs = Parser.getRemainingArgument("session /export /f profile.xml /fmt xml");
+        SessionExportCommandParser sessionExportCommandParser = new SessionExportCommandParser();
+        try {
+            sessionExportCommandParser.getCommand(new ArgumentTable(remainingArgs));
+            fail();
+        } catch (InvalidFormatException exception) {
+            String exceptionMessage = ParserErrors.getInvalidExportFormatErrorMessage()
+                    + "\n" + SessionExportCommandParser.COMMAND_FORMAT;
+            assertEquals(exceptionMessage, exception.getMessage());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.splitlah.parser.commandparser;
+
+import org.junit.jupiter.api.Test;
+import seedu.splitlah.command.Command;
+import seedu.splitlah.command.SessionSettleAllCommand;
+import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.parser.ArgumentTable;
+import seedu.splitlah.parser.Parser;
+import seedu.splitlah.parser.ParserUtils;
+import seedu.splitlah.ui.Message;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class SessionSettleAllCommandParserTest {
+
+    private static final String COMMAND_TYPE = SessionSettleAllCommandParser.COMMAND_TEXT;
+
+    /**
+     * Checks if a SessionSettleAllCommand object is correctly returned both with and without the optional
+     * Group unique identifier and Settlement strategy delimiters.
+     */
+    @Test
+    void getCommand_validUserInput_SessionSettleAllCommand() {
+        String[] validUserInputs = {
+            "session /settleall",
+            "session /settleall /gid 1",
+            "session /settleall /gid 1 /st matching"
+        };
+        SessionSettleAllCommandParser sessionSettleAllCommandParser = new SessionSettleAllCommandParser();
+        for (String validUserInput : validUserInputs) {
+            String remainingArgs = Parser.getRemainingArgument(validUserInput);
+            String errorMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, new ArgumentTable(remainingArgs));
+            if (!errorMessage.isEmpty()) {
+                fail();
+            }
+
+            try {
+                Command command = sessionSettleAllCommandParser.getCommand(new ArgumentTable(remainingArgs));
+                assertEquals(SessionSettleAllCommand.class, command.getClass());
+            } catch (InvalidFormatException exception) {
+                fail();
+            }
+        }
+    }
+
+    /**
+     * Checks if an InvalidFormatException with the correct message is thrown
+     * when the Group unique identifier provided by the user is not positive.
+     */
+    @Test
+    void getCommand_groupIdNotPositive_InvalidFormatExceptionThrown() {
+        String remainingArgs = Parser.getRemainingArgument("session /settleall /gid 0");
+        SessionSettleAllCommandParser sessionSettleAllCommandParser = new SessionSettleAllCommandParser();
+        try {
+            Command command = sessionSettleAllCommandParser.getCommand(new ArgumentTable(remainingArgs));
+            fail();
+        } catch (InvalidFormatException exception) {
+            String exceptionMessage = Message.ERROR_PARSER_ID_VALUE_NOT_POSITIVE
+                    + "\n" + SessionSettleAllCommandParser.COMMAND_FORMAT;
+            assertEquals(exceptionMessage, exception.getMessage());
+        }
+    }
+}
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Test;
 import seedu.splitlah.command.Command;
 import seedu.splitlah.command.SessionSummaryCommand;
 import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.parser.ArgumentTable;
 import seedu.splitlah.parser.Parser;
 import seedu.splitlah.parser.ParserErrors;
 import seedu.splitlah.parser.ParserUtils;
@@ -23,14 +24,14 @@ class SessionSummaryCommandParserTest {
     void getCommand_validUserInput_SessionSummaryCommand() {
         String validUserInput = "session /summary /sid 1";
         String remainingArgs = Parser.getRemainingArgument(validUserInput);
-        String errorMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, remainingArgs);
+        String errorMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, new ArgumentTable(remainingArgs));
         if (!errorMessage.isEmpty()) {
             fail();
         }
 
         SessionSummaryCommandParser sessionSummaryCommandParser = new SessionSummaryCommandParser();
         try {
-            Command command = sessionSummaryCommandParser.getCommand(remainingArgs);
+            Command command = sessionSummaryCommandParser.getCommand(new ArgumentTable(remainingArgs));
             assertEquals(SessionSummaryCommand.class, command.getClass());
         } catch (InvalidFormatException exception) {
             fail();
@@ -45,14 +46,14 @@ class SessionSummaryCommandParserTest {
     void getCommand_missingSessionIdDelimiter_InvalidFormatExceptionThrown() {
         String userInputMissingSessionIdDelimiter = "session /summary";
         String remainingArgs = Parser.getRemainingArgument(userInputMissingSessionIdDelimiter);
-        String errorMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, remainingArgs);
+        String errorMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, new ArgumentTable(remainingArgs));
         if (!errorMessage.isEmpty()) {
             fail();
         }
 
         SessionSummaryCommandParser sessionSummaryCommandParser = new SessionSummaryCommandParser();
         try {
-            Command command = sessionSummaryCommandParser.getCommand(remainingArgs);
+            Command command = sessionSummaryCommandParser.getCommand(new ArgumentTable(remainingArgs));
             fail();
         } catch (InvalidFormatException exception) {
             String exceptionMessage = ParserErrors.getMissingDelimiterErrorMessage(ParserUtils.SESSION_ID_DELIMITER)
@@ -69,14 +70,14 @@ class SessionSummaryCommandParserTest {
     void getCommand_missingSessionIdArgument_InvalidFormatExceptionThrown() {
         String userInputMissingSessionIdArgument = "session /summary /sid";
         String remainingArgs = Parser.getRemainingArgument(userInputMissingSessionIdArgument);
-        String errorMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, remainingArgs);
+        String errorMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, new ArgumentTable(remainingArgs));
         if (!errorMessage.isEmpty()) {
             fail();
         }
 
         SessionSummaryCommandParser sessionSummaryCommandParser = new SessionSummaryCommandParser();
         try {
-            Command command = sessionSummaryCommandParser.getCommand(remainingArgs);
+            Command command = sessionSummaryCommandParser.getCommand(new ArgumentTable(remainingArgs));
             fail();
         } catch (InvalidFormatException exception) {
             String exceptionMessage = ParserErrors.getMissingArgumentErrorMessage(ParserUtils.SESSION_ID_DELIMITER)
@@ -93,14 +94,14 @@ class SessionSummaryCommandParserTest {
     void getCommand_sessionIdArgumentNonNumeric_InvalidFormatExceptionThrown() {
         String userInputSessionIdArgumentNonNumeric = "session /summary /sid apple";
         String remainingArgs = Parser.getRemainingArgument(userInputSessionIdArgumentNonNumeric);
-        String errorMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, remainingArgs);
+        String errorMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, new ArgumentTable(remainingArgs));
         if (!errorMessage.isEmpty()) {
             fail();
         }
 
         SessionSummaryCommandParser sessionSummaryCommandParser = new SessionSummaryCommandParser();
         try {
-            Command command = sessionSummaryCommandParser.getCommand(remainingArgs);
+            Command command = sessionSummaryCommandParser.getCommand(new ArgumentTable(remainingArgs));
             fail();
         } catch (InvalidFormatException exception) {
             String exceptionMessage = ParserErrors.getNonIntegerErrorMessage(ParserUtils.SESSION_ID_DELIMITER)
@@ -118,14 +119,14 @@ class SessionSummaryCommandParserTest {
         // sessionId = 0
         String userInputSessionIdArgumentZero = "session /summary /sid 0";
         String remainingArgs = Parser.getRemainingArgument(userInputSessionIdArgumentZero);
-        String errorMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, remainingArgs);
+        String errorMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, new ArgumentTable(remainingArgs));
         if (!errorMessage.isEmpty()) {
             fail();
         }
 
         SessionSummaryCommandParser sessionSummaryCommandParser = new SessionSummaryCommandParser();
         try {
-            Command command = sessionSummaryCommandParser.getCommand(remainingArgs);
+            Command command = sessionSummaryCommandParser.getCommand(new ArgumentTable(remainingArgs));
             fail();
         } catch (InvalidFormatException exception) {
             String exceptionMessage = Message.ERROR_PARSER_ID_VALUE_NOT_POSITIVE
@@ -136,13 +137,13 @@ class SessionSummaryCommandParserTest {
         // sessionId < 0
         String userInputSessionIdArgumentNegative = "session /summary /sid -1";
         remainingArgs = Parser.getRemainingArgument(userInputSessionIdArgumentNegative);
-        errorMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, remainingArgs);
+        errorMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, new ArgumentTable(remainingArgs));
         if (!errorMessage.isEmpty()) {
             fail();
         }
 
         try {
-            Command command = sessionSummaryCommandParser.getCommand(remainingArgs);
+            Command command = sessionSummaryCommandParser.getCommand(new ArgumentTable(remainingArgs));
             fail();
         } catch (InvalidFormatException exception) {
             String exceptionMessage = Message.ERROR_PARSER_ID_VALUE_NOT_POSITIVE
@@ -150,4 +151,37 @@ class SessionSummaryCommandParserTest {
             assertEquals(exceptionMessage, exception.getMessage());
         }
     }
+
+    /**
+     * Checks if an InvalidFormatException with the correct message is thrown
+     * when the settlement strategy provided by the user is not the name of any settlement strategy.
+     */
+    @Test
+    void getCommand_invalidSettlementStrategy_InvalidFormatExceptionThrown() {
+        SessionSummaryCommandParser sessionSummaryCommandParser = new SessionSummaryCommandParser();
+        String userInputValidSettlementStrategy = "session /summary /sid 1 /st Matching";
+        String remainingArgs = Parser.getRemainingArgument(userInputValidSettlementStrategy);
+        String errorMessage = ParserUtils.checkIfCommandIsValid(COMMAND_TYPE, new ArgumentTable(remainingArgs));
+        if (!errorMessage.isEmpty()) {
+            fail();
+        }
+
+        try {
+            Command command = sessionSummaryCommandParser.getCommand(new ArgumentTable(remainingArgs));
+            assertEquals(SessionSummaryCommand.class, command.getClass());
+        } catch (InvalidFormatException exception) {
+            fail();
+        }
+
+        String userInputInvalidSettlementStrategy = "session /summary /sid 1 /st fastest";
+        remainingArgs = Parser.getRemainingArgument(userInputInvalidSettlementStrategy);
+        try {
+            Command command = sessionSummaryCommandParser.getCommand(new ArgumentTable(remainingArgs));
+            fail();
+        } catch (InvalidFormatException exception) {
+            String exceptionMessage = ParserErrors.getInvalidSettlementStrategyErrorMessage()
+                    + "\n" + SessionSummaryCommandParser.COMMAND_FORMAT;
+            assertEquals(exceptionMessage, exception.getMessage());
+        }
+    }
 }
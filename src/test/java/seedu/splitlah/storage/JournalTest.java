@@ -0,0 +1,77 @@
+package seedu.splitlah.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JournalTest {
+
+    @TempDir
+    Path tempDirectory;
+
+    private static final String FIRST_RECORD = "session /create /n Class outing /d 15-02-2022 /pl Alice Bob";
+    private static final String SECOND_RECORD = "activity /create /sid 1 /n Lunch /p Alice /i Alice Bob /co 20";
+
+    /**
+     * Checks if records appended to the journal are read back in the same order.
+     */
+    @Test
+    void readRecords_recordsAppended_recordsReadInOrder() throws IOException {
+        String journalPath = tempDirectory.resolve("test.journal").toString();
+        Journal journal = new Journal(journalPath);
+        journal.reset(1);
+        journal.append(FIRST_RECORD);
+        journal.append(SECOND_RECORD);
+
+        ArrayList<String> records = new Journal(journalPath).readRecords(1);
+        assertEquals(2, records.size());
+        assertEquals(FIRST_RECORD, records.get(0));
+        assertEquals(SECOND_RECORD, records.get(1));
+    }
+
+    /**
+     * Checks if records are discarded when the journal was written on top of a different snapshot generation.
+     */
+    @Test
+    void readRecords_differentGeneration_noRecordsRead() throws IOException {
+        String journalPath = tempDirectory.resolve("test.journal").toString();
+        Journal journal = new Journal(journalPath);
+        journal.reset(1);
+        journal.append(FIRST_RECORD);
+
+        Journal reopenedJournal = new Journal(journalPath);
+        assertTrue(reopenedJournal.readRecords(2).isEmpty());
+        assertEquals(0, reopenedJournal.getRecordCount());
+    }
+
+    /**
+     * Checks if an incomplete record at the end of the journal is discarded while earlier records are kept,
+     * and that records can be appended after the incomplete record is discarded.
+     */
+    @Test
+    void readRecords_incompleteLastRecord_lastRecordDiscarded() throws IOException {
+        String journalPath = tempDirectory.resolve("test.journal").toString();
+        Journal journal = new Journal(journalPath);
+        journal.reset(1);
+        journal.append(FIRST_RECORD);
+        journal.append(SECOND_RECORD);
+        try (RandomAccessFile file = new RandomAccessFile(journalPath, "rw")) {
+            file.setLength(file.length() - 3);
+        }
+
+        Journal reopenedJournal = new Journal(journalPath);
+        ArrayList<String> records = reopenedJournal.readRecords(1);
+        assertEquals(1, records.size());
+        assertEquals(FIRST_RECORD, records.get(0));
+
+        reopenedJournal.append(SECOND_RECORD);
+        assertEquals(2, new Journal(journalPath).readRecords(1).size());
+    }
+}
@@ -0,0 +1,149 @@
+package seedu.splitlah.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.splitlah.data.Profile;
+import seedu.splitlah.exceptions.InvalidDataException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PersistenceExecutorTest {
+
+    @TempDir
+    Path tempDirectory;
+
+    private static final String FIRST_RECORD = "session /create /n Class outing /d 15-02-2022 /pl Alice Bob";
+    private static final String SECOND_RECORD = "activity /create /sid 1 /n Lunch /p Alice /i Alice Bob /co 20";
+    private static final long LONG_STALENESS_MILLIS = 60_000;
+
+    private StorageConfiguration configuration;
+
+    /**
+     * Prepares an empty journal in the temporary directory, as is done when SplitLah starts without a save file.
+     */
+    @BeforeEach
+    void setUp() throws IOException, InvalidDataException {
+        configuration = new StorageConfiguration(tempDirectory, StorageConfiguration.DEFAULT_PROFILE_NAME,
+                SnapshotCompression.DEFAULT);
+        new Storage(configuration).loadJournal();
+    }
+
+    /**
+     * Checks if a burst of records submitted within the staleness window is written in a single flush.
+     */
+    @Test
+    void flush_burstOfRecordsSubmitted_recordsCoalescedIntoOneFlush() throws IOException {
+        Storage storage = new Storage(configuration);
+        storage.loadJournal();
+        PersistenceExecutor persistenceExecutor = new PersistenceExecutor(storage, LONG_STALENESS_MILLIS);
+        persistenceExecutor.submitRecord(FIRST_RECORD);
+        persistenceExecutor.submitRecord(SECOND_RECORD);
+        assertEquals(2, persistenceExecutor.getMetrics().getPendingWriteCount());
+
+        persistenceExecutor.flush();
+        PersistenceMetrics metrics = persistenceExecutor.getMetrics();
+        assertEquals(0, metrics.getPendingWriteCount());
+        assertEquals(1, metrics.getFlushCount());
+        assertEquals(2, metrics.getSubmittedWriteCount());
+        persistenceExecutor.close();
+
+        ArrayList<String> records = new Storage(configuration).loadJournal();
+        assertEquals(2, records.size());
+        assertEquals(FIRST_RECORD, records.get(0));
+        assertEquals(SECOND_RECORD, records.get(1));
+    }
+
+    /**
+     * Checks if a snapshot discards the records submitted before it, and only the records submitted after it
+     * remain in the journal.
+     */
+    @Test
+    void flush_snapshotSubmittedBetweenRecords_onlyLaterRecordJournalled() throws IOException, ClassNotFoundException {
+        Storage storage = new Storage(configuration);
+        storage.loadJournal();
+        PersistenceExecutor persistenceExecutor = new PersistenceExecutor(storage, LONG_STALENESS_MILLIS);
+        persistenceExecutor.submitRecord(FIRST_RECORD);
+        persistenceExecutor.submitSnapshot(storage.encodeProfile(new Profile()));
+        persistenceExecutor.submitRecord(SECOND_RECORD);
+        persistenceExecutor.close();
+        assertNull(persistenceExecutor.takeFailure());
+
+        Storage reloadedStorage = new Storage(configuration);
+        reloadedStorage.loadStorage();
+        ArrayList<String> records = reloadedStorage.loadJournal();
+        assertEquals(1, records.size());
+        assertEquals(SECOND_RECORD, records.get(0));
+    }
+
+    /**
+     * Checks if a record submitted after the persistence thread has stopped is still written.
+     */
+    @Test
+    void submitRecord_executorClosed_recordWrittenImmediately() throws IOException {
+        Storage storage = new Storage(configuration);
+        storage.loadJournal();
+        PersistenceExecutor persistenceExecutor = new PersistenceExecutor(storage, LONG_STALENESS_MILLIS);
+        persistenceExecutor.close();
+        persistenceExecutor.submitRecord(FIRST_RECORD);
+        assertEquals(0, persistenceExecutor.getMetrics().getPendingWriteCount());
+
+        ArrayList<String> records = new Storage(configuration).loadJournal();
+        assertEquals(1, records.size());
+    }
+
+    /**
+     * Checks if the journal records submitted after a snapshot that could not be written are not appended to
+     * the journal of the previous snapshot, and if the snapshot and records are written by the next flush.
+     */
+    @Test
+    void flush_snapshotWriteFails_writesKeptAndRetried() throws IOException, ClassNotFoundException {
+        FailingStorage storage = new FailingStorage(configuration);
+        storage.loadJournal();
+        PersistenceExecutor persistenceExecutor = new PersistenceExecutor(storage, LONG_STALENESS_MILLIS);
+        persistenceExecutor.submitRecord(FIRST_RECORD);
+        persistenceExecutor.flush();
+        persistenceExecutor.submitSnapshot(storage.encodeProfile(new Profile()));
+        persistenceExecutor.submitRecord(SECOND_RECORD);
+
+        storage.failuresLeft = 1;
+        persistenceExecutor.flush();
+        assertNotNull(persistenceExecutor.takeFailure());
+        assertEquals(2, persistenceExecutor.getMetrics().getPendingWriteCount());
+        ArrayList<String> records = new Storage(configuration).loadJournal();
+        assertEquals(List.of(FIRST_RECORD), records);
+
+        persistenceExecutor.close();
+        assertNull(persistenceExecutor.takeFailure());
+        Storage reloadedStorage = new Storage(configuration);
+        reloadedStorage.loadStorage();
+        assertEquals(List.of(SECOND_RECORD), reloadedStorage.loadJournal());
+    }
+
+    /**
+     * Represents a Storage object that fails to write the specified number of snapshots.
+     */
+    private static class FailingStorage extends Storage {
+        private int failuresLeft = 0;
+
+        FailingStorage(StorageConfiguration configuration) {
+            super(configuration);
+        }
+
+        @Override
+        public void saveSnapshotToFile(ProfileSnapshot snapshot) throws IOException {
+            if (failuresLeft > 0) {
+                failuresLeft -= 1;
+                throw new IOException();
+            }
+            super.saveSnapshotToFile(snapshot);
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package seedu.splitlah.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.splitlah.command.Command;
+import seedu.splitlah.data.Activity;
+import seedu.splitlah.data.Group;
+import seedu.splitlah.data.Manager;
+import seedu.splitlah.data.Money;
+import seedu.splitlah.data.Person;
+import seedu.splitlah.data.PersonList;
+import seedu.splitlah.data.Profile;
+import seedu.splitlah.data.Session;
+import seedu.splitlah.exceptions.InvalidDataException;
+import seedu.splitlah.parser.Parser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProfileCodecTest {
+
+    Manager manager = new Manager();
+
+    /**
+     * Creates a group, a session with the group and a session without a group,
+     * each session with an activity, that are stored and managed by the Manager object.
+     */
+    @BeforeEach
+    void setUp() {
+        String[] userInputs = {
+            "group /create /n Housemates /pl Alice Bob",
+            "session /create /n Class outing /d 15-02-2022 /gid 1 /pl Charlie",
+            "session /create /n Dinner /d 16-02-2022 /pl Alice Dave",
+            "activity /create /sid 1 /n Lunch /p Alice /i Alice Bob Charlie /co 15 /gst 7 /sc 10",
+            "activity /create /sid 2 /n Supper /p Dave /i Alice Dave /cl 4.5 5.5"
+        };
+        for (String userInput : userInputs) {
+            Command command = Parser.getCommand(userInput);
+            command.run(manager);
+        }
+    }
+
+    /**
+     * Checks if an encoded Profile object is decoded with the same unique identifier trackers, groups, sessions,
+     * activities and costs.
+     */
+    @Test
+    void decode_encodedProfile_sameProfileDecoded() throws IOException, InvalidDataException {
+        Profile profile = manager.getProfile();
+        byte[] payload = ProfileCodec.encode(profile);
+        assertTrue(ProfileCodec.isEncodedProfile(payload));
+
+        Profile decodedProfile = ProfileCodec.decode(payload);
+        assertEquals(profile.getSessionIdTracker(), decodedProfile.getSessionIdTracker());
+        assertEquals(profile.getActivityIdTracker(), decodedProfile.getActivityIdTracker());
+        assertEquals(profile.getGroupIdTracker(), decodedProfile.getGroupIdTracker());
+        assertEquals(profile.getGroupListSummaryString(), decodedProfile.getGroupListSummaryString());
+        assertEquals(profile.getSessionListSummaryString(), decodedProfile.getSessionListSummaryString());
+        for (Session session : profile.getSessionList()) {
+            Session decodedSession = decodedProfile.getSession(session.getSessionId());
+            assertEquals(session.toString(), decodedSession.toString());
+            assertEquals(session.getActivityListSummaryString(), decodedSession.getActivityListSummaryString());
+            for (Activity activity : session.getActivityList()) {
+                Activity decodedActivity = decodedSession.getActivity(activity.getActivityId());
+                assertEquals(activity.toString(), decodedActivity.toString());
+            }
+            for (Person person : session.getPersonArrayList()) {
+                Person decodedPerson = decodedSession.getPersonByName(person.getName());
+                assertEquals(person.getTotalCost(), decodedPerson.getTotalCost());
+            }
+        }
+    }
+
+    /**
+     * Checks if each decoded session owns its participants, and its activities refer to those participants.
+     */
+    @Test
+    void decode_sessionWithGroup_participantsOwnedBySession() throws IOException, InvalidDataException {
+        Profile decodedProfile = ProfileCodec.decode(ProfileCodec.encode(manager.getProfile()));
+        Session decodedSession = decodedProfile.getSession(1);
+        Person alice = decodedSession.getPersonByName("Alice");
+        assertNotSame(alice, decodedProfile.getGroup(1).getPersonFromGroup("Alice"));
+        assertNotSame(alice, decodedProfile.getSession(2).getPersonByName("Alice"));
+        assertSame(alice, decodedSession.getActivity(1).getPersonPaid());
+        assertSame(decodedProfile.getGroup(1), decodedSession.getGroup());
+    }
+
+    /**
+     * Checks if the participants and activities of a decoded session are only decoded when the session is first used,
+     * and that the session can be listed without decoding them.
+     */
+    @Test
+    void decode_encodedProfile_sessionContentsDecodedOnFirstUse() throws IOException, InvalidDataException {
+        Profile decodedProfile = ProfileCodec.decode(ProfileCodec.encode(manager.getProfile()));
+        Session decodedSession = decodedProfile.getSessionList().get(1);
+        assertFalse(decodedSession.isContentLoaded());
+        assertEquals(1, decodedSession.getActivityCount());
+        assertEquals(2, decodedSession.getPersonCount());
+        decodedProfile.getSessionListSummaryString();
+        assertFalse(decodedSession.isContentLoaded());
+
+        assertEquals("Supper", decodedProfile.getSession(2).getActivity(2).getActivityName());
+        assertTrue(decodedSession.isContentLoaded());
+        assertFalse(decodedProfile.getSessionList().get(0).isContentLoaded());
+    }
+
+    /**
+     * Checks if unchanged sessions are released from memory once more of them are in use than the resident
+     * session limit, while changed sessions are kept in memory.
+     */
+    @Test
+    void getSession_residentSessionLimitExceeded_leastRecentlyUsedSessionReleased()
+            throws IOException, InvalidDataException {
+        Profile decodedProfile = ProfileCodec.decode(ProfileCodec.encode(manager.getProfile()));
+        decodedProfile.setResidentSessionLimit(1);
+        Session firstSession = decodedProfile.getSession(1);
+        Session secondSession = decodedProfile.getSession(2);
+        assertFalse(firstSession.isContentLoaded());
+        assertTrue(secondSession.isContentLoaded());
+
+        decodedProfile.getSession(1).setSessionName("Class outing again");
+        decodedProfile.getSession(2);
+        assertTrue(firstSession.isContentLoaded());
+        assertEquals(1, firstSession.getActivityCount());
+    }
+
+    /**
+     * Checks if an unchanged session is written into the next save file without being decoded.
+     */
+    @Test
+    void encode_unchangedSessionNotLoaded_sessionCopiedWithoutDecoding() throws IOException, InvalidDataException {
+        Profile decodedProfile = ProfileCodec.decode(ProfileCodec.encode(manager.getProfile()));
+        byte[] payload = ProfileCodec.encode(decodedProfile);
+        assertFalse(decodedProfile.getSessionList().get(0).isContentLoaded());
+
+        Profile profile = manager.getProfile();
+        Profile reloadedProfile = ProfileCodec.decode(payload);
+        assertEquals(profile.getSession(1).toString(), reloadedProfile.getSession(1).toString());
+    }
+
+    /**
+     * Checks if Person objects shared between a group and several sessions, as in save files written by
+     * earlier versions of SplitLah, are separated so that each session only holds its own costs.
+     */
+    @Test
+    void separateSessionPersons_personSharedBetweenSessions_costsSeparatedBySession() throws InvalidDataException {
+        Person alice = Person.createPersonFromString("Alice");
+        Person bob = Person.createPersonFromString("Bob");
+        ArrayList<Person> groupPersons = new ArrayList<>(List.of(alice, bob));
+        Profile profile = new Profile();
+        Group group = new Group("Housemates", profile.getNewGroupId(), new PersonList(groupPersons));
+        profile.addGroup(group);
+        for (int sessionId = 1; sessionId <= 2; sessionId++) {
+            Session session = new Session("Outing" + sessionId, profile.getNewSessionId(), LocalDate.now(),
+                    new PersonList(groupPersons), group);
+            int activityId = profile.getNewActivityId();
+            alice.addActivityCost(activityId, Money.ofCents(1000 * sessionId), Money.ofCents(500 * sessionId));
+            bob.addActivityCost(activityId, Money.ZERO, Money.ofCents(500 * sessionId));
+            session.addActivity(new Activity(activityId, "Lunch", Money.ofCents(1000 * sessionId), alice,
+                    new PersonList(groupPersons), 0, 0));
+            profile.addSession(session);
+        }
+
+        Profile migratedProfile = ProfileMigration.separateSessionPersons(profile);
+        Session secondSession = migratedProfile.getSession(2);
+        Person migratedAlice = secondSession.getPersonByName("Alice");
+        assertEquals(1, migratedAlice.getActivityCostList().size());
+        assertEquals(Money.ofCents(1000), migratedAlice.getTotalCost());
+        assertSame(migratedAlice, secondSession.getActivity(2).getPersonPaid());
+        assertNotSame(migratedAlice, migratedProfile.getSession(1).getPersonByName("Alice"));
+        assertTrue(migratedProfile.getGroup(1).getPersonFromGroup("Alice").getActivityCostList().isEmpty());
+    }
+
+    /**
+     * Checks if a save file in the third version of the format, whose segments hold amounts of money as doubles
+     * in dollars, is decoded with the same costs, and is encoded again with every amount kept exact in cents.
+     */
+    @Test
+    void decode_dollarAmountFormatVersion_costsDecodedAndKeptExact() throws IOException, InvalidDataException {
+        ByteArrayOutputStream segmentBuffer = new ByteArrayOutputStream();
+        DataOutputStream segment = new DataOutputStream(segmentBuffer);
+        BinaryFormat.writeVarInt(segment, 2);
+        BinaryFormat.writeString(segment, "Alice");
+        BinaryFormat.writeVarInt(segment, 1);
+        BinaryFormat.writeVarInt(segment, 1);
+        segment.writeDouble(20.3);
+        segment.writeDouble(10.15);
+        BinaryFormat.writeString(segment, "Bob");
+        BinaryFormat.writeVarInt(segment, 1);
+        BinaryFormat.writeVarInt(segment, 1);
+        segment.writeDouble(0);
+        segment.writeDouble(10.15);
+        BinaryFormat.writeVarInt(segment, 1);
+        BinaryFormat.writeVarInt(segment, 1);
+        BinaryFormat.writeString(segment, "Lunch");
+        segment.writeDouble(20.3);
+        segment.writeDouble(0);
+        segment.writeDouble(0);
+        BinaryFormat.writeVarInt(segment, 0);
+        BinaryFormat.writeVarInt(segment, 2);
+        BinaryFormat.writeVarInt(segment, 0);
+        BinaryFormat.writeVarInt(segment, 1);
+        segment.flush();
+
+        ByteArrayOutputStream payloadBuffer = new ByteArrayOutputStream();
+        DataOutputStream payload = new DataOutputStream(payloadBuffer);
+        payload.writeInt(ProfileCodec.FORMAT_MAGIC);
+        BinaryFormat.writeVarInt(payload, 3);
+        BinaryFormat.writeVarInt(payload, 2);
+        BinaryFormat.writeVarInt(payload, 2);
+        BinaryFormat.writeVarInt(payload, 1);
+        BinaryFormat.writeVarInt(payload, 0);
+        BinaryFormat.writeVarInt(payload, 1);
+        BinaryFormat.writeVarInt(payload, 1);
+        BinaryFormat.writeString(payload, "Lunch outing");
+        payload.writeLong(LocalDate.of(2022, 2, 15).toEpochDay());
+        BinaryFormat.writeVarInt(payload, ProfileCodec.NO_GROUP_ID);
+        BinaryFormat.writeVarInt(payload, 2);
+        BinaryFormat.writeVarInt(payload, 1);
+        BinaryFormat.writeVarInt(payload, segmentBuffer.size());
+        payload.write(segmentBuffer.toByteArray());
+        payload.flush();
+
+        Session session = ProfileCodec.decode(payloadBuffer.toByteArray()).getSession(1);
+        assertEquals(Money.ofCents(2030), session.getActivity(1).getTotalCost());
+        assertEquals(1015, session.getPersonByName("Alice").getTotalCostInCents());
+        assertEquals(-1015, session.getPersonByName("Bob").getTotalCostInCents());
+
+        Session reencodedSession = ProfileCodec.decode(ProfileCodec.encode(ProfileCodec.decode(
+                payloadBuffer.toByteArray()))).getSession(1);
+        assertEquals(Money.ofCents(2030), reencodedSession.getActivity(1).getTotalCost());
+        assertEquals(2030, reencodedSession.getPersonByName("Alice").getActivityCostLedger().getCostPaid(0));
+        assertEquals(1015, reencodedSession.getPersonByName("Bob").getActivityCostLedger().getCostOwed(0));
+    }
+
+    /**
+     * Checks if bytes that are not in the binary format of ProfileCodec are rejected.
+     */
+    @Test
+    void decode_truncatedPayload_streamCorruptedExceptionThrown() throws IOException {
+        byte[] payload = ProfileCodec.encode(manager.getProfile());
+        byte[] truncatedPayload = new byte[payload.length / 2];
+        System.arraycopy(payload, 0, truncatedPayload, 0, truncatedPayload.length);
+        assertThrows(StreamCorruptedException.class, () -> ProfileCodec.decode(truncatedPayload));
+        assertFalse(ProfileCodec.isEncodedProfile(new byte[] { (byte) 0xac, (byte) 0xed, 0, 5 }));
+    }
+}
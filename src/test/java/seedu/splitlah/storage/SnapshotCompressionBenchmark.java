@@ -0,0 +1,134 @@
+package seedu.splitlah.storage;
+
+import seedu.splitlah.command.Command;
+import seedu.splitlah.data.Manager;
+import seedu.splitlah.data.Profile;
+import seedu.splitlah.data.Session;
+import seedu.splitlah.exceptions.InvalidDataException;
+import seedu.splitlah.parser.Parser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+
+/**
+ * Represents a benchmark that compares the size of the save files and the time taken to save and load them
+ * with each compression setting, to decide the default compression of Storage.
+ * Run with the test classes on the classpath:
+ * {@code java -cp build/classes/java/main:build/classes/java/test seedu.splitlah.storage.SnapshotCompressionBenchmark}
+ *
+ * @author Warren
+ */
+public class SnapshotCompressionBenchmark {
+
+    private static final int SESSION_COUNT = 200;
+    private static final int ACTIVITIES_PER_SESSION = 25;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 10;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final String[] PARTICIPANTS = { "Alice", "Bob", "Charlie", "Dave", "Eve", "Frank" };
+
+    public static void main(String[] args) throws Exception {
+        Profile profile = createProfile();
+        SnapshotCompression[] settings = {
+            SnapshotCompression.NONE,
+            new SnapshotCompression(CompressionCodec.DEFLATE, Deflater.BEST_SPEED),
+            SnapshotCompression.DEFAULT,
+            new SnapshotCompression(CompressionCodec.DEFLATE, Deflater.BEST_COMPRESSION),
+            new SnapshotCompression(CompressionCodec.GZIP, Deflater.BEST_SPEED),
+            new SnapshotCompression(CompressionCodec.GZIP, Deflater.BEST_COMPRESSION),
+        };
+        System.out.printf("%-16s %12s %12s %12s%n", "Setting", "Bytes", "Save (ms)", "Load (ms)");
+        for (SnapshotCompression setting : settings) {
+            runBenchmark(profile, setting);
+        }
+    }
+
+    /**
+     * Saves and loads every session of the Profile object with the compression setting, and prints the total size
+     * of the save files and the average time taken.
+     *
+     * @param profile A Profile object to be saved.
+     * @param setting A SnapshotCompression object that represents the compression to be measured.
+     * @throws Exception If the save files cannot be written or read.
+     */
+    private static void runBenchmark(Profile profile, SnapshotCompression setting) throws Exception {
+        long saveNanos = 0;
+        long loadNanos = 0;
+        long totalBytes = 0;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            Path directory = Files.createTempDirectory("splitlah-benchmark");
+            StorageConfiguration configuration = new StorageConfiguration(directory,
+                    StorageConfiguration.DEFAULT_PROFILE_NAME, setting);
+            Storage storage = new Storage(configuration);
+            for (Session session : profile.getSessionList()) {
+                // Marks every session as changed, so that it is written into the new directory.
+                session.setSessionName(session.getSessionName());
+            }
+            long startNanos = System.nanoTime();
+            storage.saveProfileToFile(profile);
+            final long savedNanos = System.nanoTime();
+            loadAllSessions(new Storage(configuration).loadStorage());
+            long loadedNanos = System.nanoTime();
+            if (round >= WARMUP_ROUNDS) {
+                saveNanos += savedNanos - startNanos;
+                loadNanos += loadedNanos - savedNanos;
+            }
+            totalBytes = getTotalBytes(directory);
+            deleteDirectory(directory);
+        }
+        System.out.printf("%-16s %12d %12.2f %12.2f%n", setting, totalBytes,
+                saveNanos / NANOS_PER_MILLI / MEASURED_ROUNDS, loadNanos / NANOS_PER_MILLI / MEASURED_ROUNDS);
+    }
+
+    /**
+     * Returns a Profile object with sessions of several participants, each with a number of activities.
+     *
+     * @return A Profile object to be saved.
+     */
+    private static Profile createProfile() {
+        Manager manager = new Manager();
+        String participants = String.join(" ", PARTICIPANTS);
+        for (int sessionId = 1; sessionId <= SESSION_COUNT; sessionId++) {
+            runCommand(manager, "session /create /n Outing " + sessionId + " /d 15-02-2022 /pl " + participants);
+            for (int i = 0; i < ACTIVITIES_PER_SESSION; i++) {
+                String payer = PARTICIPANTS[i % PARTICIPANTS.length];
+                runCommand(manager, "activity /create /sid " + sessionId + " /n Meal " + i + " /p " + payer
+                        + " /i " + participants + " /co " + (10 + i) + " /gst 7 /sc 10");
+            }
+        }
+        return manager.getProfile();
+    }
+
+    private static void runCommand(Manager manager, String userInput) {
+        Command command = Parser.getCommand(userInput);
+        command.run(manager);
+    }
+
+    /**
+     * Decodes the participants and activities of every session in the Profile object.
+     *
+     * @param profile A Profile object loaded from save files.
+     * @throws InvalidDataException If a session cannot be found.
+     */
+    private static void loadAllSessions(Profile profile) throws InvalidDataException {
+        for (Session session : profile.getSessionList()) {
+            profile.getSession(session.getSessionId()).getActivityList();
+        }
+    }
+
+    private static long getTotalBytes(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            return paths.filter(Files::isRegularFile).mapToLong(path -> path.toFile().length()).sum();
+        }
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.splitlah.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SnapshotCompressionTest {
+
+    private static final byte[] PAYLOAD = "Alice Bob Charlie Alice Bob Charlie Alice Bob Charlie"
+            .repeat(20).getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * Checks if a payload compressed with every codec and level is smaller than the payload and is read back
+     * unchanged through the decompressing stream.
+     */
+    @Test
+    void openPayload_compressedPayload_samePayloadRead() throws IOException {
+        for (CompressionCodec codec : new CompressionCodec[] { CompressionCodec.DEFLATE, CompressionCodec.GZIP }) {
+            for (int level = Deflater.BEST_SPEED; level <= Deflater.BEST_COMPRESSION; level++) {
+                byte[] compressedPayload = new SnapshotCompression(codec, level).compress(PAYLOAD);
+                assertTrue(compressedPayload.length < PAYLOAD.length);
+                assertTrue(SnapshotCompression.isCompressed(ByteBuffer.wrap(compressedPayload)));
+                assertArrayEquals(PAYLOAD, readPayload(ByteBuffer.wrap(compressedPayload)));
+            }
+        }
+    }
+
+    /**
+     * Checks if a payload is left as it is when compression is turned off, and is read back as it is.
+     */
+    @Test
+    void compress_compressionTurnedOff_payloadUnchanged() throws IOException {
+        byte[] payload = SnapshotCompression.NONE.compress(PAYLOAD);
+        assertSame(PAYLOAD, payload);
+        assertFalse(SnapshotCompression.isCompressed(ByteBuffer.wrap(payload)));
+        assertArrayEquals(PAYLOAD, readPayload(ByteBuffer.wrap(payload)));
+    }
+
+    /**
+     * Checks if a payload compressed with an unknown codec is rejected as corrupted.
+     */
+    @Test
+    void openPayload_unknownCodec_exceptionThrown() throws IOException {
+        byte[] compressedPayload = SnapshotCompression.DEFAULT.compress(PAYLOAD);
+        compressedPayload[Integer.BYTES] = Byte.MAX_VALUE;
+        assertThrows(StreamCorruptedException.class,
+            () -> SnapshotCompression.openPayload(ByteBuffer.wrap(compressedPayload)));
+        assertEquals(CompressionCodec.GZIP, CompressionCodec.getCodec(CompressionCodec.GZIP.getCodecId()));
+    }
+
+    /**
+     * Returns all bytes read from the payload through the stream returned by SnapshotCompression#openPayload.
+     *
+     * @param payload A ByteBuffer object holding a payload.
+     * @return A byte array of the decompressed payload.
+     * @throws IOException If an I/O error occurs while reading.
+     */
+    private byte[] readPayload(ByteBuffer payload) throws IOException {
+        try (DataInputStream in = SnapshotCompression.openPayload(payload)) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.splitlah.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class SnapshotFileTest {
+
+    @TempDir
+    Path tempDirectory;
+
+    private static final byte[] PAYLOAD = "Serialized profile".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * Checks if a written snapshot is read back with the same payload and generation,
+     * and that no temporary file is left behind.
+     */
+    @Test
+    void read_snapshotWritten_samePayloadAndGenerationRead() throws IOException {
+        Path snapshotPath = tempDirectory.resolve("test.data");
+        new SnapshotFile(snapshotPath.toString()).write(PAYLOAD, 3);
+
+        SnapshotFile snapshotFile = new SnapshotFile(snapshotPath.toString());
+        assertArrayEquals(PAYLOAD, snapshotFile.read());
+        assertEquals(3, snapshotFile.getGeneration());
+        assertFalse(snapshotFile.isLegacyFormat());
+        assertFalse(Files.exists(tempDirectory.resolve("test.data.tmp")));
+    }
+
+    /**
+     * Checks if a snapshot with a modified payload fails verification.
+     */
+    @Test
+    void read_payloadModified_streamCorruptedExceptionThrown() throws IOException {
+        Path snapshotPath = tempDirectory.resolve("test.data");
+        SnapshotFile snapshotFile = new SnapshotFile(snapshotPath.toString());
+        snapshotFile.write(PAYLOAD, 1);
+        byte[] contents = Files.readAllBytes(snapshotPath);
+        contents[0] ^= 1;
+        Files.write(snapshotPath, contents);
+
+        try {
+            snapshotFile.read();
+            fail();
+        } catch (StreamCorruptedException exception) {
+            String copyPath = snapshotFile.keepCopy(".corrupt");
+            assertTrue(Files.exists(Path.of(copyPath)));
+        }
+    }
+
+    /**
+     * Checks if a save file without a footer is read as a legacy save file.
+     */
+    @Test
+    void read_noFooter_legacyContentsRead() throws IOException {
+        Path snapshotPath = tempDirectory.resolve("test.data");
+        Files.write(snapshotPath, PAYLOAD);
+
+        SnapshotFile snapshotFile = new SnapshotFile(snapshotPath.toString());
+        assertArrayEquals(PAYLOAD, snapshotFile.read());
+        assertTrue(snapshotFile.isLegacyFormat());
+    }
+
+    /**
+     * Checks if a save file large enough to be mapped into memory is verified and returns the same payload.
+     */
+    @Test
+    void map_largeSnapshotWritten_samePayloadMapped() throws IOException {
+        byte[] largePayload = new byte[3 << 20];
+        Arrays.fill(largePayload, (byte) 7);
+        largePayload[largePayload.length - 1] = 9;
+        Path snapshotPath = tempDirectory.resolve("test.data");
+        new SnapshotFile(snapshotPath.toString()).write(largePayload, 2);
+
+        SnapshotFile snapshotFile = new SnapshotFile(snapshotPath.toString());
+        ByteBuffer payload = snapshotFile.map();
+        assertEquals(largePayload.length, payload.remaining());
+        assertEquals(9, payload.get(largePayload.length - 1));
+        assertEquals(2, snapshotFile.getGeneration());
+    }
+}
@@ -0,0 +1,353 @@
+package seedu.splitlah.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.splitlah.command.Command;
+import seedu.splitlah.command.SessionExportCommand;
+import seedu.splitlah.data.Activity;
+import seedu.splitlah.data.Group;
+import seedu.splitlah.data.Manager;
+import seedu.splitlah.data.Money;
+import seedu.splitlah.data.Person;
+import seedu.splitlah.data.Profile;
+import seedu.splitlah.exceptions.InvalidDataException;
+import seedu.splitlah.data.Session;
+import seedu.splitlah.parser.Parser;
+import seedu.splitlah.util.CsvExportWriter;
+import seedu.splitlah.util.GreedySettlementStrategy;
+
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.zip.Deflater;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StorageTest {
+
+    private static final String LEGACY_SAVE_FILE = "/legacy/SplitLah.data";
+
+    @TempDir
+    Path tempDirectory;
+
+    Manager manager = new Manager();
+    private StorageConfiguration configuration;
+
+    /**
+     * Creates two sessions, each with an activity, that are stored and managed by the Manager object,
+     * and prepares an empty journal in the temporary directory.
+     */
+    @BeforeEach
+    void setUp() throws IOException, InvalidDataException {
+        String[] userInputs = {
+            "session /create /n Class outing /d 15-02-2022 /pl Alice Bob",
+            "session /create /n Dinner /d 16-02-2022 /pl Alice Dave",
+            "activity /create /sid 1 /n Lunch /p Alice /i Alice Bob /co 15",
+            "activity /create /sid 2 /n Supper /p Dave /i Alice Dave /cl 4.5 5.5"
+        };
+        for (String userInput : userInputs) {
+            Command command = Parser.getCommand(userInput);
+            command.run(manager);
+        }
+        configuration = new StorageConfiguration(tempDirectory, StorageConfiguration.DEFAULT_PROFILE_NAME,
+                SnapshotCompression.DEFAULT);
+        new Storage(configuration).loadJournal();
+    }
+
+    /**
+     * Checks if the journal is copied beside a save file that fails verification before the journal is reset,
+     * so that its records can still be recovered, and if a later copy does not replace an earlier one.
+     */
+    @Test
+    void keepCorruptedSaveFile_journalWithRecords_journalCopiedBeforeReset() throws Exception {
+        Storage storage = new Storage(configuration);
+        storage.saveProfileToFile(manager.getProfile());
+        storage.appendToJournal("session /create /n Supper /d 17-02-2022 /pl Alice Bob");
+        Path saveFilePath = configuration.getSaveFilePath();
+        byte[] contents = Files.readAllBytes(saveFilePath);
+        contents[0] ^= 1;
+        Files.write(saveFilePath, contents);
+        final byte[] journalContents = Files.readAllBytes(configuration.getJournalFilePath());
+
+        Storage restartedStorage = new Storage(configuration);
+        assertThrows(StreamCorruptedException.class, restartedStorage::loadStorage);
+        assertEquals(saveFilePath + ".corrupt", restartedStorage.keepCorruptedSaveFile());
+        assertEquals(0, restartedStorage.loadJournal().size());
+        Path journalCopyPath = Path.of(configuration.getJournalFilePath() + ".corrupt");
+        assertArrayEquals(journalContents, Files.readAllBytes(journalCopyPath));
+
+        assertEquals(saveFilePath + ".corrupt.1", restartedStorage.keepCorruptedSaveFile());
+        assertArrayEquals(journalContents, Files.readAllBytes(journalCopyPath));
+    }
+
+    /**
+     * Checks if every session is written into a shard file of its own the first time the Profile object is saved,
+     * and if the saved sessions are loaded back from their shards.
+     */
+    @Test
+    void saveProfileToFile_newSessions_eachSessionWrittenToOwnShard() throws Exception {
+        Storage storage = new Storage(configuration);
+        storage.saveProfileToFile(manager.getProfile());
+        assertTrue(Files.exists(getShardPath(1, SessionShard.FIRST_REVISION)));
+        assertTrue(Files.exists(getShardPath(2, SessionShard.FIRST_REVISION)));
+
+        Profile loadedProfile = new Storage(configuration).loadStorage();
+        assertEquals(manager.getProfile().getSessionListSummaryString(), loadedProfile.getSessionListSummaryString());
+        for (Session session : manager.getProfile().getSessionList()) {
+            Session loadedSession = loadedProfile.getSession(session.getSessionId());
+            assertEquals(session.getActivityListSummaryString(), loadedSession.getActivityListSummaryString());
+        }
+    }
+
+    /**
+     * Checks if only the shard of the session that was changed is rewritten when the Profile object is saved again,
+     * and if the replaced shard is deleted after the new manifest is written.
+     */
+    @Test
+    void saveProfileToFile_oneSessionChanged_onlyChangedShardRewritten() throws Exception {
+        new Storage(configuration).saveProfileToFile(manager.getProfile());
+        Storage storage = new Storage(configuration);
+        Profile loadedProfile = storage.loadStorage();
+        loadedProfile.getSession(1).setSessionName("Class gathering");
+
+        ProfileSnapshot snapshot = storage.encodeProfile(loadedProfile);
+        assertEquals(1, snapshot.getShardWriteCount());
+        storage.saveSnapshotToFile(snapshot);
+        assertTrue(Files.exists(getShardPath(1, SessionShard.FIRST_REVISION + 1)));
+        assertFalse(Files.exists(getShardPath(1, SessionShard.FIRST_REVISION)));
+        assertTrue(Files.exists(getShardPath(2, SessionShard.FIRST_REVISION)));
+        assertEquals(0, storage.encodeProfile(loadedProfile).getShardWriteCount());
+
+        Profile reloadedProfile = new Storage(configuration).loadStorage();
+        assertEquals("Class gathering", reloadedProfile.getSession(1).getSessionName());
+        assertEquals(loadedProfile.getSession(2).getActivityListSummaryString(),
+                reloadedProfile.getSession(2).getActivityListSummaryString());
+    }
+
+    /**
+     * Checks if a session changed through a copy-on-write view is written into a shard with the next revision,
+     * so that the shard referred to by the previous manifest is never replaced before the new manifest is written,
+     * and if a session that was only read through the view is not written again.
+     */
+    @Test
+    void encodeProfile_sessionChangedInCopyOnWriteView_shardNotReplacedInPlace() throws Exception {
+        new Storage(configuration).saveProfileToFile(manager.getProfile());
+        Storage storage = new Storage(configuration);
+        Profile view = storage.loadStorage().createCopyOnWriteView();
+        view.getSession(1).setSessionName("Class gathering");
+        view.getSession(2).getActivityListSummaryString();
+        final byte[] shardContents = Files.readAllBytes(getShardPath(1, SessionShard.FIRST_REVISION));
+
+        ProfileSnapshot snapshot = storage.encodeProfile(view);
+        assertEquals(1, snapshot.getShardWriteCount());
+        for (SessionShard shard : snapshot.getShardsToWrite()) {
+            shard.write(SnapshotCompression.DEFAULT);
+        }
+        assertArrayEquals(shardContents, Files.readAllBytes(getShardPath(1, SessionShard.FIRST_REVISION)));
+        assertTrue(Files.exists(getShardPath(1, SessionShard.FIRST_REVISION + 1)));
+        assertEquals("Class outing", new Storage(configuration).loadStorage().getSession(1).getSessionName());
+    }
+
+    /**
+     * Checks if shard files that are not referred to by the manifest, such as those written by a save that was
+     * interrupted before its manifest was written, are deleted when the save files are loaded.
+     */
+    @Test
+    void loadStorage_unreferencedShardFile_shardFileDeleted() throws IOException, ClassNotFoundException {
+        new Storage(configuration).saveProfileToFile(manager.getProfile());
+        Path strayShardPath = getShardPath(1, SessionShard.FIRST_REVISION + 1);
+        Files.write(strayShardPath, new byte[] { 1, 2, 3 });
+
+        new Storage(configuration).loadStorage();
+        assertFalse(Files.exists(strayShardPath));
+        assertTrue(Files.exists(getShardPath(1, SessionShard.FIRST_REVISION)));
+    }
+
+    /**
+     * Checks if the sessions whose shard files are missing are reported when the manifest is loaded, while the other
+     * sessions are still loaded.
+     */
+    @Test
+    void loadStorage_shardFileMissing_sessionReported() throws Exception {
+        new Storage(configuration).saveProfileToFile(manager.getProfile());
+        Files.delete(getShardPath(2, SessionShard.FIRST_REVISION));
+
+        Storage storage = new Storage(configuration);
+        Profile loadedProfile = storage.loadStorage();
+        assertEquals(List.of(2), storage.getMissingShardSessionIds());
+        assertEquals(2, loadedProfile.getSessionList().size());
+        assertEquals(1, loadedProfile.getSession(1).getActivityCount());
+    }
+
+    /**
+     * Checks if a session whose shard file is missing or corrupted is reported when it is retrieved, instead of
+     * stopping the commands that read it, and if a corrupted shard file is kept aside before it can be deleted.
+     */
+    @Test
+    void getSession_shardFileMissingOrCorrupted_exceptionThrownAndCopyKept() throws Exception {
+        new Storage(configuration).saveProfileToFile(manager.getProfile());
+        Files.delete(getShardPath(1, SessionShard.FIRST_REVISION));
+        Path corruptedShardPath = getShardPath(2, SessionShard.FIRST_REVISION);
+        byte[] contents = Files.readAllBytes(corruptedShardPath);
+        Files.write(corruptedShardPath, Arrays.copyOf(contents, contents.length / 2));
+
+        Manager loadedManager = new Manager(configuration);
+        String[] userInputs = { "session /view /sid 1", "session /view /sid 2", "session /summaryall" };
+        for (String userInput : userInputs) {
+            Command command = Parser.getCommand(userInput);
+            loadedManager.setCurrentCommandInput(userInput);
+            command.run(loadedManager);
+        }
+        Profile loadedProfile = loadedManager.getProfile();
+        assertThrows(InvalidDataException.class, () -> loadedProfile.getSession(1));
+        assertThrows(InvalidDataException.class, () -> loadedProfile.getReadOnlySession(2));
+        assertTrue(Files.exists(Path.of(corruptedShardPath + Storage.CORRUPTED_FILE_SUFFIX)));
+        loadedManager.closeStorage();
+    }
+
+    /**
+     * Checks if an export that fails because a session cannot be loaded midway leaves an earlier export in place,
+     * without leaving a partial document behind.
+     */
+    @Test
+    void run_shardFileCorruptedDuringExport_earlierExportKept() throws Exception {
+        new Storage(configuration).saveProfileToFile(manager.getProfile());
+        Path corruptedShardPath = getShardPath(2, SessionShard.FIRST_REVISION);
+        byte[] contents = Files.readAllBytes(corruptedShardPath);
+        Files.write(corruptedShardPath, Arrays.copyOf(contents, contents.length / 2));
+        Path exportPath = tempDirectory.resolve("profile.csv");
+        Files.writeString(exportPath, CsvExportWriter.HEADER);
+
+        Manager loadedManager = new Manager(configuration);
+        new SessionExportCommand(exportPath, CsvExportWriter.NAME, new GreedySettlementStrategy()).run(loadedManager);
+        assertEquals(CsvExportWriter.HEADER, Files.readString(exportPath));
+        assertFalse(Files.exists(Path.of(exportPath + ".tmp")));
+        loadedManager.closeStorage();
+    }
+
+    /**
+     * Checks if a save file written with Java serialization by the first release of SplitLah is loaded with all of
+     * its groups, sessions, activities and costs, and with each session owning its participants.
+     */
+    @Test
+    void loadStorage_saveFileFromFirstRelease_profileLoaded() throws Exception {
+        Files.copy(Path.of(getClass().getResource(LEGACY_SAVE_FILE).toURI()), configuration.getSaveFilePath(),
+                StandardCopyOption.REPLACE_EXISTING);
+
+        Profile profile = new Storage(configuration).loadStorage();
+        assertEquals(3, profile.getSessionIdTracker());
+        assertEquals(5, profile.getActivityIdTracker());
+        assertEquals(2, profile.getGroupIdTracker());
+        assertEquals(1, profile.getGroupList().size());
+        Group group = profile.getGroup(1);
+        assertEquals("Friends", group.getGroupName());
+        assertEquals(3, group.getPersonCount());
+
+        Session classOuting = profile.getSession(1);
+        assertEquals("Class outing", classOuting.getSessionName());
+        assertEquals(LocalDate.of(2022, 2, 15), classOuting.getDateCreated());
+        assertSame(group, classOuting.getGroup());
+        assertEquals(2, classOuting.getActivityCount());
+        Activity lunch = classOuting.getActivity(1);
+        assertEquals("Lunch", lunch.getActivityName());
+        assertEquals(7, lunch.getGst());
+        assertEquals(10, lunch.getServiceCharge());
+        assertSame(classOuting.getPersonByName("Alice"), lunch.getPersonPaid());
+        assertNotSame(group.getPersonFromGroup("Alice"), classOuting.getPersonByName("Alice"));
+        Person charlie = classOuting.getPersonByName("Charlie");
+        assertEquals(Money.parse("6.50"), charlie.getActivityCostOwed(2));
+        assertEquals(Money.parse("5.89"), charlie.getActivityCostOwed(1));
+        assertEquals(Money.parse("-12.39"), charlie.getTotalCost());
+
+        Session dinner = profile.getSession(2);
+        assertNull(dinner.getGroup());
+        assertEquals(1, dinner.getActivityCount());
+        assertEquals(Money.parse("40"), dinner.getActivity(3).getTotalCost());
+    }
+
+    /**
+     * Checks if a save file written with Java serialization that holds a class other than those held by save files
+     * of the first release is rejected before the class is instantiated.
+     */
+    @Test
+    void loadStorage_serializedUnexpectedClass_exceptionThrown() throws IOException {
+        try (ObjectOutputStream out = new ObjectOutputStream(Files.newOutputStream(configuration.getSaveFilePath()))) {
+            out.writeObject(new HashMap<String, String>());
+        }
+        assertThrows(InvalidClassException.class, () -> new Storage(configuration).loadStorage());
+    }
+
+    /**
+     * Checks if save files compressed with one setting are loaded by a Storage object with a different setting.
+     */
+    @Test
+    void loadStorage_compressedSaveFiles_loadedRegardlessOfSetting() throws Exception {
+        SnapshotCompression compression = new SnapshotCompression(CompressionCodec.GZIP, Deflater.BEST_COMPRESSION);
+        new Storage(new StorageConfiguration(tempDirectory, StorageConfiguration.DEFAULT_PROFILE_NAME, compression))
+                .saveProfileToFile(manager.getProfile());
+
+        Profile loadedProfile = new Storage(new StorageConfiguration(tempDirectory,
+                StorageConfiguration.DEFAULT_PROFILE_NAME, SnapshotCompression.NONE)).loadStorage();
+        assertEquals(manager.getProfile().getSessionListSummaryString(), loadedProfile.getSessionListSummaryString());
+        for (Session session : manager.getProfile().getSessionList()) {
+            Session loadedSession = loadedProfile.getSession(session.getSessionId());
+            assertEquals(session.getActivityListSummaryString(), loadedSession.getActivityListSummaryString());
+        }
+    }
+
+    /**
+     * Checks if two profiles kept in the same directory are saved into separate files and loaded independently.
+     */
+    @Test
+    void loadStorage_twoProfilesInSameDirectory_profilesKeptSeparate() throws Exception {
+        StorageConfiguration otherConfiguration = new StorageConfiguration(tempDirectory, "Tenant-2",
+                SnapshotCompression.DEFAULT);
+        new Storage(configuration).saveProfileToFile(manager.getProfile());
+        Storage otherStorage = new Storage(otherConfiguration);
+        otherStorage.loadJournal();
+        otherStorage.saveProfileToFile(new Profile());
+
+        assertTrue(Files.exists(otherConfiguration.getSaveFilePath()));
+        assertEquals(2, new Storage(configuration).loadStorage().getSessionList().size());
+        assertTrue(new Storage(otherConfiguration).loadStorage().getSessionList().isEmpty());
+    }
+
+    /**
+     * Checks if a profile name that cannot be used as the name of a file is rejected.
+     */
+    @Test
+    void storageConfiguration_invalidProfileName_exceptionThrown() {
+        String[] invalidProfileNames = { "", "../SplitLah", "My profile", null };
+        for (String profileName : invalidProfileNames) {
+            assertThrows(InvalidDataException.class,
+                () -> new StorageConfiguration(tempDirectory, profileName, SnapshotCompression.DEFAULT));
+        }
+    }
+
+    /**
+     * Returns the path of the shard file holding the specified revision of a session in the temporary directory.
+     *
+     * @param sessionId An integer that uniquely identifies a session.
+     * @param revision  An integer that represents a revision of the session.
+     * @return A Path object that represents the path of the shard file.
+     */
+    private Path getShardPath(int sessionId, int revision) {
+        return configuration.getShardDirectory().resolve(SessionShard.getShardFileName(sessionId, revision));
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.splitlah.util;
+
+import org.junit.jupiter.api.Test;
+import seedu.splitlah.exceptions.InvalidFormatException;
+import seedu.splitlah.ui.Message;
+
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CsvFormatTest {
+
+    /**
+     * Checks if a row is split at every separator outside double quotes, with quoted fields unquoted,
+     * pairs of double quotes replaced with one, and empty fields kept.
+     */
+    @Test
+    void splitRow_validRows_fieldsSplitInOrder() throws InvalidFormatException {
+        assertEquals(List.of("Lunch", "Alice", " Alice Bob ", "10"), CsvFormat.splitRow("Lunch,Alice, Alice Bob ,10"));
+        assertEquals(List.of("Snacks, drinks", "Bob"), CsvFormat.splitRow("\"Snacks, drinks\",Bob"));
+        assertEquals(List.of("The \"Deck\"", ""), CsvFormat.splitRow("\"The \"\"Deck\"\"\","));
+        assertEquals(List.of("", "", ""), CsvFormat.splitRow(",,"));
+        assertEquals(List.of(""), CsvFormat.splitRow(""));
+    }
+
+    /**
+     * Checks if an exception is thrown when a quoted field is not closed, or when text follows a closing quote.
+     */
+    @Test
+    void splitRow_malformedQuotes_exceptionThrown() {
+        InvalidFormatException unterminated =
+                assertThrows(InvalidFormatException.class, () -> CsvFormat.splitRow("\"Lunch,Alice"));
+        assertEquals(Message.ERROR_CSVFORMAT_UNTERMINATED_QUOTE, unterminated.getMessage());
+        InvalidFormatException textAfterQuote =
+                assertThrows(InvalidFormatException.class, () -> CsvFormat.splitRow("\"Lunch\" time,Alice"));
+        assertEquals(Message.ERROR_CSVFORMAT_TEXT_AFTER_QUOTED_FIELD, textAfterQuote.getMessage());
+    }
+
+    /**
+     * Checks if a written row is split back into the same fields, with only the fields that need it quoted.
+     */
+    @Test
+    void writeRow_fieldsWithSeparatorsAndQuotes_sameFieldsReadBack() throws Exception {
+        StringWriter writer = new StringWriter();
+        CsvFormat.writeRow(writer, "Lunch", "Snacks, drinks", "The \"Deck\"", "");
+        assertEquals("Lunch,\"Snacks, drinks\",\"The \"\"Deck\"\"\",\n", writer.toString());
+        String row = writer.toString().substring(0, writer.toString().length() - 1);
+        assertEquals(List.of("Lunch", "Snacks, drinks", "The \"Deck\"", ""), CsvFormat.splitRow(row));
+    }
+}
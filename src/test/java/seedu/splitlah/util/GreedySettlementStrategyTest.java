@@ -0,0 +1,68 @@
+package seedu.splitlah.util;
+
+import org.junit.jupiter.api.Test;
+import seedu.splitlah.data.Person;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GreedySettlementStrategyTest {
+
+    /**
+     * Checks if the transfers settle every debt exactly, and if the PersonCostPair objects provided are left unchanged.
+     */
+    @Test
+    void settle_unevenCosts_allDebtsSettled() {
+        List<PersonCostPair> personCostPairList = createPersonCostPairList(1000, 500, -600, -400, -500);
+        List<Transfer> transfers = new GreedySettlementStrategy().settle(personCostPairList);
+
+        assertEquals(4, transfers.size());
+        assertTrue(isEveryDebtSettled(personCostPairList, transfers));
+        assertEquals(1000, personCostPairList.get(0).getCost());
+        assertEquals("Personc has to pay Persona $6.00", transfers.get(0).toString());
+    }
+
+    /**
+     * Returns a list of PersonCostPair objects with the specified costs, for persons named Persona, Personb and so on.
+     *
+     * @param costs An array of costs in cents.
+     * @return A List object of PersonCostPair objects.
+     */
+    static List<PersonCostPair> createPersonCostPairList(long... costs) {
+        ArrayList<PersonCostPair> personCostPairList = new ArrayList<>();
+        for (int i = 0; i < costs.length; i++) {
+            StringBuilder name = new StringBuilder("Person");
+            int remainder = i;
+            do {
+                name.append((char) ('a' + remainder % 26));
+                remainder /= 26;
+            } while (remainder > 0);
+            Person person = Person.createPersonFromString(name.toString());
+            personCostPairList.add(new PersonCostPair(person, costs[i]));
+        }
+        return personCostPairList;
+    }
+
+    /**
+     * Checks if making every transfer leaves every person with nothing to pay or receive.
+     *
+     * @param personCostPairList A List object of PersonCostPair objects that were settled.
+     * @param transfers          A List object of Transfer objects.
+     * @return true if every debt is settled by the transfers, false otherwise.
+     */
+    static boolean isEveryDebtSettled(List<PersonCostPair> personCostPairList, List<Transfer> transfers) {
+        IdentityHashMap<Person, Long> balances = new IdentityHashMap<>();
+        for (PersonCostPair personCostPair : personCostPairList) {
+            balances.put(personCostPair.getPerson(), personCostPair.getCost());
+        }
+        for (Transfer transfer : transfers) {
+            balances.merge(transfer.getPayer(), transfer.getAmount(), Long::sum);
+            balances.merge(transfer.getReceiver(), -transfer.getAmount(), Long::sum);
+        }
+        return balances.values().stream().allMatch(balance -> balance == 0);
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.splitlah.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InputScannerTest {
+
+    /**
+     * Checks if numbers with no, one or two decimal places are read into the exact number of hundredths,
+     * including numbers in the middle of a longer String object.
+     */
+    @Test
+    void scanHundredths_validNumbers_exactHundredths() {
+        assertEquals(1070, scan("10.7"));
+        assertEquals(1070, scan("10.70"));
+        assertEquals(1000, scan("10."));
+        assertEquals(50, scan(".5"));
+        assertEquals(0, InputScanner.scanHundredths("-0", 0, 2, 12, true));
+        assertEquals(12345678901299L, scan("123456789012.99"));
+        assertEquals(250, InputScanner.scanHundredths("1 2.5 3", 2, 5, 12, false));
+    }
+
+    /**
+     * Checks if the reason that a number is not valid is returned, with the same precedence as the order of
+     * the checks made by ParserUtils before the scanner was used.
+     */
+    @Test
+    void scanHundredths_invalidNumbers_firstReasonReturned() {
+        assertEquals(InputScanner.NOT_A_NUMBER, scan("1-0"));
+        assertEquals(InputScanner.NOT_A_NUMBER, scan("1.2.3"));
+        assertEquals(InputScanner.NOT_A_NUMBER, scan("-"));
+        assertEquals(InputScanner.NOT_A_NUMBER, scan("1e5"));
+        assertEquals(InputScanner.NEGATIVE, scan("-1.005"));
+        assertEquals(InputScanner.ZERO, scan("0.000"));
+        assertEquals(InputScanner.MORE_THAN_TWO_DECIMAL_PLACES, scan("1234567890123.005"));
+        assertEquals(InputScanner.TOO_MANY_INTEGER_PLACES, scan("1234567890123"));
+        assertEquals(InputScanner.TOO_MANY_INTEGER_PLACES, scan("99999999999999999999999"));
+    }
+
+    /**
+     * Checks if only names made up of alphabetical characters, with optional surrounding whitespaces, are accepted.
+     */
+    @Test
+    void isAlphabetic_variousNames_onlyLettersAccepted() {
+        assertTrue(InputScanner.isAlphabetic("Alice"));
+        assertTrue(InputScanner.isAlphabetic("  bob\t"));
+        assertFalse(InputScanner.isAlphabetic("   "));
+        assertFalse(InputScanner.isAlphabetic("Al ice"));
+        assertFalse(InputScanner.isAlphabetic("sam99"));
+        assertFalse(InputScanner.isAlphabetic("O'Brien"));
+    }
+
+    private static long scan(String input) {
+        return InputScanner.scanHundredths(input, 0, input.length(), 12, false);
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.splitlah.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MatchingSettlementStrategyTest {
+
+    private static final long RANDOM_SEED = 2113;
+    private static final int LARGE_SESSION_SIZE = 3000;
+    private static final int MAXIMUM_COST = 100000;
+
+    /**
+     * Checks if a pair and a group of three persons whose costs cancel out are settled with fewer transfers than
+     * the greedy strategy needs.
+     */
+    @Test
+    void settle_cancellingPairAndTriple_fewerTransfersThanGreedy() {
+        List<PersonCostPair> personCostPairList =
+                GreedySettlementStrategyTest.createPersonCostPairList(1000, 500, -600, -400, -500);
+        List<Transfer> transfers = new MatchingSettlementStrategy().settle(personCostPairList);
+
+        assertEquals(3, transfers.size());
+        assertTrue(GreedySettlementStrategyTest.isEveryDebtSettled(personCostPairList, transfers));
+    }
+
+    /**
+     * Checks if every debt in a large session is settled exactly, both when the search for groups of persons runs
+     * to completion and when the time budget has already run out.
+     */
+    @Test
+    void settle_largeSession_allDebtsSettled() {
+        Random random = new Random(RANDOM_SEED);
+        long[] costs = new long[LARGE_SESSION_SIZE];
+        for (int i = 0; i + 1 < LARGE_SESSION_SIZE; i++) {
+            costs[i] = random.nextInt(MAXIMUM_COST) - MAXIMUM_COST / 2;
+            costs[LARGE_SESSION_SIZE - 1] -= costs[i];
+        }
+        List<PersonCostPair> personCostPairList = GreedySettlementStrategyTest.createPersonCostPairList(costs);
+
+        List<Transfer> transfers = new MatchingSettlementStrategy().settle(personCostPairList);
+        assertTrue(GreedySettlementStrategyTest.isEveryDebtSettled(personCostPairList, transfers));
+        assertTrue(transfers.size() < LARGE_SESSION_SIZE);
+
+        List<Transfer> transfersWithoutBudget = new MatchingSettlementStrategy(0).settle(personCostPairList);
+        assertTrue(GreedySettlementStrategyTest.isEveryDebtSettled(personCostPairList, transfersWithoutBudget));
+    }
+}